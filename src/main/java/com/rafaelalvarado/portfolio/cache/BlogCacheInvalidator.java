@@ -0,0 +1,146 @@
+package com.rafaelalvarado.portfolio.cache;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.rafaelalvarado.portfolio.config.CacheConfig;
+import com.rafaelalvarado.portfolio.event.BlogPostChangedEvent;
+import com.rafaelalvarado.portfolio.event.BlogPostsChangedEvent;
+import com.rafaelalvarado.portfolio.event.PostViewsFlushedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Invalida de forma precisa las entradas de la caché del blog afectadas por
+ * un cambio en un post.
+ * 
+ * Se ejecuta después del commit: solo se eliminan el propio post, los
+ * listados de su categoría anterior y actual y el listado global, tanto en
+ * la caché de servicio como en la micro-caché HTTP. Las
+ * cargas de caché son síncronas por clave, por lo que una lectura iniciada
+ * antes del commit termina antes de que se invalide su entrada y nunca
+ * queda en caché un estado anterior (por ejemplo, un borrador ya
+ * despublicado).
+ * 
+ * Se ejecuta antes que el resto de consumidores del evento, que pueden
+ * volver a leer el post a través de la caché.
+ * 
+ * @author Rafael Alvarado García
+ */
+@Component
+public class BlogCacheInvalidator {
+
+    private static final Logger logger = LoggerFactory.getLogger(BlogCacheInvalidator.class);
+
+    /**
+     * Ruta base de los posts en la micro-caché HTTP
+     */
+    private static final String POSTS_PATH = "/blog/posts";
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private HttpResponseCache httpResponseCache;
+
+    /**
+     * Invalida las entradas afectadas por el cambio de un post.
+     * 
+     * @param event Evento de cambio del post
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onPostChanged(BlogPostChangedEvent event) {
+        Cache posts = cacheManager.getCache(CacheConfig.POSTS_CACHE);
+        Cache listings = cacheManager.getCache(CacheConfig.LISTINGS_CACHE);
+        Cache versions = cacheManager.getCache(CacheConfig.VERSIONS_CACHE);
+
+        posts.evict(event.getPostId());
+        versions.evict(CacheConfig.POST_KEY_PREFIX + event.getPostId());
+        if (event.affectsPublishedListings()) {
+            listings.evict(CacheConfig.ALL_POSTS_KEY);
+            versions.evict(CacheConfig.ALL_POSTS_KEY);
+            for (String category : event.getAffectedCategories()) {
+                listings.evict(CacheConfig.CATEGORY_KEY_PREFIX + category);
+                versions.evict(CacheConfig.CATEGORY_KEY_PREFIX + category);
+            }
+        }
+        purgeHttpResponses(event);
+
+        logger.debug("Caché invalidada para el post {} ({})", event.getPostId(), event.getType());
+        if (logger.isDebugEnabled()) {
+            logStats(posts);
+            logStats(listings);
+        }
+    }
+
+    /**
+     * Invalida las entradas afectadas por un bloque de posts modificados.
+     * 
+     * @param event Evento del bloque de cambios
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onPostsChanged(BlogPostsChangedEvent event) {
+        event.getChanges().forEach(this::onPostChanged);
+    }
+
+    /**
+     * Purga de la micro-caché HTTP el detalle de los posts cuyo contador de
+     * visitas se ha volcado. La caché de posts no se toca: el controlador
+     * calcula el contador en cada respuesta.
+     * 
+     * @param event Evento del volcado de visitas
+     */
+    @EventListener
+    public void onViewsFlushed(PostViewsFlushedEvent event) {
+        for (Long postId : event.getPostIds()) {
+            String postPath = POSTS_PATH + "/" + postId;
+            httpResponseCache.evict(postPath);
+            httpResponseCache.purge(postPath + "?");
+        }
+    }
+
+    /**
+     * Purga de la micro-caché HTTP las respuestas afectadas por el cambio.
+     * 
+     * @param event Evento de cambio del post
+     */
+    private void purgeHttpResponses(BlogPostChangedEvent event) {
+        String postPath = POSTS_PATH + "/" + event.getPostId();
+        httpResponseCache.evict(postPath);
+        httpResponseCache.purge(postPath + "?");
+        httpResponseCache.purge(postPath + "/");
+
+        if (event.affectsPublishedListings()) {
+            httpResponseCache.evict(POSTS_PATH);
+            httpResponseCache.purge(POSTS_PATH + "?");
+            for (String category : event.getAffectedCategories()) {
+                String categoryPath = POSTS_PATH + "/category/" + category;
+                httpResponseCache.evict(categoryPath);
+                httpResponseCache.purge(categoryPath + "?");
+            }
+        }
+    }
+
+    /**
+     * Registra las estadísticas de aciertos y fallos de una caché.
+     * 
+     * @param cache Caché de Spring respaldada por Caffeine
+     */
+    private void logStats(Cache cache) {
+        if (cache instanceof CaffeineCache caffeineCache) {
+            CacheStats stats = caffeineCache.getNativeCache().stats();
+            logger.debug("Caché {}: aciertos={}, fallos={}, expulsiones={}, tasa de acierto={}",
+                    cache.getName(), stats.hitCount(), stats.missCount(), stats.evictionCount(),
+                    stats.hitRate());
+        }
+    }
+}
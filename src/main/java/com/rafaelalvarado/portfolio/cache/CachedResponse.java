@@ -0,0 +1,47 @@
+package com.rafaelalvarado.portfolio.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Respuesta HTTP ya serializada almacenada por la micro-caché HTTP.
+ * 
+ * Guarda el cuerpo en bytes junto con su variante comprimida en gzip, de
+ * modo que servir un acierto consiste en escribir un único buffer.
+ * 
+ * @author Rafael Alvarado García
+ */
+@Getter
+@AllArgsConstructor
+public class CachedResponse {
+
+    /**
+     * Cabecera Content-Type de la respuesta original
+     */
+    private final String contentType;
+
+    /**
+     * Cuerpo de la respuesta sin comprimir
+     */
+    private final byte[] body;
+
+    /**
+     * Cuerpo comprimido con gzip (null si el cuerpo es demasiado pequeño)
+     */
+    private final byte[] gzipBody;
+
+    /**
+     * Cabecera ETag de la respuesta original (puede ser null)
+     */
+    private final String etag;
+
+    /**
+     * Cabecera Last-Modified de la respuesta original (puede ser null)
+     */
+    private final String lastModified;
+
+    /**
+     * Fecha Last-Modified en milisegundos (-1 si no aplica)
+     */
+    private final long lastModifiedMillis;
+}
@@ -0,0 +1,143 @@
+package com.rafaelalvarado.portfolio.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Micro-caché de respuestas HTTP públicas ya serializadas.
+ * 
+ * Almacena por URL la respuesta final durante una ventana corta
+ * configurable ({@code blog.http-cache.ttl}). Mantiene además el registro
+ * de las cargas en curso para que una ráfaga de fallos idénticos ejecute
+ * una sola vez el controlador (request coalescing). Las escrituras del
+ * blog purgan las entradas por prefijo de clave; una purga descarta también
+ * las cargas en curso de esas claves: su resultado no se almacena y las
+ * peticiones posteriores no lo esperan, sino que inician una carga nueva.
+ * 
+ * @author Rafael Alvarado García
+ */
+@Component
+public class HttpResponseCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(HttpResponseCache.class);
+
+    @Value("${blog.http-cache.ttl}")
+    private Duration ttl;
+
+    @Value("${blog.http-cache.max-entries}")
+    private long maxEntries;
+
+    private Cache<String, CachedResponse> entries;
+
+    private final ConcurrentHashMap<String, CompletableFuture<CachedResponse>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Generación de purgas; una carga iniciada antes de una purga no se
+     * almacena al terminar
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Inicializa la caché con los límites configurados.
+     */
+    @PostConstruct
+    public void init() {
+        entries = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * Obtiene una respuesta almacenada.
+     * 
+     * @param key Clave (ruta y query string)
+     * @return CachedResponse o null si no existe o expiró
+     */
+    public CachedResponse get(String key) {
+        return entries.getIfPresent(key);
+    }
+
+    /**
+     * Registra una carga en curso para la clave. Si ya existe otra carga en
+     * curso, devuelve su future para que el llamador espere su resultado.
+     * 
+     * @param key    Clave de la respuesta
+     * @param loader Future de la carga del llamador
+     * @return Future de la carga existente, o null si el llamador es el líder
+     */
+    public CompletableFuture<CachedResponse> joinInFlight(String key, CompletableFuture<CachedResponse> loader) {
+        return inFlight.putIfAbsent(key, loader);
+    }
+
+    /**
+     * Elimina el registro de una carga en curso una vez finalizada.
+     * 
+     * @param key    Clave de la respuesta
+     * @param loader Future de la carga finalizada
+     */
+    public void leaveInFlight(String key, CompletableFuture<CachedResponse> loader) {
+        inFlight.remove(key, loader);
+    }
+
+    /**
+     * Obtiene la generación de purgas actual.
+     * 
+     * @return Generación actual
+     */
+    public long currentGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * Almacena una respuesta si no hubo purgas desde que comenzó su carga.
+     * La generación se vuelve a comprobar tras almacenarla por si una purga
+     * llega entre la comprobación y la escritura.
+     * 
+     * @param key                Clave de la respuesta
+     * @param response           Respuesta serializada
+     * @param loadingGeneration  Generación observada al iniciar la carga
+     */
+    public void put(String key, CachedResponse response, long loadingGeneration) {
+        if (generation.get() != loadingGeneration) {
+            return;
+        }
+        entries.put(key, response);
+        if (generation.get() != loadingGeneration) {
+            entries.asMap().remove(key, response);
+        }
+    }
+
+    /**
+     * Elimina la entrada con la clave exacta indicada.
+     * 
+     * @param key Clave de la respuesta
+     */
+    public void evict(String key) {
+        generation.incrementAndGet();
+        inFlight.remove(key);
+        entries.invalidate(key);
+    }
+
+    /**
+     * Elimina todas las entradas cuya clave comienza por el prefijo indicado.
+     * 
+     * @param prefix Prefijo de clave
+     */
+    public void purge(String prefix) {
+        generation.incrementAndGet();
+        inFlight.keySet().removeIf(key -> key.startsWith(prefix));
+        entries.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+        logger.debug("Micro-caché HTTP purgada con prefijo: {}", prefix);
+    }
+}
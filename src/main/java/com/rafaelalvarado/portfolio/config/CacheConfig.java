@@ -0,0 +1,79 @@
+package com.rafaelalvarado.portfolio.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+/**
+ * Configuración de la caché en memoria del blog.
+ * 
+ * Usa Caffeine con expulsión por tamaño y por tiempo (TTL) y registro de
+ * estadísticas de aciertos/fallos. El interceptor de caché se ejecuta antes
+ * que el transaccional, de modo que un acierto no abre transacción ni
+ * conexión a la base de datos.
+ * 
+ * @author Rafael Alvarado García
+ */
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig {
+
+    /**
+     * Caché de posts individuales por ID
+     */
+    public static final String POSTS_CACHE = "blogPosts";
+
+    /**
+     * Caché de listados de posts publicados (global y por categoría)
+     */
+    public static final String LISTINGS_CACHE = "blogPostListings";
+
+    /**
+     * Caché de versiones (ETag / Last-Modified) de posts y listados
+     */
+    public static final String VERSIONS_CACHE = "blogVersions";
+
+    /**
+     * Clave del listado global de posts publicados
+     */
+    public static final String ALL_POSTS_KEY = "all";
+
+    /**
+     * Prefijo de las claves de listados por categoría
+     */
+    public static final String CATEGORY_KEY_PREFIX = "category:";
+
+    /**
+     * Prefijo de las claves de versión de posts individuales
+     */
+    public static final String POST_KEY_PREFIX = "post:";
+
+    @Value("${blog.cache.max-size}")
+    private long maxSize;
+
+    @Value("${blog.cache.ttl}")
+    private Duration ttl;
+
+    /**
+     * Configura el CacheManager basado en Caffeine.
+     * 
+     * @return CacheManager
+     */
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(POSTS_CACHE, LISTINGS_CACHE, VERSIONS_CACHE);
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats());
+        cacheManager.setAllowNullValues(false);
+        return cacheManager;
+    }
+}
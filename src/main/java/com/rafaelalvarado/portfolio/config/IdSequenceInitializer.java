@@ -0,0 +1,64 @@
+package com.rafaelalvarado.portfolio.config;
+
+import com.rafaelalvarado.portfolio.entity.BlogPost;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Ajusta el generador de IDs de los posts al arrancar.
+ * 
+ * Los IDs de {@code blog_posts} se asignaban con AUTO_INCREMENT y ahora se
+ * reservan por bloques en {@code id_sequences}. Antes de la primera
+ * inserción se garantiza que el siguiente bloque empieza por encima del
+ * mayor ID existente, tanto si la fila de la secuencia todavía no existe
+ * como si se insertaron posts fuera de la aplicación.
+ * 
+ * @author Rafael Alvarado García
+ */
+@Component
+public class IdSequenceInitializer {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdSequenceInitializer.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Garantiza que el esquema (incluida {@code id_sequences}) existe antes
+     * de ajustar la secuencia.
+     */
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Crea o adelanta la fila de la secuencia de posts. Con el optimizador
+     * pooled, un valor N reserva el bloque [N - tamaño + 1, N], por lo que
+     * basta con que N sea el mayor ID más el tamaño del bloque.
+     */
+    @PostConstruct
+    public void initialize() {
+        long next = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM blog_posts", Long.class)
+                + BlogPost.ID_ALLOCATION_SIZE;
+        int updated = jdbcTemplate.update(
+                "UPDATE id_sequences SET next_val = ? WHERE sequence_name = ? AND next_val < ?",
+                next, BlogPost.ID_SEQUENCE, next);
+        if (updated == 0) {
+            Integer rows = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM id_sequences WHERE sequence_name = ?", Integer.class,
+                    BlogPost.ID_SEQUENCE);
+            if (rows == null || rows == 0) {
+                jdbcTemplate.update("INSERT INTO id_sequences (sequence_name, next_val) VALUES (?, ?)",
+                        BlogPost.ID_SEQUENCE, next);
+                updated = 1;
+            }
+        }
+        if (updated > 0) {
+            logger.info("Secuencia de IDs de posts ajustada a {}", next);
+        }
+    }
+}
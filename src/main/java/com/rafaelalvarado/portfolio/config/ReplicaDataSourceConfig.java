@@ -0,0 +1,148 @@
+package com.rafaelalvarado.portfolio.config;
+
+import com.rafaelalvarado.portfolio.datasource.ReplicaDataSource;
+import com.rafaelalvarado.portfolio.event.BlogPostChangedEvent;
+import com.rafaelalvarado.portfolio.event.BlogPostsChangedEvent;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuración de las réplicas de lectura de la base de datos.
+ * 
+ * Solo se activa si {@code db.replicas.urls} tiene alguna URL; sin réplicas
+ * se mantiene el origen de datos que configura Spring Boot. El origen de
+ * datos principal obtiene la conexión física en la primera sentencia, de
+ * modo que ya conoce si la transacción es de solo lectura: las
+ * transacciones {@code readOnly} se sirven desde {@link ReplicaDataSource}
+ * y el resto desde el primario, sin cambios en los servicios.
+ * 
+ * @author Rafael Alvarado García
+ */
+@Configuration
+@ConditionalOnExpression("!'${db.replicas.urls:}'.isBlank()")
+public class ReplicaDataSourceConfig {
+
+    @Value("${db.replicas.urls}")
+    private List<String> urls;
+
+    @Value("${db.replicas.username}")
+    private String username;
+
+    @Value("${db.replicas.password}")
+    private String password;
+
+    @Value("${db.replicas.pool-size}")
+    private int poolSize;
+
+    @Value("${db.replicas.selection}")
+    private ReplicaDataSource.Selection selection;
+
+    @Value("${db.replicas.read-your-writes-window}")
+    private Duration readYourWritesWindow;
+
+    /**
+     * Pool del primario, configurado con {@code spring.datasource.*}.
+     * 
+     * @param properties Propiedades del origen de datos
+     * @return Pool de conexiones al primario
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * Pools de las réplicas, de solo lectura. Usan las mismas propiedades del
+     * driver que el primario ({@code spring.datasource.hikari.data-source-properties}),
+     * de modo que las consultas en streaming que se sirven desde las réplicas
+     * (exportación, sitemap) también leen por cursor.
+     * 
+     * @param properties        Propiedades del origen de datos (driver)
+     * @param primaryDataSource Pool del primario
+     * @return Origen de datos de las transacciones de solo lectura
+     */
+    @Bean
+    public ReplicaDataSource replicaDataSource(DataSourceProperties properties, HikariDataSource primaryDataSource) {
+        List<HikariDataSource> pools = new ArrayList<>();
+        for (String url : urls) {
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName("replica-" + (pools.size() + 1));
+            pool.setJdbcUrl(url.trim());
+            pool.setUsername(username);
+            pool.setPassword(password);
+            pool.setDriverClassName(properties.determineDriverClassName());
+            pool.setDataSourceProperties(primaryDataSource.getDataSourceProperties());
+            pool.setMaximumPoolSize(poolSize);
+            pool.setReadOnly(true);
+            pools.add(pool);
+        }
+        return new ReplicaDataSource(primaryDataSource, pools, selection, readYourWritesWindow);
+    }
+
+    /**
+     * Abre la ventana de lectura desde el primario en las transacciones que
+     * modifican posts, también fuera de una petición.
+     * 
+     * @param replicaDataSource Origen de datos de las réplicas
+     * @return Listener de los cambios de posts
+     */
+    @Bean
+    public PostWriteRecorder postWriteRecorder(ReplicaDataSource replicaDataSource) {
+        return new PostWriteRecorder(replicaDataSource);
+    }
+
+    /**
+     * Origen de datos de la aplicación: enruta cada transacción al primario
+     * o a las réplicas.
+     * 
+     * @param primaryDataSource Pool del primario
+     * @param replicaDataSource Origen de datos de las réplicas
+     * @return Origen de datos con enrutado de lecturas
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaDataSource replicaDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaDataSource);
+        return dataSource;
+    }
+
+    /**
+     * Registra la escritura antes de confirmar las transacciones que
+     * publican un cambio de posts, de modo que los listeners posteriores a la
+     * confirmación (índices, cachés) ya leen desde el primario.
+     */
+    public static class PostWriteRecorder {
+
+        private final ReplicaDataSource replicaDataSource;
+
+        PostWriteRecorder(ReplicaDataSource replicaDataSource) {
+            this.replicaDataSource = replicaDataSource;
+        }
+
+        @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+        public void onPostChanged(BlogPostChangedEvent event) {
+            replicaDataSource.recordWrite();
+        }
+
+        @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+        public void onPostsChanged(BlogPostsChangedEvent event) {
+            replicaDataSource.recordWrite();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.rafaelalvarado.portfolio.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Configuración de tareas programadas.
+ * 
+ * Habilita los métodos anotados con {@code @Scheduled}, como la
+ * reconciliación periódica de los recuentos de categorías.
+ * 
+ * @author Rafael Alvarado García
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -74,7 +74,7 @@ public class SecurityConfig {
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
         configuration.setAllowedOrigins(Arrays.asList(allowedOrigins.split(",")));
-        configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
+        configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(Arrays.asList("*"));
         configuration.setAllowCredentials(true);
         configuration.setMaxAge(3600L);
@@ -106,12 +106,21 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         // Endpoints públicos
                         .requestMatchers("/auth/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/blog/posts/export").authenticated()
+                        .requestMatchers(HttpMethod.GET, "/blog/posts/*/revisions", "/blog/posts/*/revisions/*")
+                        .authenticated()
                         .requestMatchers(HttpMethod.GET, "/blog/posts/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/blog/tags").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/blog/categories").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/blog/feed.xml", "/blog/rss.xml").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/sitemap.xml", "/sitemap-*.xml").permitAll()
                         .requestMatchers(HttpMethod.POST, "/contact").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/actuator/health", "/actuator/health/**").permitAll()
 
                         // Endpoints protegidos (requieren autenticación)
-                        .requestMatchers(HttpMethod.POST, "/blog/posts").authenticated()
+                        .requestMatchers(HttpMethod.POST, "/blog/posts", "/blog/posts/bulk").authenticated()
                         .requestMatchers(HttpMethod.PUT, "/blog/posts/**").authenticated()
+                        .requestMatchers(HttpMethod.PATCH, "/blog/posts/**").authenticated()
                         .requestMatchers(HttpMethod.DELETE, "/blog/posts/**").authenticated()
                         .requestMatchers("/contact/messages/**").authenticated()
                         .requestMatchers("/users/**").authenticated() // Gestión de usuarios
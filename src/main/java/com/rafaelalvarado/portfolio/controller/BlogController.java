@@ -1,19 +1,41 @@
 package com.rafaelalvarado.portfolio.controller;
 
 import com.rafaelalvarado.portfolio.dto.BlogPostDTO;
+import com.rafaelalvarado.portfolio.dto.BlogPostSummaryDTO;
+import com.rafaelalvarado.portfolio.dto.BulkImportResultDTO;
+import com.rafaelalvarado.portfolio.dto.ContentVersion;
 import com.rafaelalvarado.portfolio.dto.CreatePostRequest;
+import com.rafaelalvarado.portfolio.dto.CursorPageDTO;
+import com.rafaelalvarado.portfolio.dto.PatchPostRequest;
+import com.rafaelalvarado.portfolio.dto.PostContentDTO;
+import com.rafaelalvarado.portfolio.dto.PostRevisionDTO;
+import com.rafaelalvarado.portfolio.dto.SearchResultDTO;
 import com.rafaelalvarado.portfolio.dto.UpdatePostRequest;
+import com.rafaelalvarado.portfolio.service.BlogExportService;
+import com.rafaelalvarado.portfolio.service.BlogImportService;
 import com.rafaelalvarado.portfolio.service.BlogService;
+import com.rafaelalvarado.portfolio.service.PostRevisionService;
+import com.rafaelalvarado.portfolio.service.ViewCountService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Controlador REST para gestión de posts del blog.
@@ -22,6 +44,10 @@ import java.util.List;
  * Los endpoints de lectura son públicos, los de escritura requieren
  * autenticación.
  * 
+ * Los endpoints de lectura soportan peticiones condicionales (ETag y
+ * Last-Modified): la versión del recurso se obtiene antes de construir la
+ * respuesta y, si coincide con la del cliente, se responde 304 Not Modified.
+ * 
  * @author Rafael Alvarado García
  */
 @RestController
@@ -34,50 +60,357 @@ public class BlogController {
     @Autowired
     private BlogService blogService;
 
+    @Autowired
+    private BlogExportService blogExportService;
+
+    @Autowired
+    private BlogImportService blogImportService;
+
+    @Autowired
+    private PostRevisionService postRevisionService;
+
+    @Autowired
+    private ViewCountService viewCountService;
+
     /**
      * Obtiene todos los posts publicados.
      * 
-     * Endpoint público.
+     * Endpoint público. Devuelve el resumen de cada post (sin contenido); el
+     * contenido completo se obtiene con {@link #getPostById(Long)}.
      * 
-     * @return Lista de posts publicados
+     * @param webRequest Petición actual (cabeceras condicionales)
+     * @return Lista de resúmenes de posts publicados, o 304 si no cambió
      */
     @GetMapping
-    public ResponseEntity<List<BlogPostDTO>> getAllPublishedPosts() {
+    public ResponseEntity<List<BlogPostSummaryDTO>> getAllPublishedPosts(WebRequest webRequest) {
         logger.info("GET /api/blog/posts");
-        List<BlogPostDTO> posts = blogService.getAllPublishedPosts();
+        if (isNotModified(webRequest, blogService.getPublishedListingVersion())) {
+            return null;
+        }
+        List<BlogPostSummaryDTO> posts = blogService.getAllPublishedPosts();
         return ResponseEntity.ok(posts);
     }
 
+    /**
+     * Obtiene una página de posts publicados usando paginación por cursor.
+     * 
+     * Endpoint público. Se activa cuando la petición incluye el parámetro
+     * {@code limit}; la siguiente página se solicita enviando el
+     * {@code nextCursor} recibido como parámetro {@code cursor}.
+     * 
+     * @param cursor Cursor de la página anterior (opcional)
+     * @param limit      Tamaño de página
+     * @param webRequest Petición actual (cabeceras condicionales)
+     * @return Página de posts publicados, o 304 si no cambió
+     */
+    @GetMapping(params = { "limit", "!sort" })
+    public ResponseEntity<CursorPageDTO<BlogPostSummaryDTO>> getPublishedPostsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam int limit,
+            WebRequest webRequest) {
+        logger.info("GET /api/blog/posts?limit={}", limit);
+        ContentVersion version = blogService.getPublishedListingVersion().forVariant(cursor + "|" + limit);
+        if (isNotModified(webRequest, version)) {
+            return null;
+        }
+        CursorPageDTO<BlogPostSummaryDTO> page = blogService.getPublishedPostsPage(cursor, limit);
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * Obtiene una página de posts publicados ordenados por tiempo de lectura.
+     * 
+     * Endpoint público. Se activa con {@code sort=readingTime} (de más corto
+     * a más largo) o {@code sort=-readingTime} (de más largo a más corto) y
+     * admite filtrar por rango de minutos con {@code minMinutes} y
+     * {@code maxMinutes}. Los resultados se paginan por cursor.
+     * 
+     * @param sort       Orden ("readingTime" o "-readingTime")
+     * @param minMinutes Minutos de lectura mínimos (opcional)
+     * @param maxMinutes Minutos de lectura máximos (opcional)
+     * @param cursor     Cursor de la página anterior (opcional)
+     * @param limit      Tamaño de página
+     * @param webRequest Petición actual (cabeceras condicionales)
+     * @return Página de posts publicados, o 304 si no cambió
+     */
+    @GetMapping(params = "sort")
+    public ResponseEntity<CursorPageDTO<BlogPostSummaryDTO>> getPublishedPostsByReadingTime(
+            @RequestParam String sort,
+            @RequestParam(required = false) Integer minMinutes,
+            @RequestParam(required = false) Integer maxMinutes,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit,
+            WebRequest webRequest) {
+        logger.info("GET /api/blog/posts?sort={}", sort);
+        ContentVersion version = blogService.getPublishedListingVersion()
+                .forVariant(sort + "|" + minMinutes + "|" + maxMinutes + "|" + cursor + "|" + limit);
+        if (isNotModified(webRequest, version)) {
+            return null;
+        }
+        CursorPageDTO<BlogPostSummaryDTO> page = blogService.getPublishedPostsByReadingTime(
+                sort, minMinutes, maxMinutes, cursor, limit);
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * Busca posts publicados por texto libre.
+     * 
+     * Endpoint público. Los resultados se ordenan por relevancia y se
+     * paginan por número de página.
+     * 
+     * @param q    Texto a buscar
+     * @param page Número de página (empezando en 0)
+     * @param size Tamaño de página
+     * @return Página de resultados de la búsqueda
+     */
+    @GetMapping("/search")
+    public ResponseEntity<SearchResultDTO> searchPosts(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        logger.info("GET /api/blog/posts/search?q={}", q);
+        SearchResultDTO result = blogService.searchPosts(q, page, size);
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * Obtiene los posts publicados más vistos recientemente.
+     * 
+     * Endpoint público. Las visitas más recientes pesan más que las antiguas
+     * dentro de la ventana indicada.
+     * 
+     * @param window Ventana de tiempo ("1h", "24h" o "7d")
+     * @param limit  Número máximo de posts
+     * @return Lista de resúmenes de posts en tendencia
+     */
+    @GetMapping("/trending")
+    public ResponseEntity<List<BlogPostSummaryDTO>> getTrendingPosts(
+            @RequestParam(defaultValue = "24h") String window,
+            @RequestParam(defaultValue = "10") int limit) {
+        logger.info("GET /api/blog/posts/trending?window={}", window);
+        List<BlogPostSummaryDTO> posts = blogService.getTrendingPosts(window, limit);
+        return ResponseEntity.ok(posts);
+    }
+
+    /**
+     * Exporta todos los posts, incluidos los borradores, con sus tags y su
+     * autor.
+     * 
+     * Requiere autenticación JWT. La respuesta se escribe a medida que se
+     * leen los posts, sin cargarlos todos en memoria, y se comprime con gzip
+     * si el cliente lo acepta.
+     * 
+     * @param format         Formato ("ndjson", una línea por post, o "json")
+     * @param acceptEncoding Codificaciones aceptadas por el cliente
+     * @return Cuerpo de la respuesta que escribe la exportación
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportPosts(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        logger.info("GET /api/blog/posts/export?format={}", format);
+        BlogExportService.Format exportFormat = blogExportService.getFormat(format);
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream gzipOut = new GZIPOutputStream(out, 8192);
+                blogExportService.exportPosts(gzipOut, exportFormat);
+                gzipOut.finish();
+            } else {
+                blogExportService.exportPosts(out, exportFormat);
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"blog-export." + exportFormat.getExtension() + "\"")
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
     /**
      * Obtiene un post por su ID.
      * 
-     * Endpoint público.
+     * Endpoint público. El post sale de la caché, pero el número de visitas
+     * se calcula en cada respuesta (visitas volcadas más las pendientes).
      * 
-     * @param id ID del post
-     * @return BlogPostDTO
+     * @param id         ID del post
+     * @param webRequest Petición actual (cabeceras condicionales)
+     * @return BlogPostDTO, o 304 si no cambió
      */
     @GetMapping("/{id}")
-    public ResponseEntity<BlogPostDTO> getPostById(@PathVariable Long id) {
+    public ResponseEntity<BlogPostDTO> getPostById(@PathVariable Long id, WebRequest webRequest) {
         logger.info("GET /api/blog/posts/{}", id);
-        BlogPostDTO post = blogService.getPostById(id);
+        if (isNotModified(webRequest, blogService.getPostVersion(id))) {
+            return null;
+        }
+        BlogPostDTO post = viewCountService.withCurrentViews(blogService.getPostById(id));
         return ResponseEntity.ok(post);
     }
 
+    /**
+     * Obtiene el contenido original (HTML o Markdown) de un post como texto.
+     * 
+     * Endpoint público. Si el contenido se guarda comprimido y el cliente
+     * acepta gzip, se envían los bytes guardados sin descomprimirlos.
+     * 
+     * @param id             ID del post
+     * @param acceptEncoding Codificaciones aceptadas por el cliente
+     * @param webRequest     Petición actual (cabeceras condicionales)
+     * @return Contenido del post, o 304 si no cambió
+     */
+    @GetMapping("/{id}/content")
+    public ResponseEntity<byte[]> getPostContent(@PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest webRequest) {
+        logger.info("GET /api/blog/posts/{}/content", id);
+        if (isNotModified(webRequest, blogService.getPostVersion(id).forVariant("content"))) {
+            return null;
+        }
+        PostContentDTO content = blogService.getPostContent(id);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8))
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (content.isCompressed() && acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(content.getContentGzip());
+        }
+        return response.body(content.decompress().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Obtiene el historial de revisiones del contenido de un post, de la más
+     * reciente a la más antigua.
+     * 
+     * Requiere autenticación JWT.
+     * 
+     * @param id ID del post
+     * @return Lista de revisiones (sin el contenido)
+     */
+    @GetMapping("/{id}/revisions")
+    public ResponseEntity<List<PostRevisionDTO>> getRevisions(@PathVariable Long id) {
+        logger.info("GET /api/blog/posts/{}/revisions", id);
+        List<PostRevisionDTO> revisions = postRevisionService.getRevisions(id);
+        return ResponseEntity.ok(revisions);
+    }
+
+    /**
+     * Obtiene una revisión del contenido de un post.
+     * 
+     * Requiere autenticación JWT.
+     * 
+     * @param id  ID del post
+     * @param rev Número de revisión
+     * @return Revisión con su contenido
+     */
+    @GetMapping("/{id}/revisions/{rev}")
+    public ResponseEntity<PostRevisionDTO> getRevision(@PathVariable Long id, @PathVariable int rev) {
+        logger.info("GET /api/blog/posts/{}/revisions/{}", id, rev);
+        PostRevisionDTO revision = postRevisionService.getRevision(id, rev);
+        return ResponseEntity.ok(revision);
+    }
+
+    /**
+     * Obtiene los posts publicados más similares a un post.
+     * 
+     * Endpoint público. La similitud combina los tags en común, la categoría
+     * y la cercanía de las fechas de publicación.
+     * 
+     * @param id    ID del post
+     * @param limit Número máximo de posts
+     * @return Lista de resúmenes de posts relacionados
+     */
+    @GetMapping("/{id}/related")
+    public ResponseEntity<List<BlogPostSummaryDTO>> getRelatedPosts(@PathVariable Long id,
+            @RequestParam(defaultValue = "5") int limit) {
+        logger.info("GET /api/blog/posts/{}/related", id);
+        List<BlogPostSummaryDTO> posts = blogService.getRelatedPosts(id, limit);
+        return ResponseEntity.ok(posts);
+    }
+
     /**
      * Obtiene posts filtrados por categoría.
      * 
      * Endpoint público.
      * 
-     * @param category Categoría a filtrar
-     * @return Lista de posts de la categoría
+     * @param category   Categoría a filtrar
+     * @param webRequest Petición actual (cabeceras condicionales)
+     * @return Lista de resúmenes de posts de la categoría, o 304 si no cambió
      */
     @GetMapping("/category/{category}")
-    public ResponseEntity<List<BlogPostDTO>> getPostsByCategory(@PathVariable String category) {
+    public ResponseEntity<List<BlogPostSummaryDTO>> getPostsByCategory(@PathVariable String category,
+            WebRequest webRequest) {
         logger.info("GET /api/blog/posts/category/{}", category);
-        List<BlogPostDTO> posts = blogService.getPostsByCategory(category);
+        if (isNotModified(webRequest, blogService.getCategoryListingVersion(category))) {
+            return null;
+        }
+        List<BlogPostSummaryDTO> posts = blogService.getPostsByCategory(category);
         return ResponseEntity.ok(posts);
     }
 
+    /**
+     * Obtiene una página de posts de una categoría usando paginación por cursor.
+     * 
+     * Endpoint público. Se activa cuando la petición incluye el parámetro
+     * {@code limit}.
+     * 
+     * @param category Categoría a filtrar
+     * @param cursor   Cursor de la página anterior (opcional)
+     * @param limit      Tamaño de página
+     * @param webRequest Petición actual (cabeceras condicionales)
+     * @return Página de posts de la categoría, o 304 si no cambió
+     */
+    @GetMapping(value = "/category/{category}", params = "limit")
+    public ResponseEntity<CursorPageDTO<BlogPostSummaryDTO>> getPostsByCategoryPage(
+            @PathVariable String category,
+            @RequestParam(required = false) String cursor,
+            @RequestParam int limit,
+            WebRequest webRequest) {
+        logger.info("GET /api/blog/posts/category/{}?limit={}", category, limit);
+        ContentVersion version = blogService.getCategoryListingVersion(category).forVariant(cursor + "|" + limit);
+        if (isNotModified(webRequest, version)) {
+            return null;
+        }
+        CursorPageDTO<BlogPostSummaryDTO> page = blogService.getPostsByCategoryPage(category, cursor, limit);
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * Obtiene una página de posts filtrados por uno o varios tags.
+     * 
+     * Endpoint público. Los tags se separan por comas; con
+     * {@code match=all} (por defecto) se exigen todos y con
+     * {@code match=any} basta con uno. Los resultados se paginan por cursor.
+     * 
+     * @param tags       Tags separados por comas
+     * @param match      Modo de combinación ("all" o "any")
+     * @param cursor     Cursor de la página anterior (opcional)
+     * @param limit      Tamaño de página
+     * @param webRequest Petición actual (cabeceras condicionales)
+     * @return Página de posts con los tags indicados, o 304 si no cambió
+     */
+    @GetMapping("/tag/{tags}")
+    public ResponseEntity<CursorPageDTO<BlogPostSummaryDTO>> getPostsByTags(
+            @PathVariable String tags,
+            @RequestParam(defaultValue = "all") String match,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit,
+            WebRequest webRequest) {
+        logger.info("GET /api/blog/posts/tag/{}?match={}", tags, match);
+        ContentVersion version = blogService.getPublishedListingVersion()
+                .forVariant("tag|" + tags + "|" + match + "|" + cursor + "|" + limit);
+        if (isNotModified(webRequest, version)) {
+            return null;
+        }
+        CursorPageDTO<BlogPostSummaryDTO> page = blogService.getPostsByTagsPage(tags, match, cursor, limit);
+        return ResponseEntity.ok(page);
+    }
+
     /**
      * Crea un nuevo post.
      * 
@@ -96,6 +429,31 @@ public class BlogController {
         return ResponseEntity.status(HttpStatus.CREATED).body(post);
     }
 
+    /**
+     * Importa posts en bloque desde NDJSON (un post por línea, con el
+     * formato de la exportación).
+     * 
+     * Requiere autenticación JWT. El cuerpo se lee a medida que llega y
+     * puede enviarse comprimido con gzip ({@code Content-Encoding: gzip}).
+     * Las líneas inválidas se omiten y se informan en el resultado.
+     * 
+     * @param request        Petición HTTP con el cuerpo NDJSON
+     * @param authentication Información del usuario autenticado
+     * @return Resultado de la importación
+     * @throws IOException Si falla la lectura del cuerpo
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkImportResultDTO> importPosts(HttpServletRequest request,
+            Authentication authentication) throws IOException {
+        logger.info("POST /api/blog/posts/bulk - Usuario: {}", authentication.getName());
+        InputStream body = request.getInputStream();
+        if ("gzip".equalsIgnoreCase(request.getHeader(HttpHeaders.CONTENT_ENCODING))) {
+            body = new GZIPInputStream(body);
+        }
+        BulkImportResultDTO result = blogImportService.importPosts(body, authentication.getName());
+        return ResponseEntity.ok(result);
+    }
+
     /**
      * Actualiza un post existente.
      * 
@@ -114,6 +472,25 @@ public class BlogController {
         return ResponseEntity.ok(post);
     }
 
+    /**
+     * Modifica campos concretos de un post (agregando o eliminando tags
+     * individuales).
+     * 
+     * Requiere autenticación JWT.
+     * 
+     * @param id      ID del post a modificar
+     * @param request Campos a modificar
+     * @return BlogPostDTO del post modificado
+     */
+    @PatchMapping("/{id}")
+    public ResponseEntity<BlogPostDTO> patchPost(
+            @PathVariable Long id,
+            @Valid @RequestBody PatchPostRequest request) {
+        logger.info("PATCH /api/blog/posts/{}", id);
+        BlogPostDTO post = blogService.patchPost(id, request);
+        return ResponseEntity.ok(post);
+    }
+
     /**
      * Elimina un post.
      * 
@@ -128,4 +505,16 @@ public class BlogController {
         blogService.deletePost(id);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * Evalúa las cabeceras condicionales de la petición contra la versión del
+     * recurso. Además agrega las cabeceras ETag y Last-Modified a la respuesta.
+     * 
+     * @param webRequest Petición actual
+     * @param version    Versión actual del recurso
+     * @return true si el cliente ya tiene esta versión (respuesta 304)
+     */
+    private boolean isNotModified(WebRequest webRequest, ContentVersion version) {
+        return webRequest.checkNotModified(version.getEtag(), version.getLastModified());
+    }
 }
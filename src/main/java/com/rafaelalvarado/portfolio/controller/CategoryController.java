@@ -0,0 +1,44 @@
+package com.rafaelalvarado.portfolio.controller;
+
+import com.rafaelalvarado.portfolio.dto.CategoryCountDTO;
+import com.rafaelalvarado.portfolio.service.CategoryService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Controlador REST para las categorías del blog.
+ * 
+ * Expone cada categoría con su número de posts publicados y la fecha del
+ * más reciente.
+ * 
+ * @author Rafael Alvarado García
+ */
+@RestController
+@RequestMapping("/blog/categories")
+@CrossOrigin(origins = "${cors.allowed-origins}")
+public class CategoryController {
+
+    private static final Logger logger = LoggerFactory.getLogger(CategoryController.class);
+
+    @Autowired
+    private CategoryService categoryService;
+
+    /**
+     * Obtiene las categorías con posts publicados.
+     * 
+     * Endpoint público.
+     * 
+     * @return Lista de categorías ordenada por número de posts
+     */
+    @GetMapping
+    public ResponseEntity<List<CategoryCountDTO>> getCategories() {
+        logger.info("GET /api/blog/categories");
+        List<CategoryCountDTO> categories = categoryService.getCategories();
+        return ResponseEntity.ok(categories);
+    }
+}
@@ -0,0 +1,71 @@
+package com.rafaelalvarado.portfolio.controller;
+
+import com.rafaelalvarado.portfolio.feed.FeedDocument;
+import com.rafaelalvarado.portfolio.feed.FeedGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Controlador de los feeds del blog.
+ * 
+ * Expone el feed Atom y el feed RSS con los últimos posts publicados. Ambos
+ * se sirven ya serializados y admiten peticiones condicionales, que se
+ * resuelven sin consultar la base de datos mientras no cambie ningún post.
+ * 
+ * @author Rafael Alvarado García
+ */
+@RestController
+@RequestMapping("/blog")
+@CrossOrigin(origins = "${cors.allowed-origins}")
+public class FeedController {
+
+    private static final Logger logger = LoggerFactory.getLogger(FeedController.class);
+
+    @Autowired
+    private FeedGenerator feedGenerator;
+
+    /**
+     * Obtiene el feed Atom.
+     * 
+     * Endpoint público.
+     * 
+     * @param webRequest Petición actual (cabeceras condicionales)
+     * @return Documento Atom, o 304 si no cambió
+     */
+    @GetMapping("/feed.xml")
+    public ResponseEntity<byte[]> getAtomFeed(WebRequest webRequest) {
+        logger.info("GET /api/blog/feed.xml");
+        return toResponse(feedGenerator.getFeed(FeedGenerator.Format.ATOM), FeedGenerator.Format.ATOM,
+                webRequest);
+    }
+
+    /**
+     * Obtiene el feed RSS 2.0.
+     * 
+     * Endpoint público.
+     * 
+     * @param webRequest Petición actual (cabeceras condicionales)
+     * @return Documento RSS, o 304 si no cambió
+     */
+    @GetMapping("/rss.xml")
+    public ResponseEntity<byte[]> getRssFeed(WebRequest webRequest) {
+        logger.info("GET /api/blog/rss.xml");
+        return toResponse(feedGenerator.getFeed(FeedGenerator.Format.RSS), FeedGenerator.Format.RSS,
+                webRequest);
+    }
+
+    private ResponseEntity<byte[]> toResponse(FeedDocument feed, FeedGenerator.Format format,
+            WebRequest webRequest) {
+        if (webRequest.checkNotModified(feed.getEtag(), feed.getLastModified())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8"))
+                .body(feed.getBody());
+    }
+}
@@ -0,0 +1,84 @@
+package com.rafaelalvarado.portfolio.controller;
+
+import com.rafaelalvarado.portfolio.exception.ResourceNotFoundException;
+import com.rafaelalvarado.portfolio.feed.FeedDocument;
+import com.rafaelalvarado.portfolio.feed.SitemapGenerator;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+
+/**
+ * Controlador del sitemap del blog.
+ * 
+ * Expone {@code sitemap.xml} con todos los posts publicados y, cuando no
+ * caben en un solo documento, los fragmentos {@code sitemap-N.xml}
+ * referenciados desde él. La primera petición tras un cambio se escribe
+ * directamente sobre la respuesta; las siguientes se sirven ya serializadas
+ * y admiten peticiones condicionales.
+ * 
+ * @author Rafael Alvarado García
+ */
+@RestController
+@CrossOrigin(origins = "${cors.allowed-origins}")
+public class SitemapController {
+
+    private static final Logger logger = LoggerFactory.getLogger(SitemapController.class);
+
+    private static final String CONTENT_TYPE = "application/xml;charset=UTF-8";
+
+    @Autowired
+    private SitemapGenerator sitemapGenerator;
+
+    /**
+     * Obtiene el sitemap (o el índice de sitemaps si hay varios fragmentos).
+     * 
+     * Endpoint público.
+     * 
+     * @param webRequest Petición actual (cabeceras condicionales y respuesta)
+     * @throws IOException Si falla la escritura de la respuesta
+     */
+    @GetMapping("/sitemap.xml")
+    public void getSitemap(ServletWebRequest webRequest) throws IOException {
+        logger.info("GET /api/sitemap.xml");
+        serve(SitemapGenerator.ROOT, webRequest);
+    }
+
+    /**
+     * Obtiene un fragmento del sitemap.
+     * 
+     * Endpoint público.
+     * 
+     * @param shard      Número del fragmento (desde 1)
+     * @param webRequest Petición actual (cabeceras condicionales y respuesta)
+     * @throws IOException Si falla la escritura de la respuesta
+     */
+    @GetMapping("/sitemap-{shard}.xml")
+    public void getSitemapShard(@PathVariable int shard, ServletWebRequest webRequest) throws IOException {
+        logger.info("GET /api/sitemap-{}.xml", shard);
+        if (shard < 1) {
+            throw new ResourceNotFoundException("Sitemap no encontrado: sitemap-" + shard + ".xml");
+        }
+        serve(shard, webRequest);
+    }
+
+    private void serve(int number, ServletWebRequest webRequest) throws IOException {
+        HttpServletResponse response = webRequest.getResponse();
+        FeedDocument cached = sitemapGenerator.getCached(number);
+        if (cached != null) {
+            if (webRequest.checkNotModified(cached.getEtag(), cached.getLastModified())) {
+                return;
+            }
+            response.setContentType(CONTENT_TYPE);
+            response.setContentLength(cached.getBody().length);
+            response.getOutputStream().write(cached.getBody());
+            return;
+        }
+        response.setContentType(CONTENT_TYPE);
+        sitemapGenerator.write(number, response.getOutputStream());
+    }
+}
@@ -0,0 +1,50 @@
+package com.rafaelalvarado.portfolio.controller;
+
+import com.rafaelalvarado.portfolio.dto.ContentVersion;
+import com.rafaelalvarado.portfolio.dto.TagCountDTO;
+import com.rafaelalvarado.portfolio.service.BlogService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+
+/**
+ * Controlador REST para los tags del blog.
+ * 
+ * Expone la nube de tags con el número de posts publicados de cada uno.
+ * 
+ * @author Rafael Alvarado García
+ */
+@RestController
+@RequestMapping("/blog/tags")
+@CrossOrigin(origins = "${cors.allowed-origins}")
+public class TagController {
+
+    private static final Logger logger = LoggerFactory.getLogger(TagController.class);
+
+    @Autowired
+    private BlogService blogService;
+
+    /**
+     * Obtiene los tags de los posts publicados con su recuento.
+     * 
+     * Endpoint público.
+     * 
+     * @param webRequest Petición actual (cabeceras condicionales)
+     * @return Lista de tags ordenada por número de posts, o 304 si no cambió
+     */
+    @GetMapping
+    public ResponseEntity<List<TagCountDTO>> getTagCounts(WebRequest webRequest) {
+        logger.info("GET /api/blog/tags");
+        ContentVersion version = blogService.getPublishedListingVersion().forVariant("tags");
+        if (webRequest.checkNotModified(version.getEtag(), version.getLastModified())) {
+            return null;
+        }
+        List<TagCountDTO> tags = blogService.getTagCounts();
+        return ResponseEntity.ok(tags);
+    }
+}
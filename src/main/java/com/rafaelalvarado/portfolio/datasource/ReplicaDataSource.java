@@ -0,0 +1,249 @@
+package com.rafaelalvarado.portfolio.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Origen de datos de las transacciones de solo lectura.
+ * 
+ * Reparte las conexiones entre los pools de las réplicas por turnos o
+ * eligiendo la réplica con menos conexiones en uso. Durante una ventana
+ * tras cada transacción de escritura de una petición HTTP las lecturas se
+ * sirven desde el primario, para que el cliente que escribió (y las cachés
+ * y el índice que se rellenan tras la invalidación) no lean datos que la
+ * réplica todavía no ha recibido. Si una réplica no entrega conexión se usa
+ * el primario.
+ * 
+ * Las escrituras de las tareas en segundo plano solo abren la ventana si
+ * modifican posts (publicación programada, renderizado pendiente): la
+ * configuración llama a {@link #recordWrite()} antes de confirmar las
+ * transacciones que publican un cambio de posts, porque los índices y las
+ * cachés los releen tras la confirmación. El resto (contadores de visitas,
+ * compresión, reconciliación de categorías) no la abre; al ser periódicas,
+ * mantendrían casi todas las lecturas en el primario.
+ * 
+ * Se registra como listener de las transacciones para conocer las
+ * escrituras. La ventana se abre antes de confirmar, de modo que los
+ * listeners posteriores a la confirmación ya leen del primario, y se
+ * vuelve a abrir al terminar la confirmación.
+ * 
+ * @author Rafael Alvarado García
+ */
+public class ReplicaDataSource extends AbstractDataSource implements TransactionExecutionListener, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaDataSource.class);
+
+    /**
+     * Criterio de elección de la réplica
+     */
+    public enum Selection {
+        /**
+         * Por turnos
+         */
+        ROUND_ROBIN,
+        /**
+         * La réplica con menos conexiones en uso
+         */
+        LEAST_IN_FLIGHT
+    }
+
+    private final DataSource primary;
+
+    private final List<Replica> replicas;
+
+    private final Selection selection;
+
+    private final long readYourWritesNanos;
+
+    private final AtomicInteger next = new AtomicInteger();
+
+    /**
+     * Instante (System.nanoTime) de la última escritura confirmada
+     */
+    private final AtomicLong lastWrite;
+
+    /**
+     * @param primary              Origen de datos primario
+     * @param replicas             Pools de las réplicas (al menos uno)
+     * @param selection            Criterio de elección de la réplica
+     * @param readYourWritesWindow Tiempo tras una escritura durante el que las
+     *                             lecturas se sirven desde el primario
+     */
+    public ReplicaDataSource(DataSource primary, List<? extends DataSource> replicas, Selection selection,
+            Duration readYourWritesWindow) {
+        if (replicas.isEmpty()) {
+            throw new IllegalArgumentException("Se necesita al menos una réplica");
+        }
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.selection = selection;
+        this.readYourWritesNanos = readYourWritesWindow.toNanos();
+        this.lastWrite = new AtomicLong(System.nanoTime() - readYourWritesNanos - 1);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connect(null, null);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connect(username, password);
+    }
+
+    /**
+     * Abre la ventana de lectura desde el primario antes de confirmar una
+     * transacción de escritura de una petición.
+     */
+    @Override
+    public void beforeCommit(TransactionExecution transaction) {
+        if (isRequestWrite(transaction)) {
+            recordWrite();
+        }
+    }
+
+    /**
+     * Reinicia la ventana de lectura desde el primario al confirmar una
+     * transacción de escritura de una petición.
+     */
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        if (commitFailure == null && isRequestWrite(transaction)) {
+            recordWrite();
+        }
+    }
+
+    /**
+     * Registra una escritura en el primario.
+     */
+    public void recordWrite() {
+        lastWrite.set(System.nanoTime());
+    }
+
+    /**
+     * Cierra los pools de las réplicas.
+     * 
+     * @throws Exception Si algún pool no se puede cerrar
+     */
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private static boolean isRequestWrite(TransactionExecution transaction) {
+        return !transaction.isReadOnly() && RequestContextHolder.getRequestAttributes() != null;
+    }
+
+    private Connection connect(String username, String password) throws SQLException {
+        if (System.nanoTime() - lastWrite.get() > readYourWritesNanos) {
+            try {
+                return select().getConnection(username, password);
+            } catch (SQLException ex) {
+                logger.warn("Réplica no disponible, la lectura se sirve desde el primario: {}", ex.getMessage());
+            }
+        }
+        return username == null ? primary.getConnection() : primary.getConnection(username, password);
+    }
+
+    private Replica select() {
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        if (selection == Selection.ROUND_ROBIN) {
+            return replicas.get(start);
+        }
+        // Empezando por el turno actual para repartir los empates
+        Replica selected = null;
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (selected == null || replica.inFlight.get() < selected.inFlight.get()) {
+                selected = replica;
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * Pool de una réplica con el número de conexiones entregadas y todavía
+     * sin cerrar.
+     */
+    private static final class Replica {
+
+        private final DataSource dataSource;
+
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        private Replica(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        private Connection getConnection(String username, String password) throws SQLException {
+            Connection target = username == null ? dataSource.getConnection()
+                    : dataSource.getConnection(username, password);
+            inFlight.incrementAndGet();
+            return (Connection) Proxy.newProxyInstance(ConnectionProxy.class.getClassLoader(),
+                    new Class<?>[] {ConnectionProxy.class}, new InFlightHandler(target, inFlight));
+        }
+    }
+
+    /**
+     * Descuenta la conexión de las conexiones en uso al cerrarla.
+     */
+    private static final class InFlightHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        private final AtomicInteger inFlight;
+
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private InFlightHandler(Connection target, AtomicInteger inFlight) {
+            this.target = target;
+            this.inFlight = inFlight;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "getTargetConnection":
+                    return target;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "close":
+                    if (closed.compareAndSet(false, true)) {
+                        inFlight.decrementAndGet();
+                    }
+                    break;
+                default:
+                    break;
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getTargetException();
+            }
+        }
+    }
+}
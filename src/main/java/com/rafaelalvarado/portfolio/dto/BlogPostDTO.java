@@ -1,5 +1,6 @@
 package com.rafaelalvarado.portfolio.dto;
 
+import com.fasterxml.jackson.annotation.JsonRawValue;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -19,7 +20,7 @@ import java.util.List;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class BlogPostDTO {
 
     /**
@@ -42,6 +43,17 @@ public class BlogPostDTO {
      */
     private String content;
 
+    /**
+     * Contenido renderizado a HTML saneado, con anclas en los encabezados
+     */
+    private String contentHtml;
+
+    /**
+     * Tabla de contenidos (JSON precalculado: [{"level", "id", "text"}])
+     */
+    @JsonRawValue
+    private String toc;
+
     /**
      * Categoría del post
      */
@@ -57,11 +69,41 @@ public class BlogPostDTO {
      */
     private String readTime;
 
+    /**
+     * Número de palabras del contenido
+     */
+    private Integer wordCount;
+
+    /**
+     * Minutos estimados de lectura
+     */
+    private Integer readingMinutes;
+
+    /**
+     * Número de visitas. El controlador lo calcula en cada respuesta con
+     * ViewCountService; las copias de la micro-caché HTTP y del snapshot se
+     * refrescan en cada volcado, por lo que van como mucho
+     * {@code blog.http-cache.ttl} y {@code blog.views.flush-interval} por
+     * detrás. No forma parte del ETag: una respuesta 304 conserva el valor
+     * que ya tiene el cliente.
+     */
+    private Long viewCount;
+
     /**
      * Indica si está publicado
      */
     private Boolean published;
 
+    /**
+     * Fecha y hora de publicación programada
+     */
+    private LocalDateTime publishAt;
+
+    /**
+     * Fecha y hora de retirada programada
+     */
+    private LocalDateTime unpublishAt;
+
     /**
      * Nombre del autor
      */
@@ -0,0 +1,116 @@
+package com.rafaelalvarado.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO resumido de un post del blog para las vistas de listado.
+ * 
+ * A diferencia de {@link BlogPostDTO}, no incluye el contenido completo del
+ * post: los listados solo muestran título, extracto, tags y tiempo de
+ * lectura, por lo que el cuerpo se obtiene únicamente al consultar un post
+ * por su ID.
+ * 
+ * @author Rafael Alvarado García
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BlogPostSummaryDTO {
+
+    /**
+     * ID del post
+     */
+    private Long id;
+
+    /**
+     * Título del post
+     */
+    private String title;
+
+    /**
+     * Extracto del post
+     */
+    private String excerpt;
+
+    /**
+     * Categoría del post
+     */
+    private String category;
+
+    /**
+     * Tags del post
+     */
+    private List<String> tags;
+
+    /**
+     * Tiempo de lectura estimado
+     */
+    private String readTime;
+
+    /**
+     * Número de palabras del contenido
+     */
+    private Integer wordCount;
+
+    /**
+     * Minutos estimados de lectura
+     */
+    private Integer readingMinutes;
+
+    /**
+     * Indica si está publicado
+     */
+    private Boolean published;
+
+    /**
+     * Nombre del autor
+     */
+    private String authorName;
+
+    /**
+     * ID del autor
+     */
+    private Long authorId;
+
+    /**
+     * Fecha de creación
+     */
+    private LocalDateTime createdAt;
+
+    /**
+     * Fecha de última actualización
+     */
+    private LocalDateTime updatedAt;
+
+    /**
+     * Constructor usado por las proyecciones JPQL de BlogPostRepository, que
+     * seleccionan solo las columnas de resumen. Los tags se asignan después
+     * con una consulta agrupada.
+     * 
+     * @param id         ID del post
+     * @param title      Título del post
+     * @param excerpt    Extracto del post
+     * @param category   Categoría del post
+     * @param readTime   Tiempo de lectura estimado
+     * @param wordCount  Número de palabras del contenido
+     * @param readingMinutes Minutos estimados de lectura
+     * @param published  Estado de publicación
+     * @param authorId   ID del autor
+     * @param authorName Nombre del autor
+     * @param createdAt  Fecha de creación
+     * @param updatedAt  Fecha de última actualización
+     */
+    public BlogPostSummaryDTO(Long id, String title, String excerpt, String category, String readTime,
+            Integer wordCount, Integer readingMinutes, Boolean published, Long authorId, String authorName,
+            LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, title, excerpt, category, null, readTime, wordCount, readingMinutes, published, authorName,
+                authorId, createdAt, updatedAt);
+    }
+}
@@ -0,0 +1,58 @@
+package com.rafaelalvarado.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO con el resultado de una importación masiva de posts.
+ * 
+ * Las líneas con errores no detienen la importación: se omiten y se
+ * informan con su número de línea (como mucho las 1000 primeras;
+ * {@code failed} las cuenta todas).
+ * 
+ * @author Rafael Alvarado García
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkImportResultDTO {
+
+    /**
+     * Número de posts importados
+     */
+    private long imported;
+
+    /**
+     * Número de líneas que no se pudieron importar
+     */
+    private long failed;
+
+    /**
+     * Errores por línea
+     */
+    private List<RowError> errors;
+
+    /**
+     * Error de una línea de la importación.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+
+        /**
+         * Número de línea (desde 1)
+         */
+        private long line;
+
+        /**
+         * Descripción del error
+         */
+        private String message;
+    }
+}
@@ -0,0 +1,36 @@
+package com.rafaelalvarado.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO para representar una categoría del blog con su número de posts
+ * publicados y la fecha del más reciente.
+ * 
+ * @author Rafael Alvarado García
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CategoryCountDTO {
+
+    /**
+     * Nombre de la categoría
+     */
+    private String name;
+
+    /**
+     * Número de posts publicados de la categoría
+     */
+    private long count;
+
+    /**
+     * Fecha de creación del post publicado más reciente
+     */
+    private LocalDateTime latestPostAt;
+}
@@ -0,0 +1,77 @@
+package com.rafaelalvarado.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Versión de un recurso del blog usada para las peticiones condicionales
+ * (ETag / If-None-Match y Last-Modified / If-Modified-Since).
+ * 
+ * Se calcula a partir de {@code updatedAt} sin construir el recurso
+ * completo, de modo que una petición condicional que coincide puede
+ * responder 304 sin leer los posts.
+ * 
+ * @author Rafael Alvarado García
+ */
+@Data
+@AllArgsConstructor
+public class ContentVersion {
+
+    /**
+     * ETag fuerte (sin comillas; Spring las agrega al escribir la cabecera)
+     */
+    private String etag;
+
+    /**
+     * Fecha de última modificación en milisegundos desde epoch (-1 si no aplica)
+     */
+    private long lastModified;
+
+    /**
+     * Crea la versión de un post individual.
+     * 
+     * @param postId    ID del post
+     * @param updatedAt Fecha de última actualización del post
+     * @return ContentVersion
+     */
+    public static ContentVersion ofPost(Long postId, LocalDateTime updatedAt) {
+        long lastModified = toEpochMillis(updatedAt);
+        return new ContentVersion("post-" + postId + "-" + lastModified + "-" + updatedAt.getNano(), lastModified);
+    }
+
+    /**
+     * Crea la versión de un listado a partir de su número de posts y la
+     * fecha de modificación más reciente. El número de posts cambia cuando se
+     * elimina o despublica un post aunque la fecha máxima no varíe.
+     * 
+     * @param scope         Identificador del listado (global o categoría)
+     * @param total         Número de posts del listado
+     * @param lastUpdatedAt Fecha de modificación más reciente (null si está vacío)
+     * @return ContentVersion
+     */
+    public static ContentVersion ofListing(String scope, long total, LocalDateTime lastUpdatedAt) {
+        long lastModified = lastUpdatedAt != null ? toEpochMillis(lastUpdatedAt) : -1;
+        int nanos = lastUpdatedAt != null ? lastUpdatedAt.getNano() : 0;
+        String tag = "list-" + Integer.toHexString(scope.hashCode()) + "-" + total + "-" + lastModified + "-" + nanos;
+        return new ContentVersion(tag, lastModified);
+    }
+
+    /**
+     * Obtiene la versión de una variante del recurso (por ejemplo, una página
+     * concreta de un listado), que comparte fecha de modificación pero tiene
+     * un ETag distinto.
+     * 
+     * @param variant Identificador de la variante
+     * @return ContentVersion de la variante
+     */
+    public ContentVersion forVariant(String variant) {
+        return new ContentVersion(etag + "-" + Integer.toHexString(variant.hashCode()), lastModified);
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
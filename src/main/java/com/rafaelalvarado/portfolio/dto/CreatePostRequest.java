@@ -7,6 +7,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -54,14 +55,19 @@ public class CreatePostRequest {
      */
     private List<String> tags;
 
-    /**
-     * Tiempo de lectura estimado
-     */
-    private String readTime;
-
     /**
      * Indica si se debe publicar inmediatamente
      */
     @Builder.Default
     private Boolean published = false;
+
+    /**
+     * Fecha y hora en que se publicará el post (opcional)
+     */
+    private LocalDateTime publishAt;
+
+    /**
+     * Fecha y hora en que se retirará el post (opcional)
+     */
+    private LocalDateTime unpublishAt;
 }
@@ -0,0 +1,45 @@
+package com.rafaelalvarado.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO para representar una página de resultados paginada por cursor.
+ * 
+ * El cliente solicita la siguiente página enviando {@code nextCursor}
+ * como parámetro {@code cursor}. Cuando {@code nextCursor} es null no
+ * quedan más resultados.
+ * 
+ * @param <T> Tipo de los elementos de la página
+ * @author Rafael Alvarado García
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPageDTO<T> {
+
+    /**
+     * Elementos de la página actual
+     */
+    private List<T> items;
+
+    /**
+     * Cursor opaco para solicitar la siguiente página (null si no hay más)
+     */
+    private String nextCursor;
+
+    /**
+     * Tamaño de página aplicado
+     */
+    private int limit;
+
+    /**
+     * Indica si existen más resultados después de esta página
+     */
+    private boolean hasMore;
+}
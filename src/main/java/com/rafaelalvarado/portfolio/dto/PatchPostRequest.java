@@ -0,0 +1,75 @@
+package com.rafaelalvarado.portfolio.dto;
+
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Request DTO para modificar campos concretos de un post.
+ * 
+ * Solo se cambian los campos presentes. A diferencia de
+ * {@link UpdatePostRequest}, los tags no se reemplazan: se indican los
+ * que se agregan y los que se eliminan, sin necesidad de enviar la lista
+ * completa.
+ * 
+ * @author Rafael Alvarado García
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PatchPostRequest {
+
+    /**
+     * Título del post (opcional)
+     */
+    @Size(min = 5, max = 200, message = "El título debe tener entre 5 y 200 caracteres")
+    private String title;
+
+    /**
+     * Extracto del post (opcional)
+     */
+    @Size(min = 10, max = 500, message = "El extracto debe tener entre 10 y 500 caracteres")
+    private String excerpt;
+
+    /**
+     * Contenido completo del post (opcional)
+     */
+    private String content;
+
+    /**
+     * Categoría del post (opcional)
+     */
+    private String category;
+
+    /**
+     * Tags que se agregan al post (opcional)
+     */
+    private List<String> addTags;
+
+    /**
+     * Tags que se eliminan del post (opcional)
+     */
+    private List<String> removeTags;
+
+    /**
+     * Estado de publicación (opcional). Cancela la publicación o la retirada
+     * programada hacia ese mismo estado.
+     */
+    private Boolean published;
+
+    /**
+     * Fecha y hora en que se publicará el post (opcional)
+     */
+    private LocalDateTime publishAt;
+
+    /**
+     * Fecha y hora en que se retirará el post (opcional)
+     */
+    private LocalDateTime unpublishAt;
+}
@@ -0,0 +1,47 @@
+package com.rafaelalvarado.portfolio.dto;
+
+import com.rafaelalvarado.portfolio.render.ContentCompression;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Contenido original de un post tal como está guardado: sin comprimir o
+ * comprimido con gzip.
+ * 
+ * Permite enviar el contenido comprimido sin cambios a los clientes que
+ * aceptan gzip y descomprimirlo solo para los demás.
+ * 
+ * @author Rafael Alvarado García
+ */
+@Data
+@AllArgsConstructor
+public class PostContentDTO {
+
+    /**
+     * Contenido sin comprimir (null si está comprimido)
+     */
+    private String content;
+
+    /**
+     * Contenido comprimido con gzip (null si no está comprimido)
+     */
+    private byte[] contentGzip;
+
+    /**
+     * Indica si el contenido está comprimido.
+     * 
+     * @return true si el contenido está en contentGzip
+     */
+    public boolean isCompressed() {
+        return contentGzip != null;
+    }
+
+    /**
+     * Obtiene el contenido original, descomprimiéndolo si es necesario.
+     * 
+     * @return Contenido original
+     */
+    public String decompress() {
+        return ContentCompression.content(content, contentGzip);
+    }
+}
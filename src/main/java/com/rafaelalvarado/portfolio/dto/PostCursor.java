@@ -0,0 +1,69 @@
+package com.rafaelalvarado.portfolio.dto;
+
+import com.rafaelalvarado.portfolio.exception.BadRequestException;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Cursor de paginación por clave (keyset) para los listados del blog.
+ * 
+ * Identifica la posición del último post entregado mediante el par
+ * (createdAt, id), que coincide con el orden de los listados. Se serializa
+ * como una cadena Base64 URL-safe opaca para el cliente.
+ * 
+ * @author Rafael Alvarado García
+ */
+@Data
+@AllArgsConstructor
+public class PostCursor {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Fecha de creación del último post entregado
+     */
+    private LocalDateTime createdAt;
+
+    /**
+     * ID del último post entregado
+     */
+    private Long id;
+
+    /**
+     * Codifica el cursor como cadena opaca.
+     * 
+     * @return Cursor codificado en Base64 URL-safe
+     */
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica un cursor recibido del cliente.
+     * 
+     * @param value Cursor codificado
+     * @return PostCursor
+     * @throws BadRequestException Si el cursor no es válido
+     */
+    public static PostCursor decode(String value) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator <= 0) {
+                throw new BadRequestException("Cursor de paginación inválido");
+            }
+            return new PostCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new BadRequestException("Cursor de paginación inválido", ex);
+        }
+    }
+}
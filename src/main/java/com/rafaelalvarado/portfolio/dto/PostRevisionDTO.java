@@ -0,0 +1,58 @@
+package com.rafaelalvarado.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO de una revisión del contenido de un post.
+ * 
+ * El contenido solo se incluye al obtener una revisión concreta (en el
+ * historial es null).
+ * 
+ * @author Rafael Alvarado García
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PostRevisionDTO {
+
+    /**
+     * ID del post
+     */
+    private Long postId;
+
+    /**
+     * Número de revisión (desde 1)
+     */
+    private Integer revision;
+
+    /**
+     * Indica si la revisión guarda el contenido completo
+     */
+    private Boolean keyframe;
+
+    /**
+     * Longitud en caracteres del contenido
+     */
+    private Integer contentLength;
+
+    /**
+     * Bytes que ocupa la revisión almacenada
+     */
+    private Integer storedSize;
+
+    /**
+     * Fecha y hora de la revisión
+     */
+    private LocalDateTime createdAt;
+
+    /**
+     * Contenido de la revisión (solo al obtener una revisión concreta)
+     */
+    private String content;
+}
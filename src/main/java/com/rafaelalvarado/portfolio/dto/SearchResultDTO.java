@@ -0,0 +1,52 @@
+package com.rafaelalvarado.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO para representar una página de resultados de búsqueda.
+ * 
+ * Los resultados se devuelven ordenados por relevancia.
+ * 
+ * @author Rafael Alvarado García
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SearchResultDTO {
+
+    /**
+     * Texto buscado
+     */
+    private String query;
+
+    /**
+     * Resúmenes de los posts de la página actual
+     */
+    private List<BlogPostSummaryDTO> items;
+
+    /**
+     * Número de página (empezando en 0)
+     */
+    private int page;
+
+    /**
+     * Tamaño de página aplicado
+     */
+    private int size;
+
+    /**
+     * Número total de posts que coinciden con la búsqueda
+     */
+    private long total;
+
+    /**
+     * Indica si existen más resultados después de esta página
+     */
+    private boolean hasMore;
+}
@@ -0,0 +1,28 @@
+package com.rafaelalvarado.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO para representar un tag y el número de posts publicados que lo usan.
+ * 
+ * @author Rafael Alvarado García
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TagCountDTO {
+
+    /**
+     * Nombre del tag
+     */
+    private String name;
+
+    /**
+     * Número de posts publicados con el tag
+     */
+    private int count;
+}
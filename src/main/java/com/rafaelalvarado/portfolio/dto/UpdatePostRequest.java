@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -51,12 +52,18 @@ public class UpdatePostRequest {
     private List<String> tags;
 
     /**
-     * Tiempo de lectura estimado (opcional)
+     * Estado de publicación (opcional). Cancela la publicación o la retirada
+     * programada hacia ese mismo estado.
      */
-    private String readTime;
+    private Boolean published;
 
     /**
-     * Estado de publicación (opcional)
+     * Fecha y hora en que se publicará el post (opcional)
      */
-    private Boolean published;
+    private LocalDateTime publishAt;
+
+    /**
+     * Fecha y hora en que se retirará el post (opcional)
+     */
+    private LocalDateTime unpublishAt;
 }
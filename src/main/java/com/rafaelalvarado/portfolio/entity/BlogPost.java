@@ -1,5 +1,6 @@
 package com.rafaelalvarado.portfolio.entity;
 
+import com.rafaelalvarado.portfolio.render.ContentCompression;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -7,12 +8,15 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 /**
  * Entidad BlogPost - Representa un post del blog técnico.
@@ -21,14 +25,25 @@ import java.util.List;
  * incluyendo título, contenido, categoría, tags y metadata.
  * Los posts pueden estar publicados o en borrador.
  * 
+ * Las actualizaciones solo escriben las columnas modificadas, de modo que
+ * editar el título o el estado no reescribe el contenido completo.
+ * 
  * @author Rafael Alvarado García
  */
 @Entity
 @Table(name = "blog_posts", indexes = {
         @Index(name = "idx_category", columnList = "category"),
         @Index(name = "idx_published", columnList = "published"),
-        @Index(name = "idx_created_at", columnList = "createdAt")
+        @Index(name = "idx_created_at", columnList = "createdAt"),
+        @Index(name = "idx_published_created_id", columnList = "published, createdAt, id"),
+        @Index(name = "idx_published_category_created_id", columnList = "published, category, createdAt, id"),
+        @Index(name = "idx_published_updated", columnList = "published, updatedAt"),
+        @Index(name = "idx_published_category_updated", columnList = "published, category, updatedAt"),
+        @Index(name = "idx_published_reading_minutes_id", columnList = "published, readingMinutes, id"),
+        @Index(name = "idx_publish_at", columnList = "publishAt"),
+        @Index(name = "idx_unpublish_at", columnList = "unpublishAt")
 })
+@DynamicUpdate
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -36,10 +51,24 @@ import java.util.List;
 public class BlogPost {
 
     /**
-     * Identificador único del post
+     * Fila de {@code id_sequences} que guarda el siguiente bloque de IDs
+     */
+    public static final String ID_SEQUENCE = "blog_posts";
+
+    /**
+     * Número de IDs reservados en cada acceso a {@code id_sequences}
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    /**
+     * Identificador único del post. Se asigna desde bloques reservados en
+     * {@code id_sequences} (no con IDENTITY), lo que permite a Hibernate
+     * agrupar los INSERT en lotes JDBC.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "blog_post_id")
+    @TableGenerator(name = "blog_post_id", table = "id_sequences", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     /**
@@ -59,12 +88,19 @@ public class BlogPost {
     private String excerpt;
 
     /**
-     * Contenido completo del post (puede ser HTML o Markdown)
+     * Contenido completo del post (puede ser HTML o Markdown). Queda vacío
+     * cuando el contenido se guarda comprimido en {@link #contentGzip}; se
+     * lee siempre con {@link #getContent()}.
      */
-    @NotBlank(message = "El contenido es obligatorio")
     @Column(nullable = false, columnDefinition = "TEXT")
     private String content;
 
+    /**
+     * Contenido comprimido con gzip, o null si se guarda sin comprimir
+     */
+    @Column(name = "content_gzip", length = ContentCompression.MAX_COMPRESSED_LENGTH)
+    private byte[] contentGzip;
+
     /**
      * Categoría del post (Testing, Frontend, Backend, IA, etc.)
      */
@@ -73,20 +109,43 @@ public class BlogPost {
     private String category;
 
     /**
-     * Tags del post separados por comas
+     * Tags del post. Al ser un conjunto, Hibernate inserta y borra solo los
+     * tags añadidos o eliminados en lugar de reescribir la colección.
      */
     @ElementCollection
     @CollectionTable(name = "blog_post_tags", joinColumns = @JoinColumn(name = "post_id"))
     @Column(name = "tag")
+    @OrderBy
+    @BatchSize(size = 100)
     @Builder.Default
-    private List<String> tags = new ArrayList<>();
+    private Set<String> tags = new LinkedHashSet<>();
 
     /**
-     * Tiempo estimado de lectura (ej: "5 min", "10 min")
+     * Tiempo estimado de lectura (ej: "5 min", "10 min"), derivado de
+     * readingMinutes
      */
     @Column(length = 20)
     private String readTime;
 
+    /**
+     * Número de palabras del contenido (sin etiquetas ni bloques de código)
+     */
+    private Integer wordCount;
+
+    /**
+     * Minutos estimados de lectura, calculados a partir de wordCount
+     */
+    private Integer readingMinutes;
+
+    /**
+     * Número de visitas del post. Lo incrementa por lotes ViewCountService
+     * con sentencias SQL directas, por lo que JPA nunca lo sobrescribe.
+     */
+    @Column(nullable = false, updatable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Long viewCount = 0L;
+
     /**
      * Indica si el post está publicado o es un borrador
      */
@@ -94,6 +153,18 @@ public class BlogPost {
     @Builder.Default
     private Boolean published = false;
 
+    /**
+     * Fecha y hora programada para publicar el post (null si no hay
+     * publicación pendiente)
+     */
+    private LocalDateTime publishAt;
+
+    /**
+     * Fecha y hora programada para retirar el post (null si no hay retirada
+     * pendiente)
+     */
+    private LocalDateTime unpublishAt;
+
     /**
      * Autor del post
      */
@@ -101,6 +172,13 @@ public class BlogPost {
     @JoinColumn(name = "author_id", nullable = false)
     private User author;
 
+    /**
+     * Contenido renderizado y saneado correspondiente al contenido actual
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "content_hash")
+    private RenderedContent renderedContent;
+
     /**
      * Fecha y hora de creación del post
      */
@@ -115,6 +193,46 @@ public class BlogPost {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    /**
+     * Obtiene el contenido del post, descomprimiéndolo si se guarda
+     * comprimido.
+     * 
+     * @return Contenido original
+     */
+    @NotBlank(message = "El contenido es obligatorio")
+    public String getContent() {
+        return ContentCompression.content(content, contentGzip);
+    }
+
+    /**
+     * Asigna el contenido del post sin comprimir.
+     * 
+     * @param content Contenido original
+     */
+    public void setContent(String content) {
+        this.content = content;
+        this.contentGzip = null;
+    }
+
+    /**
+     * Guarda el contenido del post comprimido.
+     * 
+     * @param contentGzip Contenido comprimido con {@link ContentCompression#gzip(String)}
+     */
+    public void storeCompressedContent(byte[] contentGzip) {
+        this.content = "";
+        this.contentGzip = contentGzip;
+    }
+
+    /**
+     * Indica si el contenido se guarda comprimido.
+     * 
+     * @return true si el contenido está en {@link #contentGzip}
+     */
+    public boolean isContentCompressed() {
+        return contentGzip != null;
+    }
+
     /**
      * Agrega un tag al post
      * 
@@ -122,11 +240,9 @@ public class BlogPost {
      */
     public void addTag(String tag) {
         if (tags == null) {
-            tags = new ArrayList<>();
-        }
-        if (!tags.contains(tag)) {
-            tags.add(tag);
+            tags = new LinkedHashSet<>();
         }
+        tags.add(tag);
     }
 
     /**
@@ -0,0 +1,45 @@
+package com.rafaelalvarado.portfolio.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidad CategoryStats - Recuento de posts publicados por categoría.
+ * 
+ * Se actualiza en la misma transacción que las escrituras de posts y se
+ * reconcilia periódicamente con la tabla {@code blog_posts}, de modo que
+ * el listado de categorías no necesita recorrer los posts.
+ * 
+ * @author Rafael Alvarado García
+ */
+@Entity
+@Table(name = "blog_category_stats")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CategoryStats {
+
+    /**
+     * Nombre de la categoría
+     */
+    @Id
+    @Column(length = 50)
+    private String category;
+
+    /**
+     * Número de posts publicados de la categoría
+     */
+    @Column(nullable = false)
+    private Long publishedCount;
+
+    /**
+     * Fecha de creación del post publicado más reciente de la categoría
+     */
+    private LocalDateTime latestPostAt;
+}
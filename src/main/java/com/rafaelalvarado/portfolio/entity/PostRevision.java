@@ -0,0 +1,111 @@
+package com.rafaelalvarado.portfolio.entity;
+
+import com.rafaelalvarado.portfolio.render.ContentCompression;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidad PostRevision - Versión del contenido de un post.
+ * 
+ * Cada cambio de contenido crea una revisión numerada desde 1. Las
+ * revisiones clave guardan el contenido completo comprimido con gzip; el
+ * resto guardan solo la diferencia respecto a la revisión anterior
+ * ({@link com.rafaelalvarado.portfolio.render.ContentDelta}), por lo que
+ * reconstruir una revisión requiere como mucho la última revisión clave y
+ * las diferencias posteriores.
+ * 
+ * @author Rafael Alvarado García
+ */
+@Entity
+@Table(name = "blog_post_revisions", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_post_revision", columnNames = { "post_id", "revision" })
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PostRevision {
+
+    /**
+     * Fila de {@code id_sequences} que guarda el siguiente bloque de IDs
+     */
+    public static final String ID_SEQUENCE = "blog_post_revisions";
+
+    /**
+     * Número de IDs reservados en cada acceso a {@code id_sequences}
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    /**
+     * Identificador único de la revisión. Se asigna desde bloques reservados
+     * en {@code id_sequences} para que las inserciones se agrupen en lotes.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "post_revision_id")
+    @TableGenerator(name = "post_revision_id", table = "id_sequences", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
+    private Long id;
+
+    /**
+     * ID del post
+     */
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    /**
+     * Post al que pertenece la revisión. Solo define la clave foránea: las
+     * revisiones se eliminan en la base de datos al eliminar el post, tanto
+     * desde el servicio como en borrados masivos.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "post_id", insertable = false, updatable = false,
+            foreignKey = @ForeignKey(name = "fk_post_revision_post"))
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private BlogPost post;
+
+    /**
+     * Número de revisión dentro del post (desde 1)
+     */
+    @Column(nullable = false)
+    private Integer revision;
+
+    /**
+     * Indica si la revisión guarda el contenido completo
+     */
+    @Column(nullable = false)
+    private Boolean keyframe;
+
+    /**
+     * Contenido completo comprimido (revisión clave) o diferencia respecto
+     * a la revisión anterior
+     */
+    @Column(nullable = false, length = ContentCompression.MAX_COMPRESSED_LENGTH)
+    private byte[] data;
+
+    /**
+     * Longitud en caracteres del contenido de la revisión
+     */
+    @Column(nullable = false)
+    private Integer contentLength;
+
+    /**
+     * Bytes ocupados por data
+     */
+    @Column(nullable = false)
+    private Integer storedSize;
+
+    /**
+     * Fecha y hora de la revisión
+     */
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
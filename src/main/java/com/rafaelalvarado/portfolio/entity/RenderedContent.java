@@ -0,0 +1,54 @@
+package com.rafaelalvarado.portfolio.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidad RenderedContent - Contenido de un post ya renderizado y saneado.
+ * 
+ * Se identifica por el hash SHA-256 del contenido original, de modo que un
+ * mismo contenido solo se renderiza una vez y los posts con contenido
+ * idéntico comparten el mismo artefacto.
+ * 
+ * @author Rafael Alvarado García
+ */
+@Entity
+@Table(name = "blog_rendered_content")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RenderedContent {
+
+    /**
+     * Hash SHA-256 (hexadecimal) del contenido original
+     */
+    @Id
+    @Column(length = 64)
+    private String contentHash;
+
+    /**
+     * HTML renderizado y saneado, con anclas en los encabezados
+     */
+    @Column(nullable = false, columnDefinition = "MEDIUMTEXT")
+    private String html;
+
+    /**
+     * Tabla de contenidos en formato JSON: [{"level", "id", "text"}]
+     */
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String toc;
+
+    /**
+     * Fecha y hora en que se renderizó el contenido
+     */
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime renderedAt;
+}
@@ -0,0 +1,56 @@
+package com.rafaelalvarado.portfolio.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidad ViewCountFlush - Registro de cada lote de visitas volcado a
+ * {@code blog_posts}.
+ * 
+ * Se inserta en la misma transacción que los incrementos del lote: si un
+ * volcado se reintenta con el mismo ID (por ejemplo, tras un error con
+ * resultado desconocido), la clave duplicada indica que ya se aplicó y no se
+ * vuelve a sumar.
+ * 
+ * @author Rafael Alvarado García
+ */
+@Entity
+@Table(name = "blog_view_count_flushes", indexes = {
+        @Index(name = "idx_view_count_flushes_flushed_at", columnList = "flushedAt")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ViewCountFlush {
+
+    /**
+     * Identificador del lote
+     */
+    @Id
+    @Column(length = 36)
+    private String batchId;
+
+    /**
+     * Número de posts actualizados en el lote
+     */
+    @Column(nullable = false)
+    private Integer postCount;
+
+    /**
+     * Número total de visitas sumadas en el lote
+     */
+    @Column(nullable = false)
+    private Long totalViews;
+
+    /**
+     * Fecha y hora del volcado
+     */
+    @Column(nullable = false)
+    private LocalDateTime flushedAt;
+}
@@ -0,0 +1,129 @@
+package com.rafaelalvarado.portfolio.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Evento publicado por BlogService cada vez que se crea, actualiza o
+ * elimina un post.
+ * 
+ * Contiene el estado relevante antes y después del cambio (categoría y
+ * estado de publicación) para que los componentes derivados (cachés,
+ * índices, contadores) invaliden o actualicen únicamente las entradas
+ * afectadas. Se consume con {@code @TransactionalEventListener} para que
+ * solo se procese una vez confirmada la transacción.
+ * 
+ * @author Rafael Alvarado García
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class BlogPostChangedEvent {
+
+    /**
+     * Tipo de cambio realizado sobre el post
+     */
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+
+    /**
+     * ID del post modificado
+     */
+    private final Long postId;
+
+    /**
+     * Tipo de cambio
+     */
+    private final ChangeType type;
+
+    /**
+     * Categoría antes del cambio (null si el post se acaba de crear)
+     */
+    private final String previousCategory;
+
+    /**
+     * Categoría después del cambio (null si el post se eliminó)
+     */
+    private final String currentCategory;
+
+    /**
+     * Indica si el post estaba publicado antes del cambio
+     */
+    private final boolean previouslyPublished;
+
+    /**
+     * Indica si el post está publicado después del cambio
+     */
+    private final boolean currentlyPublished;
+
+    /**
+     * Crea el evento de un post recién creado.
+     * 
+     * @param postId    ID del post
+     * @param category  Categoría del post
+     * @param published Estado de publicación
+     * @return BlogPostChangedEvent
+     */
+    public static BlogPostChangedEvent created(Long postId, String category, boolean published) {
+        return new BlogPostChangedEvent(postId, ChangeType.CREATED, null, category, false, published);
+    }
+
+    /**
+     * Crea el evento de un post actualizado.
+     * 
+     * @param postId             ID del post
+     * @param previousCategory   Categoría antes del cambio
+     * @param currentCategory    Categoría después del cambio
+     * @param previouslyPublished Estado de publicación antes del cambio
+     * @param currentlyPublished Estado de publicación después del cambio
+     * @return BlogPostChangedEvent
+     */
+    public static BlogPostChangedEvent updated(Long postId, String previousCategory, String currentCategory,
+            boolean previouslyPublished, boolean currentlyPublished) {
+        return new BlogPostChangedEvent(postId, ChangeType.UPDATED, previousCategory, currentCategory,
+                previouslyPublished, currentlyPublished);
+    }
+
+    /**
+     * Crea el evento de un post eliminado.
+     * 
+     * @param postId    ID del post
+     * @param category  Categoría del post eliminado
+     * @param published Estado de publicación del post eliminado
+     * @return BlogPostChangedEvent
+     */
+    public static BlogPostChangedEvent deleted(Long postId, String category, boolean published) {
+        return new BlogPostChangedEvent(postId, ChangeType.DELETED, category, null, published, false);
+    }
+
+    /**
+     * Obtiene las categorías afectadas por el cambio (anterior y actual).
+     * 
+     * @return Conjunto de categorías no nulas
+     */
+    public Set<String> getAffectedCategories() {
+        Set<String> categories = new LinkedHashSet<>();
+        if (previousCategory != null) {
+            categories.add(previousCategory);
+        }
+        if (currentCategory != null) {
+            categories.add(currentCategory);
+        }
+        return categories;
+    }
+
+    /**
+     * Indica si el cambio afecta a los listados públicos, es decir, si el post
+     * estaba o está publicado.
+     * 
+     * @return true si el post es o era visible públicamente
+     */
+    public boolean affectsPublishedListings() {
+        return previouslyPublished || currentlyPublished;
+    }
+}
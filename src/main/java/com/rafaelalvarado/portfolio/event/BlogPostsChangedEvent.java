@@ -0,0 +1,40 @@
+package com.rafaelalvarado.portfolio.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * Evento publicado tras modificar un bloque de posts a la vez: los posts
+ * importados por BlogImportService o las publicaciones y retiradas
+ * programadas que aplica PublicationScheduler.
+ * 
+ * Agrupa los cambios de todos los posts del bloque para que los
+ * componentes derivados puedan procesarlos de una vez (por ejemplo, leer
+ * los posts para los índices en una sola consulta) en lugar de recibir un
+ * {@link BlogPostChangedEvent} por post. Como este, se consume con
+ * {@code @TransactionalEventListener}.
+ * 
+ * @author Rafael Alvarado García
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class BlogPostsChangedEvent {
+
+    /**
+     * Cambio de cada post del bloque
+     */
+    private final List<BlogPostChangedEvent> changes;
+
+    /**
+     * Obtiene los IDs de los posts del bloque.
+     * 
+     * @return Lista de IDs
+     */
+    public List<Long> getPostIds() {
+        return changes.stream().map(BlogPostChangedEvent::getPostId).toList();
+    }
+}
@@ -0,0 +1,30 @@
+package com.rafaelalvarado.portfolio.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * Evento publicado por ViewCountService tras volcar un lote de visitas a
+ * {@code blog_posts}.
+ * 
+ * Solo cambia el contador de visitas de los posts, por lo que no altera su
+ * versión (ETag) ni los listados: los consumidores refrescan únicamente las
+ * copias serializadas del detalle de cada post (micro-caché HTTP y
+ * snapshot). Se publica fuera de cualquier transacción, ya confirmado el
+ * lote, y se consume con {@code @EventListener}.
+ * 
+ * @author Rafael Alvarado García
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class PostViewsFlushedEvent {
+
+    /**
+     * IDs de los posts cuyo contador se actualizó
+     */
+    private final List<Long> postIds;
+}
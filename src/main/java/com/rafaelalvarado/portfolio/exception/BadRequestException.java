@@ -0,0 +1,31 @@
+package com.rafaelalvarado.portfolio.exception;
+
+/**
+ * Excepción personalizada para peticiones con parámetros inválidos.
+ * 
+ * Esta excepción se lanza cuando un parámetro de la petición no puede
+ * interpretarse (por ejemplo, un cursor de paginación corrupto).
+ * 
+ * @author Rafael Alvarado García
+ */
+public class BadRequestException extends RuntimeException {
+
+    /**
+     * Constructor con mensaje.
+     * 
+     * @param message Mensaje de error
+     */
+    public BadRequestException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructor con mensaje y causa.
+     * 
+     * @param message Mensaje de error
+     * @param cause   Causa de la excepción
+     */
+    public BadRequestException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,30 @@
+package com.rafaelalvarado.portfolio.feed;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Feed ya serializado junto con sus cabeceras de validación.
+ * 
+ * @author Rafael Alvarado García
+ */
+@Getter
+@AllArgsConstructor
+public class FeedDocument {
+
+    /**
+     * Documento XML codificado en UTF-8
+     */
+    private final byte[] body;
+
+    /**
+     * ETag fuerte (sin comillas), calculado a partir del contenido
+     */
+    private final String etag;
+
+    /**
+     * Fecha de la entrada más reciente en milisegundos desde epoch (-1 si el
+     * feed está vacío)
+     */
+    private final long lastModified;
+}
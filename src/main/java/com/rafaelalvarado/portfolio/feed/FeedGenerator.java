@@ -0,0 +1,362 @@
+package com.rafaelalvarado.portfolio.feed;
+
+import com.rafaelalvarado.portfolio.dto.BlogPostSummaryDTO;
+import com.rafaelalvarado.portfolio.event.BlogPostChangedEvent;
+import com.rafaelalvarado.portfolio.event.BlogPostsChangedEvent;
+import com.rafaelalvarado.portfolio.service.BlogService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Genera los feeds Atom y RSS con los últimos posts publicados.
+ * 
+ * Los documentos se escriben con {@link XMLStreamWriter} y se guardan ya
+ * serializados junto con su ETag, por lo que una petición sin cambios
+ * (incluidas las condicionales) no consulta la base de datos. Cada entrada
+ * se serializa por separado y se reutiliza mientras el post no cambie: tras
+ * crear, actualizar, publicar o eliminar un post solo se vuelven a escribir
+ * las entradas modificadas y se concatenan las demás.
+ * 
+ * @author Rafael Alvarado García
+ */
+@Component
+public class FeedGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(FeedGenerator.class);
+
+    private static final String ATOM_NAMESPACE = "http://www.w3.org/2005/Atom";
+
+    private static final XMLOutputFactory XML_OUTPUT_FACTORY = XMLOutputFactory.newFactory();
+
+    /**
+     * Formatos de feed disponibles
+     */
+    public enum Format {
+        ATOM("application/atom+xml"),
+        RSS("application/rss+xml");
+
+        private final String contentType;
+
+        Format(String contentType) {
+            this.contentType = contentType;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+    }
+
+    @Autowired
+    private BlogService blogService;
+
+    @Value("${site.base-url}")
+    private String siteBaseUrl;
+
+    @Value("${blog.feed.title}")
+    private String title;
+
+    @Value("${blog.feed.max-entries}")
+    private int maxEntries;
+
+    /**
+     * Versión de los posts publicados; se incrementa con cada cambio
+     */
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * Documentos generados y versión con la que se generaron
+     */
+    private volatile Generated generated;
+
+    /**
+     * Entradas serializadas por post
+     */
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Obtiene el feed en el formato indicado, generándolo solo si algún post
+     * cambió desde la última vez.
+     * 
+     * @param format Formato del feed
+     * @return FeedDocument
+     */
+    public FeedDocument getFeed(Format format) {
+        Generated current = generated;
+        if (current == null || current.version != version.get()) {
+            current = regenerate();
+        }
+        return current.documents.get(format);
+    }
+
+    /**
+     * Invalida el feed y la entrada del post tras el commit de un cambio.
+     * 
+     * @param event Evento de cambio del post
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(BlogPostChangedEvent event) {
+        if (event.affectsPublishedListings()) {
+            entries.remove(event.getPostId());
+            version.incrementAndGet();
+        }
+    }
+
+    /**
+     * Invalida el feed tras el commit de un bloque de posts modificados.
+     * 
+     * @param event Evento del bloque de cambios
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostsChanged(BlogPostsChangedEvent event) {
+        event.getChanges().forEach(this::onPostChanged);
+    }
+
+    /**
+     * Vuelve a generar los documentos reutilizando las entradas sin cambios.
+     * 
+     * @return Documentos generados
+     */
+    private synchronized Generated regenerate() {
+        long startVersion = version.get();
+        Generated current = generated;
+        if (current != null && current.version == startVersion) {
+            return current;
+        }
+
+        List<BlogPostSummaryDTO> posts = blogService.getPublishedPostsPage(null, maxEntries).getItems();
+        Set<Long> ids = new HashSet<>();
+        int rebuilt = 0;
+        LocalDateTime latest = null;
+        for (BlogPostSummaryDTO post : posts) {
+            ids.add(post.getId());
+            Entry entry = entries.get(post.getId());
+            if (entry == null || !entry.updatedAt.equals(post.getUpdatedAt())) {
+                entries.put(post.getId(), new Entry(post.getUpdatedAt(), writeAtomEntry(post), writeRssItem(post)));
+                rebuilt++;
+            }
+            if (latest == null || post.getUpdatedAt().isAfter(latest)) {
+                latest = post.getUpdatedAt();
+            }
+        }
+        entries.keySet().retainAll(ids);
+
+        Map<Format, FeedDocument> documents = new EnumMap<>(Format.class);
+        long lastModified = latest != null ? latest.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : -1;
+        documents.put(Format.ATOM, toDocument(writeAtomFeed(posts, latest), lastModified));
+        documents.put(Format.RSS, toDocument(writeRssFeed(posts, latest), lastModified));
+
+        Generated result = new Generated(startVersion, documents);
+        generated = result;
+        logger.debug("Feeds regenerados: {} entradas ({} reescritas)", posts.size(), rebuilt);
+        return result;
+    }
+
+    private FeedDocument toDocument(byte[] body, long lastModified) {
+        return new FeedDocument(body, "feed-" + DigestUtils.md5DigestAsHex(body), lastModified);
+    }
+
+    private byte[] writeAtomFeed(List<BlogPostSummaryDTO> posts, LocalDateTime latest) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        write(out, xml -> {
+            xml.writeStartDocument("UTF-8", "1.0");
+            xml.writeStartElement("feed");
+            xml.writeDefaultNamespace(ATOM_NAMESPACE);
+            element(xml, "id", blogUrl());
+            element(xml, "title", title);
+            xml.writeEmptyElement("link");
+            xml.writeAttribute("rel", "alternate");
+            xml.writeAttribute("href", blogUrl());
+            element(xml, "updated", atomDate(latest != null ? latest : LocalDateTime.now()));
+            xml.flush();
+            for (BlogPostSummaryDTO post : posts) {
+                out.write(entries.get(post.getId()).atom);
+            }
+            xml.writeEndElement();
+            xml.writeEndDocument();
+        });
+        return out.toByteArray();
+    }
+
+    private byte[] writeRssFeed(List<BlogPostSummaryDTO> posts, LocalDateTime latest) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        write(out, xml -> {
+            xml.writeStartDocument("UTF-8", "1.0");
+            xml.writeStartElement("rss");
+            xml.writeAttribute("version", "2.0");
+            xml.writeStartElement("channel");
+            element(xml, "title", title);
+            element(xml, "link", blogUrl());
+            element(xml, "description", title);
+            if (latest != null) {
+                element(xml, "lastBuildDate", rssDate(latest));
+            }
+            xml.flush();
+            for (BlogPostSummaryDTO post : posts) {
+                out.write(entries.get(post.getId()).rss);
+            }
+            xml.writeEndElement();
+            xml.writeEndElement();
+            xml.writeEndDocument();
+        });
+        return out.toByteArray();
+    }
+
+    private byte[] writeAtomEntry(BlogPostSummaryDTO post) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        write(out, xml -> {
+            xml.writeStartElement("entry");
+            element(xml, "id", postUrl(post));
+            element(xml, "title", post.getTitle());
+            xml.writeEmptyElement("link");
+            xml.writeAttribute("rel", "alternate");
+            xml.writeAttribute("href", postUrl(post));
+            element(xml, "published", atomDate(post.getCreatedAt()));
+            element(xml, "updated", atomDate(post.getUpdatedAt()));
+            xml.writeStartElement("author");
+            element(xml, "name", post.getAuthorName());
+            xml.writeEndElement();
+            for (String category : categories(post)) {
+                xml.writeEmptyElement("category");
+                xml.writeAttribute("term", category);
+            }
+            xml.writeStartElement("summary");
+            xml.writeAttribute("type", "text");
+            xml.writeCharacters(post.getExcerpt());
+            xml.writeEndElement();
+            xml.writeEndElement();
+        });
+        return out.toByteArray();
+    }
+
+    private byte[] writeRssItem(BlogPostSummaryDTO post) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        write(out, xml -> {
+            xml.writeStartElement("item");
+            element(xml, "title", post.getTitle());
+            element(xml, "link", postUrl(post));
+            xml.writeStartElement("guid");
+            xml.writeAttribute("isPermaLink", "true");
+            xml.writeCharacters(postUrl(post));
+            xml.writeEndElement();
+            element(xml, "pubDate", rssDate(post.getCreatedAt()));
+            for (String category : categories(post)) {
+                element(xml, "category", category);
+            }
+            element(xml, "description", post.getExcerpt());
+            xml.writeEndElement();
+        });
+        return out.toByteArray();
+    }
+
+    /**
+     * Escribe XML sobre un flujo, permitiendo intercalar bytes ya
+     * serializados después de un {@code flush()}.
+     */
+    private void write(OutputStream out, XmlWriting writing) {
+        try {
+            XMLStreamWriter xml = XML_OUTPUT_FACTORY.createXMLStreamWriter(out, StandardCharsets.UTF_8.name());
+            writing.write(xml);
+            xml.flush();
+            xml.close();
+        } catch (XMLStreamException ex) {
+            throw new IllegalStateException("Error al generar el feed", ex);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void element(XMLStreamWriter xml, String name, String text) throws XMLStreamException {
+        xml.writeStartElement(name);
+        xml.writeCharacters(text != null ? text : "");
+        xml.writeEndElement();
+    }
+
+    private Set<String> categories(BlogPostSummaryDTO post) {
+        Set<String> categories = new LinkedHashSet<>();
+        categories.add(post.getCategory());
+        if (post.getTags() != null) {
+            categories.addAll(post.getTags());
+        }
+        return categories;
+    }
+
+    private String blogUrl() {
+        return siteBaseUrl + "/blog";
+    }
+
+    private String postUrl(BlogPostSummaryDTO post) {
+        return blogUrl() + "/" + post.getId();
+    }
+
+    private String atomDate(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toOffsetDateTime()
+                .withNano(0).format(DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+    }
+
+    private String rssDate(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).format(DateTimeFormatter.RFC_1123_DATE_TIME);
+    }
+
+    @FunctionalInterface
+    private interface XmlWriting {
+        void write(XMLStreamWriter xml) throws XMLStreamException, IOException;
+    }
+
+    /**
+     * Entrada serializada de un post en ambos formatos.
+     */
+    private static final class Entry {
+
+        private final LocalDateTime updatedAt;
+
+        private final byte[] atom;
+
+        private final byte[] rss;
+
+        private Entry(LocalDateTime updatedAt, byte[] atom, byte[] rss) {
+            this.updatedAt = updatedAt;
+            this.atom = atom;
+            this.rss = rss;
+        }
+    }
+
+    /**
+     * Documentos generados para una versión de los posts.
+     */
+    private static final class Generated {
+
+        private final long version;
+
+        private final Map<Format, FeedDocument> documents;
+
+        private Generated(long version, Map<Format, FeedDocument> documents) {
+            this.version = version;
+            this.documents = documents;
+        }
+    }
+}
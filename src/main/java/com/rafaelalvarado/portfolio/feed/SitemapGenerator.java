@@ -0,0 +1,396 @@
+package com.rafaelalvarado.portfolio.feed;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rafaelalvarado.portfolio.event.BlogPostChangedEvent;
+import com.rafaelalvarado.portfolio.event.BlogPostsChangedEvent;
+import com.rafaelalvarado.portfolio.exception.ResourceNotFoundException;
+import com.rafaelalvarado.portfolio.repository.BlogPostRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.DigestUtils;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Genera el sitemap con todos los posts publicados.
+ * 
+ * Los documentos se escriben directamente sobre la respuesta mientras se
+ * recorre un cursor de la base de datos, sin cargar los posts en memoria.
+ * Si hay más de {@code blog.sitemap.max-urls} posts publicados (50.000 según
+ * el protocolo), {@code sitemap.xml} pasa a ser un índice de sitemaps que
+ * referencia los fragmentos {@code sitemap-N.xml}, cada uno con un rango
+ * consecutivo de IDs.
+ * 
+ * Una copia de los bytes escritos se guarda, con su ETag, hasta que un
+ * cambio en los posts publicados la invalida. La caché está limitada por
+ * tamaño ({@code blog.sitemap.cache-max-bytes}), de modo que la memoria
+ * usada no depende del número de posts.
+ * 
+ * @author Rafael Alvarado García
+ */
+@Component
+public class SitemapGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(SitemapGenerator.class);
+
+    /**
+     * Número de documento de {@code sitemap.xml} (el resto son fragmentos)
+     */
+    public static final int ROOT = 0;
+
+    private static final String SITEMAP_NAMESPACE = "http://www.sitemaps.org/schemas/sitemap/0.9";
+
+    private static final XMLOutputFactory XML_OUTPUT_FACTORY = XMLOutputFactory.newFactory();
+
+    @Autowired
+    private BlogPostRepository blogPostRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${site.base-url}")
+    private String siteBaseUrl;
+
+    @Value("${blog.sitemap.location}")
+    private String location;
+
+    @Value("${blog.sitemap.max-urls}")
+    private int maxUrls;
+
+    @Value("${blog.sitemap.cache-max-bytes}")
+    private long cacheMaxBytes;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    private Cache<Integer, CachedDocument> documents;
+
+    /**
+     * Versión de los posts publicados; se incrementa con cada cambio
+     */
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * Reparto de los posts en fragmentos para la versión actual
+     */
+    private volatile Layout layout;
+
+    /**
+     * Inicializa la caché y la transacción de solo lectura.
+     */
+    @PostConstruct
+    public void init() {
+        documents = Caffeine.newBuilder()
+                .maximumWeight(cacheMaxBytes)
+                .<Integer, CachedDocument>weigher((number, cached) -> cached.document.getBody().length)
+                .build();
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Obtiene un documento ya generado para la versión actual de los posts.
+     * 
+     * @param number {@link #ROOT} para {@code sitemap.xml} o el número del
+     *               fragmento
+     * @return FeedDocument, o null si hay que generarlo
+     */
+    public FeedDocument getCached(int number) {
+        CachedDocument cached = documents.getIfPresent(number);
+        return cached != null && cached.version == version.get() ? cached.document : null;
+    }
+
+    /**
+     * Escribe un documento sobre el flujo indicado y guarda una copia si
+     * ningún post cambió mientras se generaba.
+     * 
+     * @param number {@link #ROOT} para {@code sitemap.xml} o el número del
+     *               fragmento
+     * @param out    Flujo de salida (normalmente el de la respuesta)
+     * @throws ResourceNotFoundException Si el fragmento no existe; se lanza
+     *                                   antes de escribir nada
+     * @throws IOException               Si falla la escritura
+     */
+    public void write(int number, OutputStream out) throws IOException {
+        long startVersion = version.get();
+        Layout current = layout(startVersion);
+        boolean index = number == ROOT && current.shards.size() > 1;
+        if (number != ROOT && (current.shards.size() == 1 || number < 1 || number > current.shards.size())) {
+            throw new ResourceNotFoundException("Sitemap no encontrado: sitemap-" + number + ".xml");
+        }
+
+        ByteArrayOutputStream copy = new ByteArrayOutputStream();
+        OutputStream tee = new TeeOutputStream(out, copy);
+        LocalDateTime lastModified;
+        if (index) {
+            lastModified = writeIndex(tee, current);
+        } else {
+            Shard shard = current.shards.get(number == ROOT ? 0 : number - 1);
+            lastModified = readOnlyTransaction.execute(status -> writeUrlSet(tee, shard));
+        }
+
+        byte[] body = copy.toByteArray();
+        if (version.get() == startVersion) {
+            long millis = lastModified != null
+                    ? lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                    : -1;
+            FeedDocument document = new FeedDocument(body, "sitemap-" + DigestUtils.md5DigestAsHex(body), millis);
+            documents.put(number, new CachedDocument(startVersion, document));
+        }
+        logger.debug("Sitemap {} generado ({} bytes)", number, body.length);
+    }
+
+    /**
+     * Invalida los documentos tras el commit de un cambio en los posts
+     * publicados.
+     * 
+     * @param event Evento de cambio del post
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(BlogPostChangedEvent event) {
+        if (event.affectsPublishedListings()) {
+            version.incrementAndGet();
+            documents.invalidateAll();
+        }
+    }
+
+    /**
+     * Invalida los documentos tras el commit de un bloque de posts
+     * modificados.
+     * 
+     * @param event Evento del bloque de cambios
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostsChanged(BlogPostsChangedEvent event) {
+        event.getChanges().forEach(this::onPostChanged);
+    }
+
+    /**
+     * Obtiene el reparto en fragmentos de la versión indicada. Mientras los
+     * posts publicados quepan en un solo documento basta con contarlos; si
+     * no, se recorren sus IDs para fijar el inicio de cada fragmento.
+     */
+    private Layout layout(long currentVersion) {
+        Layout current = layout;
+        if (current != null && current.version == currentVersion) {
+            return current;
+        }
+
+        List<Shard> shards = new ArrayList<>();
+        if (blogPostRepository.countByPublishedTrue() <= maxUrls) {
+            shards.add(new Shard(0L, null));
+        } else {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<Object[]> rows = blogPostRepository.streamPublishedSitemapEntries(0L,
+                        Limit.unlimited())) {
+                    long shardAfterId = 0;
+                    long previousId = 0;
+                    long count = 0;
+                    LocalDateTime latest = null;
+                    for (Iterator<Object[]> it = rows.iterator(); it.hasNext();) {
+                        Object[] row = it.next();
+                        if (count > 0 && count % maxUrls == 0) {
+                            shards.add(new Shard(shardAfterId, latest));
+                            shardAfterId = previousId;
+                            latest = null;
+                        }
+                        LocalDateTime updatedAt = (LocalDateTime) row[1];
+                        if (latest == null || updatedAt.isAfter(latest)) {
+                            latest = updatedAt;
+                        }
+                        previousId = (Long) row[0];
+                        count++;
+                    }
+                    shards.add(new Shard(shardAfterId, latest));
+                }
+            });
+        }
+
+        Layout result = new Layout(currentVersion, shards);
+        layout = result;
+        logger.debug("Sitemap repartido en {} fragmentos", shards.size());
+        return result;
+    }
+
+    private LocalDateTime writeIndex(OutputStream out, Layout current) {
+        LocalDateTime latest = null;
+        for (Shard shard : current.shards) {
+            if (shard.lastModified != null && (latest == null || shard.lastModified.isAfter(latest))) {
+                latest = shard.lastModified;
+            }
+        }
+        write(out, xml -> {
+            xml.writeStartDocument("UTF-8", "1.0");
+            xml.writeStartElement("sitemapindex");
+            xml.writeDefaultNamespace(SITEMAP_NAMESPACE);
+            for (int i = 0; i < current.shards.size(); i++) {
+                Shard shard = current.shards.get(i);
+                xml.writeStartElement("sitemap");
+                element(xml, "loc", location + "/sitemap-" + (i + 1) + ".xml");
+                if (shard.lastModified != null) {
+                    element(xml, "lastmod", w3cDate(shard.lastModified));
+                }
+                xml.writeEndElement();
+            }
+            xml.writeEndElement();
+            xml.writeEndDocument();
+        });
+        return latest;
+    }
+
+    private LocalDateTime writeUrlSet(OutputStream out, Shard shard) {
+        LocalDateTime[] latest = new LocalDateTime[1];
+        write(out, xml -> {
+            xml.writeStartDocument("UTF-8", "1.0");
+            xml.writeStartElement("urlset");
+            xml.writeDefaultNamespace(SITEMAP_NAMESPACE);
+            try (Stream<Object[]> rows = blogPostRepository.streamPublishedSitemapEntries(shard.afterId,
+                    Limit.of(maxUrls))) {
+                for (Iterator<Object[]> it = rows.iterator(); it.hasNext();) {
+                    Object[] row = it.next();
+                    LocalDateTime updatedAt = (LocalDateTime) row[1];
+                    xml.writeStartElement("url");
+                    element(xml, "loc", siteBaseUrl + "/blog/" + row[0]);
+                    element(xml, "lastmod", w3cDate(updatedAt));
+                    xml.writeEndElement();
+                    if (latest[0] == null || updatedAt.isAfter(latest[0])) {
+                        latest[0] = updatedAt;
+                    }
+                }
+            }
+            xml.writeEndElement();
+            xml.writeEndDocument();
+        });
+        return latest[0];
+    }
+
+    private void write(OutputStream out, XmlWriting writing) {
+        try {
+            XMLStreamWriter xml = XML_OUTPUT_FACTORY.createXMLStreamWriter(out, StandardCharsets.UTF_8.name());
+            writing.write(xml);
+            xml.flush();
+            xml.close();
+        } catch (XMLStreamException ex) {
+            throw new IllegalStateException("Error al generar el sitemap", ex);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void element(XMLStreamWriter xml, String name, String text) throws XMLStreamException {
+        xml.writeStartElement(name);
+        xml.writeCharacters(text);
+        xml.writeEndElement();
+    }
+
+    private String w3cDate(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toOffsetDateTime()
+                .withNano(0).format(DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+    }
+
+    @FunctionalInterface
+    private interface XmlWriting {
+        void write(XMLStreamWriter xml) throws XMLStreamException, IOException;
+    }
+
+    /**
+     * Flujo que escribe en la respuesta y a la vez guarda una copia.
+     */
+    private static final class TeeOutputStream extends OutputStream {
+
+        private final OutputStream out;
+
+        private final OutputStream copy;
+
+        private TeeOutputStream(OutputStream out, OutputStream copy) {
+            this.out = out;
+            this.copy = copy;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            copy.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            copy.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            out.flush();
+        }
+    }
+
+    /**
+     * Fragmento del sitemap: posts publicados con ID posterior a
+     * {@code afterId}, hasta {@code blog.sitemap.max-urls}.
+     */
+    private static final class Shard {
+
+        private final long afterId;
+
+        private final LocalDateTime lastModified;
+
+        private Shard(long afterId, LocalDateTime lastModified) {
+            this.afterId = afterId;
+            this.lastModified = lastModified;
+        }
+    }
+
+    /**
+     * Reparto en fragmentos para una versión de los posts.
+     */
+    private static final class Layout {
+
+        private final long version;
+
+        private final List<Shard> shards;
+
+        private Layout(long version, List<Shard> shards) {
+            this.version = version;
+            this.shards = shards;
+        }
+    }
+
+    /**
+     * Documento generado para una versión de los posts.
+     */
+    private static final class CachedDocument {
+
+        private final long version;
+
+        private final FeedDocument document;
+
+        private CachedDocument(long version, FeedDocument document) {
+            this.version = version;
+            this.document = document;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.rafaelalvarado.portfolio.render;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compresión del contenido de los posts para su almacenamiento.
+ * 
+ * Se usa el formato gzip (deflate con cabecera y CRC) sin diccionario
+ * propio: los bytes guardados son un flujo gzip completo que se puede
+ * enviar sin cambios a los clientes que aceptan
+ * {@code Content-Encoding: gzip}.
+ * 
+ * @author Rafael Alvarado García
+ */
+public final class ContentCompression {
+
+    /**
+     * Tamaño máximo de la columna del contenido comprimido (MEDIUMBLOB en
+     * MySQL)
+     */
+    public static final int MAX_COMPRESSED_LENGTH = 16_777_215;
+
+    private ContentCompression() {
+    }
+
+    /**
+     * Comprime un contenido en UTF-8.
+     * 
+     * @param content Contenido original
+     * @return Flujo gzip
+     */
+    public static byte[] gzip(String content) {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    /**
+     * Descomprime un contenido comprimido con {@link #gzip(String)}.
+     * 
+     * @param data Flujo gzip
+     * @return Contenido original
+     * @throws UncheckedIOException Si los datos no son un flujo gzip válido
+     */
+    public static String gunzip(byte[] data) {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(data))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Contenido comprimido no válido", e);
+        }
+    }
+
+    /**
+     * Obtiene el contenido a partir de las dos columnas en que puede estar
+     * guardado.
+     * 
+     * @param content     Columna {@code content} (vacía si está comprimido)
+     * @param contentGzip Columna {@code content_gzip} (null si no lo está)
+     * @return Contenido original
+     */
+    public static String content(String content, byte[] contentGzip) {
+        return contentGzip != null ? gunzip(contentGzip) : content;
+    }
+}
@@ -0,0 +1,260 @@
+package com.rafaelalvarado.portfolio.render;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Codificación de una versión de un contenido como diferencia respecto a la
+ * anterior.
+ * 
+ * La diferencia es una secuencia de operaciones sobre los bytes UTF-8:
+ * copiar un tramo de la versión base o insertar bytes nuevos. Los tramos
+ * comunes se localizan indexando la base en bloques de {@value #BLOCK_SIZE}
+ * bytes y recorriendo la nueva versión con un hash rodante, de modo que el
+ * tamaño de la diferencia depende de lo editado y no del tamaño del
+ * contenido, y tanto la codificación como la reconstrucción son lineales.
+ * 
+ * Formato: longitud de la base y de la nueva versión (varint), seguidas de
+ * operaciones {@code COPY offset longitud} e {@code INSERT longitud bytes}.
+ * 
+ * @author Rafael Alvarado García
+ */
+public final class ContentDelta {
+
+    /**
+     * Tamaño de los bloques indexados de la versión base
+     */
+    private static final int BLOCK_SIZE = 16;
+
+    /**
+     * Número máximo de bloques con el mismo hash que se comparan con cada
+     * ventana
+     */
+    private static final int MAX_CANDIDATES = 8;
+
+    /**
+     * Longitud mínima de un tramo copiado de la base
+     */
+    private static final int MIN_COPY_LENGTH = 2 * BLOCK_SIZE;
+
+    private static final int HASH_BASE = 31;
+
+    /**
+     * HASH_BASE elevado a BLOCK_SIZE - 1 (con desbordamiento), para retirar
+     * el primer byte de la ventana del hash rodante
+     */
+    private static final int HASH_BASE_POW;
+
+    static {
+        int pow = 1;
+        for (int i = 1; i < BLOCK_SIZE; i++) {
+            pow *= HASH_BASE;
+        }
+        HASH_BASE_POW = pow;
+    }
+
+    private static final byte COPY = 1;
+
+    private static final byte INSERT = 2;
+
+    private ContentDelta() {
+    }
+
+    /**
+     * Calcula la diferencia entre dos versiones.
+     * 
+     * @param base   Versión anterior
+     * @param target Versión nueva
+     * @return Diferencia que reconstruye target a partir de base
+     */
+    public static byte[] encode(byte[] base, byte[] target) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeVarint(out, base.length);
+        writeVarint(out, target.length);
+
+        Map<Integer, List<Integer>> blocks = new HashMap<>();
+        for (int i = 0; i + BLOCK_SIZE <= base.length; i += BLOCK_SIZE) {
+            blocks.computeIfAbsent(hash(base, i), key -> new ArrayList<>()).add(i);
+        }
+
+        int literalStart = 0;
+        int baseEnd = 0;
+        int pos = 0;
+        int hash = target.length >= BLOCK_SIZE ? hash(target, 0) : 0;
+        while (pos + BLOCK_SIZE <= target.length) {
+            int candidate = findBlock(blocks.get(hash), base, baseEnd, target, pos);
+            int baseStart = candidate;
+            int targetStart = pos;
+            int length = 0;
+            if (candidate >= 0) {
+                // Extender la coincidencia hacia atrás (sobre los bytes
+                // pendientes de insertar) y hacia delante
+                while (targetStart > literalStart && baseStart > 0
+                        && base[baseStart - 1] == target[targetStart - 1]) {
+                    baseStart--;
+                    targetStart--;
+                }
+                length = pos - targetStart + matchLength(base, candidate, target, pos);
+            }
+            // Las coincidencias cortas suelen ser texto repetido de otra parte
+            // de la base: se siguen buscando y se insertan como literales
+            if (length >= MIN_COPY_LENGTH) {
+                writeInsert(out, target, literalStart, targetStart);
+                out.write(COPY);
+                writeVarint(out, baseStart);
+                writeVarint(out, length);
+
+                pos = targetStart + length;
+                literalStart = pos;
+                baseEnd = baseStart + length;
+                if (pos + BLOCK_SIZE <= target.length) {
+                    hash = hash(target, pos);
+                }
+            } else {
+                if (pos + BLOCK_SIZE < target.length) {
+                    hash = (hash - (target[pos] & 0xff) * HASH_BASE_POW) * HASH_BASE
+                            + (target[pos + BLOCK_SIZE] & 0xff);
+                }
+                pos++;
+            }
+        }
+        writeInsert(out, target, literalStart, target.length);
+        return out.toByteArray();
+    }
+
+    /**
+     * Reconstruye una versión aplicando una diferencia a la versión base.
+     * 
+     * @param base  Versión anterior
+     * @param delta Diferencia calculada con {@link #encode(byte[], byte[])}
+     * @return Versión nueva
+     * @throws IllegalArgumentException Si la diferencia no corresponde a la base
+     *                                  o está dañada
+     */
+    public static byte[] apply(byte[] base, byte[] delta) {
+        Reader in = new Reader(delta);
+        if (in.readVarint() != base.length) {
+            throw new IllegalArgumentException("La diferencia no corresponde a la versión base");
+        }
+        byte[] target = new byte[in.readVarint()];
+        int written = 0;
+        try {
+            while (in.pos < delta.length) {
+                byte op = delta[in.pos++];
+                if (op == COPY) {
+                    int offset = in.readVarint();
+                    int length = in.readVarint();
+                    System.arraycopy(base, offset, target, written, length);
+                    written += length;
+                } else if (op == INSERT) {
+                    int length = in.readVarint();
+                    System.arraycopy(delta, in.pos, target, written, length);
+                    in.pos += length;
+                    written += length;
+                } else {
+                    throw new IllegalArgumentException("Operación desconocida en la diferencia: " + op);
+                }
+            }
+        } catch (IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Diferencia dañada", e);
+        }
+        if (written != target.length) {
+            throw new IllegalArgumentException("Diferencia incompleta");
+        }
+        return target;
+    }
+
+    /**
+     * Busca el bloque de la base que coincide con más bytes a partir de la
+     * ventana actual. Se comparan los bloques con el mismo hash más próximos
+     * a la última copia, ya que las ediciones suelen conservar el orden del
+     * texto y en un contenido repetitivo el primer bloque igual no suele ser
+     * el correcto.
+     * 
+     * @return Posición del bloque en la base, o -1 si ninguno coincide
+     */
+    private static int findBlock(List<Integer> candidates, byte[] base, int baseEnd, byte[] target, int pos) {
+        if (candidates == null) {
+            return -1;
+        }
+        int first = Collections.binarySearch(candidates, baseEnd);
+        first = first >= 0 ? first : -first - 1;
+        int best = -1;
+        int bestLength = BLOCK_SIZE - 1;
+        for (int i = 0; i < Math.min(candidates.size(), MAX_CANDIDATES); i++) {
+            int candidate = candidates.get((first + i) % candidates.size());
+            int length = matchLength(base, candidate, target, pos);
+            if (length > bestLength) {
+                best = candidate;
+                bestLength = length;
+            }
+        }
+        return best;
+    }
+
+    private static int matchLength(byte[] base, int baseOffset, byte[] target, int targetOffset) {
+        int length = 0;
+        while (baseOffset + length < base.length && targetOffset + length < target.length
+                && base[baseOffset + length] == target[targetOffset + length]) {
+            length++;
+        }
+        return length;
+    }
+
+    private static int hash(byte[] data, int offset) {
+        int hash = 0;
+        for (int i = offset; i < offset + BLOCK_SIZE; i++) {
+            hash = hash * HASH_BASE + (data[i] & 0xff);
+        }
+        return hash;
+    }
+
+    private static void writeInsert(ByteArrayOutputStream out, byte[] target, int from, int to) {
+        if (to > from) {
+            out.write(INSERT);
+            writeVarint(out, to - from);
+            out.write(target, from, to - from);
+        }
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7f) != 0) {
+            out.write((value & 0x7f) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    /**
+     * Lector secuencial de una diferencia.
+     */
+    private static final class Reader {
+
+        private final byte[] data;
+
+        private int pos;
+
+        private Reader(byte[] data) {
+            this.data = data;
+        }
+
+        private int readVarint() {
+            int value = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                if (pos >= data.length) {
+                    throw new IllegalArgumentException("Diferencia dañada");
+                }
+                byte b = data[pos++];
+                value |= (b & 0x7f) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Diferencia dañada");
+        }
+    }
+}
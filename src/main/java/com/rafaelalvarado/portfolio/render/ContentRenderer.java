@@ -0,0 +1,152 @@
+package com.rafaelalvarado.portfolio.render;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.safety.Cleaner;
+import org.jsoup.safety.Safelist;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Renderiza el contenido de los posts a HTML seguro.
+ * 
+ * El contenido en Markdown se convierte a HTML con CommonMark; el contenido
+ * que ya es HTML se usa tal cual. En ambos casos el resultado se sanea con
+ * una lista blanca de etiquetas y atributos, se asigna un ancla a cada
+ * encabezado y se extrae la tabla de contenidos.
+ * 
+ * @author Rafael Alvarado García
+ */
+@Component
+public class ContentRenderer {
+
+    /**
+     * Etiquetas y atributos permitidos en el HTML publicado
+     */
+    private static final Safelist SAFELIST = Safelist.relaxed()
+            .addAttributes("code", "class")
+            .addAttributes("pre", "class")
+            .addEnforcedAttribute("a", "rel", "nofollow noopener");
+
+    private final Parser parser = Parser.builder().build();
+
+    private final HtmlRenderer htmlRenderer = HtmlRenderer.builder().build();
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Calcula el hash SHA-256 del contenido original.
+     * 
+     * @param content Contenido original
+     * @return Hash en hexadecimal (64 caracteres)
+     */
+    public static String hash(String content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+
+    /**
+     * Renderiza el contenido de un post.
+     * 
+     * @param content Contenido original (HTML o Markdown)
+     * @return HTML saneado y tabla de contenidos en JSON
+     */
+    public Rendered render(String content) {
+        String html = isHtml(content) ? content : htmlRenderer.render(parser.parse(content));
+
+        Document clean = new Cleaner(SAFELIST).clean(Jsoup.parseBodyFragment(html));
+        clean.outputSettings().prettyPrint(false);
+
+        List<Map<String, Object>> toc = new ArrayList<>();
+        Set<String> usedIds = new HashSet<>();
+        for (Element heading : clean.body().select("h1, h2, h3, h4, h5, h6")) {
+            String id = uniqueId(slugify(heading.text()), usedIds);
+            heading.attr("id", id);
+
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("level", Integer.parseInt(heading.tagName().substring(1)));
+            entry.put("id", id);
+            entry.put("text", heading.text());
+            toc.add(entry);
+        }
+
+        try {
+            return new Rendered(clean.body().html().strip(), objectMapper.writeValueAsString(toc));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar la tabla de contenidos", e);
+        }
+    }
+
+    /**
+     * Indica si el contenido ya está escrito en HTML.
+     */
+    private static boolean isHtml(String content) {
+        return content.stripLeading().startsWith("<");
+    }
+
+    /**
+     * Convierte el texto de un encabezado en un identificador apto para URL.
+     */
+    private static String slugify(String text) {
+        String folded = Normalizer.normalize(text, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("[^a-z0-9]+", "-")
+                .replaceAll("(^-+|-+$)", "");
+        return folded.isEmpty() ? "seccion" : folded;
+    }
+
+    private static String uniqueId(String base, Set<String> usedIds) {
+        String id = base;
+        for (int suffix = 2; !usedIds.add(id); suffix++) {
+            id = base + "-" + suffix;
+        }
+        return id;
+    }
+
+    /**
+     * Resultado del renderizado de un contenido.
+     */
+    public static final class Rendered {
+
+        private final String html;
+
+        private final String toc;
+
+        public Rendered(String html, String toc) {
+            this.html = html;
+            this.toc = toc;
+        }
+
+        public String getHtml() {
+            return html;
+        }
+
+        public String getToc() {
+            return toc;
+        }
+    }
+}
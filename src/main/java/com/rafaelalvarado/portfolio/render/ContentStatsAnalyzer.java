@@ -0,0 +1,189 @@
+package com.rafaelalvarado.portfolio.render;
+
+/**
+ * Calcula el número de palabras y el tiempo de lectura de un contenido.
+ * 
+ * Recorre el texto en una sola pasada sin crear cadenas intermedias: las
+ * etiquetas HTML y las entidades actúan como separadores y no se cuentan
+ * las palabras de los bloques de código ({@code <pre>}, {@code <code>},
+ * bloques delimitados con ``` o ~~~ y código en línea entre comillas
+ * invertidas). Como en Markdown, un tramo de código en línea se cierra con
+ * una secuencia de comillas invertidas de la misma longitud; si no se
+ * cierra en la misma línea, las comillas se tratan como texto y no afectan
+ * al resto del documento.
+ * 
+ * @author Rafael Alvarado García
+ */
+public final class ContentStatsAnalyzer {
+
+    /**
+     * Velocidad media de lectura de texto técnico (palabras por minuto)
+     */
+    private static final int WORDS_PER_MINUTE = 200;
+
+    /**
+     * Longitud máxima de una entidad HTML (por ejemplo {@code &aacute;})
+     */
+    private static final int MAX_ENTITY_LENGTH = 10;
+
+    private static final String[] CODE_TAGS = { "pre", "code", "script", "style" };
+
+    private ContentStatsAnalyzer() {
+    }
+
+    /**
+     * Analiza un contenido HTML o Markdown.
+     * 
+     * @param content Contenido del post
+     * @return Número de palabras y minutos de lectura
+     */
+    public static ContentStats analyze(String content) {
+        int words = 0;
+        int codeDepth = 0;
+        boolean inFence = false;
+        boolean inWord = false;
+        boolean lineStart = true;
+
+        int length = content == null ? 0 : content.length();
+        for (int i = 0; i < length; i++) {
+            char c = content.charAt(i);
+
+            if (lineStart && (content.startsWith("```", i) || content.startsWith("~~~", i))) {
+                inFence = !inFence;
+                inWord = false;
+                while (i + 1 < length && content.charAt(i + 1) != '\n') {
+                    i++;
+                }
+                continue;
+            }
+            lineStart = c == '\n' || (lineStart && (c == ' ' || c == '\t'));
+
+            if (c == '<' && !inFence && isTagStart(content, i + 1)) {
+                int end = content.indexOf('>', i);
+                if (end > 0) {
+                    codeDepth = Math.max(0, codeDepth + codeTagDelta(content, i + 1, end));
+                    inWord = false;
+                    i = end;
+                    continue;
+                }
+            }
+            if (c == '`' && !inFence && codeDepth == 0) {
+                int run = backtickRun(content, i);
+                int close = findClosingBackticks(content, i + run, run);
+                inWord = false;
+                i = (close >= 0 ? close : i) + run - 1;
+                continue;
+            }
+            if (codeDepth > 0 || inFence) {
+                inWord = false;
+                continue;
+            }
+            if (c == '&') {
+                int end = content.indexOf(';', i);
+                if (end > 0 && end - i <= MAX_ENTITY_LENGTH) {
+                    inWord = false;
+                    i = end;
+                    continue;
+                }
+            }
+
+            boolean wordChar = Character.isLetterOrDigit(c) || (inWord && (c == '\'' || c == '-'));
+            if (wordChar && !inWord) {
+                words++;
+            }
+            inWord = wordChar;
+        }
+
+        int minutes = Math.max(1, (words + WORDS_PER_MINUTE - 1) / WORDS_PER_MINUTE);
+        return new ContentStats(words, minutes);
+    }
+
+    /**
+     * Obtiene la longitud de la secuencia de comillas invertidas que empieza
+     * en la posición indicada.
+     */
+    private static int backtickRun(String content, int start) {
+        int end = start;
+        while (end < content.length() && content.charAt(end) == '`') {
+            end++;
+        }
+        return end - start;
+    }
+
+    /**
+     * Busca, antes del final de la línea, una secuencia de exactamente
+     * {@code run} comillas invertidas que cierre un tramo de código en línea.
+     * 
+     * @return Posición de la secuencia de cierre, o -1 si no se cierra
+     */
+    private static int findClosingBackticks(String content, int from, int run) {
+        int i = from;
+        while (i < content.length() && content.charAt(i) != '\n') {
+            if (content.charAt(i) == '`') {
+                int length = backtickRun(content, i);
+                if (length == run) {
+                    return i;
+                }
+                i += length;
+            } else {
+                i++;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Indica si el carácter tras un {@code <} abre una etiqueta o un
+     * comentario (y no es, por ejemplo, una comparación en el texto).
+     */
+    private static boolean isTagStart(String content, int index) {
+        if (index >= content.length()) {
+            return false;
+        }
+        char next = content.charAt(index);
+        return Character.isLetter(next) || next == '/' || next == '!';
+    }
+
+    /**
+     * Indica cómo cambia la profundidad de código al procesar una etiqueta:
+     * +1 al abrir y -1 al cerrar una etiqueta de código, 0 en otro caso.
+     */
+    private static int codeTagDelta(String content, int nameStart, int tagEnd) {
+        boolean closing = nameStart < tagEnd && content.charAt(nameStart) == '/';
+        int start = closing ? nameStart + 1 : nameStart;
+        for (String tag : CODE_TAGS) {
+            int nameEnd = start + tag.length();
+            if (nameEnd <= tagEnd && content.regionMatches(true, start, tag, 0, tag.length())
+                    && !Character.isLetterOrDigit(content.charAt(nameEnd))) {
+                if (content.charAt(tagEnd - 1) == '/') {
+                    return 0;
+                }
+                return closing ? -1 : 1;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Resultado del análisis de un contenido.
+     */
+    public static final class ContentStats {
+
+        private final int wordCount;
+
+        private final int readingMinutes;
+
+        public ContentStats(int wordCount, int readingMinutes) {
+            this.wordCount = wordCount;
+            this.readingMinutes = readingMinutes;
+        }
+
+        public int getWordCount() {
+            return wordCount;
+        }
+
+        public int getReadingMinutes() {
+            return readingMinutes;
+        }
+    }
+}
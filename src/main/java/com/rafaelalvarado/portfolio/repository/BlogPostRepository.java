@@ -1,10 +1,25 @@
 package com.rafaelalvarado.portfolio.repository;
 
+import com.rafaelalvarado.portfolio.dto.BlogPostSummaryDTO;
 import com.rafaelalvarado.portfolio.entity.BlogPost;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repositorio JPA para la entidad BlogPost.
@@ -12,16 +27,54 @@ import java.util.List;
  * Proporciona métodos para realizar operaciones CRUD sobre posts del blog
  * y queries personalizadas para filtrado y ordenamiento.
  * 
+ * Las consultas que devuelven entidades cargan el autor mediante entity
+ * graph; los tags se cargan por lotes ({@code @BatchSize}), de modo que un
+ * listado de N posts ejecuta un número acotado de consultas.
+ * 
  * @author Rafael Alvarado García
  */
 @Repository
 public interface BlogPostRepository extends JpaRepository<BlogPost, Long> {
 
+    /**
+     * Obtiene un post por su ID junto con su autor y sus tags en una sola
+     * consulta.
+     * 
+     * @param id ID del post
+     * @return Post con autor y tags inicializados
+     */
+    @EntityGraph(attributePaths = { "author", "tags" })
+    Optional<BlogPost> findWithAuthorAndTagsById(Long id);
+
+    /**
+     * Obtiene un post con su autor y sus tags bloqueando su fila hasta el
+     * final de la transacción, de modo que las modificaciones concurrentes
+     * del mismo post se aplican una tras otra.
+     * 
+     * @param id ID del post
+     * @return Post con autor y tags inicializados
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @EntityGraph(attributePaths = { "author", "tags" })
+    @Query("SELECT p FROM BlogPost p WHERE p.id = :id")
+    Optional<BlogPost> findForUpdateById(@Param("id") Long id);
+
+    /**
+     * Obtiene un post por su ID junto con su autor, sus tags y su contenido
+     * renderizado en una sola consulta.
+     * 
+     * @param id ID del post
+     * @return Post con autor, tags y contenido renderizado inicializados
+     */
+    @EntityGraph(attributePaths = { "author", "tags", "renderedContent" })
+    Optional<BlogPost> findDetailById(Long id);
+
     /**
      * Obtiene todos los posts publicados.
      * 
      * @return Lista de posts publicados
      */
+    @EntityGraph(attributePaths = "author")
     List<BlogPost> findByPublishedTrue();
 
     /**
@@ -30,6 +83,7 @@ public interface BlogPostRepository extends JpaRepository<BlogPost, Long> {
      * 
      * @return Lista de posts publicados ordenados del más reciente al más antiguo
      */
+    @EntityGraph(attributePaths = "author")
     List<BlogPost> findByPublishedTrueOrderByCreatedAtDesc();
 
     /**
@@ -38,6 +92,7 @@ public interface BlogPostRepository extends JpaRepository<BlogPost, Long> {
      * @param category Categoría a filtrar
      * @return Lista de posts de la categoría especificada
      */
+    @EntityGraph(attributePaths = "author")
     List<BlogPost> findByCategory(String category);
 
     /**
@@ -46,6 +101,7 @@ public interface BlogPostRepository extends JpaRepository<BlogPost, Long> {
      * @param category Categoría a filtrar
      * @return Lista de posts publicados de la categoría especificada
      */
+    @EntityGraph(attributePaths = "author")
     List<BlogPost> findByPublishedTrueAndCategory(String category);
 
     /**
@@ -54,14 +110,418 @@ public interface BlogPostRepository extends JpaRepository<BlogPost, Long> {
      * @param category Categoría a filtrar
      * @return Lista de posts publicados de la categoría ordenados
      */
+    @EntityGraph(attributePaths = "author")
     List<BlogPost> findByPublishedTrueAndCategoryOrderByCreatedAtDesc(String category);
 
+    /**
+     * Columnas de resumen seleccionadas por las consultas de listado
+     * (excluye la columna TEXT {@code content}).
+     */
+    String SUMMARY_SELECT = "SELECT new com.rafaelalvarado.portfolio.dto.BlogPostSummaryDTO("
+            + "p.id, p.title, p.excerpt, p.category, p.readTime, p.wordCount, p.readingMinutes, p.published, "
+            + "a.id, a.username, p.createdAt, p.updatedAt) "
+            + "FROM BlogPost p JOIN p.author a ";
+
+    /**
+     * Obtiene el resumen de todos los posts publicados ordenados por fecha de
+     * creación descendente.
+     * 
+     * @return Lista de resúmenes de posts publicados
+     */
+    @Query(SUMMARY_SELECT + "WHERE p.published = true ORDER BY p.createdAt DESC, p.id DESC")
+    List<BlogPostSummaryDTO> findPublishedSummaries();
+
+    /**
+     * Obtiene el resumen de los posts publicados de una categoría ordenados
+     * por fecha de creación descendente.
+     * 
+     * @param category Categoría a filtrar
+     * @return Lista de resúmenes de posts publicados de la categoría
+     */
+    @Query(SUMMARY_SELECT + "WHERE p.published = true AND p.category = :category "
+            + "ORDER BY p.createdAt DESC, p.id DESC")
+    List<BlogPostSummaryDTO> findPublishedSummariesByCategory(@Param("category") String category);
+
+    /**
+     * Obtiene los IDs de los posts publicados con más visitas registradas.
+     * 
+     * @param limit Número máximo de posts a devolver
+     * @return IDs ordenados por número de visitas descendente
+     */
+    @Query("SELECT p.id FROM BlogPost p WHERE p.published = true ORDER BY p.viewCount DESC, p.id DESC")
+    List<Long> findMostViewedPublishedIds(Limit limit);
+
+    /**
+     * Obtiene la primera página de resúmenes de posts publicados ordenados por
+     * (createdAt, id) descendente.
+     * 
+     * @param limit Número máximo de posts a devolver
+     * @return Lista de resúmenes de posts publicados
+     */
+    @Query(SUMMARY_SELECT + "WHERE p.published = true ORDER BY p.createdAt DESC, p.id DESC")
+    List<BlogPostSummaryDTO> findPublishedSummaries(Limit limit);
+
+    /**
+     * Obtiene la página de resúmenes de posts publicados posterior a un cursor
+     * (keyset).
+     * 
+     * La condición sobre (createdAt, id) permite a la base de datos posicionarse
+     * directamente en el índice sin recorrer las filas anteriores (sin OFFSET).
+     * 
+     * @param createdAt Fecha de creación del último post de la página anterior
+     * @param id        ID del último post de la página anterior
+     * @param limit     Número máximo de posts a devolver
+     * @return Lista de resúmenes de posts publicados posteriores al cursor
+     */
+    @Query(SUMMARY_SELECT + "WHERE p.published = true "
+            + "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) "
+            + "ORDER BY p.createdAt DESC, p.id DESC")
+    List<BlogPostSummaryDTO> findPublishedSummariesAfterCursor(@Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id, Limit limit);
+
+    /**
+     * Obtiene la primera página de resúmenes de posts publicados de una
+     * categoría ordenados por (createdAt, id) descendente.
+     * 
+     * @param category Categoría a filtrar
+     * @param limit    Número máximo de posts a devolver
+     * @return Lista de resúmenes de posts publicados de la categoría
+     */
+    @Query(SUMMARY_SELECT + "WHERE p.published = true AND p.category = :category "
+            + "ORDER BY p.createdAt DESC, p.id DESC")
+    List<BlogPostSummaryDTO> findPublishedSummariesByCategory(@Param("category") String category,
+            Limit limit);
+
+    /**
+     * Obtiene la página de resúmenes de posts publicados de una categoría
+     * posterior a un cursor (keyset).
+     * 
+     * @param category  Categoría a filtrar
+     * @param createdAt Fecha de creación del último post de la página anterior
+     * @param id        ID del último post de la página anterior
+     * @param limit     Número máximo de posts a devolver
+     * @return Lista de resúmenes de posts publicados de la categoría posteriores
+     *         al cursor
+     */
+    @Query(SUMMARY_SELECT + "WHERE p.published = true AND p.category = :category "
+            + "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) "
+            + "ORDER BY p.createdAt DESC, p.id DESC")
+    List<BlogPostSummaryDTO> findPublishedSummariesByCategoryAfterCursor(@Param("category") String category,
+            @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
+    /**
+     * Obtiene el resumen de los posts publicados con los IDs indicados (sin
+     * orden garantizado).
+     * 
+     * @param ids IDs de los posts
+     * @return Lista de resúmenes de posts publicados
+     */
+    @Query(SUMMARY_SELECT + "WHERE p.published = true AND p.id IN :ids")
+    List<BlogPostSummaryDTO> findPublishedSummariesByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Obtiene la primera página de resúmenes de posts publicados con un tiempo
+     * de lectura dentro del rango, ordenados por (readingMinutes, id)
+     * ascendente.
+     * 
+     * @param minMinutes Minutos de lectura mínimos
+     * @param maxMinutes Minutos de lectura máximos
+     * @param limit      Número máximo de posts a devolver
+     * @return Lista de resúmenes de posts publicados
+     */
+    @Query(SUMMARY_SELECT + "WHERE p.published = true AND p.readingMinutes BETWEEN :minMinutes AND :maxMinutes "
+            + "ORDER BY p.readingMinutes ASC, p.id ASC")
+    List<BlogPostSummaryDTO> findPublishedSummariesByReadingTime(@Param("minMinutes") int minMinutes,
+            @Param("maxMinutes") int maxMinutes, Limit limit);
+
+    /**
+     * Obtiene la página de resúmenes de posts publicados ordenados por tiempo
+     * de lectura ascendente posterior a un cursor (keyset).
+     * 
+     * @param minMinutes Minutos de lectura mínimos
+     * @param maxMinutes Minutos de lectura máximos
+     * @param minutes    Minutos de lectura del último post de la página anterior
+     * @param id         ID del último post de la página anterior
+     * @param limit      Número máximo de posts a devolver
+     * @return Lista de resúmenes de posts publicados posteriores al cursor
+     */
+    @Query(SUMMARY_SELECT + "WHERE p.published = true AND p.readingMinutes BETWEEN :minMinutes AND :maxMinutes "
+            + "AND (p.readingMinutes > :minutes OR (p.readingMinutes = :minutes AND p.id > :id)) "
+            + "ORDER BY p.readingMinutes ASC, p.id ASC")
+    List<BlogPostSummaryDTO> findPublishedSummariesByReadingTimeAfterCursor(@Param("minMinutes") int minMinutes,
+            @Param("maxMinutes") int maxMinutes, @Param("minutes") int minutes, @Param("id") Long id,
+            Limit limit);
+
+    /**
+     * Obtiene la primera página de resúmenes de posts publicados con un tiempo
+     * de lectura dentro del rango, ordenados por (readingMinutes, id)
+     * descendente.
+     * 
+     * @param minMinutes Minutos de lectura mínimos
+     * @param maxMinutes Minutos de lectura máximos
+     * @param limit      Número máximo de posts a devolver
+     * @return Lista de resúmenes de posts publicados
+     */
+    @Query(SUMMARY_SELECT + "WHERE p.published = true AND p.readingMinutes BETWEEN :minMinutes AND :maxMinutes "
+            + "ORDER BY p.readingMinutes DESC, p.id DESC")
+    List<BlogPostSummaryDTO> findPublishedSummariesByReadingTimeDesc(@Param("minMinutes") int minMinutes,
+            @Param("maxMinutes") int maxMinutes, Limit limit);
+
+    /**
+     * Obtiene la página de resúmenes de posts publicados ordenados por tiempo
+     * de lectura descendente posterior a un cursor (keyset).
+     * 
+     * @param minMinutes Minutos de lectura mínimos
+     * @param maxMinutes Minutos de lectura máximos
+     * @param minutes    Minutos de lectura del último post de la página anterior
+     * @param id         ID del último post de la página anterior
+     * @param limit      Número máximo de posts a devolver
+     * @return Lista de resúmenes de posts publicados posteriores al cursor
+     */
+    @Query(SUMMARY_SELECT + "WHERE p.published = true AND p.readingMinutes BETWEEN :minMinutes AND :maxMinutes "
+            + "AND (p.readingMinutes < :minutes OR (p.readingMinutes = :minutes AND p.id < :id)) "
+            + "ORDER BY p.readingMinutes DESC, p.id DESC")
+    List<BlogPostSummaryDTO> findPublishedSummariesByReadingTimeDescAfterCursor(
+            @Param("minMinutes") int minMinutes, @Param("maxMinutes") int maxMinutes,
+            @Param("minutes") int minutes, @Param("id") Long id, Limit limit);
+
+    /**
+     * Obtiene los tags de un conjunto de posts en una sola consulta.
+     * 
+     * @param postIds IDs de los posts
+     * @return Filas con la forma [postId, tag]
+     */
+    @Query("SELECT p.id, t FROM BlogPost p JOIN p.tags t WHERE p.id IN :postIds")
+    List<Object[]> findTagsByPostIds(@Param("postIds") Collection<Long> postIds);
+
+    /**
+     * Obtiene la fecha de última actualización de un post sin cargar la
+     * entidad.
+     * 
+     * @param id ID del post
+     * @return Fecha de última actualización, si el post existe
+     */
+    @Query("SELECT p.updatedAt FROM BlogPost p WHERE p.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") Long id);
+
+    /**
+     * Obtiene el número de posts publicados y su fecha de modificación más
+     * reciente.
+     * 
+     * @return Datos de versión del listado global
+     */
+    @Query("SELECT COUNT(p) AS total, MAX(p.updatedAt) AS lastUpdatedAt FROM BlogPost p WHERE p.published = true")
+    ListingVersionView findPublishedListingVersion();
+
+    /**
+     * Obtiene el número de posts publicados de una categoría y su fecha de
+     * modificación más reciente.
+     * 
+     * @param category Categoría a filtrar
+     * @return Datos de versión del listado de la categoría
+     */
+    @Query("SELECT COUNT(p) AS total, MAX(p.updatedAt) AS lastUpdatedAt FROM BlogPost p "
+            + "WHERE p.published = true AND p.category = :category")
+    ListingVersionView findCategoryListingVersion(@Param("category") String category);
+
+    /**
+     * Obtiene los campos indexables (id, título, extracto, contenido, fecha
+     * de creación y categoría) de los posts publicados posteriores a un ID,
+     * ordenados por ID, para reconstruir los índices en memoria por lotes.
+     * El contenido puede venir comprimido en contentGzip.
+     * 
+     * @param afterId ID del último post del lote anterior (0 para el primero)
+     * @param limit   Tamaño del lote
+     * @return Filas con la forma [id, title, excerpt, content, createdAt, category, contentGzip]
+     */
+    @Query("SELECT p.id, p.title, p.excerpt, p.content, p.createdAt, p.category, p.contentGzip FROM BlogPost p "
+            + "WHERE p.published = true AND p.id > :afterId ORDER BY p.id")
+    List<Object[]> findPublishedSearchSources(@Param("afterId") Long afterId, Limit limit);
+
+    /**
+     * Obtiene los campos indexables de los posts publicados con los IDs
+     * indicados (sin orden garantizado).
+     * 
+     * @param ids IDs de los posts
+     * @return Filas con la forma [id, title, excerpt, content, createdAt, category, contentGzip]
+     */
+    @Query("SELECT p.id, p.title, p.excerpt, p.content, p.createdAt, p.category, p.contentGzip FROM BlogPost p "
+            + "WHERE p.published = true AND p.id IN :ids")
+    List<Object[]> findPublishedSearchSourcesByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Recorre con un cursor el ID y la fecha de modificación de los posts
+     * publicados posteriores a un ID, ordenados por ID. Las filas se leen de
+     * la base de datos en bloques de {@code fetch_size} y, al ser escalares,
+     * no se acumulan en el contexto de persistencia. Debe consumirse dentro de
+     * una transacción y cerrarse al terminar.
+     * 
+     * @param afterId ID a partir del cual recorrer (0 para empezar desde el
+     *                primero)
+     * @param limit   Número máximo de filas
+     * @return Stream de filas con la forma [id, updatedAt]
+     */
+    @Query("SELECT p.id, p.updatedAt FROM BlogPost p WHERE p.published = true AND p.id > :afterId ORDER BY p.id")
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+    Stream<Object[]> streamPublishedSitemapEntries(@Param("afterId") Long afterId, Limit limit);
+
+    /**
+     * Recorre con un cursor todos los posts (incluidos los borradores) junto
+     * con su autor, ordenados por ID. Los tags se cargan por lotes al
+     * acceder a ellos; quien consuma el stream debe vaciar periódicamente el
+     * contexto de persistencia para no acumular entidades.
+     * 
+     * @return Stream de posts con su autor
+     */
+    @Query("SELECT p FROM BlogPost p JOIN FETCH p.author ORDER BY p.id")
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "100"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+    Stream<BlogPost> streamAllWithAuthor();
+
+    /**
+     * Obtiene la fecha de creación del post publicado más reciente de una
+     * categoría. Se resuelve con el índice (published, category, createdAt).
+     * 
+     * @param category Categoría
+     * @return Fecha del post más reciente, o null si no hay posts publicados
+     */
+    @Query("SELECT MAX(p.createdAt) FROM BlogPost p WHERE p.published = true AND p.category = :category")
+    LocalDateTime findLatestPublishedCreatedAtByCategory(@Param("category") String category);
+
+    /**
+     * Calcula el número de posts publicados y la fecha del más reciente de
+     * cada categoría. Recorre todos los posts publicados, por lo que solo se
+     * usa para reconciliar los recuentos.
+     * 
+     * @return Filas con la forma [category, count, latestCreatedAt]
+     */
+    @Query("SELECT p.category, COUNT(p), MAX(p.createdAt) FROM BlogPost p WHERE p.published = true "
+            + "GROUP BY p.category")
+    List<Object[]> countPublishedByCategory();
+
+    /**
+     * Obtiene los posts cuyo contenido todavía no se ha procesado (sin
+     * contenido renderizado o sin recuento de palabras) posteriores a un ID,
+     * ordenados por ID.
+     * 
+     * @param afterId ID del último post del lote anterior (0 para el primero)
+     * @param limit   Tamaño del lote
+     * @return Lista de posts pendientes de procesar
+     */
+    @Query("SELECT p FROM BlogPost p WHERE (p.renderedContent IS NULL OR p.wordCount IS NULL) "
+            + "AND p.id > :afterId ORDER BY p.id")
+    List<BlogPost> findPendingContentProcessing(@Param("afterId") Long afterId, Limit limit);
+
+    /**
+     * Obtiene el contenido de un post tal como está guardado, sin cargar la
+     * entidad ni descomprimirlo.
+     * 
+     * @param id ID del post
+     * @return Contenido guardado, si el post existe
+     */
+    @Query("SELECT p.content AS content, p.contentGzip AS contentGzip, p.updatedAt AS updatedAt "
+            + "FROM BlogPost p WHERE p.id = :id")
+    Optional<StoredContentView> findStoredContentById(@Param("id") Long id);
+
+    /**
+     * Obtiene los posts con el contenido sin comprimir y de al menos la
+     * longitud indicada, posteriores a un ID y ordenados por ID.
+     * 
+     * @param afterId   ID del último post del lote anterior (0 para el primero)
+     * @param minLength Longitud mínima del contenido
+     * @param limit     Tamaño del lote
+     * @return Filas con la forma [id, content, updatedAt]
+     */
+    @Query("SELECT p.id, p.content, p.updatedAt FROM BlogPost p WHERE p.contentGzip IS NULL "
+            + "AND LENGTH(p.content) >= :minLength AND p.id > :afterId ORDER BY p.id")
+    List<Object[]> findUncompressedContent(@Param("afterId") Long afterId, @Param("minLength") int minLength,
+            Limit limit);
+
+    /**
+     * Obtiene las publicaciones programadas pendientes. Usa el índice de
+     * {@code publishAt}, sin recorrer el resto de posts.
+     * 
+     * @return Filas con la forma [id, publishAt]
+     */
+    @Query("SELECT p.id, p.publishAt FROM BlogPost p WHERE p.publishAt IS NOT NULL")
+    List<Object[]> findScheduledPublications();
+
+    /**
+     * Obtiene las retiradas programadas pendientes. Usa el índice de
+     * {@code unpublishAt}, sin recorrer el resto de posts.
+     * 
+     * @return Filas con la forma [id, unpublishAt]
+     */
+    @Query("SELECT p.id, p.unpublishAt FROM BlogPost p WHERE p.unpublishAt IS NOT NULL")
+    List<Object[]> findScheduledUnpublications();
+
+    /**
+     * Obtiene las publicaciones programadas vencidas, bloqueando las filas
+     * hasta el final de la transacción.
+     * 
+     * @param now   Fecha y hora actual
+     * @param limit Tamaño del lote
+     * @return Filas con la forma [id, category, published]
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p.id, p.category, p.published FROM BlogPost p WHERE p.publishAt <= :now "
+            + "ORDER BY p.publishAt, p.id")
+    List<Object[]> findDuePublicationsForUpdate(@Param("now") LocalDateTime now, Limit limit);
+
+    /**
+     * Obtiene las retiradas programadas vencidas, bloqueando las filas hasta
+     * el final de la transacción.
+     * 
+     * @param now   Fecha y hora actual
+     * @param limit Tamaño del lote
+     * @return Filas con la forma [id, category, published]
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p.id, p.category, p.published FROM BlogPost p WHERE p.unpublishAt <= :now "
+            + "ORDER BY p.unpublishAt, p.id")
+    List<Object[]> findDueUnpublicationsForUpdate(@Param("now") LocalDateTime now, Limit limit);
+
+    /**
+     * Publica un lote de posts con una sola sentencia y elimina su
+     * publicación programada.
+     * 
+     * @param ids IDs de los posts
+     * @param now Fecha y hora de la actualización
+     * @return Número de posts actualizados
+     */
+    @Modifying
+    @Query("UPDATE BlogPost p SET p.published = true, p.publishAt = null, p.updatedAt = :now WHERE p.id IN :ids")
+    int publishScheduled(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * Retira un lote de posts con una sola sentencia y elimina su retirada
+     * programada.
+     * 
+     * @param ids IDs de los posts
+     * @param now Fecha y hora de la actualización
+     * @return Número de posts actualizados
+     */
+    @Modifying
+    @Query("UPDATE BlogPost p SET p.published = false, p.unpublishAt = null, p.updatedAt = :now "
+            + "WHERE p.id IN :ids")
+    int unpublishScheduled(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * Indica si algún post usa el contenido renderizado con el hash indicado.
+     * 
+     * @param contentHash Hash del contenido
+     * @return true si el artefacto sigue en uso
+     */
+    boolean existsByRenderedContentContentHash(String contentHash);
+
     /**
      * Obtiene todos los posts de un autor específico.
      * 
      * @param authorId ID del autor
      * @return Lista de posts del autor
      */
+    @EntityGraph(attributePaths = "author")
     List<BlogPost> findByAuthorId(Long authorId);
 
     /**
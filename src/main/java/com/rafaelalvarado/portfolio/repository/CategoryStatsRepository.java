@@ -0,0 +1,60 @@
+package com.rafaelalvarado.portfolio.repository;
+
+import com.rafaelalvarado.portfolio.entity.CategoryStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repositorio JPA para la entidad CategoryStats.
+ * 
+ * @author Rafael Alvarado García
+ */
+@Repository
+public interface CategoryStatsRepository extends JpaRepository<CategoryStats, String> {
+
+    /**
+     * Obtiene las categorías con más posts publicados que el mínimo indicado,
+     * de mayor a menor número de posts.
+     * 
+     * @param publishedCount Número mínimo de posts (exclusivo)
+     * @return Lista de estadísticas por categoría
+     */
+    List<CategoryStats> findByPublishedCountGreaterThanOrderByPublishedCountDescCategoryAsc(long publishedCount);
+
+    /**
+     * Obtiene todas las filas de estadísticas bloqueándolas para escritura
+     * hasta el final de la transacción.
+     * 
+     * @return Lista de estadísticas por categoría
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM CategoryStats c")
+    List<CategoryStats> findAllForUpdate();
+
+    /**
+     * Suma una variación al recuento de una categoría y actualiza la fecha de
+     * su post más reciente, creando la fila si no existe. La operación es
+     * atómica en la base de datos, por lo que dos escrituras concurrentes
+     * sobre la misma categoría no pierden actualizaciones.
+     * 
+     * @param category     Categoría
+     * @param delta        Variación del número de posts publicados
+     * @param latestPostAt Fecha del post publicado más reciente
+     * @return Número de filas afectadas
+     */
+    @Modifying
+    @Query(value = "INSERT INTO blog_category_stats (category, published_count, latest_post_at) "
+            + "VALUES (:category, GREATEST(:delta, 0), :latestPostAt) "
+            + "ON DUPLICATE KEY UPDATE published_count = GREATEST(published_count + :delta, 0), "
+            + "latest_post_at = :latestPostAt", nativeQuery = true)
+    int adjust(@Param("category") String category, @Param("delta") long delta,
+            @Param("latestPostAt") LocalDateTime latestPostAt);
+}
@@ -0,0 +1,16 @@
+package com.rafaelalvarado.portfolio.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Proyección con los datos agregados que identifican la versión de un
+ * listado de posts: número de posts y fecha de la última modificación.
+ * 
+ * @author Rafael Alvarado García
+ */
+public interface ListingVersionView {
+
+    Long getTotal();
+
+    LocalDateTime getLastUpdatedAt();
+}
@@ -0,0 +1,63 @@
+package com.rafaelalvarado.portfolio.repository;
+
+import com.rafaelalvarado.portfolio.entity.PostRevision;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repositorio JPA para la entidad PostRevision.
+ * 
+ * @author Rafael Alvarado García
+ */
+@Repository
+public interface PostRevisionRepository extends JpaRepository<PostRevision, Long> {
+
+    /**
+     * Obtiene el número de la última revisión de un post y el de su última
+     * revisión clave (ambos null si el post no tiene revisiones).
+     * 
+     * @param postId ID del post
+     * @return Estado de las revisiones del post
+     */
+    @Query("SELECT MAX(r.revision) AS latestRevision, "
+            + "MAX(CASE WHEN r.keyframe = true THEN r.revision END) AS latestKeyframe "
+            + "FROM PostRevision r WHERE r.postId = :postId")
+    RevisionStateView findRevisionState(@Param("postId") Long postId);
+
+    /**
+     * Obtiene los datos de las revisiones de un post, sin el contenido, de
+     * la más reciente a la más antigua.
+     * 
+     * @param postId ID del post
+     * @return Filas con la forma [revision, keyframe, contentLength, storedSize, createdAt]
+     */
+    @Query("SELECT r.revision, r.keyframe, r.contentLength, r.storedSize, r.createdAt FROM PostRevision r "
+            + "WHERE r.postId = :postId ORDER BY r.revision DESC")
+    List<Object[]> findSummariesByPostId(@Param("postId") Long postId);
+
+    /**
+     * Obtiene la revisión clave más reciente que no es posterior a una
+     * revisión.
+     * 
+     * @param postId   ID del post
+     * @param revision Número de revisión
+     * @return Número de la revisión clave, o null si no existe
+     */
+    @Query("SELECT MAX(r.revision) FROM PostRevision r "
+            + "WHERE r.postId = :postId AND r.keyframe = true AND r.revision <= :revision")
+    Integer findKeyframeAtOrBefore(@Param("postId") Long postId, @Param("revision") int revision);
+
+    /**
+     * Obtiene un rango de revisiones de un post ordenadas por número.
+     * 
+     * @param postId ID del post
+     * @param from   Primera revisión (incluida)
+     * @param to     Última revisión (incluida)
+     * @return Lista de revisiones
+     */
+    List<PostRevision> findByPostIdAndRevisionBetweenOrderByRevision(Long postId, int from, int to);
+}
@@ -0,0 +1,63 @@
+package com.rafaelalvarado.portfolio.repository;
+
+import com.rafaelalvarado.portfolio.entity.RenderedContent;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Repositorio JPA para la entidad RenderedContent.
+ * 
+ * @author Rafael Alvarado García
+ */
+@Repository
+public interface RenderedContentRepository extends JpaRepository<RenderedContent, String> {
+
+    /**
+     * Inserta un artefacto si no existe ya uno con el mismo hash. Si otra
+     * transacción lo está insertando a la vez, la base de datos espera a que
+     * termine en lugar de fallar por clave duplicada.
+     * 
+     * @param contentHash Hash del contenido original
+     * @param html        HTML renderizado
+     * @param toc         Tabla de contenidos en JSON
+     * @param renderedAt  Fecha del renderizado
+     * @return Número de filas afectadas
+     */
+    @Modifying
+    @Query(value = "INSERT INTO blog_rendered_content (content_hash, html, toc, rendered_at) "
+            + "VALUES (:contentHash, :html, :toc, :renderedAt) "
+            + "ON DUPLICATE KEY UPDATE content_hash = content_hash", nativeQuery = true)
+    int insertIfAbsent(@Param("contentHash") String contentHash, @Param("html") String html,
+            @Param("toc") String toc, @Param("renderedAt") LocalDateTime renderedAt);
+
+    /**
+     * Lee un artefacto con bloqueo compartido. A diferencia de una lectura
+     * normal, ve la fila aunque la haya confirmado otra transacción después
+     * de empezar la actual, y evita que se elimine hasta el final de esta.
+     * 
+     * @param contentHash Hash del contenido original
+     * @return Artefacto, si existe
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT r FROM RenderedContent r WHERE r.contentHash = :contentHash")
+    Optional<RenderedContent> findForShare(@Param("contentHash") String contentHash);
+
+    /**
+     * Elimina un artefacto si ningún post lo referencia.
+     * 
+     * @param contentHash Hash del contenido original
+     * @return Número de filas eliminadas
+     */
+    @Modifying
+    @Query("DELETE FROM RenderedContent r WHERE r.contentHash = :contentHash "
+            + "AND NOT EXISTS (SELECT p.id FROM BlogPost p WHERE p.renderedContent = r)")
+    int deleteIfUnused(@Param("contentHash") String contentHash);
+}
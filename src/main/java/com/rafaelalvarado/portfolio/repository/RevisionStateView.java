@@ -0,0 +1,14 @@
+package com.rafaelalvarado.portfolio.repository;
+
+/**
+ * Proyección con el número de la última revisión de un post y el de su
+ * última revisión clave.
+ * 
+ * @author Rafael Alvarado García
+ */
+public interface RevisionStateView {
+
+    Integer getLatestRevision();
+
+    Integer getLatestKeyframe();
+}
@@ -0,0 +1,19 @@
+package com.rafaelalvarado.portfolio.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Proyección con el contenido de un post tal como está guardado (sin
+ * comprimir en {@code content} o comprimido en {@code contentGzip}) y su
+ * fecha de última actualización.
+ * 
+ * @author Rafael Alvarado García
+ */
+public interface StoredContentView {
+
+    String getContent();
+
+    byte[] getContentGzip();
+
+    LocalDateTime getUpdatedAt();
+}
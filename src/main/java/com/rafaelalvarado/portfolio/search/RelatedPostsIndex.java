@@ -0,0 +1,404 @@
+package com.rafaelalvarado.portfolio.search;
+
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice en memoria con los posts relacionados de cada post publicado.
+ * 
+ * La similitud entre dos posts combina el índice de Jaccard de sus tags y
+ * la coincidencia de categoría, atenuada por la distancia entre sus fechas
+ * de creación. Para cada post se guardan precalculados los
+ * {@link #MAX_RELATED} más similares, de modo que una consulta es una sola
+ * búsqueda en un mapa. Al cambiar un post solo se recalcula su lista y se
+ * actualizan las de los posts que comparten algún tag o su categoría.
+ * 
+ * @author Rafael Alvarado García
+ */
+@Component
+public class RelatedPostsIndex {
+
+    /**
+     * Número máximo de posts relacionados guardados por post
+     */
+    public static final int MAX_RELATED = 20;
+
+    private static final double TAG_WEIGHT = 0.7;
+
+    private static final double CATEGORY_WEIGHT = 0.3;
+
+    /**
+     * Días de diferencia entre dos posts que reducen su similitud a 1/e
+     */
+    private static final double RECENCY_SCALE_DAYS = 365;
+
+    private static final double SECONDS_PER_DAY = 86_400;
+
+    /**
+     * Orden de los relacionados: mayor similitud primero y, a igualdad, el
+     * post más reciente (ID mayor)
+     */
+    private static final Comparator<Related> BEST_FIRST = Comparator
+            .comparingDouble((Related related) -> related.score)
+            .thenComparingLong(related -> related.postId)
+            .reversed();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, Features> features = new HashMap<>();
+
+    private final Map<String, Set<Long>> postsByTag = new HashMap<>();
+
+    private final Map<String, Set<Long>> postsByCategory = new HashMap<>();
+
+    private final Map<Long, Related[]> relatedByPost = new HashMap<>();
+
+    /**
+     * Posts en cuya lista de relacionados aparece cada post
+     */
+    private final Map<Long, Set<Long>> referencedBy = new HashMap<>();
+
+    /**
+     * Añade o reemplaza un post publicado y actualiza las listas afectadas.
+     * 
+     * @param postId    ID del post
+     * @param category  Categoría del post
+     * @param createdAt Fecha de creación del post
+     * @param tags      Tags del post
+     * @return IDs de los posts cuya lista de relacionados cambió
+     */
+    public Set<Long> index(Long postId, String category, LocalDateTime createdAt, Collection<String> tags) {
+        Features current = new Features(category, createdAt, tags);
+        lock.writeLock().lock();
+        try {
+            if (current.equals(features.get(postId))) {
+                return Set.of();
+            }
+            Set<Long> referencing = unlink(postId);
+            link(postId, current);
+            setRelated(postId, computeRelated(postId, current));
+
+            Set<Long> affected = new LinkedHashSet<>(referencing);
+            affected.add(postId);
+            for (Long other : referencing) {
+                // Su lista perdió el post: se recalcula para no dejar fuera al siguiente candidato
+                setRelated(other, computeRelated(other, features.get(other)));
+            }
+            for (Long candidate : candidates(postId, current)) {
+                if (!referencing.contains(candidate)
+                        && offer(candidate, postId, score(current, features.get(candidate)))) {
+                    affected.add(candidate);
+                }
+            }
+            return affected;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Elimina un post (despublicado o borrado) y recalcula las listas en las
+     * que aparecía.
+     * 
+     * @param postId ID del post
+     * @return IDs de los posts cuya lista de relacionados cambió
+     */
+    public Set<Long> remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            if (!features.containsKey(postId)) {
+                return Set.of();
+            }
+            Set<Long> affected = unlink(postId);
+            for (Long other : affected) {
+                setRelated(other, computeRelated(other, features.get(other)));
+            }
+            affected.add(postId);
+            return affected;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Reemplaza el contenido completo del índice y recalcula todas las listas.
+     * 
+     * @param posts Posts publicados
+     */
+    public void replaceAll(Collection<RelatedPost> posts) {
+        lock.writeLock().lock();
+        try {
+            features.clear();
+            postsByTag.clear();
+            postsByCategory.clear();
+            relatedByPost.clear();
+            referencedBy.clear();
+            for (RelatedPost post : posts) {
+                link(post.postId, new Features(post.category, post.createdAt, post.tags));
+            }
+            for (Map.Entry<Long, Features> entry : features.entrySet()) {
+                setRelated(entry.getKey(), computeRelated(entry.getKey(), entry.getValue()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Obtiene los posts más similares a un post.
+     * 
+     * @param postId ID del post
+     * @param limit  Número máximo de resultados (como mucho {@link #MAX_RELATED})
+     * @return IDs ordenados por similitud, o null si el post no está indexado
+     */
+    public List<Long> getRelated(Long postId, int limit) {
+        lock.readLock().lock();
+        try {
+            Related[] related = relatedByPost.get(postId);
+            if (related == null) {
+                return null;
+            }
+            List<Long> ids = new ArrayList<>(Math.min(limit, related.length));
+            for (int i = 0; i < related.length && i < limit; i++) {
+                ids.add(related[i].postId);
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Registra un post en los índices de tags y categoría.
+     */
+    private void link(Long postId, Features post) {
+        features.put(postId, post);
+        for (String tag : post.tags) {
+            postsByTag.computeIfAbsent(tag, key -> new HashSet<>()).add(postId);
+        }
+        if (post.category != null) {
+            postsByCategory.computeIfAbsent(post.category, key -> new HashSet<>()).add(postId);
+        }
+        relatedByPost.put(postId, new Related[0]);
+    }
+
+    /**
+     * Retira un post de los índices y de las listas en las que aparecía.
+     * 
+     * @return IDs de los posts de cuya lista se retiró
+     */
+    private Set<Long> unlink(Long postId) {
+        Features previous = features.remove(postId);
+        if (previous == null) {
+            return new LinkedHashSet<>();
+        }
+        for (String tag : previous.tags) {
+            removePosting(postsByTag, tag, postId);
+        }
+        if (previous.category != null) {
+            removePosting(postsByCategory, previous.category, postId);
+        }
+        setRelated(postId, new Related[0]);
+        relatedByPost.remove(postId);
+
+        Set<Long> referencing = new LinkedHashSet<>(referencedBy.getOrDefault(postId, Set.of()));
+        for (Long other : referencing) {
+            Related[] related = relatedByPost.get(other);
+            setRelated(other, Arrays.stream(related).filter(entry -> entry.postId != postId).toArray(Related[]::new));
+        }
+        referencedBy.remove(postId);
+        return referencing;
+    }
+
+    private void removePosting(Map<String, Set<Long>> postings, String key, Long postId) {
+        Set<Long> posts = postings.get(key);
+        if (posts != null) {
+            posts.remove(postId);
+            if (posts.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Obtiene los posts que comparten algún tag o la categoría con un post.
+     */
+    private Set<Long> candidates(Long postId, Features post) {
+        Set<Long> candidates = new HashSet<>();
+        for (String tag : post.tags) {
+            candidates.addAll(postsByTag.getOrDefault(tag, Set.of()));
+        }
+        if (post.category != null) {
+            candidates.addAll(postsByCategory.getOrDefault(post.category, Set.of()));
+        }
+        candidates.remove(postId);
+        return candidates;
+    }
+
+    /**
+     * Calcula la lista completa de relacionados de un post con un heap de
+     * tamaño {@link #MAX_RELATED}.
+     */
+    private Related[] computeRelated(Long postId, Features post) {
+        PriorityQueue<Related> top = new PriorityQueue<>(MAX_RELATED + 1, BEST_FIRST.reversed());
+        for (Long candidate : candidates(postId, post)) {
+            top.offer(new Related(candidate, score(post, features.get(candidate))));
+            if (top.size() > MAX_RELATED) {
+                top.poll();
+            }
+        }
+        Related[] related = top.toArray(new Related[0]);
+        Arrays.sort(related, BEST_FIRST);
+        return related;
+    }
+
+    /**
+     * Inserta un post en la lista de otro si su similitud lo sitúa entre los
+     * {@link #MAX_RELATED} mejores.
+     * 
+     * @return true si la lista cambió
+     */
+    private boolean offer(Long postId, Long candidate, double score) {
+        Related[] related = relatedByPost.get(postId);
+        Related entry = new Related(candidate, score);
+        if (related.length == MAX_RELATED && BEST_FIRST.compare(entry, related[related.length - 1]) >= 0) {
+            return false;
+        }
+        int position = Arrays.binarySearch(related, entry, BEST_FIRST);
+        int insertAt = position >= 0 ? position : -position - 1;
+        Related[] updated = new Related[Math.min(related.length + 1, MAX_RELATED)];
+        System.arraycopy(related, 0, updated, 0, insertAt);
+        updated[insertAt] = entry;
+        System.arraycopy(related, insertAt, updated, insertAt + 1, updated.length - insertAt - 1);
+        setRelated(postId, updated);
+        return true;
+    }
+
+    /**
+     * Sustituye la lista de un post manteniendo el índice inverso.
+     */
+    private void setRelated(Long postId, Related[] related) {
+        Related[] previous = relatedByPost.put(postId, related);
+        if (previous != null) {
+            for (Related entry : previous) {
+                Set<Long> referencing = referencedBy.get(entry.postId);
+                if (referencing != null) {
+                    referencing.remove(postId);
+                    if (referencing.isEmpty()) {
+                        referencedBy.remove(entry.postId);
+                    }
+                }
+            }
+        }
+        for (Related entry : related) {
+            referencedBy.computeIfAbsent(entry.postId, key -> new HashSet<>()).add(postId);
+        }
+    }
+
+    /**
+     * Calcula la similitud entre dos posts.
+     * 
+     * @return Similitud en el rango [0, 1]
+     */
+    static double score(Features a, Features b) {
+        int shared = 0;
+        for (String tag : a.tags) {
+            if (b.tags.contains(tag)) {
+                shared++;
+            }
+        }
+        int union = a.tags.size() + b.tags.size() - shared;
+        double jaccard = union == 0 ? 0 : (double) shared / union;
+        double category = a.category != null && a.category.equals(b.category) ? 1 : 0;
+        double days = Math.abs(a.createdAtSeconds - b.createdAtSeconds) / SECONDS_PER_DAY;
+        return (TAG_WEIGHT * jaccard + CATEGORY_WEIGHT * category) * Math.exp(-days / RECENCY_SCALE_DAYS);
+    }
+
+    /**
+     * Post publicado con los datos que intervienen en la similitud, usado en
+     * la reconstrucción del índice.
+     */
+    public static final class RelatedPost {
+
+        private final Long postId;
+
+        private final String category;
+
+        private final LocalDateTime createdAt;
+
+        private final Collection<String> tags;
+
+        public RelatedPost(Long postId, String category, LocalDateTime createdAt, Collection<String> tags) {
+            this.postId = postId;
+            this.category = category;
+            this.createdAt = createdAt;
+            this.tags = tags;
+        }
+    }
+
+    /**
+     * Datos normalizados de un post (tags y categoría sin distinguir
+     * mayúsculas).
+     */
+    static final class Features {
+
+        private final String category;
+
+        private final long createdAtSeconds;
+
+        private final Set<String> tags = new HashSet<>();
+
+        Features(String category, LocalDateTime createdAt, Collection<String> tags) {
+            this.category = category != null && !category.isBlank() ? TagIndex.normalize(category) : null;
+            this.createdAtSeconds = createdAt != null ? createdAt.toEpochSecond(ZoneOffset.UTC) : 0;
+            if (tags != null) {
+                for (String tag : tags) {
+                    if (tag != null && !tag.isBlank()) {
+                        this.tags.add(TagIndex.normalize(tag));
+                    }
+                }
+            }
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Features that
+                    && createdAtSeconds == that.createdAtSeconds
+                    && Objects.equals(category, that.category)
+                    && tags.equals(that.tags);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(category, createdAtSeconds, tags);
+        }
+    }
+
+    private static final class Related {
+
+        private final long postId;
+
+        private final double score;
+
+        private Related(long postId, double score) {
+            this.postId = postId;
+            this.score = score;
+        }
+    }
+}
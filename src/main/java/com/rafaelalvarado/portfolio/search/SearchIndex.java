@@ -0,0 +1,291 @@
+package com.rafaelalvarado.portfolio.search;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice invertido en memoria de los posts publicados.
+ * 
+ * Cada término apunta a los posts que lo contienen con su frecuencia
+ * ponderada por campo (el título pesa más que el contenido). Las consultas
+ * se puntúan con BM25 recorriendo únicamente las listas de los términos
+ * buscados, por lo que no se consulta la base de datos.
+ * 
+ * Las lecturas son concurrentes; las modificaciones toman el cerrojo de
+ * escritura.
+ * 
+ * @author Rafael Alvarado García
+ */
+@Component
+public class SearchIndex {
+
+    private static final float TITLE_WEIGHT = 3.0f;
+    private static final float TAGS_WEIGHT = 2.0f;
+    private static final float EXCERPT_WEIGHT = 1.5f;
+    private static final float CONTENT_WEIGHT = 1.0f;
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Map<String, Map<Long, Float>> postings = new HashMap<>();
+
+    private Map<Long, IndexedDocument> documents = new HashMap<>();
+
+    private double totalLength;
+
+    /**
+     * Analiza los campos de un post y construye su documento indexable.
+     * 
+     * No accede al índice, por lo que puede ejecutarse en paralelo.
+     * 
+     * @param title   Título del post
+     * @param excerpt Extracto del post
+     * @param content Contenido del post (HTML)
+     * @param tags    Tags del post
+     * @return Documento analizado
+     */
+    public static IndexedDocument analyze(String title, String excerpt, String content, Collection<String> tags) {
+        Map<String, Float> terms = new HashMap<>();
+        addField(terms, title, TITLE_WEIGHT);
+        addField(terms, excerpt, EXCERPT_WEIGHT);
+        addField(terms, content, CONTENT_WEIGHT);
+        if (tags != null) {
+            for (String tag : tags) {
+                addField(terms, tag, TAGS_WEIGHT);
+            }
+        }
+
+        float length = 0;
+        for (float frequency : terms.values()) {
+            length += frequency;
+        }
+        return new IndexedDocument(terms, length);
+    }
+
+    /**
+     * Añade o reemplaza un post en el índice.
+     * 
+     * @param postId   ID del post
+     * @param document Documento analizado
+     */
+    public void index(Long postId, IndexedDocument document) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(postId);
+            addInternal(postings, documents, postId, document);
+            totalLength += document.length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Elimina un post del índice.
+     * 
+     * @param postId ID del post
+     */
+    public void remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Sustituye el contenido completo del índice. Las estructuras nuevas se
+     * construyen fuera del cerrojo y se intercambian de forma atómica.
+     * 
+     * @param newDocuments Documentos analizados por ID de post
+     */
+    public void replaceAll(Map<Long, IndexedDocument> newDocuments) {
+        Map<String, Map<Long, Float>> newPostings = new HashMap<>();
+        Map<Long, IndexedDocument> newDocumentMap = new HashMap<>(newDocuments.size() * 2);
+        double newTotalLength = 0;
+        for (Map.Entry<Long, IndexedDocument> entry : newDocuments.entrySet()) {
+            addInternal(newPostings, newDocumentMap, entry.getKey(), entry.getValue());
+            newTotalLength += entry.getValue().length;
+        }
+
+        lock.writeLock().lock();
+        try {
+            postings = newPostings;
+            documents = newDocumentMap;
+            totalLength = newTotalLength;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Busca los posts que contienen alguno de los términos de la consulta,
+     * ordenados por relevancia BM25 (a igual puntuación, el más reciente
+     * primero).
+     * 
+     * @param query  Texto de la consulta
+     * @param offset Número de resultados a omitir
+     * @param limit  Número máximo de resultados a devolver
+     * @return Resultados de la búsqueda
+     */
+    public SearchHits search(String query, int offset, int limit) {
+        Set<String> queryTerms = new LinkedHashSet<>();
+        SpanishAnalyzer.analyze(query, queryTerms::add);
+        if (queryTerms.isEmpty()) {
+            return new SearchHits(0, Collections.emptyList());
+        }
+
+        lock.readLock().lock();
+        try {
+            int documentCount = documents.size();
+            if (documentCount == 0) {
+                return new SearchHits(0, Collections.emptyList());
+            }
+            double averageLength = totalLength / documentCount;
+
+            Map<Long, Double> scores = new HashMap<>();
+            for (String term : queryTerms) {
+                Map<Long, Float> termPostings = postings.get(term);
+                if (termPostings == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (documentCount - termPostings.size() + 0.5) / (termPostings.size() + 0.5));
+                for (Map.Entry<Long, Float> posting : termPostings.entrySet()) {
+                    double frequency = posting.getValue();
+                    double norm = K1 * (1 - B + B * documents.get(posting.getKey()).length / averageLength);
+                    double score = idf * frequency * (K1 + 1) / (frequency + norm);
+                    scores.merge(posting.getKey(), score, Double::sum);
+                }
+            }
+
+            return new SearchHits(scores.size(), topHits(scores, offset + limit, offset));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Devuelve el número de posts indexados.
+     * 
+     * @return Número de posts en el índice
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Selecciona los mejores resultados con un montículo acotado, sin ordenar
+     * todas las coincidencias.
+     */
+    private static List<Long> topHits(Map<Long, Double> scores, int k, int offset) {
+        if (k <= offset) {
+            return Collections.emptyList();
+        }
+
+        PriorityQueue<Map.Entry<Long, Double>> heap = new PriorityQueue<>(k + 1, SearchIndex::compareHits);
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            heap.offer(entry);
+            if (heap.size() > k) {
+                heap.poll();
+            }
+        }
+
+        List<Long> ranked = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            ranked.add(heap.poll().getKey());
+        }
+        Collections.reverse(ranked);
+        return offset >= ranked.size() ? Collections.emptyList() : ranked.subList(offset, ranked.size());
+    }
+
+    private static int compareHits(Map.Entry<Long, Double> a, Map.Entry<Long, Double> b) {
+        int byScore = Double.compare(a.getValue(), b.getValue());
+        return byScore != 0 ? byScore : Long.compare(a.getKey(), b.getKey());
+    }
+
+    private static void addField(Map<String, Float> terms, String text, float weight) {
+        SpanishAnalyzer.analyze(text, term -> terms.merge(term, weight, Float::sum));
+    }
+
+    private static void addInternal(Map<String, Map<Long, Float>> targetPostings,
+            Map<Long, IndexedDocument> targetDocuments, Long postId, IndexedDocument document) {
+        targetDocuments.put(postId, document);
+        for (Map.Entry<String, Float> term : document.terms.entrySet()) {
+            targetPostings.computeIfAbsent(term.getKey(), key -> new HashMap<>()).put(postId, term.getValue());
+        }
+    }
+
+    private void removeInternal(Long postId) {
+        IndexedDocument previous = documents.remove(postId);
+        if (previous == null) {
+            return;
+        }
+        totalLength -= previous.length;
+        for (String term : previous.terms.keySet()) {
+            Map<Long, Float> termPostings = postings.get(term);
+            if (termPostings != null) {
+                termPostings.remove(postId);
+                if (termPostings.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    /**
+     * Post analizado: frecuencia ponderada de cada término y longitud total.
+     */
+    public static final class IndexedDocument {
+
+        private final Map<String, Float> terms;
+
+        private final float length;
+
+        private IndexedDocument(Map<String, Float> terms, float length) {
+            this.terms = terms;
+            this.length = length;
+        }
+    }
+
+    /**
+     * Resultado de una búsqueda: número total de coincidencias e IDs de los
+     * posts de la página solicitada, en orden de relevancia.
+     */
+    public static final class SearchHits {
+
+        private final int total;
+
+        private final List<Long> postIds;
+
+        public SearchHits(int total, List<Long> postIds) {
+            this.total = total;
+            this.postIds = postIds;
+        }
+
+        public int getTotal() {
+            return total;
+        }
+
+        public List<Long> getPostIds() {
+            return postIds;
+        }
+    }
+}
@@ -0,0 +1,287 @@
+package com.rafaelalvarado.portfolio.search;
+
+import com.rafaelalvarado.portfolio.cache.HttpResponseCache;
+import com.rafaelalvarado.portfolio.entity.BlogPost;
+import com.rafaelalvarado.portfolio.event.BlogPostChangedEvent;
+import com.rafaelalvarado.portfolio.event.BlogPostsChangedEvent;
+import com.rafaelalvarado.portfolio.render.ContentCompression;
+import com.rafaelalvarado.portfolio.repository.BlogPostRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Mantiene sincronizados los índices en memoria (búsqueda, tags y posts
+ * relacionados) con los posts publicados.
+ * 
+ * Al arrancar la aplicación reconstruye los índices completos leyendo los
+ * posts por lotes y analizando cada lote en paralelo. Después, cada cambio
+ * confirmado en un post actualiza únicamente sus entradas. Los cambios que
+ * llegan durante una reconstrucción se vuelven a aplicar al terminarla para
+ * que el intercambio de los índices no los pierda.
+ * 
+ * Esas actualizaciones no se declaran de solo lectura para que lean siempre
+ * del primario aunque haya réplicas: un post leído de una réplica que aún no
+ * recibió el cambio no se indexaría hasta la siguiente reconstrucción.
+ * 
+ * @author Rafael Alvarado García
+ */
+@Component
+public class SearchIndexer {
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchIndexer.class);
+
+    /**
+     * Número de posts leídos por consulta durante la reconstrucción
+     */
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    /**
+     * Prefijo de las respuestas de búsqueda en la micro-caché HTTP
+     */
+    private static final String SEARCH_PATH = "/blog/posts/search";
+
+    /**
+     * Prefijo de los listados por tag en la micro-caché HTTP
+     */
+    private static final String TAG_PATH = "/blog/posts/tag/";
+
+    /**
+     * Ruta base de los posts en la micro-caché HTTP
+     */
+    private static final String POSTS_PATH = "/blog/posts/";
+
+    /**
+     * Sufijo de las respuestas de posts relacionados en la micro-caché HTTP
+     */
+    private static final String RELATED_SUFFIX = "/related";
+
+    @Autowired
+    private SearchIndex searchIndex;
+
+    @Autowired
+    private TagIndex tagIndex;
+
+    @Autowired
+    private RelatedPostsIndex relatedPostsIndex;
+
+    @Autowired
+    private BlogPostRepository blogPostRepository;
+
+    @Autowired
+    private HttpResponseCache httpResponseCache;
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Reconstruye los índices al arrancar la aplicación.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * Actualiza los índices tras el commit del cambio de un post.
+     * 
+     * @param event Evento de cambio del post
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onPostChanged(BlogPostChangedEvent event) {
+        if (rebuilding.get()) {
+            changedDuringRebuild.add(event.getPostId());
+        }
+        if (event.getType() == BlogPostChangedEvent.ChangeType.DELETED || !event.isCurrentlyPublished()) {
+            searchIndex.remove(event.getPostId());
+            tagIndex.remove(event.getPostId());
+            purgeRelated(relatedPostsIndex.remove(event.getPostId()));
+        } else {
+            refresh(event.getPostId());
+        }
+
+        if (event.affectsPublishedListings()) {
+            httpResponseCache.purge(SEARCH_PATH);
+            httpResponseCache.purge(TAG_PATH);
+        }
+        logger.debug("Índices actualizados para el post {} ({})", event.getPostId(), event.getType());
+    }
+
+    /**
+     * Actualiza los índices tras el commit de un bloque de posts modificados,
+     * leyendo los que siguen publicados en una sola consulta (más otra para
+     * sus tags) y retirando el resto.
+     * 
+     * @param event Evento del bloque de cambios
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onPostsChanged(BlogPostsChangedEvent event) {
+        List<Long> postIds = event.getPostIds();
+        if (rebuilding.get()) {
+            changedDuringRebuild.addAll(postIds);
+        }
+        List<Long> publishedIds = new ArrayList<>();
+        for (BlogPostChangedEvent change : event.getChanges()) {
+            if (change.getType() == BlogPostChangedEvent.ChangeType.DELETED || !change.isCurrentlyPublished()) {
+                searchIndex.remove(change.getPostId());
+                tagIndex.remove(change.getPostId());
+                purgeRelated(relatedPostsIndex.remove(change.getPostId()));
+            } else {
+                publishedIds.add(change.getPostId());
+            }
+        }
+        List<Object[]> rows = publishedIds.isEmpty() ? List.of()
+                : blogPostRepository.findPublishedSearchSourcesByIds(publishedIds);
+        Map<Long, List<String>> tagsByPost = findTags(rows.stream().map(row -> (Long) row[0]).toList());
+        for (Object[] row : rows) {
+            Long postId = (Long) row[0];
+            List<String> tags = tagsByPost.getOrDefault(postId, List.of());
+            searchIndex.index(postId, SearchIndex.analyze((String) row[1], (String) row[2],
+                    ContentCompression.content((String) row[3], (byte[]) row[6]), tags));
+            tagIndex.index(postId, (LocalDateTime) row[4], tags);
+            purgeRelated(relatedPostsIndex.index(postId, (String) row[5], (LocalDateTime) row[4], tags));
+        }
+
+        httpResponseCache.purge(SEARCH_PATH);
+        httpResponseCache.purge(TAG_PATH);
+        logger.debug("Índices actualizados para {} posts", postIds.size());
+    }
+
+    /**
+     * Reconstruye los índices completos a partir de la base de datos.
+     */
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            logger.warn("Ya hay una reconstrucción de los índices en curso");
+            return;
+        }
+
+        try {
+            long start = System.currentTimeMillis();
+            Map<Long, SearchIndex.IndexedDocument> documents = new ConcurrentHashMap<>();
+            List<TagIndex.TaggedPost> taggedPosts = new ArrayList<>();
+            List<RelatedPostsIndex.RelatedPost> relatedPosts = new ArrayList<>();
+            long lastId = 0;
+            List<Object[]> batch;
+            do {
+                batch = blogPostRepository.findPublishedSearchSources(lastId, Limit.of(REBUILD_BATCH_SIZE));
+                if (batch.isEmpty()) {
+                    break;
+                }
+                lastId = (Long) batch.get(batch.size() - 1)[0];
+                analyzeBatch(batch, documents, taggedPosts, relatedPosts);
+            } while (batch.size() == REBUILD_BATCH_SIZE);
+
+            searchIndex.replaceAll(documents);
+            tagIndex.replaceAll(taggedPosts);
+            relatedPostsIndex.replaceAll(relatedPosts);
+            logger.info("Índices reconstruidos: {} posts en {} ms", documents.size(),
+                    System.currentTimeMillis() - start);
+        } finally {
+            rebuilding.set(false);
+        }
+
+        for (Long postId : new ArrayList<>(changedDuringRebuild)) {
+            changedDuringRebuild.remove(postId);
+            refresh(postId);
+        }
+        httpResponseCache.purge(SEARCH_PATH);
+        httpResponseCache.purge(TAG_PATH);
+    }
+
+    /**
+     * Analiza en paralelo un lote de posts leído de la base de datos.
+     * 
+     * @param batch        Filas con la forma [id, title, excerpt, content, createdAt, category]
+     * @param documents    Destino de los documentos analizados
+     * @param taggedPosts  Destino de los posts con sus tags
+     * @param relatedPosts Destino de los datos de similitud de los posts
+     */
+    private void analyzeBatch(List<Object[]> batch, Map<Long, SearchIndex.IndexedDocument> documents,
+            List<TagIndex.TaggedPost> taggedPosts, List<RelatedPostsIndex.RelatedPost> relatedPosts) {
+        Map<Long, List<String>> tagsByPost = findTags(batch.stream().map(row -> (Long) row[0]).toList());
+
+        for (Object[] row : batch) {
+            List<String> tags = tagsByPost.get((Long) row[0]);
+            if (tags != null) {
+                taggedPosts.add(new TagIndex.TaggedPost((Long) row[0], (LocalDateTime) row[4], tags));
+            }
+            relatedPosts.add(new RelatedPostsIndex.RelatedPost((Long) row[0], (String) row[5],
+                    (LocalDateTime) row[4], tags));
+        }
+
+        batch.parallelStream().forEach(row -> documents.put((Long) row[0], SearchIndex.analyze(
+                (String) row[1], (String) row[2], ContentCompression.content((String) row[3], (byte[]) row[6]),
+                tagsByPost.get((Long) row[0]))));
+    }
+
+    /**
+     * Obtiene los tags de un conjunto de posts en una sola consulta.
+     * 
+     * @param postIds IDs de los posts
+     * @return Tags por ID de post (sin entrada para los posts sin tags)
+     */
+    private Map<Long, List<String>> findTags(List<Long> postIds) {
+        Map<Long, List<String>> tagsByPost = new HashMap<>();
+        if (postIds.isEmpty()) {
+            return tagsByPost;
+        }
+        for (Object[] row : blogPostRepository.findTagsByPostIds(postIds)) {
+            tagsByPost.computeIfAbsent((Long) row[0], key -> new ArrayList<>()).add((String) row[1]);
+        }
+        return tagsByPost;
+    }
+
+    /**
+     * Vuelve a leer un post y actualiza sus entradas en los índices.
+     * 
+     * @param postId ID del post
+     */
+    private void refresh(Long postId) {
+        Optional<BlogPost> post = blogPostRepository.findWithAuthorAndTagsById(postId);
+        if (post.isPresent() && Boolean.TRUE.equals(post.get().getPublished())) {
+            BlogPost current = post.get();
+            searchIndex.index(postId, SearchIndex.analyze(current.getTitle(), current.getExcerpt(),
+                    current.getContent(), current.getTags()));
+            tagIndex.index(postId, current.getCreatedAt(), current.getTags());
+            purgeRelated(relatedPostsIndex.index(postId, current.getCategory(), current.getCreatedAt(),
+                    current.getTags()));
+        } else {
+            searchIndex.remove(postId);
+            tagIndex.remove(postId);
+            purgeRelated(relatedPostsIndex.remove(postId));
+        }
+    }
+
+    /**
+     * Purga de la micro-caché HTTP las respuestas de posts relacionados de
+     * los posts cuya lista cambió.
+     * 
+     * @param postIds IDs de los posts afectados
+     */
+    private void purgeRelated(Set<Long> postIds) {
+        for (Long postId : postIds) {
+            httpResponseCache.purge(POSTS_PATH + postId + RELATED_SUFFIX);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.rafaelalvarado.portfolio.search;
+
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Analizador de texto en español para el índice de búsqueda.
+ * 
+ * Recorre el texto en una sola pasada, ignorando las etiquetas HTML y las
+ * entidades, y produce términos normalizados: minúsculas, sin acentos ni
+ * diéresis, sin palabras vacías y reducidos con un stemmer ligero del
+ * español (plurales y género).
+ * 
+ * @author Rafael Alvarado García
+ */
+public final class SpanishAnalyzer {
+
+    private static final int MAX_TERM_LENGTH = 40;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "al", "algo", "ante", "antes", "aqui", "asi", "cada", "como", "con", "contra", "cual",
+            "cuando", "de", "del", "desde", "donde", "dos", "el", "ella", "ellas", "ellos", "en", "entre",
+            "era", "es", "esa", "ese", "eso", "esta", "este", "esto", "estos", "fue", "ha", "hay", "la",
+            "las", "le", "les", "lo", "los", "mas", "me", "mi", "muy", "ni", "no", "nos", "o", "otra",
+            "otro", "para", "pero", "poco", "por", "porque", "que", "se", "sea", "ser", "si", "sin",
+            "sobre", "son", "su", "sus", "tambien", "te", "tiene", "todo", "tu", "un", "una", "uno",
+            "unos", "y", "ya", "yo");
+
+    private SpanishAnalyzer() {
+    }
+
+    /**
+     * Analiza un texto y entrega cada término normalizado al consumidor.
+     * 
+     * @param text     Texto a analizar (puede contener HTML)
+     * @param consumer Receptor de los términos
+     */
+    public static void analyze(String text, Consumer<String> consumer) {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+
+        StringBuilder token = new StringBuilder();
+        boolean inEntity = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (inEntity) {
+                inEntity = c != ';' && !Character.isWhitespace(c);
+                continue;
+            }
+            // Un '<' que no abre una etiqueta ("5 < 10") es texto
+            if (c == '<' && isTagStart(text, i + 1)) {
+                int end = text.indexOf('>', i);
+                if (end > 0) {
+                    emit(token, consumer);
+                    i = end;
+                    continue;
+                }
+            }
+            if (c == '&') {
+                inEntity = true;
+                emit(token, consumer);
+                continue;
+            }
+
+            char folded = fold(c);
+            if (Character.isLetterOrDigit(folded)) {
+                if (token.length() < MAX_TERM_LENGTH) {
+                    token.append(folded);
+                }
+            } else {
+                emit(token, consumer);
+            }
+        }
+        emit(token, consumer);
+    }
+
+    /**
+     * Indica si el carácter siguiente a un '<' corresponde a una etiqueta
+     * HTML (apertura, cierre, comentario o doctype).
+     */
+    private static boolean isTagStart(String text, int index) {
+        if (index >= text.length()) {
+            return false;
+        }
+        char next = text.charAt(index);
+        return Character.isLetter(next) || next == '/' || next == '!';
+    }
+
+    private static void emit(StringBuilder token, Consumer<String> consumer) {
+        if (token.isEmpty()) {
+            return;
+        }
+        String term = token.toString();
+        token.setLength(0);
+        if (!STOP_WORDS.contains(term)) {
+            consumer.accept(stem(term));
+        }
+    }
+
+    /**
+     * Convierte a minúsculas y elimina acentos y diéresis.
+     */
+    private static char fold(char c) {
+        char lower = Character.toLowerCase(c);
+        switch (lower) {
+            case 'á': case 'à': case 'ä': case 'â':
+                return 'a';
+            case 'é': case 'è': case 'ë': case 'ê':
+                return 'e';
+            case 'í': case 'ì': case 'ï': case 'î':
+                return 'i';
+            case 'ó': case 'ò': case 'ö': case 'ô':
+                return 'o';
+            case 'ú': case 'ù': case 'ü': case 'û':
+                return 'u';
+            case 'ñ':
+                return 'n';
+            case 'ç':
+                return 'c';
+            default:
+                return lower;
+        }
+    }
+
+    /**
+     * Stemmer ligero del español: elimina terminaciones de género y número.
+     */
+    private static String stem(String term) {
+        int len = term.length();
+        if (len < 4) {
+            return term;
+        }
+
+        char last = term.charAt(len - 1);
+        if (last == 'o' || last == 'a' || last == 'e') {
+            return term.substring(0, len - 1);
+        }
+        if (last == 's' && len >= 5) {
+            char before = term.charAt(len - 2);
+            if (before == 'e' && term.charAt(len - 3) == 's' && term.charAt(len - 4) == 'e') {
+                return term.substring(0, len - 2);
+            }
+            if (before == 'o' || before == 'a' || before == 'e') {
+                return term.substring(0, len - 2);
+            }
+        }
+        return term;
+    }
+}
@@ -0,0 +1,315 @@
+package com.rafaelalvarado.portfolio.search;
+
+import com.rafaelalvarado.portfolio.dto.PostCursor;
+import com.rafaelalvarado.portfolio.dto.TagCountDTO;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice en memoria de los tags de los posts publicados.
+ * 
+ * Cada post con tags ocupa una posición densa y cada tag mantiene un
+ * {@link BitSet} con las posiciones de sus posts, de modo que los filtros
+ * por varios tags se resuelven con operaciones AND/OR sobre bitmaps y los
+ * recuentos se mantienen al día sin agrupar la tabla {@code blog_post_tags}.
+ * Los tags se comparan sin distinguir mayúsculas.
+ * 
+ * @author Rafael Alvarado García
+ */
+@Component
+public class TagIndex {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private State state = new State();
+
+    /**
+     * Recuento de tags ya ordenado (null cuando hay que recalcularlo)
+     */
+    private volatile List<TagCountDTO> tagCounts;
+
+    /**
+     * Añade o reemplaza los tags de un post publicado.
+     * 
+     * @param postId    ID del post
+     * @param createdAt Fecha de creación del post
+     * @param tags      Tags del post
+     */
+    public void index(Long postId, LocalDateTime createdAt, Collection<String> tags) {
+        lock.writeLock().lock();
+        try {
+            state.remove(postId);
+            state.add(postId, createdAt, tags);
+            tagCounts = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Elimina un post del índice.
+     * 
+     * @param postId ID del post
+     */
+    public void remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            state.remove(postId);
+            tagCounts = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Sustituye el contenido completo del índice. El estado nuevo se
+     * construye fuera del cerrojo y se intercambia de forma atómica.
+     * 
+     * @param posts Posts publicados con sus tags
+     */
+    public void replaceAll(Collection<TaggedPost> posts) {
+        State newState = new State();
+        for (TaggedPost post : posts) {
+            newState.add(post.postId, post.createdAt, post.tags);
+        }
+
+        lock.writeLock().lock();
+        try {
+            state = newState;
+            tagCounts = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Busca los posts que tienen todos (o alguno de) los tags indicados,
+     * ordenados por (createdAt, id) descendente y posteriores al cursor.
+     * 
+     * @param tags     Tags a filtrar
+     * @param matchAll true para exigir todos los tags, false para cualquiera
+     * @param after    Cursor de la página anterior (null para la primera)
+     * @param limit    Número máximo de IDs a devolver
+     * @return IDs de los posts en orden
+     */
+    public List<Long> find(Collection<String> tags, boolean matchAll, PostCursor after, int limit) {
+        lock.readLock().lock();
+        try {
+            BitSet matches = null;
+            for (String tag : tags) {
+                TagEntry entry = state.tags.get(normalize(tag));
+                if (entry == null) {
+                    if (matchAll) {
+                        return Collections.emptyList();
+                    }
+                    continue;
+                }
+                if (matches == null) {
+                    matches = (BitSet) entry.posts.clone();
+                } else if (matchAll) {
+                    matches.and(entry.posts);
+                } else {
+                    matches.or(entry.posts);
+                }
+            }
+            if (matches == null) {
+                return Collections.emptyList();
+            }
+
+            Comparator<Integer> newestFirst = state.newestFirst();
+            PriorityQueue<Integer> heap = new PriorityQueue<>(limit + 1, newestFirst.reversed());
+            for (int slot = matches.nextSetBit(0); slot >= 0; slot = matches.nextSetBit(slot + 1)) {
+                if (after != null && !state.isAfter(slot, after)) {
+                    continue;
+                }
+                heap.offer(slot);
+                if (heap.size() > limit) {
+                    heap.poll();
+                }
+            }
+
+            List<Integer> slots = new ArrayList<>(heap);
+            slots.sort(newestFirst);
+            List<Long> postIds = new ArrayList<>(slots.size());
+            for (int slot : slots) {
+                postIds.add(state.postIds[slot]);
+            }
+            return postIds;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Obtiene el número de posts publicados de cada tag, ordenado de mayor a
+     * menor recuento (y por nombre a igual recuento).
+     * 
+     * @return Lista de tags con su recuento
+     */
+    public List<TagCountDTO> getTagCounts() {
+        List<TagCountDTO> counts = tagCounts;
+        if (counts != null) {
+            return counts;
+        }
+
+        lock.readLock().lock();
+        try {
+            counts = new ArrayList<>(state.tags.size());
+            for (TagEntry entry : state.tags.values()) {
+                counts.add(new TagCountDTO(entry.name, entry.posts.cardinality()));
+            }
+            counts.sort(Comparator.comparingInt(TagCountDTO::getCount).reversed()
+                    .thenComparing(TagCountDTO::getName, String.CASE_INSENSITIVE_ORDER));
+            counts = Collections.unmodifiableList(counts);
+            tagCounts = counts;
+            return counts;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Normaliza un tag para compararlo.
+     * 
+     * @param tag Tag tal como lo escribió el autor
+     * @return Tag en minúsculas y sin espacios en los extremos
+     */
+    static String normalize(String tag) {
+        return tag.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Estructuras del índice; se reemplazan completas en una reconstrucción.
+     */
+    private static final class State {
+
+        private final Map<Long, Integer> slotByPost = new HashMap<>();
+
+        private final Map<Long, Set<String>> tagsByPost = new HashMap<>();
+
+        private final Map<String, TagEntry> tags = new HashMap<>();
+
+        private final Deque<Integer> freeSlots = new ArrayDeque<>();
+
+        private long[] postIds = new long[64];
+
+        private LocalDateTime[] createdAt = new LocalDateTime[64];
+
+        private int nextSlot;
+
+        private void add(Long postId, LocalDateTime postCreatedAt, Collection<String> postTags) {
+            Set<String> keys = new LinkedHashSet<>();
+            if (postTags != null) {
+                for (String tag : postTags) {
+                    if (tag != null && !tag.isBlank()) {
+                        keys.add(normalize(tag));
+                    }
+                }
+            }
+            if (keys.isEmpty()) {
+                return;
+            }
+
+            int slot = allocate();
+            postIds[slot] = postId;
+            createdAt[slot] = postCreatedAt;
+            slotByPost.put(postId, slot);
+            tagsByPost.put(postId, keys);
+
+            for (String tag : postTags) {
+                if (tag != null && !tag.isBlank()) {
+                    tags.computeIfAbsent(normalize(tag), key -> new TagEntry(tag.trim())).posts.set(slot);
+                }
+            }
+        }
+
+        private void remove(Long postId) {
+            Integer slot = slotByPost.remove(postId);
+            if (slot == null) {
+                return;
+            }
+            for (String key : tagsByPost.remove(postId)) {
+                TagEntry entry = tags.get(key);
+                entry.posts.clear(slot);
+                if (entry.posts.isEmpty()) {
+                    tags.remove(key);
+                }
+            }
+            createdAt[slot] = null;
+            freeSlots.push(slot);
+        }
+
+        private int allocate() {
+            if (!freeSlots.isEmpty()) {
+                return freeSlots.pop();
+            }
+            if (nextSlot == postIds.length) {
+                postIds = Arrays.copyOf(postIds, postIds.length * 2);
+                createdAt = Arrays.copyOf(createdAt, createdAt.length * 2);
+            }
+            return nextSlot++;
+        }
+
+        private Comparator<Integer> newestFirst() {
+            return (a, b) -> {
+                int byDate = createdAt[b].compareTo(createdAt[a]);
+                return byDate != 0 ? byDate : Long.compare(postIds[b], postIds[a]);
+            };
+        }
+
+        private boolean isAfter(int slot, PostCursor cursor) {
+            int byDate = createdAt[slot].compareTo(cursor.getCreatedAt());
+            return byDate < 0 || (byDate == 0 && postIds[slot] < cursor.getId());
+        }
+    }
+
+    /**
+     * Tag con su nombre visible y el bitmap de posiciones de sus posts.
+     */
+    private static final class TagEntry {
+
+        private final String name;
+
+        private final BitSet posts = new BitSet();
+
+        private TagEntry(String name) {
+            this.name = name;
+        }
+    }
+
+    /**
+     * Post publicado con sus tags, usado en la reconstrucción del índice.
+     */
+    public static final class TaggedPost {
+
+        private final Long postId;
+
+        private final LocalDateTime createdAt;
+
+        private final Collection<String> tags;
+
+        public TaggedPost(Long postId, LocalDateTime createdAt, Collection<String> tags) {
+            this.postId = postId;
+            this.createdAt = createdAt;
+            this.tags = tags;
+        }
+    }
+}
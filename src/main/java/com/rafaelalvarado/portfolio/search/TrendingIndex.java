@@ -0,0 +1,325 @@
+package com.rafaelalvarado.portfolio.search;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Índice en memoria de los posts más vistos recientemente.
+ * 
+ * Las visitas se acumulan sin bloqueos y cada segundo se incorporan a un
+ * anillo de cubos de {@link #BUCKET} que cubre la ventana más larga. Para
+ * cada ventana se mantiene la puntuación de cada post (visitas de cada cubo
+ * atenuadas exponencialmente según su antigüedad) y el top-k ya ordenado:
+ * dentro de un mismo cubo las puntuaciones solo crecen, por lo que el top-k
+ * se actualiza de forma incremental, y al pasar al cubo siguiente se
+ * recalcula desde el anillo. Una consulta solo copia el top-k publicado.
+ * 
+ * La memoria está acotada por el número de cubos y de posts distintos
+ * vistos en cada uno, no por el volumen de visitas.
+ * 
+ * @author Rafael Alvarado García
+ */
+@Component
+public class TrendingIndex {
+
+    /**
+     * Número máximo de posts en el top de cada ventana
+     */
+    public static final int MAX_TRENDING = 20;
+
+    /**
+     * Duración de cada cubo del anillo
+     */
+    static final Duration BUCKET = Duration.ofMinutes(5);
+
+    /**
+     * Ventanas de tiempo disponibles. La vida media de las visitas es una
+     * cuarta parte de la ventana.
+     */
+    public enum Window {
+        HOUR("1h", Duration.ofHours(1)),
+        DAY("24h", Duration.ofHours(24)),
+        WEEK("7d", Duration.ofDays(7));
+
+        private final String label;
+
+        private final int buckets;
+
+        private final double decay;
+
+        Window(String label, Duration duration) {
+            this.label = label;
+            this.buckets = (int) (duration.toMillis() / BUCKET.toMillis());
+            this.decay = Math.pow(0.5, 4.0 / buckets);
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        /**
+         * Obtiene la ventana correspondiente a su etiqueta.
+         * 
+         * @param label Etiqueta ("1h", "24h" o "7d")
+         * @return Window, o null si la etiqueta no es válida
+         */
+        public static Window fromLabel(String label) {
+            for (Window window : values()) {
+                if (window.label.equalsIgnoreCase(label)) {
+                    return window;
+                }
+            }
+            return null;
+        }
+    }
+
+    private static final int RING_SIZE = Window.WEEK.buckets;
+
+    private final Clock clock;
+
+    private final ConcurrentHashMap<Long, LongAdder> pendingViews = new ConcurrentHashMap<>();
+
+    private final Object lock = new Object();
+
+    /**
+     * Visitas por post de cada cubo (protegido por {@link #lock})
+     */
+    private final List<Map<Long, Long>> ring = new ArrayList<>(RING_SIZE);
+
+    /**
+     * Número de cubo almacenado en cada posición del anillo
+     */
+    private final long[] ringBuckets = new long[RING_SIZE];
+
+    private final Map<Window, WindowState> windows = new EnumMap<>(Window.class);
+
+    private long currentBucket;
+
+    public TrendingIndex() {
+        this(Clock.systemUTC());
+    }
+
+    TrendingIndex(Clock clock) {
+        this.clock = clock;
+        for (int i = 0; i < RING_SIZE; i++) {
+            ring.add(new HashMap<>());
+            ringBuckets[i] = -1;
+        }
+        for (Window window : Window.values()) {
+            windows.put(window, new WindowState(window));
+        }
+        this.currentBucket = bucketOf(clock.millis());
+        ringBuckets[slot(currentBucket)] = currentBucket;
+    }
+
+    /**
+     * Registra una visita a un post.
+     * 
+     * @param postId ID del post
+     */
+    public void recordView(Long postId) {
+        LongAdder views = pendingViews.get(postId);
+        if (views == null) {
+            views = pendingViews.computeIfAbsent(postId, key -> new LongAdder());
+        }
+        views.increment();
+    }
+
+    /**
+     * Si ha empezado un cubo nuevo, desplaza el anillo y recalcula las
+     * puntuaciones; después incorpora las visitas pendientes al cubo actual.
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void advance() {
+        Map<Long, Long> views = new HashMap<>();
+        pendingViews.forEach((postId, adder) -> {
+            long count = adder.sumThenReset();
+            if (count > 0) {
+                views.put(postId, count);
+            }
+        });
+
+        synchronized (lock) {
+            long now = bucketOf(clock.millis());
+            if (now > currentBucket) {
+                rotate(now);
+            }
+
+            Map<Long, Long> bucket = ring.get(slot(currentBucket));
+            for (Map.Entry<Long, Long> entry : views.entrySet()) {
+                bucket.merge(entry.getKey(), entry.getValue(), Long::sum);
+                for (WindowState state : windows.values()) {
+                    state.add(entry.getKey(), entry.getValue());
+                }
+            }
+            for (WindowState state : windows.values()) {
+                state.publish();
+            }
+        }
+    }
+
+    /**
+     * Obtiene los posts con mayor puntuación en una ventana.
+     * 
+     * @param window Ventana de tiempo
+     * @param limit  Número máximo de posts (como mucho {@link #MAX_TRENDING})
+     * @return IDs de los posts ordenados por puntuación descendente
+     */
+    public List<Long> getTrending(Window window, int limit) {
+        List<Long> top = windows.get(window).published;
+        return top.size() <= limit ? top : top.subList(0, limit);
+    }
+
+    /**
+     * Pasa al cubo indicado, vaciando las posiciones que quedan fuera del
+     * anillo, y recalcula las puntuaciones de cada ventana.
+     * 
+     * @param bucket Número del nuevo cubo actual
+     */
+    private void rotate(long bucket) {
+        for (long b = Math.max(currentBucket + 1, bucket - RING_SIZE + 1); b <= bucket; b++) {
+            ring.get(slot(b)).clear();
+            ringBuckets[slot(b)] = b;
+        }
+        currentBucket = bucket;
+        for (WindowState state : windows.values()) {
+            state.recompute();
+        }
+    }
+
+    private long bucketOf(long millis) {
+        return millis / BUCKET.toMillis();
+    }
+
+    private int slot(long bucket) {
+        return (int) (bucket % RING_SIZE);
+    }
+
+    /**
+     * Puntuaciones y top-k de una ventana.
+     */
+    private final class WindowState {
+
+        private final Window window;
+
+        private final Map<Long, Double> scores = new HashMap<>();
+
+        private final long[] topIds = new long[MAX_TRENDING];
+
+        private final double[] topScores = new double[MAX_TRENDING];
+
+        private int topSize;
+
+        private volatile List<Long> published = List.of();
+
+        private WindowState(Window window) {
+            this.window = window;
+        }
+
+        /**
+         * Suma visitas del cubo actual (peso 1) y actualiza el top-k.
+         */
+        private void add(Long postId, long views) {
+            double score = scores.merge(postId, (double) views, Double::sum);
+            int position = indexOf(postId);
+            if (position < 0) {
+                if (topSize < MAX_TRENDING) {
+                    position = topSize++;
+                } else if (ranksBefore(score, postId, topScores[topSize - 1], topIds[topSize - 1])) {
+                    position = topSize - 1;
+                } else {
+                    return;
+                }
+            }
+            topIds[position] = postId;
+            topScores[position] = score;
+            while (position > 0
+                    && ranksBefore(topScores[position], topIds[position], topScores[position - 1],
+                            topIds[position - 1])) {
+                swap(position, position - 1);
+                position--;
+            }
+        }
+
+        /**
+         * Recalcula las puntuaciones desde el anillo y el top-k con un heap.
+         */
+        private void recompute() {
+            scores.clear();
+            double weight = 1;
+            for (int age = 0; age < window.buckets; age++) {
+                long bucket = currentBucket - age;
+                if (bucket < 0) {
+                    break;
+                }
+                if (ringBuckets[slot(bucket)] == bucket) {
+                    for (Map.Entry<Long, Long> entry : ring.get(slot(bucket)).entrySet()) {
+                        scores.merge(entry.getKey(), entry.getValue() * weight, Double::sum);
+                    }
+                }
+                weight *= window.decay;
+            }
+
+            PriorityQueue<Map.Entry<Long, Double>> heap = new PriorityQueue<>(MAX_TRENDING + 1,
+                    (a, b) -> ranksBefore(a.getValue(), a.getKey(), b.getValue(), b.getKey()) ? 1 : -1);
+            for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+                heap.offer(entry);
+                if (heap.size() > MAX_TRENDING) {
+                    heap.poll();
+                }
+            }
+            topSize = heap.size();
+            for (int i = topSize - 1; i >= 0; i--) {
+                Map.Entry<Long, Double> entry = heap.poll();
+                topIds[i] = entry.getKey();
+                topScores[i] = entry.getValue();
+            }
+        }
+
+        private void publish() {
+            List<Long> top = new ArrayList<>(topSize);
+            for (int i = 0; i < topSize; i++) {
+                top.add(topIds[i]);
+            }
+            published = Collections.unmodifiableList(top);
+        }
+
+        private int indexOf(long postId) {
+            for (int i = 0; i < topSize; i++) {
+                if (topIds[i] == postId) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private void swap(int i, int j) {
+            long id = topIds[i];
+            topIds[i] = topIds[j];
+            topIds[j] = id;
+            double score = topScores[i];
+            topScores[i] = topScores[j];
+            topScores[j] = score;
+        }
+    }
+
+    /**
+     * Indica si un post va antes que otro: mayor puntuación y, a igualdad, el
+     * más reciente (ID mayor).
+     */
+    private static boolean ranksBefore(double score, long postId, double otherScore, long otherPostId) {
+        return score > otherScore || (score == otherScore && postId > otherPostId);
+    }
+}
@@ -0,0 +1,190 @@
+package com.rafaelalvarado.portfolio.service;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rafaelalvarado.portfolio.dto.BlogPostDTO;
+import com.rafaelalvarado.portfolio.entity.BlogPost;
+import com.rafaelalvarado.portfolio.exception.BadRequestException;
+import com.rafaelalvarado.portfolio.repository.BlogPostRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Servicio de exportación completa del blog.
+ * 
+ * Escribe todos los posts (incluidos los borradores) con sus tags y su autor
+ * directamente sobre un flujo de salida: los posts se leen con un cursor de
+ * la base de datos y se serializan con un {@link JsonGenerator}, vaciando el
+ * contexto de persistencia cada {@value #CLEAR_INTERVAL} posts. La memoria
+ * usada no depende del número de posts.
+ * 
+ * @author Rafael Alvarado García
+ */
+@Service
+public class BlogExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BlogExportService.class);
+
+    /**
+     * Número de posts entre vaciados del contexto de persistencia (coincide
+     * con el tamaño de lote de los tags)
+     */
+    private static final int CLEAR_INTERVAL = 100;
+
+    /**
+     * Formatos de exportación disponibles
+     */
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        JSON("application/json", "json");
+
+        private final String contentType;
+
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+    }
+
+    @Autowired
+    private BlogPostRepository blogPostRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private ObjectMapper exportMapper;
+
+    /**
+     * Configura la serialización de la exportación (sin campos nulos).
+     */
+    @PostConstruct
+    public void init() {
+        exportMapper = objectMapper.copy().setSerializationInclusion(JsonInclude.Include.NON_NULL);
+    }
+
+    /**
+     * Obtiene el formato de exportación a partir de su nombre.
+     * 
+     * @param name Nombre del formato ("ndjson" o "json")
+     * @return Format
+     * @throws BadRequestException Si el formato no es válido
+     */
+    public Format getFormat(String name) {
+        for (Format format : Format.values()) {
+            if (format.extension.equalsIgnoreCase(name)) {
+                return format;
+            }
+        }
+        throw new BadRequestException("El formato de exportación debe ser ndjson o json");
+    }
+
+    /**
+     * Escribe todos los posts en el formato indicado. En NDJSON cada post
+     * ocupa una línea; en JSON se escribe un array.
+     * 
+     * El flujo no se cierra, para que el llamador pueda terminar una
+     * compresión aplicada sobre él.
+     * 
+     * @param out    Flujo de salida
+     * @param format Formato de exportación
+     * @return Número de posts exportados
+     * @throws IOException Si falla la escritura
+     */
+    @Transactional(readOnly = true)
+    public long exportPosts(OutputStream out, Format format) throws IOException {
+        long count = 0;
+        try (JsonGenerator generator = exportMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+                Stream<BlogPost> posts = blogPostRepository.streamAllWithAuthor()) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            if (format == Format.JSON) {
+                generator.writeStartArray();
+            } else {
+                generator.setRootValueSeparator(new SerializedString("\n"));
+            }
+
+            List<BlogPost> chunk = new ArrayList<>(CLEAR_INTERVAL);
+            for (Iterator<BlogPost> it = posts.iterator(); it.hasNext();) {
+                chunk.add(it.next());
+                if (chunk.size() == CLEAR_INTERVAL) {
+                    count += writeChunk(generator, chunk);
+                }
+            }
+            count += writeChunk(generator, chunk);
+
+            if (format == Format.JSON) {
+                generator.writeEndArray();
+            } else if (count > 0) {
+                generator.writeRaw('\n');
+            }
+        }
+        logger.info("Exportación completada: {} posts", count);
+        return count;
+    }
+
+    /**
+     * Serializa un bloque de posts y los desvincula del contexto de
+     * persistencia. El primer acceso a los tags los carga para todo el
+     * bloque en una sola consulta.
+     */
+    private int writeChunk(JsonGenerator generator, List<BlogPost> chunk) throws IOException {
+        int written = chunk.size();
+        for (BlogPost post : chunk) {
+            generator.writeObject(toExportDTO(post));
+        }
+        generator.flush();
+        chunk.clear();
+        entityManager.clear();
+        return written;
+    }
+
+    private BlogPostDTO toExportDTO(BlogPost post) {
+        return BlogPostDTO.builder()
+                .id(post.getId())
+                .title(post.getTitle())
+                .excerpt(post.getExcerpt())
+                .content(post.getContent())
+                .category(post.getCategory())
+                .tags(new ArrayList<>(post.getTags()))
+                .readTime(post.getReadTime())
+                .wordCount(post.getWordCount())
+                .readingMinutes(post.getReadingMinutes())
+                .viewCount(post.getViewCount())
+                .published(post.getPublished())
+                .publishAt(post.getPublishAt())
+                .unpublishAt(post.getUnpublishAt())
+                .authorName(post.getAuthor().getUsername())
+                .authorId(post.getAuthor().getId())
+                .createdAt(post.getCreatedAt())
+                .updatedAt(post.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,311 @@
+package com.rafaelalvarado.portfolio.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rafaelalvarado.portfolio.dto.BlogPostDTO;
+import com.rafaelalvarado.portfolio.dto.BulkImportResultDTO;
+import com.rafaelalvarado.portfolio.dto.CreatePostRequest;
+import com.rafaelalvarado.portfolio.entity.BlogPost;
+import com.rafaelalvarado.portfolio.entity.User;
+import com.rafaelalvarado.portfolio.event.BlogPostChangedEvent;
+import com.rafaelalvarado.portfolio.event.BlogPostsChangedEvent;
+import com.rafaelalvarado.portfolio.repository.BlogPostRepository;
+import com.rafaelalvarado.portfolio.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Servicio de importación masiva de posts.
+ * 
+ * Lee NDJSON (un post por línea, con el mismo formato que la exportación)
+ * de forma incremental y guarda los posts en bloques de
+ * {@value #CHUNK_SIZE}, cada uno en su propia transacción. Dentro de un
+ * bloque los posts y sus tags se insertan en lotes JDBC
+ * ({@code hibernate.jdbc.batch_size}), los autores se resuelven una sola vez
+ * por importación, el contenido se renderiza con una sola búsqueda de
+ * artefactos por bloque, las revisiones iniciales se insertan también en
+ * lotes, los recuentos de categorías se ajustan una vez por categoría y se
+ * publica un único {@link BlogPostsChangedEvent}.
+ * 
+ * Una línea inválida se informa y se omite sin afectar al resto. Si falla
+ * la escritura de un bloque, sus posts se reintentan uno a uno para
+ * identificar las líneas con error.
+ * 
+ * @author Rafael Alvarado García
+ */
+@Service
+public class BlogImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BlogImportService.class);
+
+    /**
+     * Número de posts por transacción
+     */
+    private static final int CHUNK_SIZE = 500;
+
+    /**
+     * Número máximo de errores incluidos en el resultado
+     */
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BlogPostRepository blogPostRepository;
+
+    @Autowired
+    private ContentRenderingService contentRenderingService;
+
+    @Autowired
+    private PostRevisionService postRevisionService;
+
+    @Autowired
+    private PublicationScheduler publicationScheduler;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Importa los posts de un flujo NDJSON.
+     * 
+     * Cada línea se interpreta como un post con los campos de
+     * {@link BlogPostDTO}; se usan el título, el extracto, el contenido, la
+     * categoría, los tags, el estado de publicación, las fechas de
+     * publicación y retirada programadas y el autor
+     * ({@code authorName}, o el usuario que importa si no se indica). Los
+     * IDs y las fechas se asignan de nuevo.
+     * 
+     * @param in       Flujo NDJSON en UTF-8
+     * @param username Usuario que realiza la importación
+     * @return Resultado de la importación
+     * @throws IOException Si falla la lectura del flujo
+     */
+    public BulkImportResultDTO importPosts(InputStream in, String username) throws IOException {
+        logger.info("Importando posts de {}", username);
+        long start = System.currentTimeMillis();
+        ImportState state = new ImportState();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        List<ImportRow> chunk = new ArrayList<>(CHUNK_SIZE);
+        long lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (!StringUtils.hasText(line)) {
+                continue;
+            }
+            ImportRow row = parse(lineNumber, line, username, state);
+            if (row != null) {
+                chunk.add(row);
+                if (chunk.size() == CHUNK_SIZE) {
+                    saveChunk(chunk, transaction, state);
+                }
+            }
+        }
+        saveChunk(chunk, transaction, state);
+
+        logger.info("Importación completada: {} posts importados, {} líneas con errores en {} ms",
+                state.imported, state.failed, System.currentTimeMillis() - start);
+        return BulkImportResultDTO.builder()
+                .imported(state.imported)
+                .failed(state.failed)
+                .errors(state.errors)
+                .build();
+    }
+
+    /**
+     * Interpreta y valida una línea.
+     * 
+     * @return Fila a importar, o null si la línea no es válida
+     */
+    private ImportRow parse(long lineNumber, String line, String username, ImportState state) {
+        BlogPostDTO source;
+        try {
+            source = objectMapper.readValue(line, BlogPostDTO.class);
+        } catch (JsonProcessingException ex) {
+            state.fail(lineNumber, "JSON no válido: " + ex.getOriginalMessage());
+            return null;
+        }
+
+        CreatePostRequest request = CreatePostRequest.builder()
+                .title(source.getTitle())
+                .excerpt(source.getExcerpt())
+                .content(source.getContent())
+                .category(source.getCategory())
+                .tags(source.getTags() != null ? new ArrayList<>(source.getTags()) : new ArrayList<>())
+                .published(Boolean.TRUE.equals(source.getPublished()))
+                .publishAt(source.getPublishAt())
+                .unpublishAt(source.getUnpublishAt())
+                .build();
+        Set<ConstraintViolation<CreatePostRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            state.fail(lineNumber, violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+            return null;
+        }
+
+        if (request.getPublishAt() != null && request.getUnpublishAt() != null
+                && !request.getUnpublishAt().isAfter(request.getPublishAt())) {
+            state.fail(lineNumber, "La fecha de retirada debe ser posterior a la de publicación");
+            return null;
+        }
+
+        String authorName = StringUtils.hasText(source.getAuthorName()) ? source.getAuthorName() : username;
+        Optional<Long> authorId = state.authorIds.computeIfAbsent(authorName,
+                name -> userRepository.findByUsername(name).map(User::getId));
+        if (authorId.isEmpty()) {
+            state.fail(lineNumber, "Usuario no encontrado: " + authorName);
+            return null;
+        }
+        return new ImportRow(lineNumber, request, authorId.get());
+    }
+
+    /**
+     * Guarda un bloque en una transacción; si falla, reintenta cada post en
+     * su propia transacción.
+     */
+    private void saveChunk(List<ImportRow> chunk, TransactionTemplate transaction, ImportState state) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            transaction.executeWithoutResult(status -> insert(chunk));
+            state.imported += chunk.size();
+        } catch (RuntimeException ex) {
+            if (chunk.size() == 1) {
+                state.fail(chunk.get(0).line, ex.getMessage());
+            } else {
+                logger.warn("Error al importar un bloque de {} posts; se reintentan uno a uno", chunk.size(), ex);
+                for (ImportRow row : chunk) {
+                    saveChunk(new ArrayList<>(List.of(row)), transaction, state);
+                }
+            }
+        }
+        chunk.clear();
+    }
+
+    private void insert(List<ImportRow> rows) {
+        List<BlogPost> posts = new ArrayList<>(rows.size());
+        for (ImportRow row : rows) {
+            CreatePostRequest request = row.request;
+            BlogPost post = BlogPost.builder()
+                    .title(request.getTitle())
+                    .excerpt(request.getExcerpt())
+                    .content(request.getContent())
+                    .category(request.getCategory())
+                    .tags(new LinkedHashSet<>(request.getTags()))
+                    .published(request.getPublished())
+                    .publishAt(request.getPublishAt())
+                    .unpublishAt(request.getUnpublishAt())
+                    .author(entityManager.getReference(User.class, row.authorId))
+                    .build();
+            publicationScheduler.applyDue(post);
+            posts.add(post);
+        }
+        contentRenderingService.applyContents(posts);
+        blogPostRepository.saveAll(posts);
+        for (BlogPost post : posts) {
+            postRevisionService.recordCreation(post);
+            publicationScheduler.schedule(post);
+        }
+        entityManager.flush();
+
+        Map<String, Long> deltas = new LinkedHashMap<>();
+        for (BlogPost post : posts) {
+            if (post.getPublished()) {
+                deltas.merge(post.getCategory(), 1L, Long::sum);
+            }
+        }
+        categoryService.applyDeltas(deltas);
+
+        List<BlogPostChangedEvent> changes = new ArrayList<>(posts.size());
+        for (BlogPost post : posts) {
+            changes.add(BlogPostChangedEvent.created(post.getId(), post.getCategory(), post.getPublished()));
+        }
+        eventPublisher.publishEvent(new BlogPostsChangedEvent(changes));
+        entityManager.clear();
+    }
+
+    /**
+     * Línea válida pendiente de guardar.
+     */
+    private static final class ImportRow {
+
+        private final long line;
+
+        private final CreatePostRequest request;
+
+        private final Long authorId;
+
+        private ImportRow(long line, CreatePostRequest request, Long authorId) {
+            this.line = line;
+            this.request = request;
+            this.authorId = authorId;
+        }
+    }
+
+    /**
+     * Progreso de una importación.
+     */
+    private static final class ImportState {
+
+        private final Map<String, Optional<Long>> authorIds = new HashMap<>();
+
+        private final List<BulkImportResultDTO.RowError> errors = new ArrayList<>();
+
+        private long imported;
+
+        private long failed;
+
+        private void fail(long line, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new BulkImportResultDTO.RowError(line, message));
+            }
+        }
+    }
+}
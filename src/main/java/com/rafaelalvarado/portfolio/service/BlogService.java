@@ -1,20 +1,50 @@
 package com.rafaelalvarado.portfolio.service;
 
+import com.rafaelalvarado.portfolio.config.CacheConfig;
 import com.rafaelalvarado.portfolio.dto.BlogPostDTO;
+import com.rafaelalvarado.portfolio.dto.BlogPostSummaryDTO;
+import com.rafaelalvarado.portfolio.dto.ContentVersion;
 import com.rafaelalvarado.portfolio.dto.CreatePostRequest;
+import com.rafaelalvarado.portfolio.dto.CursorPageDTO;
+import com.rafaelalvarado.portfolio.dto.PatchPostRequest;
+import com.rafaelalvarado.portfolio.dto.PostContentDTO;
+import com.rafaelalvarado.portfolio.dto.PostCursor;
+import com.rafaelalvarado.portfolio.dto.ReadingTimeCursor;
+import com.rafaelalvarado.portfolio.dto.SearchResultDTO;
+import com.rafaelalvarado.portfolio.dto.TagCountDTO;
 import com.rafaelalvarado.portfolio.dto.UpdatePostRequest;
 import com.rafaelalvarado.portfolio.entity.BlogPost;
+import com.rafaelalvarado.portfolio.entity.RenderedContent;
 import com.rafaelalvarado.portfolio.entity.User;
+import com.rafaelalvarado.portfolio.event.BlogPostChangedEvent;
+import com.rafaelalvarado.portfolio.exception.BadRequestException;
 import com.rafaelalvarado.portfolio.exception.ResourceNotFoundException;
 import com.rafaelalvarado.portfolio.repository.BlogPostRepository;
+import com.rafaelalvarado.portfolio.repository.ListingVersionView;
 import com.rafaelalvarado.portfolio.repository.UserRepository;
+import com.rafaelalvarado.portfolio.search.RelatedPostsIndex;
+import com.rafaelalvarado.portfolio.search.SearchIndex;
+import com.rafaelalvarado.portfolio.search.TagIndex;
+import com.rafaelalvarado.portfolio.search.TrendingIndex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -31,24 +61,67 @@ public class BlogService {
 
     private static final Logger logger = LoggerFactory.getLogger(BlogService.class);
 
+    /**
+     * Tamaño máximo de página permitido en los listados paginados
+     */
+    private static final int MAX_PAGE_SIZE = 50;
+
+    /**
+     * Longitud máxima permitida para el texto de búsqueda
+     */
+    private static final int MAX_QUERY_LENGTH = 200;
+
+    /**
+     * Número máximo de tags combinables en un filtro
+     */
+    private static final int MAX_FILTER_TAGS = 10;
+
     @Autowired
     private BlogPostRepository blogPostRepository;
 
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private SearchIndex searchIndex;
+
+    @Autowired
+    private TagIndex tagIndex;
+
+    @Autowired
+    private RelatedPostsIndex relatedPostsIndex;
+
+    @Autowired
+    private TrendingIndex trendingIndex;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private ContentRenderingService contentRenderingService;
+
+    @Autowired
+    private PostRevisionService postRevisionService;
+
+    @Autowired
+    private PublicationScheduler publicationScheduler;
+
     /**
-     * Obtiene todos los posts publicados ordenados por fecha.
+     * Obtiene el resumen de todos los posts publicados ordenados por fecha.
+     * 
+     * El resultado se mantiene en caché hasta que un cambio afecte a los
+     * listados publicados.
      * 
-     * @return Lista de posts publicados
+     * @return Lista de resúmenes de posts publicados
      */
+    @Cacheable(cacheNames = CacheConfig.LISTINGS_CACHE, key = "'" + CacheConfig.ALL_POSTS_KEY + "'", sync = true)
     @Transactional(readOnly = true)
-    public List<BlogPostDTO> getAllPublishedPosts() {
+    public List<BlogPostSummaryDTO> getAllPublishedPosts() {
         logger.info("Obteniendo todos los posts publicados");
-        return blogPostRepository.findByPublishedTrueOrderByCreatedAtDesc()
-                .stream()
-                .map(this::mapToDTO)
-                .collect(Collectors.toList());
+        return withTags(blogPostRepository.findPublishedSummaries());
     }
 
     /**
@@ -58,27 +131,320 @@ public class BlogService {
      * @return BlogPostDTO
      * @throws ResourceNotFoundException Si el post no existe
      */
+    @Cacheable(cacheNames = CacheConfig.POSTS_CACHE, key = "#id", sync = true)
     @Transactional(readOnly = true)
     public BlogPostDTO getPostById(Long id) {
         logger.info("Obteniendo post con ID: {}", id);
-        BlogPost post = blogPostRepository.findById(id)
+        BlogPost post = blogPostRepository.findDetailById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Post no encontrado con ID: " + id));
         return mapToDTO(post);
     }
 
     /**
-     * Obtiene posts publicados filtrados por categoría.
+     * Obtiene el contenido original de un post tal como está guardado, sin
+     * cargar la entidad ni descomprimirlo.
+     * 
+     * @param id ID del post
+     * @return PostContentDTO
+     * @throws ResourceNotFoundException Si el post no existe
+     */
+    @Transactional(readOnly = true)
+    public PostContentDTO getPostContent(Long id) {
+        logger.info("Obteniendo contenido del post con ID: {}", id);
+        return blogPostRepository.findStoredContentById(id)
+                .map(stored -> stored.getContentGzip() != null
+                        ? new PostContentDTO(null, stored.getContentGzip())
+                        : new PostContentDTO(stored.getContent(), null))
+                .orElseThrow(() -> new ResourceNotFoundException("Post no encontrado con ID: " + id));
+    }
+
+    /**
+     * Obtiene el resumen de los posts publicados filtrados por categoría.
      * 
      * @param category Categoría a filtrar
-     * @return Lista de posts de la categoría
+     * @return Lista de resúmenes de posts de la categoría
      */
+    @Cacheable(cacheNames = CacheConfig.LISTINGS_CACHE,
+            key = "'" + CacheConfig.CATEGORY_KEY_PREFIX + "' + #category", sync = true)
     @Transactional(readOnly = true)
-    public List<BlogPostDTO> getPostsByCategory(String category) {
+    public List<BlogPostSummaryDTO> getPostsByCategory(String category) {
         logger.info("Obteniendo posts de la categoría: {}", category);
-        return blogPostRepository.findByPublishedTrueAndCategoryOrderByCreatedAtDesc(category)
-                .stream()
-                .map(this::mapToDTO)
-                .collect(Collectors.toList());
+        return withTags(blogPostRepository.findPublishedSummariesByCategory(category));
+    }
+
+    /**
+     * Obtiene una página de posts publicados usando paginación por cursor.
+     * 
+     * @param cursor Cursor devuelto por la página anterior (null para la primera)
+     * @param limit  Tamaño de página solicitado
+     * @return Página de resúmenes de posts publicados
+     * @throws BadRequestException Si el cursor o el límite no son válidos
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<BlogPostSummaryDTO> getPublishedPostsPage(String cursor, int limit) {
+        logger.info("Obteniendo página de posts publicados (limit: {})", limit);
+        int pageSize = validatePageSize(limit);
+        Limit fetchLimit = Limit.of(pageSize + 1);
+
+        List<BlogPostSummaryDTO> posts;
+        if (cursor == null || cursor.isBlank()) {
+            posts = blogPostRepository.findPublishedSummaries(fetchLimit);
+        } else {
+            PostCursor position = PostCursor.decode(cursor);
+            posts = blogPostRepository.findPublishedSummariesAfterCursor(
+                    position.getCreatedAt(), position.getId(), fetchLimit);
+        }
+        return toPage(posts, pageSize);
+    }
+
+    /**
+     * Obtiene una página de posts publicados de una categoría usando
+     * paginación por cursor.
+     * 
+     * @param category Categoría a filtrar
+     * @param cursor   Cursor devuelto por la página anterior (null para la primera)
+     * @param limit    Tamaño de página solicitado
+     * @return Página de resúmenes de posts publicados de la categoría
+     * @throws BadRequestException Si el cursor o el límite no son válidos
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<BlogPostSummaryDTO> getPostsByCategoryPage(String category, String cursor, int limit) {
+        logger.info("Obteniendo página de posts de la categoría: {} (limit: {})", category, limit);
+        int pageSize = validatePageSize(limit);
+        Limit fetchLimit = Limit.of(pageSize + 1);
+
+        List<BlogPostSummaryDTO> posts;
+        if (cursor == null || cursor.isBlank()) {
+            posts = blogPostRepository.findPublishedSummariesByCategory(category, fetchLimit);
+        } else {
+            PostCursor position = PostCursor.decode(cursor);
+            posts = blogPostRepository.findPublishedSummariesByCategoryAfterCursor(
+                    category, position.getCreatedAt(), position.getId(), fetchLimit);
+        }
+        return toPage(posts, pageSize);
+    }
+
+    /**
+     * Obtiene una página de posts publicados ordenados por tiempo de lectura
+     * y, opcionalmente, filtrados por un rango de minutos.
+     * 
+     * @param sort       "readingTime" (ascendente) o "-readingTime" (descendente)
+     * @param minMinutes Minutos de lectura mínimos (opcional)
+     * @param maxMinutes Minutos de lectura máximos (opcional)
+     * @param cursor     Cursor devuelto por la página anterior (null para la primera)
+     * @param limit      Tamaño de página solicitado
+     * @return Página de resúmenes de posts publicados
+     * @throws BadRequestException Si el orden, el rango, el cursor o el límite no son válidos
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<BlogPostSummaryDTO> getPublishedPostsByReadingTime(String sort, Integer minMinutes,
+            Integer maxMinutes, String cursor, int limit) {
+        logger.info("Obteniendo página de posts por tiempo de lectura ({}-{} min, sort: {}, limit: {})",
+                minMinutes, maxMinutes, sort, limit);
+        boolean descending = parseReadingTimeSort(sort);
+        int min = minMinutes != null ? minMinutes : 0;
+        int max = maxMinutes != null ? maxMinutes : Integer.MAX_VALUE;
+        if (min < 0 || min > max) {
+            throw new BadRequestException("El rango de minutos de lectura no es válido");
+        }
+        int pageSize = validatePageSize(limit);
+        Limit fetchLimit = Limit.of(pageSize + 1);
+
+        List<BlogPostSummaryDTO> posts;
+        if (cursor == null || cursor.isBlank()) {
+            posts = descending
+                    ? blogPostRepository.findPublishedSummariesByReadingTimeDesc(min, max, fetchLimit)
+                    : blogPostRepository.findPublishedSummariesByReadingTime(min, max, fetchLimit);
+        } else {
+            ReadingTimeCursor position = ReadingTimeCursor.decode(cursor);
+            posts = descending
+                    ? blogPostRepository.findPublishedSummariesByReadingTimeDescAfterCursor(min, max,
+                            position.getReadingMinutes(), position.getId(), fetchLimit)
+                    : blogPostRepository.findPublishedSummariesByReadingTimeAfterCursor(min, max,
+                            position.getReadingMinutes(), position.getId(), fetchLimit);
+        }
+        return toPage(posts, pageSize,
+                last -> new ReadingTimeCursor(last.getReadingMinutes(), last.getId()).encode());
+    }
+
+    /**
+     * Busca posts publicados por texto libre.
+     * 
+     * La búsqueda se resuelve en el índice invertido en memoria (título,
+     * extracto, contenido y tags, con ranking BM25); la base de datos solo se
+     * consulta para obtener los resúmenes de la página solicitada.
+     * 
+     * @param query Texto a buscar
+     * @param page  Número de página (empezando en 0)
+     * @param size  Tamaño de página solicitado
+     * @return Página de resultados ordenados por relevancia
+     * @throws BadRequestException Si la consulta o la paginación no son válidas
+     */
+    @Transactional(readOnly = true)
+    public SearchResultDTO searchPosts(String query, int page, int size) {
+        logger.info("Buscando posts: '{}' (page: {}, size: {})", query, page, size);
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("El parámetro q es obligatorio");
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new BadRequestException("El parámetro q no puede superar " + MAX_QUERY_LENGTH + " caracteres");
+        }
+        if (page < 0) {
+            throw new BadRequestException("El parámetro page no puede ser negativo");
+        }
+        int pageSize = validatePageSize(size);
+
+        SearchIndex.SearchHits hits = searchIndex.search(query, page * pageSize, pageSize);
+        return SearchResultDTO.builder()
+                .query(query)
+                .items(withTags(getPublishedSummariesByIds(hits.getPostIds())))
+                .page(page)
+                .size(pageSize)
+                .total(hits.getTotal())
+                .hasMore((long) (page + 1) * pageSize < hits.getTotal())
+                .build();
+    }
+
+    /**
+     * Obtiene una página de posts publicados filtrados por tags usando
+     * paginación por cursor.
+     * 
+     * El filtro se resuelve en el índice de tags en memoria; la base de datos
+     * solo se consulta para obtener los resúmenes de la página.
+     * 
+     * @param tags   Tags separados por comas
+     * @param match  "all" para exigir todos los tags, "any" para cualquiera
+     * @param cursor Cursor devuelto por la página anterior (null para la primera)
+     * @param limit  Tamaño de página solicitado
+     * @return Página de resúmenes de posts con los tags indicados
+     * @throws BadRequestException Si los tags, el modo, el cursor o el límite no son válidos
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<BlogPostSummaryDTO> getPostsByTagsPage(String tags, String match, String cursor,
+            int limit) {
+        logger.info("Obteniendo página de posts con tags: {} (match: {}, limit: {})", tags, match, limit);
+        Set<String> tagFilter = parseTags(tags);
+        boolean matchAll = parseMatchMode(match);
+        int pageSize = validatePageSize(limit);
+        PostCursor position = cursor == null || cursor.isBlank() ? null : PostCursor.decode(cursor);
+
+        List<Long> ids = tagIndex.find(tagFilter, matchAll, position, pageSize + 1);
+        return toPage(getPublishedSummariesByIds(ids), pageSize);
+    }
+
+    /**
+     * Obtiene los tags de los posts publicados con su número de posts.
+     * 
+     * @return Lista de tags ordenada por número de posts descendente
+     */
+    @Transactional(readOnly = true)
+    public List<TagCountDTO> getTagCounts() {
+        logger.info("Obteniendo recuento de tags");
+        return tagIndex.getTagCounts();
+    }
+
+    /**
+     * Obtiene los posts publicados más similares a un post.
+     * 
+     * La lista está precalculada en el índice de posts relacionados (tags,
+     * categoría y cercanía de fechas); la base de datos solo se consulta para
+     * obtener los resúmenes.
+     * 
+     * @param id    ID del post
+     * @param limit Número máximo de posts (como mucho {@link RelatedPostsIndex#MAX_RELATED})
+     * @return Resúmenes de los posts relacionados ordenados por similitud
+     * @throws BadRequestException       Si el límite es menor que 1
+     * @throws ResourceNotFoundException Si el post no existe
+     */
+    @Transactional(readOnly = true)
+    public List<BlogPostSummaryDTO> getRelatedPosts(Long id, int limit) {
+        logger.info("Obteniendo posts relacionados con el post {} (limit: {})", id, limit);
+        if (limit < 1) {
+            throw new BadRequestException("El parámetro limit debe ser mayor que 0");
+        }
+
+        List<Long> ids = relatedPostsIndex.getRelated(id, Math.min(limit, RelatedPostsIndex.MAX_RELATED));
+        if (ids == null) {
+            if (!blogPostRepository.existsById(id)) {
+                throw new ResourceNotFoundException("Post no encontrado con ID: " + id);
+            }
+            return new ArrayList<>();
+        }
+        return withTags(getPublishedSummariesByIds(ids));
+    }
+
+    /**
+     * Obtiene los posts publicados más vistos recientemente.
+     * 
+     * El top de cada ventana se mantiene en memoria a partir de las visitas;
+     * la base de datos solo se consulta para obtener los resúmenes. Los posts
+     * que ya no están publicados se descartan.
+     * 
+     * @param window Ventana de tiempo ("1h", "24h" o "7d")
+     * @param limit  Número máximo de posts (como mucho {@link TrendingIndex#MAX_TRENDING})
+     * @return Resúmenes de los posts ordenados por puntuación
+     * @throws BadRequestException Si la ventana o el límite no son válidos
+     */
+    @Transactional(readOnly = true)
+    public List<BlogPostSummaryDTO> getTrendingPosts(String window, int limit) {
+        logger.info("Obteniendo posts en tendencia (window: {}, limit: {})", window, limit);
+        TrendingIndex.Window trendingWindow = TrendingIndex.Window.fromLabel(window);
+        if (trendingWindow == null) {
+            throw new BadRequestException("El parámetro window debe ser 1h, 24h o 7d");
+        }
+        if (limit < 1) {
+            throw new BadRequestException("El parámetro limit debe ser mayor que 0");
+        }
+
+        List<BlogPostSummaryDTO> posts = getPublishedSummariesByIds(
+                trendingIndex.getTrending(trendingWindow, TrendingIndex.MAX_TRENDING));
+        return withTags(posts.size() > limit ? new ArrayList<>(posts.subList(0, limit)) : posts);
+    }
+
+    /**
+     * Obtiene la versión de un post para responder peticiones condicionales.
+     * 
+     * Solo consulta la fecha de actualización del post (sin cargar el
+     * contenido) y el resultado se mantiene en caché hasta que el post cambie.
+     * 
+     * @param id ID del post
+     * @return ContentVersion del post
+     * @throws ResourceNotFoundException Si el post no existe
+     */
+    @Cacheable(cacheNames = CacheConfig.VERSIONS_CACHE, key = "'" + CacheConfig.POST_KEY_PREFIX + "' + #id",
+            sync = true)
+    @Transactional(readOnly = true)
+    public ContentVersion getPostVersion(Long id) {
+        return blogPostRepository.findUpdatedAtById(id)
+                .map(updatedAt -> ContentVersion.ofPost(id, updatedAt))
+                .orElseThrow(() -> new ResourceNotFoundException("Post no encontrado con ID: " + id));
+    }
+
+    /**
+     * Obtiene la versión del listado global de posts publicados.
+     * 
+     * @return ContentVersion del listado
+     */
+    @Cacheable(cacheNames = CacheConfig.VERSIONS_CACHE, key = "'" + CacheConfig.ALL_POSTS_KEY + "'", sync = true)
+    @Transactional(readOnly = true)
+    public ContentVersion getPublishedListingVersion() {
+        ListingVersionView version = blogPostRepository.findPublishedListingVersion();
+        return ContentVersion.ofListing(CacheConfig.ALL_POSTS_KEY, version.getTotal(), version.getLastUpdatedAt());
+    }
+
+    /**
+     * Obtiene la versión del listado de posts publicados de una categoría.
+     * 
+     * @param category Categoría del listado
+     * @return ContentVersion del listado
+     */
+    @Cacheable(cacheNames = CacheConfig.VERSIONS_CACHE,
+            key = "'" + CacheConfig.CATEGORY_KEY_PREFIX + "' + #category", sync = true)
+    @Transactional(readOnly = true)
+    public ContentVersion getCategoryListingVersion(String category) {
+        ListingVersionView version = blogPostRepository.findCategoryListingVersion(category);
+        return ContentVersion.ofListing(CacheConfig.CATEGORY_KEY_PREFIX + category, version.getTotal(),
+                version.getLastUpdatedAt());
     }
 
     /**
@@ -100,23 +466,35 @@ public class BlogService {
         BlogPost post = BlogPost.builder()
                 .title(request.getTitle())
                 .excerpt(request.getExcerpt())
-                .content(request.getContent())
                 .category(request.getCategory())
-                .tags(request.getTags())
-                .readTime(request.getReadTime())
+                .tags(request.getTags() != null ? new LinkedHashSet<>(request.getTags()) : new LinkedHashSet<>())
                 .published(request.getPublished())
+                .publishAt(request.getPublishAt())
+                .unpublishAt(request.getUnpublishAt())
                 .author(author)
                 .build();
+        publicationScheduler.applyDue(post);
+        contentRenderingService.applyContent(post, request.getContent());
 
         BlogPost savedPost = blogPostRepository.save(post);
+        postRevisionService.recordCreation(savedPost);
+        publicationScheduler.schedule(savedPost);
         logger.info("Post creado exitosamente con ID: {}", savedPost.getId());
 
+        BlogPostChangedEvent event = BlogPostChangedEvent.created(
+                savedPost.getId(), savedPost.getCategory(), savedPost.getPublished());
+        categoryService.applyChange(event);
+        eventPublisher.publishEvent(event);
+
         return mapToDTO(savedPost);
     }
 
     /**
      * Actualiza un post existente.
      * 
+     * Si se indican tags, reemplazan a los actuales: solo se insertan los
+     * nuevos y solo se borran los que ya no aparecen.
+     * 
      * @param id      ID del post a actualizar
      * @param request Datos de actualización
      * @return BlogPostDTO del post actualizado
@@ -125,35 +503,114 @@ public class BlogService {
     public BlogPostDTO updatePost(Long id, UpdatePostRequest request) {
         logger.info("Actualizando post con ID: {}", id);
 
-        BlogPost post = blogPostRepository.findById(id)
+        return applyUpdate(id, request.getTitle(), request.getExcerpt(), request.getContent(),
+                request.getCategory(), request.getPublished(), request.getPublishAt(), request.getUnpublishAt(),
+                tags -> {
+                    if (request.getTags() != null) {
+                        Set<String> target = new LinkedHashSet<>(request.getTags());
+                        tags.retainAll(target);
+                        tags.addAll(target);
+                    }
+                });
+    }
+
+    /**
+     * Modifica campos concretos de un post. Los tags se agregan o eliminan
+     * de forma individual, sin reemplazar la colección.
+     * 
+     * @param id      ID del post a modificar
+     * @param request Campos a modificar
+     * @return BlogPostDTO del post modificado
+     * @throws ResourceNotFoundException Si el post no existe
+     */
+    public BlogPostDTO patchPost(Long id, PatchPostRequest request) {
+        logger.info("Modificando campos del post con ID: {}", id);
+
+        return applyUpdate(id, request.getTitle(), request.getExcerpt(), request.getContent(),
+                request.getCategory(), request.getPublished(), request.getPublishAt(), request.getUnpublishAt(),
+                tags -> {
+                    if (request.getRemoveTags() != null) {
+                        request.getRemoveTags().forEach(tags::remove);
+                    }
+                    if (request.getAddTags() != null) {
+                        tags.addAll(request.getAddTags());
+                    }
+                });
+    }
+
+    /**
+     * Aplica los campos no nulos a un post. Como la entidad usa
+     * actualizaciones dinámicas, el UPDATE solo incluye las columnas cuyo
+     * valor cambia, y los tags se modifican sobre el conjunto gestionado
+     * para que Hibernate escriba únicamente las diferencias. Un cambio solo
+     * de tags no modifica ninguna columna del post, así que se actualiza
+     * expresamente {@code updatedAt}: de ella dependen los ETag del post y de
+     * los listados.
+     * 
+     * El post se lee bloqueando su fila: dos modificaciones simultáneas del
+     * contenido numerarían igual su revisión o guardarían la diferencia
+     * respecto a un contenido que ya no es el actual.
+     */
+    private BlogPostDTO applyUpdate(Long id, String title, String excerpt, String content, String category,
+            Boolean published, LocalDateTime publishAt, LocalDateTime unpublishAt, Consumer<Set<String>> tagChange) {
+        BlogPost post = blogPostRepository.findForUpdateById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Post no encontrado con ID: " + id));
 
+        String previousCategory = post.getCategory();
+        boolean previouslyPublished = post.getPublished();
+        RenderedContent previousRendered = post.getRenderedContent();
+
         // Actualizar solo los campos que vienen en el request
-        if (request.getTitle() != null) {
-            post.setTitle(request.getTitle());
+        if (title != null) {
+            post.setTitle(title);
+        }
+        if (excerpt != null) {
+            post.setExcerpt(excerpt);
         }
-        if (request.getExcerpt() != null) {
-            post.setExcerpt(request.getExcerpt());
+        if (content != null) {
+            String previousContent = post.getContent();
+            if (!content.equals(previousContent)) {
+                postRevisionService.recordChange(post.getId(), previousContent, content);
+                contentRenderingService.applyContent(post, content);
+            }
         }
-        if (request.getContent() != null) {
-            post.setContent(request.getContent());
+        if (category != null) {
+            post.setCategory(category);
         }
-        if (request.getCategory() != null) {
-            post.setCategory(request.getCategory());
+        Set<String> previousTags = new HashSet<>(post.getTags());
+        tagChange.accept(post.getTags());
+        if (!previousTags.equals(post.getTags())) {
+            post.setUpdatedAt(LocalDateTime.now());
         }
-        if (request.getTags() != null) {
-            post.setTags(request.getTags());
+        if (published != null) {
+            // Fijar el estado cancela la transición programada hacia ese mismo estado
+            post.setPublished(published);
+            if (published) {
+                post.setPublishAt(null);
+            } else {
+                post.setUnpublishAt(null);
+            }
         }
-        if (request.getReadTime() != null) {
-            post.setReadTime(request.getReadTime());
+        if (publishAt != null) {
+            post.setPublishAt(publishAt);
         }
-        if (request.getPublished() != null) {
-            post.setPublished(request.getPublished());
+        if (unpublishAt != null) {
+            post.setUnpublishAt(unpublishAt);
         }
+        publicationScheduler.applyDue(post);
 
         BlogPost updatedPost = blogPostRepository.save(post);
+        publicationScheduler.schedule(updatedPost);
+        if (previousRendered != null && previousRendered != updatedPost.getRenderedContent()) {
+            contentRenderingService.releaseIfUnused(previousRendered);
+        }
         logger.info("Post actualizado exitosamente");
 
+        BlogPostChangedEvent event = BlogPostChangedEvent.updated(updatedPost.getId(), previousCategory,
+                updatedPost.getCategory(), previouslyPublished, updatedPost.getPublished());
+        categoryService.applyChange(event);
+        eventPublisher.publishEvent(event);
+
         return mapToDTO(updatedPost);
     }
 
@@ -166,12 +623,177 @@ public class BlogService {
     public void deletePost(Long id) {
         logger.info("Eliminando post con ID: {}", id);
 
-        if (!blogPostRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Post no encontrado con ID: " + id);
-        }
+        BlogPost post = blogPostRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Post no encontrado con ID: " + id));
 
-        blogPostRepository.deleteById(id);
+        blogPostRepository.delete(post);
+        contentRenderingService.releaseIfUnused(post.getRenderedContent());
         logger.info("Post eliminado exitosamente");
+
+        BlogPostChangedEvent event = BlogPostChangedEvent.deleted(id, post.getCategory(), post.getPublished());
+        categoryService.applyChange(event);
+        eventPublisher.publishEvent(event);
+    }
+
+    /**
+     * Obtiene los resúmenes de los posts publicados con los IDs indicados,
+     * respetando el orden recibido. Los IDs que no correspondan a un post
+     * publicado se omiten.
+     * 
+     * @param ids IDs de los posts en el orden deseado
+     * @return Lista de resúmenes (sin tags)
+     */
+    private List<BlogPostSummaryDTO> getPublishedSummariesByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, BlogPostSummaryDTO> byId = new HashMap<>();
+        for (BlogPostSummaryDTO summary : blogPostRepository.findPublishedSummariesByIds(ids)) {
+            byId.put(summary.getId(), summary);
+        }
+
+        List<BlogPostSummaryDTO> ordered = new ArrayList<>(byId.size());
+        for (Long id : ids) {
+            BlogPostSummaryDTO summary = byId.get(id);
+            if (summary != null) {
+                ordered.add(summary);
+            }
+        }
+        return ordered;
+    }
+
+    /**
+     * Valida el tamaño de página solicitado y lo limita al máximo permitido.
+     * 
+     * @param limit Tamaño de página solicitado
+     * @return Tamaño de página efectivo
+     * @throws BadRequestException Si el límite es menor que 1
+     */
+    private int validatePageSize(int limit) {
+        if (limit < 1) {
+            throw new BadRequestException("El parámetro limit debe ser mayor que 0");
+        }
+        return Math.min(limit, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * Convierte la lista de tags separados por comas en un conjunto sin
+     * duplicados.
+     * 
+     * @param tags Tags separados por comas
+     * @return Conjunto de tags
+     * @throws BadRequestException Si no hay tags o se superan los permitidos
+     */
+    private Set<String> parseTags(String tags) {
+        Set<String> parsed = new LinkedHashSet<>();
+        for (String tag : tags.split(",")) {
+            if (!tag.isBlank()) {
+                parsed.add(tag.trim());
+            }
+        }
+        if (parsed.isEmpty()) {
+            throw new BadRequestException("Debe indicarse al menos un tag");
+        }
+        if (parsed.size() > MAX_FILTER_TAGS) {
+            throw new BadRequestException("No se pueden combinar más de " + MAX_FILTER_TAGS + " tags");
+        }
+        return parsed;
+    }
+
+    /**
+     * Interpreta el modo de combinación de tags.
+     * 
+     * @param match "all" o "any"
+     * @return true si deben cumplirse todos los tags
+     * @throws BadRequestException Si el modo no es válido
+     */
+    private boolean parseMatchMode(String match) {
+        if ("all".equalsIgnoreCase(match)) {
+            return true;
+        }
+        if ("any".equalsIgnoreCase(match)) {
+            return false;
+        }
+        throw new BadRequestException("El parámetro match debe ser 'all' o 'any'");
+    }
+
+    /**
+     * Interpreta el orden por tiempo de lectura.
+     * 
+     * @param sort "readingTime" o "-readingTime"
+     * @return true si el orden es descendente
+     * @throws BadRequestException Si el orden no es válido
+     */
+    private boolean parseReadingTimeSort(String sort) {
+        if ("readingTime".equals(sort)) {
+            return false;
+        }
+        if ("-readingTime".equals(sort)) {
+            return true;
+        }
+        throw new BadRequestException("El parámetro sort debe ser 'readingTime' o '-readingTime'");
+    }
+
+    /**
+     * Construye una página ordenada por fecha a partir de los posts obtenidos.
+     * 
+     * @param posts    Posts obtenidos (hasta pageSize + 1)
+     * @param pageSize Tamaño de página efectivo
+     * @return Página de posts
+     */
+    private CursorPageDTO<BlogPostSummaryDTO> toPage(List<BlogPostSummaryDTO> posts, int pageSize) {
+        return toPage(posts, pageSize, last -> new PostCursor(last.getCreatedAt(), last.getId()).encode());
+    }
+
+    /**
+     * Construye una página a partir de los posts obtenidos. Se consulta un
+     * elemento extra para saber si existe una página siguiente sin ejecutar
+     * un COUNT.
+     * 
+     * @param posts    Posts obtenidos (hasta pageSize + 1)
+     * @param pageSize Tamaño de página efectivo
+     * @param cursorOf Construye el cursor a partir del último post de la página
+     * @return Página de posts
+     */
+    private CursorPageDTO<BlogPostSummaryDTO> toPage(List<BlogPostSummaryDTO> posts, int pageSize,
+            Function<BlogPostSummaryDTO, String> cursorOf) {
+        boolean hasMore = posts.size() > pageSize;
+        List<BlogPostSummaryDTO> pagePosts = hasMore ? posts.subList(0, pageSize) : posts;
+
+        String nextCursor = null;
+        if (hasMore) {
+            nextCursor = cursorOf.apply(pagePosts.get(pagePosts.size() - 1));
+        }
+
+        return CursorPageDTO.<BlogPostSummaryDTO>builder()
+                .items(withTags(pagePosts))
+                .nextCursor(nextCursor)
+                .limit(pageSize)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    /**
+     * Asigna los tags a los resúmenes de posts, cargando los tags de todos
+     * ellos en una única consulta adicional.
+     * 
+     * @param summaries Resúmenes obtenidos por proyección
+     * @return La misma lista de resúmenes con sus tags
+     */
+    private List<BlogPostSummaryDTO> withTags(List<BlogPostSummaryDTO> summaries) {
+        if (summaries.isEmpty()) {
+            return summaries;
+        }
+
+        List<Long> ids = summaries.stream().map(BlogPostSummaryDTO::getId).collect(Collectors.toList());
+        Map<Long, List<String>> tagsByPost = new HashMap<>();
+        for (Object[] row : blogPostRepository.findTagsByPostIds(ids)) {
+            tagsByPost.computeIfAbsent((Long) row[0], key -> new ArrayList<>()).add((String) row[1]);
+        }
+
+        summaries.forEach(summary -> summary.setTags(tagsByPost.getOrDefault(summary.getId(), new ArrayList<>())));
+        return summaries;
     }
 
     /**
@@ -186,10 +808,17 @@ public class BlogService {
                 .title(post.getTitle())
                 .excerpt(post.getExcerpt())
                 .content(post.getContent())
+                .contentHtml(post.getRenderedContent() != null ? post.getRenderedContent().getHtml() : null)
+                .toc(post.getRenderedContent() != null ? post.getRenderedContent().getToc() : null)
                 .category(post.getCategory())
-                .tags(post.getTags())
+                .tags(new ArrayList<>(post.getTags()))
                 .readTime(post.getReadTime())
+                .wordCount(post.getWordCount())
+                .readingMinutes(post.getReadingMinutes())
+                .viewCount(post.getViewCount())
                 .published(post.getPublished())
+                .publishAt(post.getPublishAt())
+                .unpublishAt(post.getUnpublishAt())
                 .authorName(post.getAuthor().getUsername())
                 .authorId(post.getAuthor().getId())
                 .createdAt(post.getCreatedAt())
@@ -0,0 +1,143 @@
+package com.rafaelalvarado.portfolio.service;
+
+import com.rafaelalvarado.portfolio.dto.CategoryCountDTO;
+import com.rafaelalvarado.portfolio.entity.CategoryStats;
+import com.rafaelalvarado.portfolio.event.BlogPostChangedEvent;
+import com.rafaelalvarado.portfolio.repository.BlogPostRepository;
+import com.rafaelalvarado.portfolio.repository.CategoryStatsRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Servicio de recuentos de posts por categoría.
+ * 
+ * Los recuentos se guardan en la tabla {@code blog_category_stats} y se
+ * ajustan dentro de la transacción de cada escritura de BlogService, por lo
+ * que el listado de categorías cuesta O(categorías) en lugar de O(posts).
+ * Periódicamente se reconcilian con {@code blog_posts} para corregir
+ * cualquier desviación (por ejemplo, posts cargados directamente en la base
+ * de datos).
+ * 
+ * @author Rafael Alvarado García
+ */
+@Service
+@Transactional
+public class CategoryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CategoryService.class);
+
+    @Autowired
+    private CategoryStatsRepository categoryStatsRepository;
+
+    @Autowired
+    private BlogPostRepository blogPostRepository;
+
+    /**
+     * Obtiene las categorías con posts publicados.
+     * 
+     * @return Lista de categorías ordenada por número de posts descendente
+     */
+    @Transactional(readOnly = true)
+    public List<CategoryCountDTO> getCategories() {
+        logger.info("Obteniendo recuento de categorías");
+        return categoryStatsRepository.findByPublishedCountGreaterThanOrderByPublishedCountDescCategoryAsc(0)
+                .stream()
+                .map(stats -> new CategoryCountDTO(stats.getCategory(), stats.getPublishedCount(),
+                        stats.getLatestPostAt()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Ajusta los recuentos de las categorías afectadas por el cambio de un
+     * post. Debe ejecutarse en la transacción de la escritura del post.
+     * 
+     * @param event Cambio realizado sobre el post
+     */
+    public void applyChange(BlogPostChangedEvent event) {
+        Map<String, Long> deltas = new LinkedHashMap<>();
+        if (event.isPreviouslyPublished() && event.getPreviousCategory() != null) {
+            deltas.merge(event.getPreviousCategory(), -1L, Long::sum);
+        }
+        if (event.isCurrentlyPublished() && event.getCurrentCategory() != null) {
+            deltas.merge(event.getCurrentCategory(), 1L, Long::sum);
+        }
+
+        applyDeltas(deltas);
+    }
+
+    /**
+     * Ajusta los recuentos de varias categorías a la vez (por ejemplo, tras
+     * importar un lote de posts), con una sola actualización por categoría.
+     * Debe ejecutarse en la transacción de la escritura de los posts.
+     * 
+     * @param deltas Variación del número de posts publicados por categoría
+     */
+    public void applyDeltas(Map<String, Long> deltas) {
+        deltas.forEach((category, delta) -> {
+            if (delta != 0) {
+                LocalDateTime latest = blogPostRepository.findLatestPublishedCreatedAtByCategory(category);
+                categoryStatsRepository.adjust(category, delta, latest);
+            }
+        });
+    }
+
+    /**
+     * Recalcula los recuentos a partir de los posts publicados y corrige las
+     * filas que no coincidan.
+     * 
+     * Las filas existentes se bloquean antes de contar, de modo que las
+     * escrituras concurrentes de posts esperan a la reconciliación y aplican
+     * su ajuste sobre el valor corregido.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${blog.categories.reconcile-interval}",
+            initialDelayString = "${blog.categories.reconcile-interval}")
+    public void reconcile() {
+        Map<String, CategoryStats> current = new HashMap<>();
+        for (CategoryStats stats : categoryStatsRepository.findAllForUpdate()) {
+            current.put(stats.getCategory(), stats);
+        }
+
+        int corrected = 0;
+        for (Object[] row : blogPostRepository.countPublishedByCategory()) {
+            String category = (String) row[0];
+            long count = (Long) row[1];
+            LocalDateTime latest = (LocalDateTime) row[2];
+
+            CategoryStats stats = current.remove(category);
+            if (stats == null) {
+                categoryStatsRepository.save(new CategoryStats(category, count, latest));
+                corrected++;
+            } else if (stats.getPublishedCount() != count || !Objects.equals(stats.getLatestPostAt(), latest)) {
+                stats.setPublishedCount(count);
+                stats.setLatestPostAt(latest);
+                corrected++;
+            }
+        }
+        for (CategoryStats stale : current.values()) {
+            if (stale.getPublishedCount() != 0 || stale.getLatestPostAt() != null) {
+                stale.setPublishedCount(0L);
+                stale.setLatestPostAt(null);
+                corrected++;
+            }
+        }
+
+        if (corrected > 0) {
+            logger.info("Recuentos de categorías reconciliados: {} categorías corregidas", corrected);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.rafaelalvarado.portfolio.service;
+
+import com.rafaelalvarado.portfolio.entity.BlogPost;
+import com.rafaelalvarado.portfolio.render.ContentCompression;
+import com.rafaelalvarado.portfolio.repository.BlogPostRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Servicio de almacenamiento comprimido del contenido de los posts.
+ * 
+ * Es opcional ({@code blog.content.compression.enabled}). Cuando está
+ * activo, el contenido que alcanza la longitud mínima se guarda comprimido
+ * con gzip en {@code content_gzip} y la columna {@code content} queda
+ * vacía, lo que reduce el tamaño de las filas de {@code blog_posts}. El
+ * contenido solo se descomprime cuando se lee el cuerpo completo del post.
+ * 
+ * Al arrancar, los posts existentes se comprimen por lotes. Desactivar la
+ * opción no descomprime los posts ya guardados: se siguen leyendo con
+ * normalidad y solo los contenidos nuevos se guardan sin comprimir.
+ * 
+ * @author Rafael Alvarado García
+ */
+@Service
+public class ContentCompressionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContentCompressionService.class);
+
+    /**
+     * Número de posts comprimidos por transacción en la migración
+     */
+    private static final int MIGRATION_BATCH_SIZE = 100;
+
+    @Autowired
+    private BlogPostRepository blogPostRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${blog.content.compression.enabled}")
+    private boolean enabled;
+
+    @Value("${blog.content.compression.min-length}")
+    private int minLength;
+
+    /**
+     * Comprime el contenido de un post si la opción está activa y el
+     * contenido alcanza la longitud mínima.
+     * 
+     * @param post Post con el contenido sin comprimir
+     */
+    public void apply(BlogPost post) {
+        if (enabled && !post.isContentCompressed() && post.getContent().length() >= minLength) {
+            post.storeCompressedContent(ContentCompression.gzip(post.getContent()));
+        }
+    }
+
+    /**
+     * Comprime por lotes los posts existentes con el contenido sin
+     * comprimir. Cada lote se guarda en su propia transacción con una
+     * actualización JDBC por lotes que no modifica {@code updatedAt}; un post
+     * editado mientras tanto se omite y se comprimirá al guardarse.
+     * 
+     * @return Número de posts comprimidos
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public long compressExisting() {
+        if (!enabled) {
+            return 0;
+        }
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        long lastId = 0;
+        long total = 0;
+        while (true) {
+            long afterId = lastId;
+            List<Object[]> rows = blogPostRepository.findUncompressedContent(afterId, minLength,
+                    Limit.of(MIGRATION_BATCH_SIZE));
+            if (rows.isEmpty()) {
+                break;
+            }
+            lastId = (Long) rows.get(rows.size() - 1)[0];
+            total += transaction.execute(status -> compressBatch(rows));
+        }
+        if (total > 0) {
+            logger.info("Contenido comprimido para {} posts existentes", total);
+        }
+        return total;
+    }
+
+    /**
+     * Comprime y guarda un lote de posts.
+     * 
+     * @param rows Filas con la forma [id, content, updatedAt]
+     * @return Número de posts actualizados
+     */
+    private long compressBatch(List<Object[]> rows) {
+        List<Object[]> args = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            args.add(new Object[] { ContentCompression.gzip((String) row[1]), row[0], row[2] });
+        }
+        int[] counts = jdbcTemplate.batchUpdate("UPDATE blog_posts SET content = '', content_gzip = ? "
+                + "WHERE id = ? AND updated_at = ? AND content_gzip IS NULL", args);
+        long updated = 0;
+        for (int count : counts) {
+            // Algunos drivers solo informan que la sentencia se ejecutó
+            updated += count > 0 ? count : (count == Statement.SUCCESS_NO_INFO ? 1 : 0);
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,240 @@
+package com.rafaelalvarado.portfolio.service;
+
+import com.rafaelalvarado.portfolio.entity.BlogPost;
+import com.rafaelalvarado.portfolio.entity.RenderedContent;
+import com.rafaelalvarado.portfolio.event.BlogPostChangedEvent;
+import com.rafaelalvarado.portfolio.render.ContentRenderer;
+import com.rafaelalvarado.portfolio.render.ContentStatsAnalyzer;
+import com.rafaelalvarado.portfolio.repository.BlogPostRepository;
+import com.rafaelalvarado.portfolio.repository.RenderedContentRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Servicio de procesamiento del contenido de los posts.
+ * 
+ * El contenido se procesa al escribirse (no al leerse): se calculan el
+ * número de palabras y el tiempo de lectura, y se renderiza a HTML. El
+ * resultado del renderizado se guarda identificado por el hash del
+ * contenido original: si el contenido no cambia, o coincide con otro ya
+ * renderizado, se reutiliza el artefacto existente sin volver a procesarlo.
+ * Por último, el contenido se comprime si el almacenamiento comprimido está
+ * activo ({@link ContentCompressionService}).
+ * 
+ * @author Rafael Alvarado García
+ */
+@Service
+@Transactional
+public class ContentRenderingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContentRenderingService.class);
+
+    /**
+     * Número de posts procesados por transacción al procesar los contenidos
+     * pendientes
+     */
+    private static final int BACKFILL_BATCH_SIZE = 100;
+
+    @Autowired
+    private ContentRenderer contentRenderer;
+
+    @Autowired
+    private RenderedContentRepository renderedContentRepository;
+
+    @Autowired
+    private BlogPostRepository blogPostRepository;
+
+    @Autowired
+    private ContentCompressionService contentCompressionService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Asigna un nuevo contenido a un post y actualiza los datos derivados:
+     * contenido renderizado, número de palabras y tiempo de lectura.
+     * 
+     * @param post    Post a actualizar
+     * @param content Contenido original del post
+     */
+    public void applyContent(BlogPost post, String content) {
+        post.setContent(content);
+        applyDerived(post, resolve(content));
+    }
+
+    /**
+     * Actualiza los datos derivados de varios posts cuyo contenido ya está
+     * asignado. Los artefactos existentes se buscan en una sola consulta y
+     * los nuevos se insertan sin consultar antes su existencia, de modo que
+     * Hibernate puede agruparlos en lotes JDBC.
+     * 
+     * @param posts Posts con el contenido original asignado
+     */
+    public void applyContents(List<BlogPost> posts) {
+        Set<String> hashes = new HashSet<>();
+        for (BlogPost post : posts) {
+            hashes.add(ContentRenderer.hash(post.getContent()));
+        }
+        Map<String, RenderedContent> artifacts = new HashMap<>();
+        for (RenderedContent existing : renderedContentRepository.findAllById(hashes)) {
+            artifacts.put(existing.getContentHash(), existing);
+        }
+
+        for (BlogPost post : posts) {
+            String content = post.getContent();
+            RenderedContent renderedContent = artifacts.computeIfAbsent(ContentRenderer.hash(content), hash -> {
+                ContentRenderer.Rendered rendered = contentRenderer.render(content);
+                RenderedContent created = RenderedContent.builder()
+                        .contentHash(hash)
+                        .html(rendered.getHtml())
+                        .toc(rendered.getToc())
+                        .build();
+                entityManager.persist(created);
+                return created;
+            });
+            applyDerived(post, renderedContent);
+        }
+    }
+
+    private void applyDerived(BlogPost post, RenderedContent renderedContent) {
+        ContentStatsAnalyzer.ContentStats stats = ContentStatsAnalyzer.analyze(post.getContent());
+        post.setRenderedContent(renderedContent);
+        post.setWordCount(stats.getWordCount());
+        post.setReadingMinutes(stats.getReadingMinutes());
+        post.setReadTime(stats.getReadingMinutes() + " min");
+        contentCompressionService.apply(post);
+    }
+
+    /**
+     * Obtiene el artefacto renderizado de un contenido, renderizándolo solo si
+     * no existe ya uno con el mismo hash.
+     * 
+     * Dos transacciones pueden renderizar a la vez el mismo contenido nuevo:
+     * la inserción no falla si la otra ya insertó el artefacto, y la lectura
+     * posterior con bloqueo devuelve el que haya quedado guardado.
+     * 
+     * @param content Contenido original del post
+     * @return Contenido renderizado
+     */
+    public RenderedContent resolve(String content) {
+        String contentHash = ContentRenderer.hash(content);
+        Optional<RenderedContent> existing = renderedContentRepository.findById(contentHash);
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+        logger.debug("Renderizando contenido {}", contentHash);
+        ContentRenderer.Rendered rendered = contentRenderer.render(content);
+        renderedContentRepository.insertIfAbsent(contentHash, rendered.getHtml(), rendered.getToc(),
+                LocalDateTime.now());
+        return renderedContentRepository.findForShare(contentHash).orElseThrow();
+    }
+
+    /**
+     * Elimina un artefacto si ningún post lo usa ya. La eliminación se hace
+     * tras confirmar la transacción actual, en una transacción propia y con
+     * una sola sentencia condicionada a que no haya posts que lo referencien;
+     * si otra transacción lo enlaza a la vez, la clave foránea lo impide y el
+     * artefacto se conserva.
+     * 
+     * @param renderedContent Artefacto que dejó de usar un post (puede ser null)
+     */
+    public void releaseIfUnused(RenderedContent renderedContent) {
+        if (renderedContent == null) {
+            return;
+        }
+        String contentHash = renderedContent.getContentHash();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            deleteIfUnused(contentHash);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                deleteIfUnused(contentHash);
+            }
+        });
+    }
+
+    private void deleteIfUnused(String contentHash) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        try {
+            transaction.executeWithoutResult(status -> renderedContentRepository.deleteIfUnused(contentHash));
+        } catch (DataIntegrityViolationException ex) {
+            logger.debug("Artefacto {} enlazado de nuevo, se conserva", contentHash);
+        }
+    }
+
+    /**
+     * Procesa al arrancar los posts cuyo contenido aún no tiene datos
+     * derivados (por ejemplo, los insertados directamente en la base de datos
+     * o anteriores al cálculo del tiempo de lectura). Cada lote se procesa en
+     * su propia transacción.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void processPending() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        long lastId = 0;
+        int total = 0;
+        while (true) {
+            long afterId = lastId;
+            List<Long> processed = transaction.execute(status -> processBatch(afterId));
+            if (processed.isEmpty()) {
+                break;
+            }
+            lastId = processed.get(processed.size() - 1);
+            total += processed.size();
+        }
+        if (total > 0) {
+            logger.info("Contenido procesado para {} posts pendientes", total);
+        }
+    }
+
+    /**
+     * Procesa un lote de posts pendientes.
+     * 
+     * @param afterId ID del último post del lote anterior
+     * @return IDs de los posts procesados
+     */
+    private List<Long> processBatch(long afterId) {
+        List<BlogPost> posts = blogPostRepository.findPendingContentProcessing(afterId,
+                Limit.of(BACKFILL_BATCH_SIZE));
+        for (BlogPost post : posts) {
+            applyContent(post, post.getContent());
+            eventPublisher.publishEvent(BlogPostChangedEvent.updated(post.getId(), post.getCategory(),
+                    post.getCategory(), post.getPublished(), post.getPublished()));
+        }
+        return posts.stream().map(BlogPost::getId).toList();
+    }
+}
@@ -0,0 +1,178 @@
+package com.rafaelalvarado.portfolio.service;
+
+import com.rafaelalvarado.portfolio.dto.PostRevisionDTO;
+import com.rafaelalvarado.portfolio.entity.BlogPost;
+import com.rafaelalvarado.portfolio.entity.PostRevision;
+import com.rafaelalvarado.portfolio.exception.ResourceNotFoundException;
+import com.rafaelalvarado.portfolio.render.ContentCompression;
+import com.rafaelalvarado.portfolio.render.ContentDelta;
+import com.rafaelalvarado.portfolio.repository.BlogPostRepository;
+import com.rafaelalvarado.portfolio.repository.PostRevisionRepository;
+import com.rafaelalvarado.portfolio.repository.RevisionStateView;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Servicio del historial de revisiones del contenido de los posts.
+ * 
+ * Cada cambio de contenido se guarda como una revisión. Cada
+ * {@code blog.revisions.keyframe-interval} revisiones se guarda una
+ * revisión clave con el contenido completo; el resto guardan la diferencia
+ * respecto a la anterior, de modo que el espacio ocupado crece con el
+ * tamaño de las ediciones y no con el del artículo. Reconstruir una
+ * revisión lee como mucho ese número de revisiones.
+ * 
+ * Los posts creados antes de existir el historial obtienen su revisión
+ * inicial en el primer cambio de contenido.
+ * 
+ * @author Rafael Alvarado García
+ */
+@Service
+@Transactional
+public class PostRevisionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostRevisionService.class);
+
+    @Autowired
+    private PostRevisionRepository postRevisionRepository;
+
+    @Autowired
+    private BlogPostRepository blogPostRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${blog.revisions.keyframe-interval}")
+    private int keyframeInterval;
+
+    /**
+     * Registra la revisión inicial de un post recién creado.
+     * 
+     * @param post Post con ID asignado
+     */
+    public void recordCreation(BlogPost post) {
+        entityManager.persist(keyframe(post.getId(), 1, post.getContent()));
+    }
+
+    /**
+     * Registra un cambio de contenido como una nueva revisión. Debe llamarse
+     * antes de asignar el nuevo contenido al post.
+     * 
+     * @param postId          ID del post
+     * @param previousContent Contenido actual del post
+     * @param content         Nuevo contenido
+     */
+    public void recordChange(Long postId, String previousContent, String content) {
+        RevisionStateView state = postRevisionRepository.findRevisionState(postId);
+        int latest;
+        int latestKeyframe;
+        if (state.getLatestRevision() == null) {
+            entityManager.persist(keyframe(postId, 1, previousContent));
+            latest = 1;
+            latestKeyframe = 1;
+        } else {
+            latest = state.getLatestRevision();
+            latestKeyframe = state.getLatestKeyframe();
+        }
+
+        int revision = latest + 1;
+        PostRevision stored = keyframe(postId, revision, content);
+        if (revision - latestKeyframe < keyframeInterval) {
+            byte[] delta = ContentDelta.encode(previousContent.getBytes(StandardCharsets.UTF_8),
+                    content.getBytes(StandardCharsets.UTF_8));
+            // Si la diferencia no es menor que el contenido comprimido (por
+            // ejemplo, al reescribir el artículo) se guarda una revisión clave
+            if (delta.length < stored.getData().length) {
+                stored.setKeyframe(false);
+                stored.setData(delta);
+                stored.setStoredSize(delta.length);
+            }
+        }
+        entityManager.persist(stored);
+        logger.debug("Revisión {} del post {} guardada ({} bytes)", revision, postId, stored.getStoredSize());
+    }
+
+    /**
+     * Obtiene el historial de revisiones de un post, de la más reciente a la
+     * más antigua, sin el contenido.
+     * 
+     * @param postId ID del post
+     * @return Lista de revisiones
+     * @throws ResourceNotFoundException Si el post no existe
+     */
+    @Transactional(readOnly = true)
+    public List<PostRevisionDTO> getRevisions(Long postId) {
+        logger.info("Obteniendo revisiones del post con ID: {}", postId);
+        if (!blogPostRepository.existsById(postId)) {
+            throw new ResourceNotFoundException("Post no encontrado con ID: " + postId);
+        }
+        return postRevisionRepository.findSummariesByPostId(postId).stream()
+                .map(row -> PostRevisionDTO.builder()
+                        .postId(postId)
+                        .revision((Integer) row[0])
+                        .keyframe((Boolean) row[1])
+                        .contentLength((Integer) row[2])
+                        .storedSize((Integer) row[3])
+                        .createdAt((LocalDateTime) row[4])
+                        .build())
+                .toList();
+    }
+
+    /**
+     * Obtiene una revisión con su contenido, reconstruido a partir de la
+     * revisión clave anterior y las diferencias posteriores.
+     * 
+     * @param postId   ID del post
+     * @param revision Número de revisión
+     * @return Revisión con su contenido
+     * @throws ResourceNotFoundException Si la revisión no existe
+     */
+    @Transactional(readOnly = true)
+    public PostRevisionDTO getRevision(Long postId, int revision) {
+        logger.info("Obteniendo revisión {} del post con ID: {}", revision, postId);
+        Integer keyframe = postRevisionRepository.findKeyframeAtOrBefore(postId, revision);
+        List<PostRevision> chain = keyframe == null ? List.of()
+                : postRevisionRepository.findByPostIdAndRevisionBetweenOrderByRevision(postId, keyframe, revision);
+        if (chain.isEmpty() || chain.get(chain.size() - 1).getRevision() != revision) {
+            throw new ResourceNotFoundException("Revisión " + revision + " no encontrada para el post " + postId);
+        }
+
+        byte[] content = ContentCompression.gunzip(chain.get(0).getData()).getBytes(StandardCharsets.UTF_8);
+        for (PostRevision delta : chain.subList(1, chain.size())) {
+            content = ContentDelta.apply(content, delta.getData());
+        }
+
+        PostRevision target = chain.get(chain.size() - 1);
+        return PostRevisionDTO.builder()
+                .postId(postId)
+                .revision(target.getRevision())
+                .keyframe(target.getKeyframe())
+                .contentLength(target.getContentLength())
+                .storedSize(target.getStoredSize())
+                .createdAt(target.getCreatedAt())
+                .content(new String(content, StandardCharsets.UTF_8))
+                .build();
+    }
+
+    private PostRevision keyframe(Long postId, int revision, String content) {
+        byte[] data = ContentCompression.gzip(content);
+        return PostRevision.builder()
+                .postId(postId)
+                .revision(revision)
+                .keyframe(true)
+                .data(data)
+                .contentLength(content.length())
+                .storedSize(data.length)
+                .build();
+    }
+}
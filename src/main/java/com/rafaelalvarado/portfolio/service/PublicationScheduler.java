@@ -0,0 +1,296 @@
+package com.rafaelalvarado.portfolio.service;
+
+import com.rafaelalvarado.portfolio.entity.BlogPost;
+import com.rafaelalvarado.portfolio.event.BlogPostChangedEvent;
+import com.rafaelalvarado.portfolio.event.BlogPostsChangedEvent;
+import com.rafaelalvarado.portfolio.exception.BadRequestException;
+import com.rafaelalvarado.portfolio.repository.BlogPostRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Servicio de publicación y retirada programada de posts.
+ * 
+ * Las fechas programadas ({@code publishAt} y {@code unpublishAt}) se
+ * guardan en {@code blog_posts} y se mantienen en memoria en una cola de
+ * retardo que se reconstruye desde la base de datos al arrancar, leyendo
+ * solo los posts con una fecha pendiente. Un único hilo espera al
+ * siguiente vencimiento y aplica las transiciones vencidas por lotes: una
+ * consulta con bloqueo y un solo UPDATE por lote, un ajuste por categoría y
+ * un único {@link BlogPostsChangedEvent} por lote para que se invaliden las
+ * cachés y se actualicen los índices.
+ * 
+ * La cola solo indica cuándo despertar: qué posts cambian lo decide la
+ * base de datos comparando las fechas con la hora actual, por lo que un
+ * vencimiento antiguo o repetido (post reprogramado, otra instancia que ya
+ * lo aplicó) no tiene efecto y los vencimientos que se adelantan por un
+ * ajuste del reloj se vuelven a encolar. Como el reloj también puede
+ * adelantarse, una pasada periódica sobre los índices de las fechas aplica
+ * las transiciones que la cola no haya despertado a tiempo.
+ * 
+ * @author Rafael Alvarado García
+ */
+@Service
+public class PublicationScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(PublicationScheduler.class);
+
+    /**
+     * Número máximo de posts actualizados por transacción
+     */
+    private static final int BATCH_SIZE = 500;
+
+    @Autowired
+    private BlogPostRepository blogPostRepository;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final DelayQueue<Transition> queue = new DelayQueue<>();
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "blog-publication");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Valida las fechas programadas de un post que se va a guardar y aplica
+     * en el acto las que ya vencieron.
+     * 
+     * @param post Post con las fechas programadas asignadas
+     * @throws BadRequestException Si la retirada no es posterior a la publicación
+     */
+    public void applyDue(BlogPost post) {
+        LocalDateTime publishAt = post.getPublishAt();
+        LocalDateTime unpublishAt = post.getUnpublishAt();
+        if (publishAt != null && unpublishAt != null && !unpublishAt.isAfter(publishAt)) {
+            throw new BadRequestException("La fecha de retirada debe ser posterior a la de publicación");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        if (publishAt != null && !publishAt.isAfter(now)) {
+            post.setPublished(true);
+            post.setPublishAt(null);
+        }
+        if (unpublishAt != null && !unpublishAt.isAfter(now)) {
+            post.setPublished(false);
+            post.setUnpublishAt(null);
+        }
+    }
+
+    /**
+     * Encola las fechas programadas pendientes de un post guardado.
+     * 
+     * @param post Post con ID asignado
+     */
+    public void schedule(BlogPost post) {
+        if (post.getPublishAt() != null) {
+            queue.add(new Transition(post.getId(), post.getPublishAt()));
+        }
+        if (post.getUnpublishAt() != null) {
+            queue.add(new Transition(post.getId(), post.getUnpublishAt()));
+        }
+    }
+
+    /**
+     * Reconstruye la cola desde la base de datos, aplica las transiciones
+     * vencidas mientras la aplicación estaba detenida e inicia el hilo que
+     * espera a las siguientes.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        for (Object[] row : blogPostRepository.findScheduledPublications()) {
+            queue.add(new Transition((Long) row[0], (LocalDateTime) row[1]));
+        }
+        for (Object[] row : blogPostRepository.findScheduledUnpublications()) {
+            queue.add(new Transition((Long) row[0], (LocalDateTime) row[1]));
+        }
+        logger.info("Programación de publicaciones cargada: {} fechas pendientes", queue.size());
+
+        applyDueTransitions();
+        executor.submit(this::run);
+    }
+
+    /**
+     * Aplica todas las publicaciones y retiradas vencidas. Además de tras
+     * cada vencimiento de la cola, se ejecuta periódicamente para cubrir los
+     * saltos del reloj.
+     * 
+     * @return Número de transiciones aplicadas
+     */
+    @Scheduled(fixedDelayString = "${blog.publication.catch-up-interval}",
+            initialDelayString = "${blog.publication.catch-up-interval}")
+    public synchronized int applyDueTransitions() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        int applied;
+        do {
+            applied = transaction.execute(status -> applyBatch(now));
+            total += applied;
+        } while (applied > 0);
+
+        if (total > 0) {
+            logger.info("Publicación programada: {} posts actualizados", total);
+        }
+        return total;
+    }
+
+    /**
+     * Detiene el hilo de la cola al cerrar la aplicación.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Espera a cada vencimiento, aplica las transiciones vencidas y vuelve a
+     * encolar las que despertaron antes de tiempo.
+     */
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            List<Transition> due = new ArrayList<>();
+            try {
+                due.add(queue.take());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            queue.drainTo(due);
+
+            try {
+                applyDueTransitions();
+            } catch (RuntimeException ex) {
+                // La pasada periódica volverá a intentarlo
+                logger.error("No se pudieron aplicar las publicaciones programadas", ex);
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            for (Transition transition : due) {
+                if (transition.dueAt.isAfter(now)) {
+                    queue.add(transition);
+                }
+            }
+        }
+    }
+
+    /**
+     * Aplica un lote de publicaciones y de retiradas vencidas. Las
+     * publicaciones se aplican primero, de modo que un post con las dos
+     * fechas vencidas queda retirado.
+     * 
+     * @param now Fecha y hora de referencia
+     * @return Número de transiciones aplicadas
+     */
+    private int applyBatch(LocalDateTime now) {
+        Map<String, Long> deltas = new LinkedHashMap<>();
+        List<BlogPostChangedEvent> events = new ArrayList<>();
+
+        List<Object[]> publications = blogPostRepository.findDuePublicationsForUpdate(now, Limit.of(BATCH_SIZE));
+        if (!publications.isEmpty()) {
+            blogPostRepository.publishScheduled(ids(publications), now);
+            collectChanges(publications, true, deltas, events);
+        }
+
+        List<Object[]> unpublications = blogPostRepository.findDueUnpublicationsForUpdate(now,
+                Limit.of(BATCH_SIZE));
+        if (!unpublications.isEmpty()) {
+            blogPostRepository.unpublishScheduled(ids(unpublications), now);
+            collectChanges(unpublications, false, deltas, events);
+        }
+
+        if (!events.isEmpty()) {
+            categoryService.applyDeltas(deltas);
+            eventPublisher.publishEvent(new BlogPostsChangedEvent(events));
+        }
+        return events.size();
+    }
+
+    /**
+     * Registra el cambio de estado de cada post del lote.
+     * 
+     * @param rows      Filas con la forma [id, category, published] previas al cambio
+     * @param published Estado de publicación tras el cambio
+     * @param deltas    Variación de posts publicados por categoría
+     * @param events    Eventos de cambio a publicar
+     */
+    private void collectChanges(List<Object[]> rows, boolean published, Map<String, Long> deltas,
+            List<BlogPostChangedEvent> events) {
+        for (Object[] row : rows) {
+            Long id = (Long) row[0];
+            String category = (String) row[1];
+            boolean wasPublished = (Boolean) row[2];
+            if (wasPublished != published) {
+                deltas.merge(category, published ? 1L : -1L, Long::sum);
+            }
+            events.add(BlogPostChangedEvent.updated(id, category, category, wasPublished, published));
+        }
+    }
+
+    private List<Long> ids(List<Object[]> rows) {
+        return rows.stream().map(row -> (Long) row[0]).toList();
+    }
+
+    /**
+     * Vencimiento de una fecha programada de un post.
+     */
+    private static final class Transition implements Delayed {
+
+        private final Long postId;
+
+        private final LocalDateTime dueAt;
+
+        private Transition(Long postId, LocalDateTime dueAt) {
+            this.postId = postId;
+            this.dueAt = dueAt;
+        }
+
+        /**
+         * Retardo restante según el reloj del sistema, que se vuelve a
+         * consultar cada vez que la cola comprueba el vencimiento.
+         */
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(Duration.between(LocalDateTime.now(), dueAt));
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            if (other instanceof Transition transition) {
+                int byDueAt = dueAt.compareTo(transition.dueAt);
+                return byDueAt != 0 ? byDueAt : postId.compareTo(transition.postId);
+            }
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+}
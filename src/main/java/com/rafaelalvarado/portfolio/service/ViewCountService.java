@@ -0,0 +1,296 @@
+package com.rafaelalvarado.portfolio.service;
+
+import com.rafaelalvarado.portfolio.dto.BlogPostDTO;
+import com.rafaelalvarado.portfolio.event.PostViewsFlushedEvent;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Servicio de contadores de visitas de los posts.
+ * 
+ * Cada visita incrementa un {@link LongAdder} en memoria (sin bloqueos ni
+ * escrituras en la base de datos) y los acumulados se vuelcan
+ * periódicamente en lotes: una sola sentencia UPDATE por cada
+ * {@value #UPDATE_CHUNK_SIZE} posts, con los IDs ordenados para no provocar
+ * interbloqueos. Cada lote registra su ID en {@code blog_view_count_flushes}
+ * dentro de la misma transacción, de modo que reintentarlo no suma dos veces.
+ * 
+ * Las visitas pendientes se vuelcan también al cerrar la aplicación; ante una
+ * caída solo se pierden las acumuladas desde el último volcado
+ * ({@code blog.views.flush-interval}).
+ * 
+ * El contador de la caché de posts se fija al cargar el post, así que no se
+ * sirve tal cual: {@link #withCurrentViews(BlogPostDTO)} lo sustituye por el
+ * total leído al volcar el último lote del post más las visitas aún en
+ * memoria. Tras cada volcado se publica {@link PostViewsFlushedEvent} para
+ * refrescar las copias serializadas del post (micro-caché HTTP y snapshot).
+ * 
+ * @author Rafael Alvarado García
+ */
+@Service
+public class ViewCountService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ViewCountService.class);
+
+    /**
+     * Número máximo de posts por sentencia UPDATE
+     */
+    private static final int UPDATE_CHUNK_SIZE = 500;
+
+    /**
+     * Antigüedad a partir de la cual se eliminan los registros de volcados
+     */
+    private static final Duration FLUSH_LOG_RETENTION = Duration.ofDays(1);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private final ConcurrentHashMap<Long, LongAdder> pendingViews = new ConcurrentHashMap<>();
+
+    /**
+     * Total de visitas de cada post leído de la base de datos al aplicar su
+     * último lote
+     */
+    private final ConcurrentHashMap<Long, Long> flushedViews = new ConcurrentHashMap<>();
+
+    /**
+     * Lote extraído de los contadores que aún no se ha podido aplicar (se
+     * modifica con el monitor de la instancia)
+     */
+    private volatile ViewBatch failedBatch;
+
+    /**
+     * Registra una visita a un post.
+     * 
+     * @param postId ID del post
+     */
+    public void recordView(Long postId) {
+        LongAdder views = pendingViews.get(postId);
+        if (views == null) {
+            views = pendingViews.computeIfAbsent(postId, key -> new LongAdder());
+        }
+        views.increment();
+    }
+
+    /**
+     * Obtiene el número de visitas actual de un post: el total persistido
+     * más reciente que conoce esta instancia más las visitas que aún no se
+     * han volcado.
+     * 
+     * Las visitas de esta instancia se ven en cuanto se registran. Con
+     * varias instancias, las volcadas por las demás se ven al volcar esta un
+     * lote del mismo post o al recargarse el post en la caché
+     * ({@code blog.cache.ttl}).
+     * 
+     * @param postId      ID del post
+     * @param loadedCount Contador leído junto con el post
+     * @return Número de visitas
+     */
+    public long getViewCount(Long postId, long loadedCount) {
+        long views = Math.max(loadedCount, flushedViews.getOrDefault(postId, 0L));
+        LongAdder pending = pendingViews.get(postId);
+        if (pending != null) {
+            views += pending.sum();
+        }
+        ViewBatch failed = failedBatch;
+        if (failed != null) {
+            views += failed.deltas.getOrDefault(postId, 0L);
+        }
+        return views;
+    }
+
+    /**
+     * Devuelve una copia del post con el número de visitas actual (véase
+     * {@link #getViewCount(Long, long)}); el DTO recibido, que puede estar
+     * en caché, no se modifica.
+     * 
+     * @param post Post tal como lo devuelve BlogService
+     * @return Copia del post con el contador actualizado
+     */
+    public BlogPostDTO withCurrentViews(BlogPostDTO post) {
+        return post.toBuilder()
+                .viewCount(getViewCount(post.getId(), post.getViewCount()))
+                .build();
+    }
+
+    /**
+     * Vuelca a la base de datos las visitas acumuladas.
+     * 
+     * Si el volcado anterior falló se reintenta primero con el mismo ID de
+     * lote; mientras no se aplique, las visitas nuevas siguen acumulándose
+     * en memoria.
+     */
+    @Scheduled(fixedDelayString = "${blog.views.flush-interval}",
+            initialDelayString = "${blog.views.flush-interval}")
+    public synchronized void flush() {
+        if (failedBatch != null) {
+            if (!apply(failedBatch)) {
+                return;
+            }
+            failedBatch = null;
+        }
+
+        Map<Long, Long> deltas = new TreeMap<>();
+        pendingViews.forEach((postId, views) -> {
+            long count = views.sumThenReset();
+            if (count > 0) {
+                deltas.put(postId, count);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        ViewBatch batch = new ViewBatch(UUID.randomUUID().toString(), deltas);
+        if (!apply(batch)) {
+            failedBatch = batch;
+        }
+    }
+
+    /**
+     * Vuelca las visitas pendientes al cerrar la aplicación.
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * Aplica un lote en una transacción y registra su ID.
+     * 
+     * @param batch Lote de visitas
+     * @return true si el lote quedó aplicado (ahora o en un intento anterior)
+     */
+    private boolean apply(ViewBatch batch) {
+        try {
+            applyBatch(batch.batchId, batch.deltas);
+            return true;
+        } catch (DataAccessException ex) {
+            logger.warn("No se pudieron volcar las visitas del lote {} ({} posts): {}", batch.batchId,
+                    batch.deltas.size(), ex.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Suma las visitas de un lote a {@code blog_posts} salvo que el lote ya
+     * se haya aplicado. En la misma transacción lee los totales resultantes,
+     * que se publican con {@link PostViewsFlushedEvent} tras el commit.
+     * 
+     * @param batchId ID del lote
+     * @param deltas  Visitas por ID de post, ordenadas por ID
+     * @return true si se aplicó ahora, false si ya estaba aplicado
+     */
+    boolean applyBatch(String batchId, Map<Long, Long> deltas) {
+        long totalViews = deltas.values().stream().mapToLong(Long::longValue).sum();
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, Long> totals = new HashMap<>();
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                jdbcTemplate.update("INSERT INTO blog_view_count_flushes (batch_id, post_count, total_views, "
+                        + "flushed_at) VALUES (?, ?, ?, ?)", batchId, deltas.size(), totalViews, now);
+
+                List<Map.Entry<Long, Long>> entries = new ArrayList<>(deltas.entrySet());
+                for (int from = 0; from < entries.size(); from += UPDATE_CHUNK_SIZE) {
+                    List<Map.Entry<Long, Long>> chunk = entries.subList(from,
+                            Math.min(from + UPDATE_CHUNK_SIZE, entries.size()));
+                    updateChunk(chunk);
+                    readTotals(chunk, totals);
+                }
+
+                jdbcTemplate.update("DELETE FROM blog_view_count_flushes WHERE flushed_at < ?",
+                        now.minus(FLUSH_LOG_RETENTION));
+            });
+        } catch (DuplicateKeyException ex) {
+            logger.info("El lote de visitas {} ya estaba aplicado", batchId);
+            return false;
+        }
+        logger.debug("Volcadas {} visitas de {} posts (lote {})", totalViews, deltas.size(), batchId);
+
+        totals.forEach((postId, total) -> flushedViews.merge(postId, total, Math::max));
+        if (!totals.isEmpty()) {
+            eventPublisher.publishEvent(new PostViewsFlushedEvent(new ArrayList<>(totals.keySet())));
+        }
+        return true;
+    }
+
+    /**
+     * Incrementa los contadores de un grupo de posts con una sola sentencia.
+     * 
+     * @param entries Visitas por ID de post
+     */
+    private void updateChunk(List<Map.Entry<Long, Long>> entries) {
+        StringBuilder sql = new StringBuilder("UPDATE blog_posts SET view_count = view_count + CASE id");
+        List<Object> params = new ArrayList<>(entries.size() * 3);
+        for (Map.Entry<Long, Long> entry : entries) {
+            sql.append(" WHEN ? THEN ?");
+            params.add(entry.getKey());
+            params.add(entry.getValue());
+        }
+        sql.append(" ELSE 0 END WHERE id IN (")
+                .append(String.join(", ", Collections.nCopies(entries.size(), "?")))
+                .append(")");
+        for (Map.Entry<Long, Long> entry : entries) {
+            params.add(entry.getKey());
+        }
+        jdbcTemplate.update(sql.toString(), params.toArray());
+    }
+
+    /**
+     * Lee el total de visitas de un grupo de posts recién actualizados. Los
+     * posts eliminados no aparecen en el resultado.
+     * 
+     * @param entries Visitas por ID de post
+     * @param totals  Mapa en el que se añade el total de cada post
+     */
+    private void readTotals(List<Map.Entry<Long, Long>> entries, Map<Long, Long> totals) {
+        String sql = "SELECT id, view_count FROM blog_posts WHERE id IN ("
+                + String.join(", ", Collections.nCopies(entries.size(), "?")) + ")";
+        jdbcTemplate.query(sql, rs -> {
+            totals.put(rs.getLong("id"), rs.getLong("view_count"));
+        }, entries.stream().map(Map.Entry::getKey).toArray());
+    }
+
+    /**
+     * Visitas extraídas de los contadores junto con el ID de su lote.
+     */
+    private static final class ViewBatch {
+
+        private final String batchId;
+
+        private final Map<Long, Long> deltas;
+
+        private ViewBatch(String batchId, Map<Long, Long> deltas) {
+            this.batchId = batchId;
+            this.deltas = deltas;
+        }
+    }
+}
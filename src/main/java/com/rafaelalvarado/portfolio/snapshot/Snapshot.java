@@ -0,0 +1,48 @@
+package com.rafaelalvarado.portfolio.snapshot;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Versión inmutable del snapshot: directorio en disco y manifiesto con las
+ * respuestas que contiene, indexadas por ruta.
+ * 
+ * @author Rafael Alvarado García
+ */
+public class Snapshot {
+
+    private final String version;
+
+    private final Path directory;
+
+    private final Map<String, SnapshotEntry> entries;
+
+    public Snapshot(String version, Path directory, Map<String, SnapshotEntry> entries) {
+        this.version = version;
+        this.directory = directory;
+        this.entries = Collections.unmodifiableMap(entries);
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public Map<String, SnapshotEntry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Obtiene la respuesta pregenerada para una ruta.
+     * 
+     * @param path Ruta dentro de la aplicación (por ejemplo /blog/posts/5)
+     * @return SnapshotEntry, o null si la ruta no forma parte del snapshot
+     */
+    public SnapshotEntry lookup(String path) {
+        return entries.get(path);
+    }
+}
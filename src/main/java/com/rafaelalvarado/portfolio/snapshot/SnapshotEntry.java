@@ -0,0 +1,40 @@
+package com.rafaelalvarado.portfolio.snapshot;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Respuesta pública pregenerada dentro de una versión del snapshot.
+ * 
+ * Guarda el nombre de los ficheros (relativos al directorio de la versión)
+ * y las cabeceras de validación, de modo que servirla no requiere consultar
+ * la base de datos.
+ * 
+ * @author Rafael Alvarado García
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SnapshotEntry {
+
+    /**
+     * Fichero con el cuerpo JSON
+     */
+    private String file;
+
+    /**
+     * Fichero con el cuerpo comprimido en gzip (null si no se generó)
+     */
+    private String gzipFile;
+
+    /**
+     * ETag fuerte (sin comillas), igual al que genera la API
+     */
+    private String etag;
+
+    /**
+     * Fecha de última modificación en milisegundos desde epoch (-1 si no aplica)
+     */
+    private long lastModified;
+}
@@ -0,0 +1,497 @@
+package com.rafaelalvarado.portfolio.snapshot;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rafaelalvarado.portfolio.dto.BlogPostDTO;
+import com.rafaelalvarado.portfolio.dto.BlogPostSummaryDTO;
+import com.rafaelalvarado.portfolio.dto.ContentVersion;
+import com.rafaelalvarado.portfolio.event.BlogPostChangedEvent;
+import com.rafaelalvarado.portfolio.event.BlogPostsChangedEvent;
+import com.rafaelalvarado.portfolio.event.PostViewsFlushedEvent;
+import com.rafaelalvarado.portfolio.exception.ResourceNotFoundException;
+import com.rafaelalvarado.portfolio.service.BlogService;
+import com.rafaelalvarado.portfolio.service.ViewCountService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Genera en disco un snapshot de las respuestas públicas del blog: el
+ * listado global, el listado de cada categoría y el detalle de cada post
+ * publicado.
+ * 
+ * Cada versión se escribe en un directorio nuevo junto con su
+ * {@code manifest.json}. Tras un cambio confirmado solo se vuelven a
+ * generar los ficheros afectados; el resto se enlaza (hard link) desde la
+ * versión anterior. El paso a la nueva versión es atómico: se renombra el
+ * fichero {@code current} que apunta a ella y se publica en
+ * {@link SnapshotStore}. Las rutas afectadas se retiran del snapshot en
+ * cuanto se confirma el cambio, de modo que nunca se sirve un estado
+ * anterior mientras se regeneran.
+ * 
+ * El detalle de un post se regenera también tras cada volcado de sus
+ * visitas, de modo que su contador va como mucho
+ * {@code blog.views.flush-interval} (más lo que tarde la generación) por
+ * detrás; mientras tanto se sigue sirviendo la copia anterior.
+ * 
+ * La generación se ejecuta en un único hilo y agrupa los cambios que llegan
+ * mientras hay otra en curso. Si una generación falla, sus rutas vuelven a
+ * quedar pendientes y se reintenta pasado {@code blog.snapshot.retry-delay};
+ * mientras no exista una versión completa, cada intento genera una.
+ * 
+ * @author Rafael Alvarado García
+ */
+@Component
+public class SnapshotGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(SnapshotGenerator.class);
+
+    /**
+     * Ruta del listado global de posts
+     */
+    public static final String POSTS_PATH = "/blog/posts";
+
+    /**
+     * Prefijo de las rutas de los listados por categoría
+     */
+    public static final String CATEGORY_PATH_PREFIX = POSTS_PATH + "/category/";
+
+    /**
+     * Fichero que apunta a la versión vigente
+     */
+    public static final String CURRENT_FILE = "current";
+
+    /**
+     * Fichero con el manifiesto de cada versión
+     */
+    public static final String MANIFEST_FILE = "manifest.json";
+
+    private static final String VERSION_PREFIX = "v";
+
+    private static final String GZIP_SUFFIX = ".gz";
+
+    /**
+     * Tamaño mínimo del cuerpo para generar su variante gzip
+     */
+    private static final int GZIP_MIN_BYTES = 512;
+
+    @Autowired
+    private BlogService blogService;
+
+    @Autowired
+    private SnapshotStore snapshotStore;
+
+    @Autowired
+    private ViewCountService viewCountService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${blog.snapshot.enabled}")
+    private boolean enabled;
+
+    @Value("${blog.snapshot.directory}")
+    private String directory;
+
+    @Value("${blog.snapshot.gzip}")
+    private boolean gzip;
+
+    @Value("${blog.snapshot.retained-versions}")
+    private int retainedVersions;
+
+    @Value("${blog.snapshot.retry-delay}")
+    private Duration retryDelay;
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "blog-snapshot");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    private final Object lock = new Object();
+
+    /**
+     * Rutas pendientes de regenerar (protegido por {@link #lock})
+     */
+    private final Set<String> pending = new LinkedHashSet<>();
+
+    /**
+     * Indica si hay una regeneración encolada (protegido por {@link #lock})
+     */
+    private boolean scheduled;
+
+    /**
+     * Última versión generada, con todas sus entradas. Solo se accede desde
+     * el hilo de generación.
+     */
+    private Snapshot lastBuilt;
+
+    /**
+     * Genera el snapshot completo al arrancar la aplicación.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (enabled) {
+            synchronized (lock) {
+                scheduled = true;
+                executor.submit(this::generatePending);
+            }
+        }
+    }
+
+    /**
+     * Retira y vuelve a generar las rutas afectadas tras el commit del cambio
+     * de un post. Se ejecuta después de invalidar las cachés para que la
+     * regeneración lea el estado nuevo.
+     * 
+     * @param event Evento de cambio del post
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onPostChanged(BlogPostChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        Set<String> paths = new LinkedHashSet<>();
+        paths.add(POSTS_PATH + "/" + event.getPostId());
+        if (event.affectsPublishedListings()) {
+            paths.add(POSTS_PATH);
+            for (String category : event.getAffectedCategories()) {
+                paths.add(CATEGORY_PATH_PREFIX + category);
+            }
+        }
+
+        synchronized (lock) {
+            pending.addAll(paths);
+            snapshotStore.invalidate(paths);
+            if (!scheduled) {
+                scheduled = true;
+                executor.submit(this::generatePending);
+            }
+        }
+    }
+
+    /**
+     * Retira y vuelve a generar las rutas afectadas por un bloque de posts
+     * modificados.
+     * 
+     * @param event Evento del bloque de cambios
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onPostsChanged(BlogPostsChangedEvent event) {
+        event.getChanges().forEach(this::onPostChanged);
+    }
+
+    /**
+     * Vuelve a generar el detalle de los posts cuyo contador de visitas se
+     * ha volcado. El contenido no cambia, así que la copia anterior se sigue
+     * sirviendo hasta que se publica la nueva.
+     * 
+     * @param event Evento del volcado de visitas
+     */
+    @EventListener
+    public void onViewsFlushed(PostViewsFlushedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        synchronized (lock) {
+            for (Long postId : event.getPostIds()) {
+                pending.add(POSTS_PATH + "/" + postId);
+            }
+            if (!scheduled) {
+                scheduled = true;
+                executor.submit(this::generatePending);
+            }
+        }
+    }
+
+    /**
+     * Detiene el hilo de generación al cerrar la aplicación.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Genera una versión completa con todas las rutas públicas.
+     * 
+     * @return true si la versión se generó y publicó
+     */
+    private boolean generateAll() {
+        try {
+            long start = System.currentTimeMillis();
+            List<BlogPostSummaryDTO> posts = blogService.getAllPublishedPosts();
+            Set<String> paths = new LinkedHashSet<>();
+            paths.add(POSTS_PATH);
+            for (BlogPostSummaryDTO post : posts) {
+                paths.add(CATEGORY_PATH_PREFIX + post.getCategory());
+                paths.add(POSTS_PATH + "/" + post.getId());
+            }
+
+            lastBuilt = null;
+            Snapshot snapshot = buildVersion(paths);
+            publish(snapshot);
+            logger.info("Snapshot del blog generado ({} rutas) en {} ms: {}", snapshot.getEntries().size(),
+                    System.currentTimeMillis() - start, snapshot.getVersion());
+            return true;
+        } catch (RuntimeException ex) {
+            logger.error("No se pudo generar el snapshot del blog", ex);
+            return false;
+        }
+    }
+
+    /**
+     * Genera una versión nueva con las rutas pendientes, o una completa si
+     * todavía no existe ninguna.
+     */
+    private void generatePending() {
+        Set<String> paths;
+        synchronized (lock) {
+            paths = new LinkedHashSet<>(pending);
+            pending.clear();
+            scheduled = false;
+        }
+        if (lastBuilt == null) {
+            // La versión completa ya incluye los cambios pendientes
+            if (!generateAll()) {
+                retry(paths);
+            }
+            return;
+        }
+
+        try {
+            Snapshot snapshot = buildVersion(paths);
+            publish(snapshot);
+            logger.debug("Snapshot del blog actualizado ({} rutas regeneradas): {}", paths.size(),
+                    snapshot.getVersion());
+        } catch (RuntimeException ex) {
+            logger.error("No se pudo actualizar el snapshot del blog", ex);
+            retry(paths);
+        }
+    }
+
+    /**
+     * Devuelve a pendientes las rutas de una generación fallida y programa
+     * un nuevo intento.
+     * 
+     * @param paths Rutas que no se pudieron generar
+     */
+    private void retry(Set<String> paths) {
+        synchronized (lock) {
+            pending.addAll(paths);
+            if (!scheduled) {
+                scheduled = true;
+                executor.schedule(this::generatePending, retryDelay.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Escribe una versión nueva: genera las rutas indicadas y enlaza desde la
+     * versión anterior las que no cambiaron.
+     * 
+     * @param paths Rutas a generar
+     * @return Snapshot de la nueva versión
+     */
+    private Snapshot buildVersion(Set<String> paths) {
+        Path root = Paths.get(directory);
+        String version = String.format("%s%d-%06d", VERSION_PREFIX, System.currentTimeMillis(),
+                sequence.incrementAndGet() % 1_000_000);
+        Path versionDir = root.resolve(version);
+
+        try {
+            Files.createDirectories(versionDir);
+            Map<String, SnapshotEntry> entries = new HashMap<>();
+
+            if (lastBuilt != null) {
+                for (Map.Entry<String, SnapshotEntry> previous : lastBuilt.getEntries().entrySet()) {
+                    if (!paths.contains(previous.getKey())) {
+                        SnapshotEntry entry = previous.getValue();
+                        link(lastBuilt.getDirectory(), versionDir, entry.getFile());
+                        if (entry.getGzipFile() != null) {
+                            link(lastBuilt.getDirectory(), versionDir, entry.getGzipFile());
+                        }
+                        entries.put(previous.getKey(), entry);
+                    }
+                }
+            }
+
+            for (String path : paths) {
+                SnapshotEntry entry = write(versionDir, path);
+                if (entry != null) {
+                    entries.put(path, entry);
+                }
+            }
+
+            objectMapper.writeValue(versionDir.resolve(MANIFEST_FILE).toFile(), entries);
+
+            Path pointer = root.resolve(CURRENT_FILE);
+            Path temp = root.resolve(CURRENT_FILE + ".tmp");
+            Files.writeString(temp, version, StandardCharsets.UTF_8);
+            Files.move(temp, pointer, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+            Snapshot snapshot = new Snapshot(version, versionDir.toRealPath(), entries);
+            lastBuilt = snapshot;
+            return snapshot;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Error al escribir la versión " + version + " del snapshot", ex);
+        }
+    }
+
+    /**
+     * Publica la versión en {@link SnapshotStore}, omitiendo las rutas que
+     * cambiaron mientras se generaba, y elimina las versiones antiguas.
+     * 
+     * @param snapshot Versión generada
+     */
+    private void publish(Snapshot snapshot) {
+        synchronized (lock) {
+            if (pending.isEmpty()) {
+                snapshotStore.publish(snapshot);
+            } else {
+                Map<String, SnapshotEntry> entries = new HashMap<>(snapshot.getEntries());
+                entries.keySet().removeAll(pending);
+                snapshotStore.publish(new Snapshot(snapshot.getVersion(), snapshot.getDirectory(), entries));
+            }
+        }
+        deleteOldVersions();
+    }
+
+    /**
+     * Genera el fichero de una ruta.
+     * 
+     * @param versionDir Directorio de la versión
+     * @param path       Ruta pública
+     * @return SnapshotEntry, o null si la ruta ya no tiene contenido público
+     * @throws IOException Si falla la escritura
+     */
+    private SnapshotEntry write(Path versionDir, String path) throws IOException {
+        Object body;
+        ContentVersion contentVersion;
+        String file;
+
+        if (path.equals(POSTS_PATH)) {
+            contentVersion = blogService.getPublishedListingVersion();
+            body = blogService.getAllPublishedPosts();
+            file = "posts.json";
+        } else if (path.startsWith(CATEGORY_PATH_PREFIX)) {
+            String category = path.substring(CATEGORY_PATH_PREFIX.length());
+            contentVersion = blogService.getCategoryListingVersion(category);
+            List<BlogPostSummaryDTO> posts = blogService.getPostsByCategory(category);
+            if (posts.isEmpty()) {
+                return null;
+            }
+            body = posts;
+            file = "category-" + HexFormat.of().formatHex(category.getBytes(StandardCharsets.UTF_8)) + ".json";
+        } else {
+            Long id = Long.valueOf(path.substring(POSTS_PATH.length() + 1));
+            try {
+                contentVersion = blogService.getPostVersion(id);
+                BlogPostDTO post = blogService.getPostById(id);
+                if (!Boolean.TRUE.equals(post.getPublished())) {
+                    return null;
+                }
+                body = viewCountService.withCurrentViews(post);
+            } catch (ResourceNotFoundException ex) {
+                return null;
+            }
+            file = "post-" + id + ".json";
+        }
+
+        byte[] json = objectMapper.writeValueAsBytes(body);
+        Files.write(versionDir.resolve(file), json);
+
+        String gzipFile = null;
+        if (gzip && json.length >= GZIP_MIN_BYTES) {
+            gzipFile = file + GZIP_SUFFIX;
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(versionDir.resolve(gzipFile)))) {
+                out.write(json);
+            }
+        }
+        return new SnapshotEntry(file, gzipFile, contentVersion.getEtag(), contentVersion.getLastModified());
+    }
+
+    /**
+     * Enlaza un fichero sin cambios desde la versión anterior, o lo copia si
+     * el sistema de ficheros no admite hard links.
+     * 
+     * @param fromDir Directorio de la versión anterior
+     * @param toDir   Directorio de la nueva versión
+     * @param file    Nombre del fichero
+     * @throws IOException Si falla la copia
+     */
+    private void link(Path fromDir, Path toDir, String file) throws IOException {
+        Path source = fromDir.resolve(file);
+        Path target = toDir.resolve(file);
+        try {
+            Files.createLink(target, source);
+        } catch (UnsupportedOperationException | FileSystemException ex) {
+            Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Elimina las versiones más antiguas, conservando las últimas
+     * {@code blog.snapshot.retained-versions} para las peticiones que aún
+     * las estén leyendo.
+     */
+    private void deleteOldVersions() {
+        Path root = Paths.get(directory);
+        try (Stream<Path> versions = Files.list(root)) {
+            List<Path> old = versions
+                    .filter(Files::isDirectory)
+                    .filter(dir -> dir.getFileName().toString().startsWith(VERSION_PREFIX))
+                    .sorted(Comparator.comparing((Path dir) -> dir.getFileName().toString()).reversed())
+                    .skip(Math.max(retainedVersions, 1))
+                    .toList();
+            for (Path dir : old) {
+                deleteRecursively(dir);
+            }
+        } catch (IOException ex) {
+            logger.warn("No se pudieron eliminar las versiones antiguas del snapshot: {}", ex.getMessage());
+        }
+    }
+
+    private void deleteRecursively(Path dir) throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+}
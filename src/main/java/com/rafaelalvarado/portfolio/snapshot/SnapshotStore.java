@@ -0,0 +1,56 @@
+package com.rafaelalvarado.portfolio.snapshot;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Referencia a la versión del snapshot que se está sirviendo.
+ * 
+ * El cambio de versión es atómico: los lectores obtienen una instancia
+ * inmutable de {@link Snapshot} y la siguen usando aunque se publique otra
+ * versión mientras atienden la petición.
+ * 
+ * @author Rafael Alvarado García
+ */
+@Component
+public class SnapshotStore {
+
+    private volatile Snapshot current;
+
+    /**
+     * Obtiene la versión actual.
+     * 
+     * @return Snapshot, o null si aún no se ha generado ninguna
+     */
+    public Snapshot getCurrent() {
+        return current;
+    }
+
+    /**
+     * Publica una nueva versión, sustituyendo a la actual.
+     * 
+     * @param snapshot Versión a servir
+     */
+    public synchronized void publish(Snapshot snapshot) {
+        this.current = snapshot;
+    }
+
+    /**
+     * Retira de la versión actual las rutas indicadas, para que dejen de
+     * servirse desde disco hasta que se regeneren.
+     * 
+     * @param paths Rutas afectadas por un cambio
+     */
+    public synchronized void invalidate(Collection<String> paths) {
+        Snapshot snapshot = current;
+        if (snapshot == null || paths.stream().noneMatch(snapshot.getEntries()::containsKey)) {
+            return;
+        }
+        Map<String, SnapshotEntry> entries = new HashMap<>(snapshot.getEntries());
+        entries.keySet().removeAll(paths);
+        this.current = new Snapshot(snapshot.getVersion(), snapshot.getDirectory(), entries);
+    }
+}
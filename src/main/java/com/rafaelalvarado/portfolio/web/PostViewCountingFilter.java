@@ -0,0 +1,74 @@
+package com.rafaelalvarado.portfolio.web;
+
+import com.rafaelalvarado.portfolio.search.TrendingIndex;
+import com.rafaelalvarado.portfolio.service.ViewCountService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Cuenta las visitas de {@code GET /blog/posts/{id}} para los contadores
+ * de visitas y el índice de posts en tendencia.
+ * 
+ * Se registra antes del snapshot y de la micro-caché HTTP para contar
+ * también las respuestas que no llegan al controlador. Solo cuentan las
+ * respuestas 200 y 304; los posts inexistentes no generan contadores, y
+ * tampoco cuentan las peticiones sintéticas de {@link StartupWarmUp}.
+ * 
+ * @author Rafael Alvarado García
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 20)
+public class PostViewCountingFilter extends OncePerRequestFilter {
+
+    private static final Pattern POST_PATH = Pattern.compile("/blog/posts/(\\d{1,18})");
+
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+    @Autowired
+    private ViewCountService viewCountService;
+
+    @Autowired
+    private TrendingIndex trendingIndex;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"GET".equals(request.getMethod());
+    }
+
+    /**
+     * Registra la visita una vez generada la respuesta.
+     * 
+     * @param request     Petición HTTP
+     * @param response    Respuesta HTTP
+     * @param filterChain Cadena de filtros
+     * @throws ServletException Si ocurre un error de servlet
+     * @throws IOException      Si ocurre un error de I/O
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        Matcher matcher = POST_PATH.matcher(urlPathHelper.getPathWithinApplication(request));
+        filterChain.doFilter(request, response);
+
+        int status = response.getStatus();
+        if (matcher.matches() && !StartupWarmUp.isWarmUpRequest(request)
+                && (status == HttpServletResponse.SC_OK || status == HttpServletResponse.SC_NOT_MODIFIED)) {
+            Long postId = Long.valueOf(matcher.group(1));
+            viewCountService.recordView(postId);
+            trendingIndex.recordView(postId);
+        }
+    }
+}
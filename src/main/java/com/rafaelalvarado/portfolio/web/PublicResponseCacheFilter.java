@@ -0,0 +1,312 @@
+package com.rafaelalvarado.portfolio.web;
+
+import com.rafaelalvarado.portfolio.cache.CachedResponse;
+import com.rafaelalvarado.portfolio.cache.HttpResponseCache;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Filtro de micro-caché para las rutas públicas {@code GET /blog/posts/**}.
+ * 
+ * Un acierto escribe directamente los bytes ya serializados (o su variante
+ * gzip si el cliente la acepta), sin pasar por el controlador ni por
+ * Jackson. Ante un fallo, solo la primera petición de una ráfaga ejecuta el
+ * controlador; las demás esperan su resultado. Las peticiones autenticadas
+ * no se almacenan.
+ * 
+ * Se registra después de la cadena de Spring Security, por lo que las
+ * cabeceras CORS se siguen agregando en cada respuesta.
+ * 
+ * @author Rafael Alvarado García
+ */
+@Component
+public class PublicResponseCacheFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(PublicResponseCacheFilter.class);
+
+    private static final String CACHED_PATH_PREFIX = "/blog/posts";
+
+    private static final String CACHE_STATUS_HEADER = "X-Cache";
+
+    private static final int GZIP_MIN_BYTES = 512;
+
+    private static final long COALESCING_TIMEOUT_SECONDS = 10;
+
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+    @Autowired
+    private HttpResponseCache httpResponseCache;
+
+    @Value("${blog.http-cache.enabled}")
+    private boolean enabled;
+
+    /**
+     * Solo se procesan peticiones GET anónimas a las rutas públicas del blog.
+     * Las peticiones del calentamiento también se omiten para que lleguen al
+     * controlador en cada ronda.
+     * 
+     * @param request Petición HTTP
+     * @return true si la petición no debe pasar por la micro-caché
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled
+                || !"GET".equals(request.getMethod())
+                || StringUtils.hasText(request.getHeader(HttpHeaders.AUTHORIZATION))
+                || StartupWarmUp.isWarmUpRequest(request)
+                || !urlPathHelper.getPathWithinApplication(request).startsWith(CACHED_PATH_PREFIX);
+    }
+
+    /**
+     * Sirve la respuesta desde la micro-caché o la calcula una sola vez por
+     * ráfaga de peticiones idénticas.
+     * 
+     * @param request     Petición HTTP
+     * @param response    Respuesta HTTP
+     * @param filterChain Cadena de filtros
+     * @throws ServletException Si ocurre un error de servlet
+     * @throws IOException      Si ocurre un error de I/O
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        String key = cacheKey(request);
+
+        CachedResponse cached = httpResponseCache.get(key);
+        if (cached != null) {
+            writeCached(request, response, cached, "HIT");
+            return;
+        }
+
+        CompletableFuture<CachedResponse> loader = new CompletableFuture<>();
+        CompletableFuture<CachedResponse> leader = httpResponseCache.joinInFlight(key, loader);
+        if (leader != null) {
+            CachedResponse shared = awaitLeader(leader);
+            if (shared != null) {
+                writeCached(request, response, shared, "HIT");
+            } else {
+                filterChain.doFilter(request, response);
+            }
+            return;
+        }
+
+        long generation = httpResponseCache.currentGeneration();
+        try {
+            ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+            filterChain.doFilter(new UnconditionalRequest(request), wrapper);
+
+            CachedResponse entry = toCachedResponse(wrapper);
+            loader.complete(entry);
+            if (entry != null) {
+                httpResponseCache.put(key, entry, generation);
+                writeCached(request, response, entry, "MISS");
+            } else {
+                wrapper.copyBodyToResponse();
+            }
+        } catch (IOException | ServletException | RuntimeException ex) {
+            loader.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            httpResponseCache.leaveInFlight(key, loader);
+        }
+    }
+
+    /**
+     * Construye la clave de caché a partir de la ruta y la query string.
+     * 
+     * @param request Petición HTTP
+     * @return Clave de caché
+     */
+    private String cacheKey(HttpServletRequest request) {
+        String path = urlPathHelper.getPathWithinApplication(request);
+        String query = request.getQueryString();
+        return query == null ? path : path + "?" + query;
+    }
+
+    /**
+     * Espera el resultado de la carga en curso de otra petición.
+     * 
+     * @param leader Future de la carga en curso
+     * @return Respuesta calculada, o null si no es almacenable o falló
+     */
+    private CachedResponse awaitLeader(CompletableFuture<CachedResponse> leader) {
+        try {
+            return leader.get(COALESCING_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException | TimeoutException ex) {
+            logger.debug("No se pudo reutilizar la respuesta en curso: {}", ex.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Convierte la respuesta del controlador en una entrada de caché. Solo se
+     * almacenan respuestas 200 sin codificación aplicada.
+     * 
+     * @param wrapper Respuesta capturada
+     * @return CachedResponse, o null si la respuesta no es almacenable
+     * @throws IOException Si falla la compresión
+     */
+    private CachedResponse toCachedResponse(ContentCachingResponseWrapper wrapper) throws IOException {
+        if (wrapper.getStatus() != HttpServletResponse.SC_OK
+                || wrapper.getHeader(HttpHeaders.CONTENT_ENCODING) != null) {
+            return null;
+        }
+
+        byte[] body = wrapper.getContentAsByteArray();
+        byte[] gzipBody = body.length >= GZIP_MIN_BYTES ? gzip(body) : null;
+        String lastModified = wrapper.getHeader(HttpHeaders.LAST_MODIFIED);
+        long lastModifiedMillis = lastModified != null
+                ? ZonedDateTime.parse(lastModified, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli()
+                : -1;
+
+        return new CachedResponse(wrapper.getContentType(), body, gzipBody,
+                wrapper.getHeader(HttpHeaders.ETAG), lastModified, lastModifiedMillis);
+    }
+
+    /**
+     * Escribe una respuesta almacenada, respondiendo 304 si el cliente ya
+     * tiene la misma versión.
+     * 
+     * @param request     Petición HTTP
+     * @param response    Respuesta HTTP
+     * @param cached      Respuesta almacenada
+     * @param cacheStatus Valor de la cabecera X-Cache
+     * @throws IOException Si ocurre un error de I/O
+     */
+    private void writeCached(HttpServletRequest request, HttpServletResponse response,
+            CachedResponse cached, String cacheStatus) throws IOException {
+        response.setHeader(CACHE_STATUS_HEADER, cacheStatus);
+        if (cached.getEtag() != null) {
+            response.setHeader(HttpHeaders.ETAG, cached.getEtag());
+        }
+        if (cached.getLastModified() != null) {
+            response.setHeader(HttpHeaders.LAST_MODIFIED, cached.getLastModified());
+        }
+
+        if (isNotModified(request, cached)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        byte[] body = cached.getBody();
+        if (cached.getGzipBody() != null) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (acceptsGzip(request)) {
+                response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+                body = cached.getGzipBody();
+            }
+        }
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(cached.getContentType());
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /**
+     * Evalúa If-None-Match (o If-Modified-Since en su ausencia) contra la
+     * respuesta almacenada.
+     * 
+     * @param request Petición HTTP
+     * @param cached  Respuesta almacenada
+     * @return true si se debe responder 304
+     */
+    private boolean isNotModified(HttpServletRequest request, CachedResponse cached) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            if (cached.getEtag() == null) {
+                return false;
+            }
+            for (String candidate : ifNoneMatch.split(",")) {
+                String tag = candidate.trim();
+                if (tag.equals("*") || tag.equals(cached.getEtag()) || tag.equals("W/" + cached.getEtag())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        if (cached.getLastModifiedMillis() < 0) {
+            return false;
+        }
+        try {
+            long ifModifiedSince = request.getDateHeader(HttpHeaders.IF_MODIFIED_SINCE);
+            return ifModifiedSince >= 0 && cached.getLastModifiedMillis() / 1000 <= ifModifiedSince / 1000;
+        } catch (IllegalArgumentException ex) {
+            return false;
+        }
+    }
+
+    private boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+    }
+
+    private byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(body);
+        }
+        return buffer.toByteArray();
+    }
+
+    /**
+     * Petición sin cabeceras condicionales, para que el controlador siempre
+     * genere la respuesta completa que se almacena en la caché.
+     */
+    private static class UnconditionalRequest extends HttpServletRequestWrapper {
+
+        UnconditionalRequest(HttpServletRequest request) {
+            super(request);
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return isConditional(name) ? null : super.getHeader(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            return isConditional(name) ? Collections.emptyEnumeration() : super.getHeaders(name);
+        }
+
+        @Override
+        public long getDateHeader(String name) {
+            return isConditional(name) ? -1 : super.getDateHeader(name);
+        }
+
+        private boolean isConditional(String name) {
+            return HttpHeaders.IF_NONE_MATCH.equalsIgnoreCase(name)
+                    || HttpHeaders.IF_MODIFIED_SINCE.equalsIgnoreCase(name);
+        }
+    }
+}
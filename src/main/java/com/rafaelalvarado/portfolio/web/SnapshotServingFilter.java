@@ -0,0 +1,154 @@
+package com.rafaelalvarado.portfolio.web;
+
+import com.rafaelalvarado.portfolio.snapshot.Snapshot;
+import com.rafaelalvarado.portfolio.snapshot.SnapshotEntry;
+import com.rafaelalvarado.portfolio.snapshot.SnapshotStore;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Sirve las rutas públicas {@code GET /blog/posts/**} desde el snapshot
+ * generado en disco, sin pasar por el controlador, JPA ni Jackson.
+ * 
+ * El cuerpo se envía sin copiarlo al heap: con el sendfile de Tomcat cuando
+ * el conector lo admite y, si no, con {@link FileChannel#transferTo}. Las
+ * rutas que no están en el snapshot (peticiones con parámetros, posts no
+ * publicados o rutas pendientes de regenerar) continúan por la cadena
+ * normal.
+ * 
+ * Se registra después de Spring Security y antes de la micro-caché HTTP.
+ * 
+ * @author Rafael Alvarado García
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 10)
+public class SnapshotServingFilter extends OncePerRequestFilter {
+
+    private static final String SNAPSHOT_HEADER = "X-Snapshot";
+
+    private static final String SENDFILE_SUPPORT_ATTR = "org.apache.tomcat.sendfile.support";
+
+    private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+
+    private static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+
+    private static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+    @Autowired
+    private SnapshotStore snapshotStore;
+
+    @Value("${blog.snapshot.serve}")
+    private boolean serve;
+
+    /**
+     * Solo se procesan peticiones GET anónimas y sin parámetros. Las
+     * peticiones del calentamiento también se omiten para que lleguen al
+     * controlador en cada ronda.
+     * 
+     * @param request Petición HTTP
+     * @return true si la petición no debe servirse desde el snapshot
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !serve
+                || snapshotStore.getCurrent() == null
+                || !"GET".equals(request.getMethod())
+                || request.getQueryString() != null
+                || StringUtils.hasText(request.getHeader(HttpHeaders.AUTHORIZATION))
+                || StartupWarmUp.isWarmUpRequest(request);
+    }
+
+    /**
+     * Responde desde el snapshot si la ruta forma parte de él.
+     * 
+     * @param request     Petición HTTP
+     * @param response    Respuesta HTTP
+     * @param filterChain Cadena de filtros
+     * @throws ServletException Si ocurre un error de servlet
+     * @throws IOException      Si ocurre un error de I/O
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        Snapshot snapshot = snapshotStore.getCurrent();
+        SnapshotEntry entry = snapshot.lookup(urlPathHelper.getPathWithinApplication(request));
+        if (entry == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        response.setHeader(SNAPSHOT_HEADER, snapshot.getVersion());
+        if (new ServletWebRequest(request, response).checkNotModified(entry.getEtag(), entry.getLastModified())) {
+            return;
+        }
+
+        String file = entry.getFile();
+        if (entry.getGzipFile() != null) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (acceptsGzip(request)) {
+                response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+                file = entry.getGzipFile();
+            }
+        }
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        send(request, response, snapshot.getDirectory().resolve(file));
+    }
+
+    /**
+     * Envía el fichero como cuerpo de la respuesta.
+     * 
+     * @param request  Petición HTTP
+     * @param response Respuesta HTTP
+     * @param file     Fichero a enviar
+     * @throws IOException Si ocurre un error de I/O
+     */
+    private void send(HttpServletRequest request, HttpServletResponse response, Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long length = channel.size();
+            response.setContentLengthLong(length);
+
+            if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT_ATTR))) {
+                request.setAttribute(SENDFILE_FILENAME_ATTR, file.toString());
+                request.setAttribute(SENDFILE_START_ATTR, 0L);
+                request.setAttribute(SENDFILE_END_ATTR, length);
+                return;
+            }
+
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = 0;
+            while (position < length) {
+                position += channel.transferTo(position, length - position, out);
+            }
+        }
+    }
+
+    private boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+    }
+}
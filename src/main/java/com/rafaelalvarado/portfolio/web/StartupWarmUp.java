@@ -0,0 +1,288 @@
+package com.rafaelalvarado.portfolio.web;
+
+import com.rafaelalvarado.portfolio.dto.BlogPostDTO;
+import com.rafaelalvarado.portfolio.dto.CategoryCountDTO;
+import com.rafaelalvarado.portfolio.repository.BlogPostRepository;
+import com.rafaelalvarado.portfolio.service.BlogService;
+import com.rafaelalvarado.portfolio.service.CategoryService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Calentamiento de la aplicación tras el arranque.
+ * 
+ * Después de cada despliegue el metamodelo de JPA, los serializadores de
+ * Jackson, el JIT y las cachés están fríos. Al recibir
+ * {@link ApplicationReadyEvent} se ejecuta en segundo plano una fase de
+ * calentamiento: primero se cargan en las cachés de BlogService el listado
+ * de posts publicados, las categorías y los posts con más visitas
+ * registradas en la base de datos; después se
+ * envían peticiones sintéticas a los controladores públicos a través del
+ * servidor local, por rondas, hasta que la duración de una ronda se
+ * estabiliza o se alcanza el límite de rondas o de tiempo.
+ * 
+ * Mientras dura, {@link WarmUpHealthIndicator} mantiene la aplicación como
+ * no preparada, y al terminar se registra su duración en la métrica
+ * {@value #DURATION_METRIC}. Las peticiones sintéticas llevan en la
+ * cabecera {@value #REQUEST_HEADER} un token aleatorio generado al arrancar
+ * el proceso, que nunca sale de él; no cuentan como visitas y no se responden desde
+ * la micro-caché ni desde el snapshot, de modo que cada ronda llega a los
+ * controladores.
+ * 
+ * @author Rafael Alvarado García
+ */
+@Component
+public class StartupWarmUp {
+
+    private static final Logger logger = LoggerFactory.getLogger(StartupWarmUp.class);
+
+    /**
+     * Cabecera que identifica las peticiones sintéticas del calentamiento
+     */
+    public static final String REQUEST_HEADER = "X-Warm-Up";
+
+    /**
+     * Métrica con la duración del calentamiento
+     */
+    public static final String DURATION_METRIC = "blog.warmup.duration";
+
+    /**
+     * Token de las peticiones sintéticas, distinto en cada proceso. No basta
+     * con comprobar que la petición llega desde la propia máquina: un proxy
+     * inverso en el mismo host reenvía desde allí las peticiones externas.
+     */
+    private static final byte[] REQUEST_TOKEN = newRequestToken();
+
+    /**
+     * Rondas mínimas de peticiones antes de comprobar si la latencia se
+     * estabilizó
+     */
+    private static final int MIN_ROUNDS = 3;
+
+    /**
+     * Variación máxima de la duración entre dos rondas consecutivas para
+     * considerar estabilizada la latencia
+     */
+    private static final double SETTLED_VARIATION = 0.1;
+
+    @Autowired
+    private BlogService blogService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private BlogPostRepository blogPostRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${blog.warmup.enabled}")
+    private boolean enabled;
+
+    @Value("${blog.warmup.popular-posts}")
+    private int popularPosts;
+
+    @Value("${blog.warmup.max-rounds}")
+    private int maxRounds;
+
+    @Value("${blog.warmup.timeout}")
+    private Duration timeout;
+
+    @Value("${server.servlet.context-path:}")
+    private String contextPath;
+
+    private volatile boolean complete;
+
+    /**
+     * Inicia el calentamiento en segundo plano al arrancar la aplicación.
+     * 
+     * @param event Evento de aplicación preparada
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        if (!enabled) {
+            complete = true;
+            return;
+        }
+        Integer port = event.getApplicationContext() instanceof WebServerApplicationContext context
+                ? context.getWebServer().getPort() : null;
+        Thread thread = new Thread(() -> warmUp(port), "blog-warmup");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Indica si el calentamiento terminó (o está desactivado).
+     * 
+     * @return true si la aplicación puede recibir tráfico
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * Ejecuta el calentamiento. Un error se registra y no impide que la
+     * aplicación pase a estar preparada.
+     * 
+     * @param port Puerto del servidor local, o null para omitir las
+     *             peticiones sintéticas
+     * @return Número de rondas de peticiones ejecutadas
+     */
+    public synchronized int warmUp(Integer port) {
+        long start = System.nanoTime();
+        int rounds = 0;
+        boolean settled = false;
+        try {
+            List<String> paths = preload();
+            if (port != null && port > 0) {
+                String baseUrl = "http://localhost:" + port + contextPath;
+                RestClient client = RestClient.builder().defaultHeader(REQUEST_HEADER, requestToken()).build();
+                long deadline = start + timeout.toNanos();
+                long previous = -1;
+                while (rounds < maxRounds && System.nanoTime() < deadline) {
+                    long roundStart = System.nanoTime();
+                    for (String path : paths) {
+                        request(client, URI.create(baseUrl + path));
+                    }
+                    long elapsed = System.nanoTime() - roundStart;
+                    rounds++;
+                    if (rounds >= MIN_ROUNDS && previous > 0
+                            && Math.abs(elapsed - previous) <= previous * SETTLED_VARIATION) {
+                        settled = true;
+                        break;
+                    }
+                    previous = elapsed;
+                }
+            }
+        } catch (RuntimeException ex) {
+            logger.warn("El calentamiento de la aplicación no se completó", ex);
+        } finally {
+            long duration = System.nanoTime() - start;
+            Timer.builder(DURATION_METRIC)
+                    .description("Duración del calentamiento tras el arranque")
+                    .tag("settled", String.valueOf(settled))
+                    .register(meterRegistry)
+                    .record(Duration.ofNanos(duration));
+            complete = true;
+            logger.info("Calentamiento completado en {} ms ({} rondas, latencia estabilizada: {})",
+                    Duration.ofNanos(duration).toMillis(), rounds, settled);
+        }
+        return rounds;
+    }
+
+    /**
+     * Indica si una petición es una petición sintética del calentamiento:
+     * la cabecera {@value #REQUEST_HEADER} debe llevar exactamente el token
+     * del proceso. La comparación es de tiempo constante.
+     * 
+     * @param request Petición HTTP
+     * @return true si la petición la envió el calentamiento
+     */
+    public static boolean isWarmUpRequest(HttpServletRequest request) {
+        String token = request.getHeader(REQUEST_HEADER);
+        return token != null && MessageDigest.isEqual(token.getBytes(StandardCharsets.US_ASCII), REQUEST_TOKEN);
+    }
+
+    /**
+     * Obtiene el token que llevan las peticiones sintéticas.
+     * 
+     * @return Token del proceso
+     */
+    static String requestToken() {
+        return new String(REQUEST_TOKEN, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Genera un token aleatorio de 256 bits.
+     * 
+     * @return Token en Base64 (URL-safe, sin relleno)
+     */
+    private static byte[] newRequestToken() {
+        byte[] random = new byte[32];
+        new SecureRandom().nextBytes(random);
+        return Base64.getUrlEncoder().withoutPadding().encode(random);
+    }
+
+    /**
+     * Carga en las cachés los listados y los posts más visitados, y obtiene
+     * las rutas públicas que se solicitarán en cada ronda.
+     * 
+     * @return Rutas ya codificadas, relativas al contexto de la aplicación
+     */
+    private List<String> preload() {
+        blogService.getAllPublishedPosts();
+        List<CategoryCountDTO> categories = categoryService.getCategories();
+
+        // TrendingIndex está vacío tras el arranque: se usan las visitas persistidas
+        List<Long> popular = popularPosts > 0
+                ? blogPostRepository.findMostViewedPublishedIds(Limit.of(popularPosts))
+                : List.of();
+
+        Set<String> paths = new LinkedHashSet<>();
+        paths.add("/blog/posts");
+        paths.add("/blog/posts?limit=10");
+        paths.add("/blog/posts/trending");
+        paths.add("/blog/categories");
+        paths.add("/blog/tags");
+        paths.add("/blog/feed.xml");
+        paths.add("/sitemap.xml");
+        String searchWord = null;
+        for (Long id : popular) {
+            blogService.getPostVersion(id);
+            BlogPostDTO post = blogService.getPostById(id);
+            paths.add("/blog/posts/" + id);
+            if (searchWord == null) {
+                searchWord = post.getTitle().split("\\s+")[0];
+            }
+        }
+        for (CategoryCountDTO category : categories) {
+            blogService.getCategoryListingVersion(category.getName());
+            blogService.getPostsByCategory(category.getName());
+            paths.add(UriComponentsBuilder.fromPath("/blog/posts/category/{category}")
+                    .buildAndExpand(category.getName()).encode().toUriString());
+        }
+        if (searchWord != null) {
+            paths.add(UriComponentsBuilder.fromPath("/blog/posts/search").queryParam("q", searchWord)
+                    .encode().toUriString());
+        }
+        logger.debug("Calentamiento: {} posts y {} categorías cargados en caché", popular.size(),
+                categories.size());
+        return new ArrayList<>(paths);
+    }
+
+    /**
+     * Envía una petición sintética y descarta la respuesta, sea cual sea su
+     * estado.
+     */
+    private void request(RestClient client, URI uri) {
+        client.get().uri(uri).exchange((request, response) -> {
+            response.getBody().transferTo(OutputStream.nullOutputStream());
+            return response.getStatusCode();
+        });
+    }
+}
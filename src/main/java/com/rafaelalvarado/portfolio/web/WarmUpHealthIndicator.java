@@ -0,0 +1,27 @@
+package com.rafaelalvarado.portfolio.web;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Indicador de salud del calentamiento tras el arranque.
+ * 
+ * Forma parte del grupo de preparación ({@code /actuator/health/readiness}),
+ * de modo que el balanceador no envía tráfico a la instancia hasta que
+ * {@link StartupWarmUp} termina.
+ * 
+ * @author Rafael Alvarado García
+ */
+@Component
+public class WarmUpHealthIndicator implements HealthIndicator {
+
+    @Autowired
+    private StartupWarmUp startupWarmUp;
+
+    @Override
+    public Health health() {
+        return startupWarmUp.isComplete() ? Health.up().build() : Health.outOfService().build();
+    }
+}
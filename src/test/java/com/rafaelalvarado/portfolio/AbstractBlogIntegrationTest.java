@@ -0,0 +1,80 @@
+package com.rafaelalvarado.portfolio;
+
+import com.rafaelalvarado.portfolio.dto.CreatePostRequest;
+import com.rafaelalvarado.portfolio.entity.User;
+import com.rafaelalvarado.portfolio.repository.BlogPostRepository;
+import com.rafaelalvarado.portfolio.repository.UserRepository;
+import com.rafaelalvarado.portfolio.service.BlogService;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Base de las pruebas de integración del blog.
+ * 
+ * Antes de cada prueba deja la base de datos sin posts ni usuarios, vacía
+ * las cachés y crea el usuario {@value #EDITOR}, autor de los posts que se
+ * crean con {@link #postRequest(String)}. Cada clase declara su propio
+ * {@code @SpringBootTest} y perfil.
+ */
+public abstract class AbstractBlogIntegrationTest {
+
+    /**
+     * Nombre del usuario que crea los posts de las pruebas
+     */
+    protected static final String EDITOR = "editor";
+
+    @Autowired
+    protected BlogService blogService;
+
+    @Autowired
+    protected BlogPostRepository blogPostRepository;
+
+    @Autowired
+    protected UserRepository userRepository;
+
+    @Autowired
+    protected CacheManager cacheManager;
+
+    /**
+     * Usuario {@value #EDITOR}, creado antes de cada prueba
+     */
+    protected User editor;
+
+    @BeforeEach
+    void resetBlog() {
+        blogPostRepository.deleteAll();
+        userRepository.deleteAll();
+        clearCaches();
+        editor = userRepository.save(
+                User.builder().username(EDITOR).email(EDITOR + "@example.com").password("secret").build());
+    }
+
+    /**
+     * Vacía todas las cachés de la aplicación.
+     */
+    protected void clearCaches() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    /**
+     * Petición de creación de un post publicado de la categoría Backend, con
+     * contenido mínimo y el tag {@code java}; cada prueba ajusta los campos
+     * que comprueba.
+     * 
+     * @param title Título del post
+     * @return Builder de la petición
+     */
+    protected static CreatePostRequest.CreatePostRequestBuilder postRequest(String title) {
+        return CreatePostRequest.builder()
+                .title(title)
+                .excerpt("Extracto de " + title)
+                .content("<p>Contenido</p>")
+                .category("Backend")
+                .tags(new ArrayList<>(List.of("java")))
+                .published(true);
+    }
+}
@@ -0,0 +1,140 @@
+package com.rafaelalvarado.portfolio.controller;
+
+import com.rafaelalvarado.portfolio.AbstractBlogIntegrationTest;
+import com.rafaelalvarado.portfolio.dto.BlogPostDTO;
+import com.rafaelalvarado.portfolio.dto.UpdatePostRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifica las peticiones condicionales de los endpoints de lectura del
+ * blog: 304 cuando el ETag o la fecha del cliente siguen vigentes y 200 con
+ * un ETag nuevo tras modificar o eliminar un post. La micro-caché HTTP se
+ * desactiva para que las respuestas las genere el controlador.
+ */
+@SpringBootTest(properties = "blog.http-cache.enabled=false")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class BlogControllerConditionalGetTest extends AbstractBlogIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void postDetailAnswersNotModifiedUntilThePostChanges() throws Exception {
+        BlogPostDTO post = blogService.createPost(postRequest("Post condicional").build(), EDITOR);
+        String path = "/blog/posts/" + post.getId();
+
+        MvcResult first = mockMvc.perform(get(path))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+        String lastModified = first.getResponse().getHeader(HttpHeaders.LAST_MODIFIED);
+        assertThat(etag).isNotBlank();
+
+        mockMvc.perform(get(path).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+        mockMvc.perform(get(path).header(HttpHeaders.IF_MODIFIED_SINCE, lastModified))
+                .andExpect(status().isNotModified());
+
+        blogService.updatePost(post.getId(), UpdatePostRequest.builder().title("Post condicional editado").build());
+
+        String updatedEtag = mockMvc.perform(get(path).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Post condicional editado"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(updatedEtag).isNotBlank().isNotEqualTo(etag);
+        mockMvc.perform(get(path).header(HttpHeaders.IF_NONE_MATCH, updatedEtag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void deletedPostIsNotFoundEvenWithItsOldEtag() throws Exception {
+        BlogPostDTO post = blogService.createPost(postRequest("Post eliminado").build(), EDITOR);
+        String path = "/blog/posts/" + post.getId();
+        String etag = mockMvc.perform(get(path))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        blogService.deletePost(post.getId());
+
+        mockMvc.perform(get(path).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void listingsGetANewEtagWhenAPostIsUpdatedOrDeleted() throws Exception {
+        BlogPostDTO kept = blogService.createPost(postRequest("Post que se queda").build(), EDITOR);
+        BlogPostDTO removed = blogService.createPost(postRequest("Post que se elimina").build(), EDITOR);
+
+        String listingEtag = etagOf("/blog/posts");
+        String categoryEtag = etagOf("/blog/posts/category/Backend");
+        String pageEtag = etagOf("/blog/posts?limit=1");
+        assertThat(pageEtag).isNotEqualTo(listingEtag);
+        assertThat(etagOf("/blog/posts?limit=2")).isNotEqualTo(pageEtag);
+
+        mockMvc.perform(get("/blog/posts").header(HttpHeaders.IF_NONE_MATCH, listingEtag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/blog/posts/category/Backend").header(HttpHeaders.IF_NONE_MATCH, categoryEtag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/blog/posts").param("limit", "1").header(HttpHeaders.IF_NONE_MATCH, pageEtag))
+                .andExpect(status().isNotModified());
+
+        blogService.updatePost(kept.getId(), UpdatePostRequest.builder().title("Post que se queda editado").build());
+
+        String updatedListingEtag = mockMvc.perform(get("/blog/posts").header(HttpHeaders.IF_NONE_MATCH, listingEtag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(updatedListingEtag).isNotEqualTo(listingEtag);
+        mockMvc.perform(get("/blog/posts/category/Backend").header(HttpHeaders.IF_NONE_MATCH, categoryEtag))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/blog/posts").param("limit", "1").header(HttpHeaders.IF_NONE_MATCH, pageEtag))
+                .andExpect(status().isOk());
+
+        blogService.deletePost(removed.getId());
+
+        String deletedListingEtag = mockMvc.perform(get("/blog/posts")
+                        .header(HttpHeaders.IF_NONE_MATCH, updatedListingEtag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].id", contains(kept.getId().intValue())))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(deletedListingEtag).isNotEqualTo(updatedListingEtag);
+    }
+
+    @Test
+    void contentVariantHasItsOwnEtag() throws Exception {
+        BlogPostDTO post = blogService.createPost(postRequest("Post con contenido").build(), EDITOR);
+        String detailEtag = etagOf("/blog/posts/" + post.getId());
+        String contentEtag = etagOf("/blog/posts/" + post.getId() + "/content");
+
+        assertThat(contentEtag).isNotEqualTo(detailEtag);
+        mockMvc.perform(get("/blog/posts/{id}/content", post.getId()).header(HttpHeaders.IF_NONE_MATCH, contentEtag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/blog/posts/{id}/content", post.getId()).header(HttpHeaders.IF_NONE_MATCH, detailEtag))
+                .andExpect(status().isOk());
+    }
+
+    private String etagOf(String uri) throws Exception {
+        String etag = mockMvc.perform(get(uri))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotBlank();
+        return etag;
+    }
+}
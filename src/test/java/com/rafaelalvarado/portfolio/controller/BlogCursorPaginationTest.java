@@ -0,0 +1,142 @@
+package com.rafaelalvarado.portfolio.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rafaelalvarado.portfolio.AbstractBlogIntegrationTest;
+import com.rafaelalvarado.portfolio.dto.BlogPostDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifica la paginación por cursor (createdAt, id) de los listados del
+ * blog: páginas que cortan un grupo de posts con la misma fecha de
+ * creación, el cursor nulo en la última página y la respuesta 400 ante un
+ * cursor malformado.
+ */
+@SpringBootTest(properties = "blog.http-cache.enabled=false")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class BlogCursorPaginationTest extends AbstractBlogIntegrationTest {
+
+    private static final LocalDateTime TIE = LocalDateTime.of(2025, 3, 10, 12, 0);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void pagesSplitPostsWithTheSameCreationDateByIdWithoutGapsOrRepeats() throws Exception {
+        Long older = createPost("Anterior", TIE.minusDays(1));
+        Long tiedFirst = createPost("Empate 1", TIE);
+        Long tiedSecond = createPost("Empate 2", TIE);
+        Long tiedThird = createPost("Empate 3", TIE);
+        Long newer = createPost("Posterior", TIE.plusDays(1));
+        clearCaches();
+
+        List<Long> expected = List.of(newer, tiedThird, tiedSecond, tiedFirst, older);
+        assertThat(walk("/blog/posts", 2)).isEqualTo(expected);
+        assertThat(walk("/blog/posts/category/Backend", 2)).isEqualTo(expected);
+        assertThat(walk("/blog/posts", 1)).isEqualTo(expected);
+    }
+
+    @Test
+    void lastPageHasNoCursorEvenWhenItIsFull() throws Exception {
+        createPost("Primero", TIE);
+        createPost("Segundo", TIE.plusHours(1));
+
+        mockMvc.perform(get("/blog/posts").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.hasMore").value(false))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        String cursor = page(get("/blog/posts").param("limit", "1")).get("nextCursor").asText();
+        mockMvc.perform(get("/blog/posts").param("limit", "1").param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.hasMore").value(false))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void malformedCursorIsABadRequest() throws Exception {
+        createPost("Post paginado", TIE);
+        List<String> cursors = List.of(
+                "no-es-base64!",
+                encode("sin separador"),
+                encode("|42"),
+                encode("ayer|42"),
+                encode(TIE + "|no-es-un-id"),
+                encode(TIE + "|"));
+
+        for (String cursor : cursors) {
+            mockMvc.perform(get("/blog/posts").param("limit", "10").param("cursor", cursor))
+                    .andExpect(status().isBadRequest());
+            mockMvc.perform(get("/blog/posts/category/Backend").param("limit", "10").param("cursor", cursor))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    /**
+     * Recorre todas las páginas de un listado siguiendo nextCursor.
+     * 
+     * @param path  Ruta del listado
+     * @param limit Tamaño de página
+     * @return IDs de los posts en el orden recibido
+     */
+    private List<Long> walk(String path, int limit) throws Exception {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            MockHttpServletRequestBuilder request = get(path).param("limit", String.valueOf(limit));
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            JsonNode page = page(request);
+            page.get("items").forEach(item -> ids.add(item.get("id").asLong()));
+            assertThat(page.get("items").size()).isLessThanOrEqualTo(limit);
+            cursor = page.hasNonNull("nextCursor") ? page.get("nextCursor").asText() : null;
+            assertThat(page.get("hasMore").asBoolean()).isEqualTo(cursor != null);
+        } while (cursor != null);
+        return ids;
+    }
+
+    private JsonNode page(MockHttpServletRequestBuilder request) throws Exception {
+        String body = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        return objectMapper.readTree(body);
+    }
+
+    private Long createPost(String title, LocalDateTime createdAt) {
+        BlogPostDTO post = blogService.createPost(postRequest(title).build(), EDITOR);
+        jdbcTemplate.update("UPDATE blog_posts SET created_at = ? WHERE id = ?", createdAt, post.getId());
+        return post.getId();
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,105 @@
+package com.rafaelalvarado.portfolio.datasource;
+
+import com.rafaelalvarado.portfolio.AbstractBlogIntegrationTest;
+import com.rafaelalvarado.portfolio.entity.BlogPost;
+import com.rafaelalvarado.portfolio.search.SearchIndex;
+import com.rafaelalvarado.portfolio.service.PublicationScheduler;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica con una réplica H2 que no recibe las escrituras (una réplica
+ * retrasada) que los cambios de posts de las tareas en segundo plano se
+ * indexan leyendo desde el primario.
+ */
+@SpringBootTest(properties = {
+        "db.replicas.urls=" + LaggingReplicaTest.REPLICA_URL,
+        "db.replicas.username=sa",
+        "db.replicas.password=",
+        "db.replicas.read-your-writes-window=" + LaggingReplicaTest.WINDOW_MILLIS + "ms"
+})
+@ActiveProfiles("test")
+class LaggingReplicaTest extends AbstractBlogIntegrationTest {
+
+    static final long WINDOW_MILLIS = 500;
+
+    static final String REPLICA_URL =
+            "jdbc:h2:mem:portfolio_replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private PublicationScheduler publicationScheduler;
+
+    @Autowired
+    private SearchIndex searchIndex;
+
+    @Autowired
+    private HikariDataSource primaryDataSource;
+
+    @Test
+    void scheduledPublicationIsIndexedWhileTheReplicaLags() throws InterruptedException {
+        BlogPost draft = blogPostRepository.save(BlogPost.builder()
+                .title("Replicación programada")
+                .excerpt("Extracto del post programado")
+                .content("<p>Contenido</p>")
+                .category("Backend")
+                .published(false)
+                .publishAt(LocalDateTime.now().minusMinutes(1))
+                .author(editor)
+                .build());
+        copyToReplica(primaryDataSource);
+        // Las escrituras de la preparación (en el hilo de la prueba, con una
+        // petición simulada) abren la ventana: se espera a que se cierre
+        Thread.sleep(WINDOW_MILLIS + 200);
+
+        // La publicación la aplica una tarea en segundo plano: en otro hilo,
+        // porque el de la prueba tiene asociada una petición simulada
+        assertThat(CompletableFuture.supplyAsync(publicationScheduler::applyDueTransitions).join()).isEqualTo(1);
+
+        assertThat(new JdbcTemplate(replica()).queryForObject(
+                "SELECT published FROM blog_posts WHERE id = ?", Boolean.class, draft.getId())).isFalse();
+        assertThat(searchIndex.search("replicación", 0, 10).getPostIds()).containsExactly(draft.getId());
+    }
+
+    /**
+     * Deja la réplica con el mismo esquema y los mismos datos que el
+     * primario; a partir de ahí no recibe ninguna escritura.
+     */
+    private static void copyToReplica(DataSource primary) {
+        JdbcTemplate replica = new JdbcTemplate(replica());
+        replica.execute("DROP ALL OBJECTS");
+        for (String statement : new JdbcTemplate(primary).queryForList("SCRIPT", String.class)) {
+            replica.execute(statement);
+        }
+    }
+
+    private static DataSource replica() {
+        return new DriverManagerDataSource(REPLICA_URL, "sa", "");
+    }
+
+    /**
+     * Copia el esquema a la réplica antes de que las tareas de arranque la
+     * lean.
+     */
+    @TestConfiguration
+    static class ReplicaSchema {
+
+        @Bean
+        SmartInitializingSingleton replicaSchemaCopier(HikariDataSource primaryDataSource) {
+            return () -> copyToReplica(primaryDataSource);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.rafaelalvarado.portfolio.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica el enrutado de las transacciones con bases de datos H2
+ * embebidas: las de solo lectura van a las réplicas (por turnos o a la
+ * menos ocupada), las de escritura al primario, y tras la escritura de una
+ * petición las lecturas (incluidas las de los listeners posteriores a la
+ * confirmación) vuelven al primario durante la ventana configurada, sin
+ * que las escrituras en segundo plano la abran.
+ */
+class ReplicaDataSourceTest {
+
+    private final DataSource primary = database("primary");
+
+    private final List<DataSource> replicas = List.of(database("replica1"), database("replica2"));
+
+    @BeforeEach
+    void setUp() {
+        new JdbcTemplate(primary).execute("DELETE FROM writes");
+    }
+
+    @Test
+    void routesReadOnlyTransactionsToReplicasInTurn() {
+        Routing routing = routing(ReplicaDataSource.Selection.ROUND_ROBIN, Duration.ZERO);
+
+        List<String> reads = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            reads.add(routing.read());
+        }
+
+        assertThat(reads).containsExactly("replica1", "replica2", "replica1", "replica2");
+        assertThat(routing.write()).isEqualTo("primary");
+        assertThat(new JdbcTemplate(primary).queryForObject("SELECT COUNT(*) FROM writes", Integer.class))
+                .isEqualTo(1);
+    }
+
+    @Test
+    void readsFromPrimaryDuringReadYourWritesWindow() throws InterruptedException {
+        Routing routing = routing(ReplicaDataSource.Selection.ROUND_ROBIN, Duration.ofMillis(500));
+        assertThat(routing.read()).isEqualTo("replica1");
+
+        inRequest(routing::write);
+        assertThat(routing.read()).isEqualTo("primary");
+        assertThat(routing.read()).isEqualTo("primary");
+
+        Thread.sleep(600);
+        assertThat(routing.read()).startsWith("replica");
+    }
+
+    @Test
+    void backgroundWritesDoNotPinReadsToPrimary() {
+        Routing routing = routing(ReplicaDataSource.Selection.ROUND_ROBIN, Duration.ofMinutes(1));
+
+        assertThat(routing.write()).isEqualTo("primary");
+
+        assertThat(routing.read()).isEqualTo("replica1");
+        assertThat(inRequest(routing::read)).isEqualTo("replica2");
+    }
+
+    @Test
+    void afterCommitListenersOfARequestWriteReadFromPrimary() {
+        Routing routing = routing(ReplicaDataSource.Selection.ROUND_ROBIN, Duration.ofMinutes(1));
+        List<String> readsAfterCommit = new ArrayList<>();
+
+        inRequest(() -> new TransactionTemplate(routing.transactionManager()).execute(status -> {
+            routing.jdbcTemplate().update("INSERT INTO writes DEFAULT VALUES");
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    TransactionTemplate read = new TransactionTemplate(routing.transactionManager());
+                    read.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+                    read.setReadOnly(true);
+                    readsAfterCommit.add(read.execute(inner -> routing.jdbcTemplate()
+                            .queryForObject("SELECT name FROM node", String.class)));
+                }
+            });
+            return null;
+        }));
+
+        assertThat(readsAfterCommit).containsExactly("primary");
+    }
+
+    @Test
+    void selectsReplicaWithFewestConnectionsInUse() throws Exception {
+        ReplicaDataSource replicaDataSource = new ReplicaDataSource(primary, replicas,
+                ReplicaDataSource.Selection.LEAST_IN_FLIGHT, Duration.ZERO);
+
+        try (Connection held = replicaDataSource.getConnection()) {
+            assertThat(name(held)).isEqualTo("replica1");
+            for (int i = 0; i < 3; i++) {
+                try (Connection connection = replicaDataSource.getConnection()) {
+                    assertThat(name(connection)).isEqualTo("replica2");
+                }
+            }
+        }
+
+        List<String> reads = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            try (Connection connection = replicaDataSource.getConnection()) {
+                reads.add(name(connection));
+            }
+        }
+        assertThat(reads).containsExactlyInAnyOrder("replica1", "replica2");
+    }
+
+    private Routing routing(ReplicaDataSource.Selection selection, Duration window) {
+        ReplicaDataSource replicaDataSource = new ReplicaDataSource(primary, replicas, selection, window);
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(replicaDataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        transactionManager.addListener(replicaDataSource);
+        return new Routing(new JdbcTemplate(dataSource), transactionManager);
+    }
+
+    /**
+     * Ejecuta una operación como parte de una petición HTTP.
+     */
+    private static <T> T inRequest(Supplier<T> operation) {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        try {
+            return operation.get();
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    private static String name(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery("SELECT name FROM node")) {
+            resultSet.next();
+            return resultSet.getString(1);
+        }
+    }
+
+    private static DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:replica_test_" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20))");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS writes (id INT AUTO_INCREMENT PRIMARY KEY)");
+        jdbcTemplate.update("DELETE FROM node");
+        jdbcTemplate.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+
+    /**
+     * Transacciones de lectura y de escritura sobre el origen de datos
+     * enrutado.
+     */
+    private record Routing(JdbcTemplate jdbcTemplate, DataSourceTransactionManager transactionManager) {
+
+        private String read() {
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            transaction.setReadOnly(true);
+            return transaction.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+        }
+
+        private String write() {
+            return new TransactionTemplate(transactionManager).execute(status -> {
+                jdbcTemplate.update("INSERT INTO writes DEFAULT VALUES");
+                return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+            });
+        }
+    }
+}
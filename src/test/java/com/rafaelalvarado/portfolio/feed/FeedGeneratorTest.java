@@ -0,0 +1,76 @@
+package com.rafaelalvarado.portfolio.feed;
+
+import com.rafaelalvarado.portfolio.AbstractBlogIntegrationTest;
+import com.rafaelalvarado.portfolio.dto.BlogPostDTO;
+import com.rafaelalvarado.portfolio.dto.CreatePostRequest;
+import com.rafaelalvarado.portfolio.dto.UpdatePostRequest;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.w3c.dom.Document;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica la generación de los feeds Atom y RSS y que solo se regeneran
+ * tras un cambio en los posts.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class FeedGeneratorTest extends AbstractBlogIntegrationTest {
+
+    @Autowired
+    private FeedGenerator feedGenerator;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void buildsValidFeedsAndRegeneratesOnlyAfterChanges() throws Exception {
+        BlogPostDTO first = blogService.createPost(request("Primer post & <feeds>", true), EDITOR);
+        blogService.createPost(request("Segundo post del feed", true), EDITOR);
+        blogService.createPost(request("Borrador del feed", false), EDITOR);
+
+        FeedDocument atom = feedGenerator.getFeed(FeedGenerator.Format.ATOM);
+        Document atomXml = parse(atom);
+        assertThat(atomXml.getDocumentElement().getNamespaceURI()).isEqualTo("http://www.w3.org/2005/Atom");
+        assertThat(atomXml.getElementsByTagNameNS("*", "entry").getLength()).isEqualTo(2);
+        assertThat(new String(atom.getBody(), StandardCharsets.UTF_8)).contains("Primer post &amp; &lt;feeds&gt;");
+
+        Document rssXml = parse(feedGenerator.getFeed(FeedGenerator.Format.RSS));
+        assertThat(rssXml.getElementsByTagName("item").getLength()).isEqualTo(2);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        assertThat(feedGenerator.getFeed(FeedGenerator.Format.ATOM)).isSameAs(atom);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        blogService.updatePost(first.getId(), UpdatePostRequest.builder().title("Primer post actualizado").build());
+        FeedDocument updated = feedGenerator.getFeed(FeedGenerator.Format.ATOM);
+        assertThat(updated.getEtag()).isNotEqualTo(atom.getEtag());
+        assertThat(new String(updated.getBody(), StandardCharsets.UTF_8))
+                .contains("Primer post actualizado")
+                .contains("Segundo post del feed");
+        assertThat(parse(updated).getElementsByTagNameNS("*", "entry").getLength()).isEqualTo(2);
+    }
+
+    private Document parse(FeedDocument feed) throws Exception {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        return factory.newDocumentBuilder().parse(new ByteArrayInputStream(feed.getBody()));
+    }
+
+    private CreatePostRequest request(String title, boolean published) {
+        return postRequest(title).tags(new ArrayList<>(List.of("Java"))).published(published).build();
+    }
+}
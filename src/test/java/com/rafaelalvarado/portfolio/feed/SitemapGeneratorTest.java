@@ -0,0 +1,96 @@
+package com.rafaelalvarado.portfolio.feed;
+
+import com.rafaelalvarado.portfolio.AbstractBlogIntegrationTest;
+import com.rafaelalvarado.portfolio.dto.BlogPostDTO;
+import com.rafaelalvarado.portfolio.dto.CreatePostRequest;
+import com.rafaelalvarado.portfolio.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.w3c.dom.Document;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verifica el reparto del sitemap en fragmentos y su invalidación.
+ */
+@SpringBootTest(properties = "blog.sitemap.max-urls=2")
+@ActiveProfiles("test")
+class SitemapGeneratorTest extends AbstractBlogIntegrationTest {
+
+    @Autowired
+    private SitemapGenerator sitemapGenerator;
+
+    @Test
+    void shardsPublishedPostsIntoSitemapIndex() throws Exception {
+        Set<String> expected = new HashSet<>();
+        for (int i = 0; i < 5; i++) {
+            BlogPostDTO post = blogService.createPost(request("Post " + i, true), EDITOR);
+            expected.add("http://localhost:4200/blog/" + post.getId());
+        }
+        blogService.createPost(request("Borrador", false), EDITOR);
+
+        Document index = parse(write(SitemapGenerator.ROOT));
+        assertThat(index.getDocumentElement().getLocalName()).isEqualTo("sitemapindex");
+        NodeList shards = index.getElementsByTagNameNS("*", "sitemap");
+        assertThat(shards.getLength()).isEqualTo(3);
+        assertThat(index.getElementsByTagNameNS("*", "loc").item(2).getTextContent())
+                .isEqualTo("http://localhost:4200/sitemap-3.xml");
+
+        Set<String> urls = new HashSet<>();
+        List<Integer> sizes = new ArrayList<>();
+        for (int shard = 1; shard <= 3; shard++) {
+            NodeList locs = parse(write(shard)).getElementsByTagNameNS("*", "loc");
+            sizes.add(locs.getLength());
+            for (int i = 0; i < locs.getLength(); i++) {
+                urls.add(locs.item(i).getTextContent());
+            }
+        }
+        assertThat(sizes).containsExactly(2, 2, 1);
+        assertThat(urls).isEqualTo(expected);
+        assertThatThrownBy(() -> write(4)).isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void cachesDocumentsUntilPublishedPostsChange() throws Exception {
+        blogService.createPost(request("Post único", true), EDITOR);
+        byte[] body = write(SitemapGenerator.ROOT);
+        assertThat(parse(body).getDocumentElement().getLocalName()).isEqualTo("urlset");
+
+        FeedDocument cached = sitemapGenerator.getCached(SitemapGenerator.ROOT);
+        assertThat(cached).isNotNull();
+        assertThat(cached.getBody()).isEqualTo(body);
+        assertThatThrownBy(() -> write(1)).isInstanceOf(ResourceNotFoundException.class);
+
+        blogService.createPost(request("Segundo post", true), EDITOR);
+        assertThat(sitemapGenerator.getCached(SitemapGenerator.ROOT)).isNull();
+        assertThat(parse(write(SitemapGenerator.ROOT)).getElementsByTagNameNS("*", "url").getLength()).isEqualTo(2);
+    }
+
+    private byte[] write(int number) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        sitemapGenerator.write(number, out);
+        return out.toByteArray();
+    }
+
+    private Document parse(byte[] body) throws Exception {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        return factory.newDocumentBuilder().parse(new ByteArrayInputStream(body));
+    }
+
+    private CreatePostRequest request(String title, boolean published) {
+        return postRequest(title).published(published).build();
+    }
+}
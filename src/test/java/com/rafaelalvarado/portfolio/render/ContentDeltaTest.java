@@ -0,0 +1,83 @@
+package com.rafaelalvarado.portfolio.render;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verifica que las diferencias reconstruyen la nueva versión y que su
+ * tamaño depende de lo editado y no del tamaño del contenido.
+ */
+class ContentDeltaTest {
+
+    @Test
+    void smallEditProducesSmallDelta() {
+        String base = article(2000);
+        int middle = base.length() / 2;
+        String target = base.substring(0, middle) + "<p>Párrafo añadido con ñ y emoji 🚀</p>"
+                + base.substring(middle).replace("párrafo 1500", "párrafo editado");
+
+        byte[] delta = roundTrip(base, target);
+
+        assertThat(base.length()).isGreaterThan(60_000);
+        assertThat(delta.length).isLessThan(200);
+    }
+
+    @Test
+    void handlesEmptyShortAndUnrelatedVersions() {
+        roundTrip("", "contenido nuevo");
+        roundTrip("contenido", "");
+        roundTrip("abc", "abd");
+        roundTrip(article(50), "Texto completamente distinto ".repeat(40));
+        roundTrip(article(50), article(50).replace("<p>", "<p class=\"x\">"));
+    }
+
+    @Test
+    void randomEditsRoundTrip() {
+        Random random = new Random(42);
+        String version = article(300);
+        for (int i = 0; i < 50; i++) {
+            StringBuilder next = new StringBuilder(version);
+            for (int edit = 0; edit < 1 + random.nextInt(5); edit++) {
+                int at = random.nextInt(next.length());
+                if (random.nextBoolean()) {
+                    next.insert(at, "edición " + random.nextInt(1000));
+                } else {
+                    next.delete(at, Math.min(next.length(), at + random.nextInt(200)));
+                }
+            }
+            roundTrip(version, next.toString());
+            version = next.toString();
+        }
+    }
+
+    @Test
+    void rejectsDeltaForAnotherBase() {
+        byte[] delta = ContentDelta.encode(bytes("versión uno"), bytes("versión dos"));
+
+        assertThatThrownBy(() -> ContentDelta.apply(bytes("otra base"), delta))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static byte[] roundTrip(String base, String target) {
+        byte[] delta = ContentDelta.encode(bytes(base), bytes(target));
+        assertThat(new String(ContentDelta.apply(bytes(base), delta), StandardCharsets.UTF_8)).isEqualTo(target);
+        return delta;
+    }
+
+    private static String article(int paragraphs) {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < paragraphs; i++) {
+            content.append("<p>Este es el párrafo ").append(i).append(" del artículo.</p>\n");
+        }
+        return content.toString();
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,58 @@
+package com.rafaelalvarado.portfolio.render;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica el renderizado, el saneado y la extracción de la tabla de
+ * contenidos.
+ */
+class ContentRendererTest {
+
+    private ContentRenderer contentRenderer;
+
+    @BeforeEach
+    void setUp() {
+        contentRenderer = new ContentRenderer();
+        ReflectionTestUtils.setField(contentRenderer, "objectMapper", new ObjectMapper());
+    }
+
+    @Test
+    void rendersMarkdownWithHeadingAnchorsAndToc() {
+        ContentRenderer.Rendered rendered = contentRenderer.render(
+                "## Introducción\n\nTexto con **negrita**.\n\n### Configuración\n\n## Introducción\n");
+
+        assertThat(rendered.getHtml())
+                .contains("<h2 id=\"introduccion\">Introducción</h2>")
+                .contains("<strong>negrita</strong>")
+                .contains("<h3 id=\"configuracion\">Configuración</h3>")
+                .contains("<h2 id=\"introduccion-2\">Introducción</h2>");
+        assertThat(rendered.getToc()).isEqualTo("[{\"level\":2,\"id\":\"introduccion\",\"text\":\"Introducción\"},"
+                + "{\"level\":3,\"id\":\"configuracion\",\"text\":\"Configuración\"},"
+                + "{\"level\":2,\"id\":\"introduccion-2\",\"text\":\"Introducción\"}]");
+    }
+
+    @Test
+    void sanitizesHtmlAgainstTheAllowlist() {
+        ContentRenderer.Rendered rendered = contentRenderer.render(
+                "<h2 id=\"x\" onclick=\"steal()\">Título</h2><script>alert(1)</script>"
+                        + "<p><a href=\"javascript:alert(1)\">enlace</a> <a href=\"https://example.com\">web</a></p>"
+                        + "<pre><code class=\"language-java\">int x;</code></pre>");
+
+        assertThat(rendered.getHtml())
+                .doesNotContain("script", "onclick", "javascript:")
+                .contains("<h2 id=\"titulo\">Título</h2>")
+                .contains("<a href=\"https://example.com\" rel=\"nofollow noopener\">web</a>")
+                .contains("<code class=\"language-java\">int x;</code>");
+    }
+
+    @Test
+    void hashDependsOnlyOnContent() {
+        assertThat(ContentRenderer.hash("# Hola")).hasSize(64).isEqualTo(ContentRenderer.hash("# Hola"));
+        assertThat(ContentRenderer.hash("# Hola")).isNotEqualTo(ContentRenderer.hash("# Adiós"));
+    }
+}
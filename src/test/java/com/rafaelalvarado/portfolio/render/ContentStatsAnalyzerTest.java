@@ -0,0 +1,56 @@
+package com.rafaelalvarado.portfolio.render;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica el recuento de palabras y el cálculo del tiempo de lectura.
+ */
+class ContentStatsAnalyzerTest {
+
+    @Test
+    void ignoresHtmlTagsEntitiesAndCodeBlocks() {
+        ContentStatsAnalyzer.ContentStats stats = ContentStatsAnalyzer.analyze(
+                "<h2 class=\"title\">Introducción a Spring</h2>"
+                        + "<p>Texto&nbsp;con <strong>cinco</strong> palabras.</p>"
+                        + "<pre><code>int a = 1; int b = 2;</code></pre>"
+                        + "<p>Si a < b, fin</p>");
+
+        assertThat(stats.getWordCount()).isEqualTo(3 + 4 + 4);
+        assertThat(stats.getReadingMinutes()).isEqualTo(1);
+    }
+
+    @Test
+    void ignoresMarkdownFencedAndInlineCode() {
+        ContentStatsAnalyzer.ContentStats stats = ContentStatsAnalyzer.analyze(
+                "## Título del post\n\nUsa `var x` aquí.\n\n```java\nint a = 1;\nint b = 2;\n```\nFin del texto");
+
+        assertThat(stats.getWordCount()).isEqualTo(3 + 2 + 3);
+    }
+
+    @Test
+    void unmatchedBacktickDoesNotHideTheRestOfTheDocument() {
+        ContentStatsAnalyzer.ContentStats stats = ContentStatsAnalyzer.analyze(
+                "Cuesta 5` aprox.\n\nEste párrafo tiene cinco palabras");
+
+        assertThat(stats.getWordCount()).isEqualTo(3 + 5);
+        assertThat(ContentStatsAnalyzer.analyze("<p>Comilla ` suelta</p><p>Texto final</p>").getWordCount())
+                .isEqualTo(4);
+    }
+
+    @Test
+    void inlineCodeClosesWithARunOfTheSameLength() {
+        ContentStatsAnalyzer.ContentStats stats = ContentStatsAnalyzer.analyze(
+                "Usa ``var ` x`` aquí y `y` allí");
+
+        assertThat(stats.getWordCount()).isEqualTo(4);
+    }
+
+    @Test
+    void roundsReadingMinutesUp() {
+        assertThat(ContentStatsAnalyzer.analyze("palabra ".repeat(200)).getReadingMinutes()).isEqualTo(1);
+        assertThat(ContentStatsAnalyzer.analyze("palabra ".repeat(201)).getReadingMinutes()).isEqualTo(2);
+        assertThat(ContentStatsAnalyzer.analyze("").getWordCount()).isZero();
+    }
+}
@@ -0,0 +1,106 @@
+package com.rafaelalvarado.portfolio.search;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica la normalización, el ranking y el rendimiento del índice de
+ * búsqueda en memoria.
+ */
+class SearchIndexTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchIndexTest.class);
+
+    private static final String[] WORDS = {
+            "spring", "java", "docker", "kubernetes", "react", "angular", "base", "datos", "rendimiento",
+            "seguridad", "pruebas", "arquitectura", "microservicios", "caché", "índices", "consultas",
+            "despliegue", "nube", "mensajería", "eventos", "transacciones", "memoria", "hilos", "redes" };
+
+    @Test
+    void matchesIgnoringAccentsCaseAndPlurals() {
+        SearchIndex index = new SearchIndex();
+        index.index(1L, SearchIndex.analyze("Optimización de consultas", "Índices en MySQL",
+                "<p>Cómo usar los <strong>índices</strong> compuestos</p>", List.of("Bases de datos")));
+
+        assertThat(index.search("optimizacion", 0, 10).getPostIds()).containsExactly(1L);
+        assertThat(index.search("INDICE", 0, 10).getPostIds()).containsExactly(1L);
+        assertThat(index.search("consulta", 0, 10).getPostIds()).containsExactly(1L);
+        assertThat(index.search("base", 0, 10).getPostIds()).containsExactly(1L);
+        assertThat(index.search("strong", 0, 10).getTotal()).isZero();
+        assertThat(index.search("de los", 0, 10).getTotal()).isZero();
+    }
+
+    @Test
+    void keepsTextAroundLessThanSignsThatDoNotOpenATag() {
+        SearchIndex index = new SearchIndex();
+        index.index(1L, SearchIndex.analyze("Comparaciones", "Extracto",
+                "Si 5 < 10 y además rendimiento <= memoria, el <em>resultado</em> es a<b", List.of()));
+
+        assertThat(index.search("ademas", 0, 10).getPostIds()).containsExactly(1L);
+        assertThat(index.search("rendimiento", 0, 10).getPostIds()).containsExactly(1L);
+        assertThat(index.search("memoria", 0, 10).getPostIds()).containsExactly(1L);
+        assertThat(index.search("resultado", 0, 10).getPostIds()).containsExactly(1L);
+        assertThat(index.search("em", 0, 10).getTotal()).isZero();
+    }
+
+    @Test
+    void ranksTitleMatchesFirstAndPaginates() {
+        SearchIndex index = new SearchIndex();
+        index.index(1L, SearchIndex.analyze("Introducción", "Extracto", "Un texto que menciona docker", List.of()));
+        index.index(2L, SearchIndex.analyze("Docker en producción", "Extracto", "Contenedores", List.of()));
+        index.index(3L, SearchIndex.analyze("Kubernetes", "Extracto", "Orquestación", List.of("docker")));
+
+        SearchIndex.SearchHits hits = index.search("docker", 0, 2);
+        assertThat(hits.getTotal()).isEqualTo(3);
+        assertThat(hits.getPostIds()).containsExactly(2L, 3L);
+        assertThat(index.search("docker", 2, 2).getPostIds()).containsExactly(1L);
+    }
+
+    @Test
+    void reindexingAndRemovalReplacePreviousTerms() {
+        SearchIndex index = new SearchIndex();
+        index.index(1L, SearchIndex.analyze("Spring Boot", "Extracto", "Contenido", List.of()));
+        index.index(1L, SearchIndex.analyze("Quarkus", "Extracto", "Contenido", List.of()));
+
+        assertThat(index.search("spring", 0, 10).getTotal()).isZero();
+        assertThat(index.search("quarkus", 0, 10).getPostIds()).containsExactly(1L);
+
+        index.remove(1L);
+        assertThat(index.search("quarkus", 0, 10).getTotal()).isZero();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void queriesStayFastWithOneHundredThousandPosts() {
+        int postCount = 100_000;
+        Map<Long, SearchIndex.IndexedDocument> documents = new HashMap<>();
+        for (long id = 1; id <= postCount; id++) {
+            String title = WORDS[(int) (id % WORDS.length)] + " " + WORDS[(int) (id * 7 % WORDS.length)] + " " + id;
+            String content = WORDS[(int) (id * 3 % WORDS.length)] + " " + WORDS[(int) (id * 5 % WORDS.length)]
+                    + " término" + (id % 5000);
+            documents.put(id, SearchIndex.analyze(title, "Extracto", content, List.of()));
+        }
+        SearchIndex index = new SearchIndex();
+        index.replaceAll(documents);
+
+        int queries = 200;
+        for (int i = 0; i < queries; i++) {
+            index.search("término" + i + " seguridad", 0, 10);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < queries; i++) {
+            assertThat(index.search("término" + i, 0, 10).getTotal()).isEqualTo(postCount / 5000);
+        }
+        double averageMillis = (System.nanoTime() - start) / 1_000_000.0 / queries;
+
+        logger.info("Búsqueda sobre {} posts: {} ms de media por consulta", postCount, averageMillis);
+        assertThat(averageMillis).isLessThan(1.0);
+    }
+}
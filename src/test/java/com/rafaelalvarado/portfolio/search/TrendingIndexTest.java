@@ -0,0 +1,96 @@
+package com.rafaelalvarado.portfolio.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica la puntuación con atenuación por antigüedad y el desplazamiento
+ * de las ventanas del índice de tendencias.
+ */
+class TrendingIndexTest {
+
+    @Test
+    void decaysOlderViewsPerWindowAndDropsExpiredBuckets() {
+        MutableClock clock = new MutableClock(Instant.ofEpochSecond(300L * 1_000_000));
+        TrendingIndex index = new TrendingIndex(clock);
+
+        views(index, 1L, 3);
+        views(index, 2L, 5);
+        index.advance();
+        assertThat(index.getTrending(TrendingIndex.Window.HOUR, 10)).containsExactly(2L, 1L);
+
+        clock.advance(Duration.ofMinutes(30));
+        views(index, 1L, 1);
+        index.advance();
+        // 1h: vida media de 15 min -> 3 * 0.25 + 1 = 1.75 frente a 5 * 0.25 = 1.25
+        assertThat(index.getTrending(TrendingIndex.Window.HOUR, 10)).containsExactly(1L, 2L);
+        // 24h: vida media de 6 h -> 3 * 0.94 + 1 = 3.83 frente a 5 * 0.94 = 4.72
+        assertThat(index.getTrending(TrendingIndex.Window.DAY, 10)).containsExactly(2L, 1L);
+        assertThat(index.getTrending(TrendingIndex.Window.DAY, 1)).containsExactly(2L);
+
+        clock.advance(Duration.ofMinutes(65));
+        index.advance();
+        assertThat(index.getTrending(TrendingIndex.Window.HOUR, 10)).isEmpty();
+        assertThat(index.getTrending(TrendingIndex.Window.WEEK, 10)).containsExactly(2L, 1L);
+
+        clock.advance(Duration.ofDays(8));
+        index.advance();
+        assertThat(index.getTrending(TrendingIndex.Window.WEEK, 10)).isEmpty();
+    }
+
+    @Test
+    void keepsOnlyTheTopPostsWithinABucket() {
+        TrendingIndex index = new TrendingIndex(new MutableClock(Instant.ofEpochSecond(300L * 1_000_000)));
+        for (long postId = 1; postId <= 100; postId++) {
+            views(index, postId, (int) postId);
+        }
+        index.advance();
+        views(index, 1L, 1000);
+        index.advance();
+
+        assertThat(index.getTrending(TrendingIndex.Window.DAY, TrendingIndex.MAX_TRENDING))
+                .hasSize(TrendingIndex.MAX_TRENDING)
+                .startsWith(1L, 100L, 99L);
+    }
+
+    private void views(TrendingIndex index, Long postId, int count) {
+        for (int i = 0; i < count; i++) {
+            index.recordView(postId);
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        private void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
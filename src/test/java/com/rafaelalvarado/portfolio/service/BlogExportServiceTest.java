@@ -0,0 +1,118 @@
+package com.rafaelalvarado.portfolio.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rafaelalvarado.portfolio.entity.BlogPost;
+import com.rafaelalvarado.portfolio.entity.User;
+import com.rafaelalvarado.portfolio.exception.BadRequestException;
+import com.rafaelalvarado.portfolio.repository.BlogPostRepository;
+import com.rafaelalvarado.portfolio.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verifica que la exportación incluye todos los posts con sus tags y su
+ * autor, y que el número de consultas crece por bloques y no por post.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class BlogExportServiceTest {
+
+    private static final int POSTS = 250;
+
+    @Autowired
+    private BlogExportService blogExportService;
+
+    @Autowired
+    private BlogPostRepository blogPostRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void seedPosts() {
+        blogPostRepository.deleteAll();
+        userRepository.deleteAll();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+
+        User author = userRepository.save(
+                User.builder().username("autor").email("autor@example.com").password("secret").build());
+        List<BlogPost> posts = new ArrayList<>();
+        for (int i = 0; i < POSTS; i++) {
+            posts.add(BlogPost.builder()
+                    .title("Post " + i)
+                    .excerpt("Extracto " + i)
+                    .content("<p>Contenido " + i + "</p>")
+                    .category("Backend")
+                    .tags(new LinkedHashSet<>(Arrays.asList("java", "tag" + i)))
+                    .published(i % 5 != 0)
+                    .author(author)
+                    .build());
+        }
+        blogPostRepository.saveAll(posts);
+    }
+
+    @Test
+    void exportsEveryPostAsNdjsonWithBatchedQueries() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long exported = blogExportService.exportPosts(out, BlogExportService.Format.NDJSON);
+
+        assertThat(exported).isEqualTo(POSTS);
+        // Un cursor para los posts y una consulta de tags por cada bloque de 100
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(4);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(POSTS);
+        long drafts = 0;
+        for (String line : lines) {
+            JsonNode post = objectMapper.readTree(line);
+            assertThat(post.get("authorName").asText()).isEqualTo("autor");
+            assertThat(post.get("tags")).hasSize(2);
+            assertThat(post.has("contentHtml")).isFalse();
+            if (!post.get("published").asBoolean()) {
+                drafts++;
+            }
+        }
+        assertThat(drafts).isEqualTo(POSTS / 5);
+    }
+
+    @Test
+    void exportsJsonArray() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        blogExportService.exportPosts(out, blogExportService.getFormat("json"));
+
+        JsonNode posts = objectMapper.readTree(out.toByteArray());
+        assertThat(posts.isArray()).isTrue();
+        assertThat(posts).hasSize(POSTS);
+        assertThatThrownBy(() -> blogExportService.getFormat("xml")).isInstanceOf(BadRequestException.class);
+    }
+}
@@ -0,0 +1,157 @@
+package com.rafaelalvarado.portfolio.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rafaelalvarado.portfolio.AbstractBlogIntegrationTest;
+import com.rafaelalvarado.portfolio.dto.BlogPostDTO;
+import com.rafaelalvarado.portfolio.dto.BulkImportResultDTO;
+import com.rafaelalvarado.portfolio.dto.CategoryCountDTO;
+import com.rafaelalvarado.portfolio.dto.CreatePostRequest;
+import com.rafaelalvarado.portfolio.repository.CategoryStatsRepository;
+import com.rafaelalvarado.portfolio.repository.RenderedContentRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica la importación masiva: errores por línea e inserciones en lotes
+ * JDBC. El tiempo frente a la creación de posts uno a uno solo se registra,
+ * para no depender del reloj de la máquina que ejecuta los tests.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class BlogImportServiceTest extends AbstractBlogIntegrationTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(BlogImportServiceTest.class);
+
+    private static final int POSTS = 300;
+
+    @Autowired
+    private BlogImportService blogImportService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private CategoryStatsRepository categoryStatsRepository;
+
+    @Autowired
+    private RenderedContentRepository renderedContentRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size}")
+    private int batchSize;
+
+    @BeforeEach
+    void setUp() {
+        categoryStatsRepository.deleteAll();
+        renderedContentRepository.deleteAll();
+    }
+
+    @Test
+    void importsValidLinesInBatchesAndReportsInvalidOnes() throws Exception {
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < POSTS; i++) {
+            ndjson.append(objectMapper.writeValueAsString(row(i))).append('\n');
+            if (i == 10) {
+                ndjson.append("{\"title\": \"Sin cerrar\"\n");
+            }
+            if (i == 20) {
+                ndjson.append(objectMapper.writeValueAsString(BlogPostDTO.builder().title("Sin contenido").build()))
+                        .append('\n');
+            }
+            if (i == 30) {
+                BlogPostDTO unknownAuthor = row(i);
+                unknownAuthor.setAuthorName("desconocido");
+                ndjson.append(objectMapper.writeValueAsString(unknownAuthor)).append('\n');
+            }
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        JdbcBatchCounter.reset();
+        BulkImportResultDTO result = blogImportService.importPosts(
+                new ByteArrayInputStream(ndjson.toString().getBytes(StandardCharsets.UTF_8)), EDITOR);
+
+        assertThat(result.getImported()).isEqualTo(POSTS);
+        assertThat(result.getFailed()).isEqualTo(3);
+        assertThat(result.getErrors()).extracting(BulkImportResultDTO.RowError::getLine)
+                .containsExactly(12L, 23L, 34L);
+        assertThat(result.getErrors().get(2).getMessage()).contains("desconocido");
+        // Artefactos, posts, revisiones y tags (dos por post) se insertan en lotes completos
+        long batchesPerTable = (POSTS + batchSize - 1) / batchSize;
+        long tagBatches = (2L * POSTS + batchSize - 1) / batchSize;
+        assertThat(JdbcBatchCounter.batches()).isEqualTo(3 * batchesPerTable + tagBatches);
+        // Fuera de los lotes solo quedan las búsquedas y la reserva de IDs, que no crecen por fila
+        assertThat(JdbcBatchCounter.statements()).isLessThan(POSTS / 5);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(POSTS / 5);
+
+        assertThat(blogPostRepository.count()).isEqualTo(POSTS);
+        assertThat(blogPostRepository.findWithAuthorAndTagsById(
+                blogPostRepository.findAll().get(0).getId()).orElseThrow().getTags()).hasSize(2);
+        List<CategoryCountDTO> categories = categoryService.getCategories();
+        assertThat(categories).extracting(CategoryCountDTO::getCount).containsExactly(100L, 100L);
+    }
+
+    @Test
+    void comparesImportWithCreatingPostsOneByOne() throws Exception {
+        int posts = 200;
+        long start = System.nanoTime();
+        for (int i = 0; i < posts; i++) {
+            BlogPostDTO source = row(i);
+            blogService.createPost(CreatePostRequest.builder()
+                    .title(source.getTitle())
+                    .excerpt(source.getExcerpt())
+                    .content(source.getContent())
+                    .category(source.getCategory())
+                    .tags(source.getTags())
+                    .published(source.getPublished())
+                    .build(), EDITOR);
+        }
+        long singleNanos = System.nanoTime() - start;
+
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = posts; i < 2 * posts; i++) {
+            ndjson.append(objectMapper.writeValueAsString(row(i))).append('\n');
+        }
+        start = System.nanoTime();
+        BulkImportResultDTO result = blogImportService.importPosts(
+                new ByteArrayInputStream(ndjson.toString().getBytes(StandardCharsets.UTF_8)), EDITOR);
+        long bulkNanos = System.nanoTime() - start;
+
+        assertThat(result.getImported()).isEqualTo(posts);
+        logger.info("Creación uno a uno: {} ms; importación masiva: {} ms ({}x)",
+                singleNanos / 1_000_000, bulkNanos / 1_000_000,
+                String.format("%.1f", (double) singleNanos / bulkNanos));
+    }
+
+    private BlogPostDTO row(int i) {
+        return BlogPostDTO.builder()
+                .title("Post importado " + i)
+                .excerpt("Extracto del post importado " + i)
+                .content("<h2>Sección " + i + "</h2><p>Contenido del post importado " + i + "</p>")
+                .category(i % 3 == 0 ? "Backend" : i % 3 == 1 ? "Frontend" : "Testing")
+                .tags(new ArrayList<>(List.of("java", "tag" + i)))
+                .published(i % 3 != 2)
+                .build();
+    }
+}
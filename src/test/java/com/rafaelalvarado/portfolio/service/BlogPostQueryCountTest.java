@@ -0,0 +1,115 @@
+package com.rafaelalvarado.portfolio.service;
+
+import com.rafaelalvarado.portfolio.entity.BlogPost;
+import com.rafaelalvarado.portfolio.entity.User;
+import com.rafaelalvarado.portfolio.repository.BlogPostRepository;
+import com.rafaelalvarado.portfolio.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica que las rutas de lectura del blog ejecutan un número constante de
+ * sentencias SQL, independientemente del número de posts (sin N+1).
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class BlogPostQueryCountTest {
+
+    private static final int POSTS = 200;
+
+    @Autowired
+    private BlogService blogService;
+
+    @Autowired
+    private BlogPostRepository blogPostRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private Long firstPostId;
+
+    @BeforeEach
+    void seedPosts() {
+        blogPostRepository.deleteAll();
+        userRepository.deleteAll();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+
+        List<User> authors = userRepository.saveAll(Arrays.asList(
+                User.builder().username("autor1").email("autor1@example.com").password("secret").build(),
+                User.builder().username("autor2").email("autor2@example.com").password("secret").build()));
+
+        List<BlogPost> posts = new ArrayList<>();
+        for (int i = 0; i < POSTS; i++) {
+            posts.add(BlogPost.builder()
+                    .title("Post de prueba " + i)
+                    .excerpt("Extracto del post de prueba número " + i)
+                    .content("<p>Contenido " + i + "</p>")
+                    .category(i % 2 == 0 ? "Backend" : "Frontend")
+                    .tags(new LinkedHashSet<>(Arrays.asList("java", "tag" + i)))
+                    .published(true)
+                    .author(authors.get(i % 2))
+                    .build());
+        }
+        firstPostId = blogPostRepository.saveAll(posts).get(0).getId();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void summaryListingUsesConstantNumberOfStatements() {
+        assertThat(blogService.getAllPublishedPosts()).hasSize(POSTS);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void categoryListingUsesConstantNumberOfStatements() {
+        assertThat(blogService.getPostsByCategory("Backend")).hasSize(POSTS / 2);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void entityListingFetchesAuthorsAndTagsInBoundedRoundTrips() {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<BlogPost> posts = blogPostRepository.findByPublishedTrueOrderByCreatedAtDesc();
+            posts.forEach(post -> {
+                post.getAuthor().getUsername();
+                post.getTags().size();
+            });
+            assertThat(posts).hasSize(POSTS);
+        });
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void postDetailLoadsAuthorAndTagsInOneStatement() {
+        assertThat(blogService.getPostById(firstPostId).getTags()).isNotEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
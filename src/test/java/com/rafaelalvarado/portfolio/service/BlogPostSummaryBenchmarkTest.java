@@ -0,0 +1,135 @@
+package com.rafaelalvarado.portfolio.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rafaelalvarado.portfolio.dto.BlogPostDTO;
+import com.rafaelalvarado.portfolio.config.CacheConfig;
+import com.rafaelalvarado.portfolio.entity.BlogPost;
+import com.rafaelalvarado.portfolio.entity.User;
+import com.rafaelalvarado.portfolio.repository.BlogPostRepository;
+import com.rafaelalvarado.portfolio.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark de bytes transferidos y latencia del listado de posts antes
+ * (entidad completa con contenido) y después (proyección de resumen).
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class BlogPostSummaryBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(BlogPostSummaryBenchmarkTest.class);
+
+    private static final int POSTS = 200;
+    private static final int CONTENT_CHARS = 8_000;
+    private static final int ITERATIONS = 20;
+
+    @Autowired
+    private BlogService blogService;
+
+    @Autowired
+    private BlogPostRepository blogPostRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void seedPosts() {
+        blogPostRepository.deleteAll();
+        userRepository.deleteAll();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+
+        User author = userRepository.save(User.builder()
+                .username("bench")
+                .email("bench@example.com")
+                .password("secret")
+                .build());
+
+        String content = "<p>" + "lorem ipsum dolor sit amet ".repeat(CONTENT_CHARS / 27) + "</p>";
+        List<BlogPost> posts = new ArrayList<>();
+        for (int i = 0; i < POSTS; i++) {
+            posts.add(BlogPost.builder()
+                    .title("Post de prueba " + i)
+                    .excerpt("Extracto del post de prueba número " + i)
+                    .content(content)
+                    .category(i % 2 == 0 ? "Backend" : "Frontend")
+                    .tags(new LinkedHashSet<>(Arrays.asList("java", "spring", "tag" + i)))
+                    .readTime("5 min")
+                    .published(true)
+                    .author(author)
+                    .build());
+        }
+        blogPostRepository.saveAll(posts);
+    }
+
+    @Test
+    void summaryListingTransfersFarFewerBytesThanFullListing() throws Exception {
+        Supplier<Object> fullListing = () -> transactionTemplate.execute(status ->
+                blogPostRepository.findByPublishedTrueOrderByCreatedAtDesc().stream()
+                        .map(post -> BlogPostDTO.builder()
+                                .id(post.getId())
+                                .title(post.getTitle())
+                                .excerpt(post.getExcerpt())
+                                .content(post.getContent())
+                                .category(post.getCategory())
+                                .tags(new ArrayList<>(post.getTags()))
+                                .readTime(post.getReadTime())
+                                .published(post.getPublished())
+                                .authorName(post.getAuthor().getUsername())
+                                .authorId(post.getAuthor().getId())
+                                .createdAt(post.getCreatedAt())
+                                .updatedAt(post.getUpdatedAt())
+                                .build())
+                        .collect(Collectors.toList()));
+        Supplier<Object> summaryListing = () -> {
+            cacheManager.getCache(CacheConfig.LISTINGS_CACHE).clear();
+            return blogService.getAllPublishedPosts();
+        };
+
+        int fullBytes = objectMapper.writeValueAsBytes(fullListing.get()).length;
+        int summaryBytes = objectMapper.writeValueAsBytes(summaryListing.get()).length;
+        double fullMillis = medianMillis(fullListing);
+        double summaryMillis = medianMillis(summaryListing);
+
+        logger.info("Listado de {} posts - completo: {} bytes, {} ms | resumen: {} bytes, {} ms",
+                POSTS, fullBytes, fullMillis, summaryBytes, summaryMillis);
+
+        assertThat(summaryBytes).isLessThan(fullBytes / 10);
+    }
+
+    private double medianMillis(Supplier<Object> listing) throws Exception {
+        long[] samples = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            objectMapper.writeValueAsBytes(listing.get());
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[ITERATIONS / 2] / 1_000_000.0;
+    }
+}
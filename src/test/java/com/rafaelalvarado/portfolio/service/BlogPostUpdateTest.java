@@ -0,0 +1,121 @@
+package com.rafaelalvarado.portfolio.service;
+
+import com.rafaelalvarado.portfolio.AbstractBlogIntegrationTest;
+import com.rafaelalvarado.portfolio.dto.BlogPostDTO;
+import com.rafaelalvarado.portfolio.dto.ContentVersion;
+import com.rafaelalvarado.portfolio.dto.PatchPostRequest;
+import com.rafaelalvarado.portfolio.dto.UpdatePostRequest;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica que las actualizaciones solo escriben las columnas modificadas,
+ * que los tags se actualizan por diferencias y que un cambio solo de tags
+ * renueva los ETag.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.rafaelalvarado.portfolio.service.BlogPostUpdateTest$RecordingStatementInspector")
+@ActiveProfiles("test")
+class BlogPostUpdateTest extends AbstractBlogIntegrationTest {
+
+    private BlogPostDTO post;
+
+    @BeforeEach
+    void setUp() {
+        post = blogService.createPost(postRequest("Post original")
+                .content("<p>" + "Contenido largo del post. ".repeat(200) + "</p>")
+                .tags(new ArrayList<>(List.of("java", "spring", "jpa")))
+                .build(), EDITOR);
+        RecordingStatementInspector.STATEMENTS.clear();
+    }
+
+    @Test
+    void titleChangeUpdatesOnlyChangedColumns() {
+        blogService.updatePost(post.getId(), UpdatePostRequest.builder()
+                .title("Post renombrado")
+                .content(post.getContent())
+                .tags(new ArrayList<>(List.of("spring", "java", "jpa")))
+                .build());
+
+        List<String> updates = statements("update blog_posts ");
+        assertThat(updates).hasSize(1);
+        assertThat(updates.get(0)).contains("title").doesNotContain("content").doesNotContain("excerpt");
+        assertThat(statements("insert into blog_post_tags")).isEmpty();
+        assertThat(statements("delete from blog_post_tags")).isEmpty();
+    }
+
+    @Test
+    void replacingTagsWritesOnlyDifferences() {
+        BlogPostDTO updated = blogService.updatePost(post.getId(), UpdatePostRequest.builder()
+                .tags(new ArrayList<>(List.of("java", "spring", "hibernate")))
+                .build());
+
+        assertThat(updated.getTags()).containsExactlyInAnyOrder("java", "spring", "hibernate");
+        assertThat(statements("insert into blog_post_tags")).hasSize(1);
+        assertThat(statements("delete from blog_post_tags")).hasSize(1);
+        // Solo se actualiza la fecha de modificación, de la que dependen los ETag
+        List<String> updates = statements("update blog_posts ");
+        assertThat(updates).hasSize(1);
+        assertThat(updates.get(0)).startsWith("update blog_posts set updated_at=? where");
+    }
+
+    @Test
+    void tagOnlyChangeProducesNewVersions() {
+        ContentVersion postVersion = blogService.getPostVersion(post.getId());
+        ContentVersion listingVersion = blogService.getCategoryListingVersion("Backend");
+
+        blogService.patchPost(post.getId(), PatchPostRequest.builder().addTags(List.of("hibernate")).build());
+
+        assertThat(blogService.getPostVersion(post.getId()).getEtag()).isNotEqualTo(postVersion.getEtag());
+        assertThat(blogService.getCategoryListingVersion("Backend").getEtag())
+                .isNotEqualTo(listingVersion.getEtag());
+    }
+
+    @Test
+    void patchAddsAndRemovesSingleTags() {
+        BlogPostDTO patched = blogService.patchPost(post.getId(), PatchPostRequest.builder()
+                .published(false)
+                .addTags(List.of("hibernate"))
+                .removeTags(List.of("jpa"))
+                .build());
+
+        assertThat(patched.getPublished()).isFalse();
+        assertThat(patched.getTags()).containsExactlyInAnyOrder("java", "spring", "hibernate");
+        assertThat(patched.getTitle()).isEqualTo("Post original");
+        assertThat(statements("insert into blog_post_tags")).hasSize(1);
+        assertThat(statements("delete from blog_post_tags")).hasSize(1);
+        List<String> updates = statements("update blog_posts ");
+        assertThat(updates).hasSize(1);
+        assertThat(updates.get(0)).contains("published").doesNotContain("content").doesNotContain("title");
+    }
+
+    private static List<String> statements(String prefix) {
+        return RecordingStatementInspector.STATEMENTS.stream()
+                .filter(sql -> sql.startsWith(prefix))
+                .toList();
+    }
+
+    /**
+     * Registra las sentencias SQL que prepara Hibernate.
+     */
+    public static class RecordingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql.trim().toLowerCase(Locale.ROOT));
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.rafaelalvarado.portfolio.service;
+
+import com.rafaelalvarado.portfolio.AbstractBlogIntegrationTest;
+import com.rafaelalvarado.portfolio.dto.BlogPostDTO;
+import com.rafaelalvarado.portfolio.dto.BlogPostSummaryDTO;
+import com.rafaelalvarado.portfolio.dto.CreatePostRequest;
+import com.rafaelalvarado.portfolio.dto.CursorPageDTO;
+import com.rafaelalvarado.portfolio.dto.UpdatePostRequest;
+import com.rafaelalvarado.portfolio.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verifica el cálculo del tiempo de lectura al escribir y los listados
+ * ordenados y filtrados por longitud.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class BlogReadingTimeTest extends AbstractBlogIntegrationTest {
+
+    @Test
+    void computesReadingTimeOnWrite() {
+        BlogPostDTO created = blogService.createPost(request(450), EDITOR);
+        assertThat(created.getWordCount()).isEqualTo(450);
+        assertThat(created.getReadingMinutes()).isEqualTo(3);
+        assertThat(created.getReadTime()).isEqualTo("3 min");
+
+        BlogPostDTO updated = blogService.updatePost(created.getId(),
+                UpdatePostRequest.builder().content(words(50)).build());
+        assertThat(updated.getReadingMinutes()).isEqualTo(1);
+        assertThat(blogService.getAllPublishedPosts().get(0).getWordCount()).isEqualTo(50);
+    }
+
+    @Test
+    void sortsAndFiltersByReadingTimeWithCursor() {
+        BlogPostDTO shortPost = blogService.createPost(request(100), EDITOR);
+        BlogPostDTO mediumPost = blogService.createPost(request(700), EDITOR);
+        BlogPostDTO longPost = blogService.createPost(request(1500), EDITOR);
+
+        assertThat(ids(blogService.getPublishedPostsByReadingTime("readingTime", null, null, null, 10)))
+                .containsExactly(shortPost.getId(), mediumPost.getId(), longPost.getId());
+        assertThat(ids(blogService.getPublishedPostsByReadingTime("-readingTime", 2, 10, null, 10)))
+                .containsExactly(longPost.getId(), mediumPost.getId());
+
+        CursorPageDTO<BlogPostSummaryDTO> first = blogService.getPublishedPostsByReadingTime(
+                "-readingTime", null, null, null, 2);
+        assertThat(ids(first)).containsExactly(longPost.getId(), mediumPost.getId());
+        assertThat(ids(blogService.getPublishedPostsByReadingTime("-readingTime", null, null,
+                first.getNextCursor(), 2))).containsExactly(shortPost.getId());
+
+        assertThatThrownBy(() -> blogService.getPublishedPostsByReadingTime("length", null, null, null, 10))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> blogService.getPublishedPostsByReadingTime("readingTime", 5, 2, null, 10))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private CreatePostRequest request(int wordCount) {
+        return postRequest("Post de longitud " + wordCount)
+                .content(words(wordCount))
+                .tags(new ArrayList<>(List.of("lectura")))
+                .build();
+    }
+
+    private String words(int count) {
+        return "<p>" + "palabra ".repeat(count) + "</p>";
+    }
+
+    private List<Long> ids(CursorPageDTO<BlogPostSummaryDTO> page) {
+        return page.getItems().stream().map(BlogPostSummaryDTO::getId).toList();
+    }
+}
@@ -0,0 +1,76 @@
+package com.rafaelalvarado.portfolio.service;
+
+import com.rafaelalvarado.portfolio.AbstractBlogIntegrationTest;
+import com.rafaelalvarado.portfolio.dto.BlogPostDTO;
+import com.rafaelalvarado.portfolio.dto.BlogPostSummaryDTO;
+import com.rafaelalvarado.portfolio.dto.CreatePostRequest;
+import com.rafaelalvarado.portfolio.dto.UpdatePostRequest;
+import com.rafaelalvarado.portfolio.exception.ResourceNotFoundException;
+import com.rafaelalvarado.portfolio.search.SearchIndexer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verifica los posts relacionados precalculados y su actualización
+ * incremental al editar posts.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class BlogRelatedPostsTest extends AbstractBlogIntegrationTest {
+
+    @Autowired
+    private SearchIndexer searchIndexer;
+
+    @BeforeEach
+    void setUp() {
+        searchIndexer.rebuild();
+    }
+
+    @Test
+    void ranksByTagsAndCategoryAndFollowsUpdates() {
+        BlogPostDTO spring = blogService.createPost(request("Backend", true, "Java", "Spring"), EDITOR);
+        BlogPostDTO boot = blogService.createPost(request("Backend", true, "java", "spring"), EDITOR);
+        BlogPostDTO javaFx = blogService.createPost(request("Frontend", true, "Java"), EDITOR);
+        BlogPostDTO css = blogService.createPost(request("Frontend", true, "CSS"), EDITOR);
+        blogService.createPost(request("Backend", false, "Java", "Spring"), EDITOR);
+
+        assertThat(ids(blogService.getRelatedPosts(spring.getId(), 5)))
+                .containsExactly(boot.getId(), javaFx.getId());
+        assertThat(ids(blogService.getRelatedPosts(spring.getId(), 1))).containsExactly(boot.getId());
+        assertThat(ids(blogService.getRelatedPosts(css.getId(), 5))).containsExactly(javaFx.getId());
+
+        blogService.updatePost(boot.getId(), UpdatePostRequest.builder()
+                .category("Frontend")
+                .tags(new ArrayList<>(List.of("css")))
+                .build());
+        assertThat(ids(blogService.getRelatedPosts(spring.getId(), 5))).containsExactly(javaFx.getId());
+        assertThat(ids(blogService.getRelatedPosts(css.getId(), 5)).get(0)).isEqualTo(boot.getId());
+
+        blogService.updatePost(javaFx.getId(), UpdatePostRequest.builder().published(false).build());
+        assertThat(blogService.getRelatedPosts(spring.getId(), 5)).isEmpty();
+        assertThat(blogService.getRelatedPosts(javaFx.getId(), 5)).isEmpty();
+        assertThatThrownBy(() -> blogService.getRelatedPosts(-1L, 5))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    private CreatePostRequest request(String category, boolean published, String... tags) {
+        return postRequest("Post de " + category)
+                .category(category)
+                .tags(new ArrayList<>(List.of(tags)))
+                .published(published)
+                .build();
+    }
+
+    private List<Long> ids(List<BlogPostSummaryDTO> posts) {
+        return posts.stream().map(BlogPostSummaryDTO::getId).toList();
+    }
+}
@@ -0,0 +1,78 @@
+package com.rafaelalvarado.portfolio.service;
+
+import com.rafaelalvarado.portfolio.AbstractBlogIntegrationTest;
+import com.rafaelalvarado.portfolio.dto.BlogPostDTO;
+import com.rafaelalvarado.portfolio.dto.BlogPostSummaryDTO;
+import com.rafaelalvarado.portfolio.dto.CreatePostRequest;
+import com.rafaelalvarado.portfolio.dto.SearchResultDTO;
+import com.rafaelalvarado.portfolio.dto.UpdatePostRequest;
+import com.rafaelalvarado.portfolio.search.SearchIndexer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica que las escrituras de BlogService mantienen actualizado el
+ * índice de búsqueda.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class BlogSearchTest extends AbstractBlogIntegrationTest {
+
+    @Autowired
+    private SearchIndexer searchIndexer;
+
+    @BeforeEach
+    void setUp() {
+        searchIndexer.rebuild();
+    }
+
+    @Test
+    void writesUpdateTheIndexIncrementally() {
+        BlogPostDTO created = blogService.createPost(request("Migración a Kubernetes", true), EDITOR);
+        assertThat(ids(blogService.searchPosts("kubernetes", 0, 10))).containsExactly(created.getId());
+
+        blogService.updatePost(created.getId(), UpdatePostRequest.builder().title("Migración a Nomad").build());
+        assertThat(ids(blogService.searchPosts("kubernetes", 0, 10))).isEmpty();
+        assertThat(ids(blogService.searchPosts("migracion nomad", 0, 10))).containsExactly(created.getId());
+
+        blogService.updatePost(created.getId(), UpdatePostRequest.builder().published(false).build());
+        assertThat(ids(blogService.searchPosts("nomad", 0, 10))).isEmpty();
+
+        blogService.updatePost(created.getId(), UpdatePostRequest.builder().published(true).build());
+        blogService.deletePost(created.getId());
+        assertThat(ids(blogService.searchPosts("nomad", 0, 10))).isEmpty();
+    }
+
+    @Test
+    void rebuildIndexesExistingPublishedPosts() {
+        BlogPostDTO published = blogService.createPost(request("Observabilidad con OpenTelemetry", true), EDITOR);
+        blogService.createPost(request("Borrador sobre OpenTelemetry", false), EDITOR);
+
+        searchIndexer.rebuild();
+
+        SearchResultDTO result = blogService.searchPosts("opentelemetry", 0, 10);
+        assertThat(result.getTotal()).isEqualTo(1);
+        assertThat(ids(result)).containsExactly(published.getId());
+        assertThat(result.getItems().get(0).getTags()).containsExactly("search");
+    }
+
+    private CreatePostRequest request(String title, boolean published) {
+        return postRequest(title)
+                .excerpt("Extracto del post")
+                .tags(new ArrayList<>(List.of("search")))
+                .published(published)
+                .build();
+    }
+
+    private List<Long> ids(SearchResultDTO result) {
+        return result.getItems().stream().map(BlogPostSummaryDTO::getId).toList();
+    }
+}
@@ -0,0 +1,63 @@
+package com.rafaelalvarado.portfolio.service;
+
+import com.rafaelalvarado.portfolio.AbstractBlogIntegrationTest;
+import com.rafaelalvarado.portfolio.dto.BlogPostDTO;
+import com.rafaelalvarado.portfolio.dto.BlogPostSummaryDTO;
+import com.rafaelalvarado.portfolio.dto.CreatePostRequest;
+import com.rafaelalvarado.portfolio.dto.UpdatePostRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica que la caché de posts se invalida de forma precisa tras las
+ * escrituras de BlogService.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class BlogServiceCacheTest extends AbstractBlogIntegrationTest {
+
+    @Test
+    void unpublishingNeverServesStaleDraft() {
+        BlogPostDTO created = blogService.createPost(request("Backend", true), EDITOR);
+
+        assertThat(blogService.getPostById(created.getId()).getPublished()).isTrue();
+        assertThat(ids(blogService.getAllPublishedPosts())).contains(created.getId());
+        assertThat(ids(blogService.getPostsByCategory("Backend"))).contains(created.getId());
+
+        blogService.updatePost(created.getId(), UpdatePostRequest.builder().published(false).build());
+
+        assertThat(blogService.getPostById(created.getId()).getPublished()).isFalse();
+        assertThat(ids(blogService.getAllPublishedPosts())).doesNotContain(created.getId());
+        assertThat(ids(blogService.getPostsByCategory("Backend"))).doesNotContain(created.getId());
+    }
+
+    @Test
+    void categoryChangeRefreshesOldAndNewCategoryListings() {
+        BlogPostDTO created = blogService.createPost(request("Backend", true), EDITOR);
+        assertThat(ids(blogService.getPostsByCategory("Backend"))).contains(created.getId());
+        assertThat(ids(blogService.getPostsByCategory("Frontend"))).isEmpty();
+
+        blogService.updatePost(created.getId(), UpdatePostRequest.builder().category("Frontend").build());
+
+        assertThat(ids(blogService.getPostsByCategory("Backend"))).isEmpty();
+        assertThat(ids(blogService.getPostsByCategory("Frontend"))).contains(created.getId());
+    }
+
+    private CreatePostRequest request(String category, boolean published) {
+        return postRequest("Post en caché")
+                .category(category)
+                .tags(new ArrayList<>(List.of("cache")))
+                .published(published)
+                .build();
+    }
+
+    private List<Long> ids(List<BlogPostSummaryDTO> posts) {
+        return posts.stream().map(BlogPostSummaryDTO::getId).toList();
+    }
+}
@@ -0,0 +1,89 @@
+package com.rafaelalvarado.portfolio.service;
+
+import com.rafaelalvarado.portfolio.AbstractBlogIntegrationTest;
+import com.rafaelalvarado.portfolio.dto.BlogPostDTO;
+import com.rafaelalvarado.portfolio.dto.BlogPostSummaryDTO;
+import com.rafaelalvarado.portfolio.dto.CreatePostRequest;
+import com.rafaelalvarado.portfolio.dto.CursorPageDTO;
+import com.rafaelalvarado.portfolio.dto.TagCountDTO;
+import com.rafaelalvarado.portfolio.dto.UpdatePostRequest;
+import com.rafaelalvarado.portfolio.search.SearchIndexer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica el filtrado por tags y la nube de tags mantenidos en memoria.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class BlogTagTest extends AbstractBlogIntegrationTest {
+
+    @Autowired
+    private SearchIndexer searchIndexer;
+
+    @BeforeEach
+    void setUp() {
+        searchIndexer.rebuild();
+    }
+
+    @Test
+    void filtersByAllOrAnyTagAndPaginates() {
+        BlogPostDTO java = blogService.createPost(request(true, "Java", "Spring"), EDITOR);
+        BlogPostDTO both = blogService.createPost(request(true, "java", "Docker"), EDITOR);
+        BlogPostDTO docker = blogService.createPost(request(true, "Docker"), EDITOR);
+        blogService.createPost(request(false, "Java"), EDITOR);
+
+        assertThat(ids(blogService.getPostsByTagsPage("java,docker", "all", null, 10)))
+                .containsExactly(both.getId());
+        assertThat(ids(blogService.getPostsByTagsPage("JAVA,docker", "any", null, 10)))
+                .containsExactly(docker.getId(), both.getId(), java.getId());
+
+        CursorPageDTO<BlogPostSummaryDTO> first = blogService.getPostsByTagsPage("java", "all", null, 1);
+        assertThat(ids(first)).containsExactly(both.getId());
+        assertThat(first.isHasMore()).isTrue();
+        CursorPageDTO<BlogPostSummaryDTO> second = blogService.getPostsByTagsPage("java", "all",
+                first.getNextCursor(), 1);
+        assertThat(ids(second)).containsExactly(java.getId());
+        assertThat(second.isHasMore()).isFalse();
+    }
+
+    @Test
+    void tagCountsFollowWrites() {
+        BlogPostDTO post = blogService.createPost(request(true, "Java", "Spring"), EDITOR);
+        blogService.createPost(request(true, "Java"), EDITOR);
+
+        assertThat(blogService.getTagCounts())
+                .containsExactly(new TagCountDTO("Java", 2), new TagCountDTO("Spring", 1));
+
+        blogService.updatePost(post.getId(), UpdatePostRequest.builder()
+                .tags(new ArrayList<>(List.of("Kotlin"))).build());
+        assertThat(blogService.getTagCounts())
+                .containsExactly(new TagCountDTO("Java", 1), new TagCountDTO("Kotlin", 1));
+
+        blogService.updatePost(post.getId(), UpdatePostRequest.builder().published(false).build());
+        assertThat(blogService.getTagCounts()).containsExactly(new TagCountDTO("Java", 1));
+        assertThat(ids(blogService.getPostsByTagsPage("kotlin", "all", null, 10))).isEmpty();
+
+        searchIndexer.rebuild();
+        assertThat(blogService.getTagCounts()).containsExactly(new TagCountDTO("Java", 1));
+    }
+
+    private CreatePostRequest request(boolean published, String... tags) {
+        return postRequest("Post con tags")
+                .tags(new ArrayList<>(List.of(tags)))
+                .published(published)
+                .build();
+    }
+
+    private List<Long> ids(CursorPageDTO<BlogPostSummaryDTO> page) {
+        return page.getItems().stream().map(BlogPostSummaryDTO::getId).toList();
+    }
+}
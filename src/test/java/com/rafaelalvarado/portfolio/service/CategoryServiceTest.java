@@ -0,0 +1,88 @@
+package com.rafaelalvarado.portfolio.service;
+
+import com.rafaelalvarado.portfolio.AbstractBlogIntegrationTest;
+import com.rafaelalvarado.portfolio.dto.BlogPostDTO;
+import com.rafaelalvarado.portfolio.dto.CreatePostRequest;
+import com.rafaelalvarado.portfolio.dto.UpdatePostRequest;
+import com.rafaelalvarado.portfolio.entity.BlogPost;
+import com.rafaelalvarado.portfolio.repository.CategoryStatsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica que los recuentos de categorías siguen a las escrituras de
+ * BlogService y que la reconciliación corrige las desviaciones.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class CategoryServiceTest extends AbstractBlogIntegrationTest {
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private CategoryStatsRepository categoryStatsRepository;
+
+    @BeforeEach
+    void setUp() {
+        categoryStatsRepository.deleteAll();
+    }
+
+    @Test
+    void countsFollowCreateUpdateAndDelete() {
+        BlogPostDTO first = blogService.createPost(request("Backend", true), EDITOR);
+        BlogPostDTO second = blogService.createPost(request("Backend", true), EDITOR);
+        BlogPostDTO draft = blogService.createPost(request("Frontend", false), EDITOR);
+
+        assertThat(counts()).containsExactly("Backend=2");
+        assertThat(categoryService.getCategories().get(0).getLatestPostAt()).isEqualTo(second.getCreatedAt());
+
+        blogService.updatePost(draft.getId(), UpdatePostRequest.builder().published(true).build());
+        blogService.updatePost(first.getId(), UpdatePostRequest.builder().category("Frontend").build());
+        assertThat(counts()).containsExactly("Frontend=2", "Backend=1");
+
+        blogService.updatePost(second.getId(), UpdatePostRequest.builder().published(false).build());
+        blogService.deletePost(first.getId());
+        assertThat(counts()).containsExactly("Frontend=1");
+    }
+
+    @Test
+    void reconcileFixesPostsWrittenOutsideTheService() {
+        blogService.createPost(request("Backend", true), EDITOR);
+        blogPostRepository.save(BlogPost.builder()
+                .title("Post importado")
+                .excerpt("Post insertado sin pasar por el servicio")
+                .content("<p>Contenido</p>")
+                .category("Testing")
+                .published(true)
+                .author(editor)
+                .build());
+        assertThat(counts()).containsExactly("Backend=1");
+
+        categoryService.reconcile();
+
+        assertThat(counts()).containsExactly("Backend=1", "Testing=1");
+    }
+
+    private List<String> counts() {
+        return categoryService.getCategories().stream()
+                .map(category -> category.getName() + "=" + category.getCount())
+                .toList();
+    }
+
+    private CreatePostRequest request(String category, boolean published) {
+        return postRequest("Post de categoría")
+                .category(category)
+                .tags(new ArrayList<>(List.of("categorias")))
+                .published(published)
+                .build();
+    }
+}
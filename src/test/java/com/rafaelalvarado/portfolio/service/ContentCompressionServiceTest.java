@@ -0,0 +1,121 @@
+package com.rafaelalvarado.portfolio.service;
+
+import com.rafaelalvarado.portfolio.AbstractBlogIntegrationTest;
+import com.rafaelalvarado.portfolio.dto.BlogPostDTO;
+import com.rafaelalvarado.portfolio.dto.CreatePostRequest;
+import com.rafaelalvarado.portfolio.dto.PostContentDTO;
+import com.rafaelalvarado.portfolio.dto.UpdatePostRequest;
+import com.rafaelalvarado.portfolio.entity.BlogPost;
+import com.rafaelalvarado.portfolio.render.ContentCompression;
+import com.rafaelalvarado.portfolio.search.SearchIndexer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica el almacenamiento comprimido del contenido: escritura, lectura
+ * del cuerpo completo, envío sin descomprimir y migración de los posts
+ * existentes.
+ */
+@SpringBootTest(properties = {
+        "blog.content.compression.enabled=true",
+        "blog.content.compression.min-length=200"
+})
+@ActiveProfiles("test")
+class ContentCompressionServiceTest extends AbstractBlogIntegrationTest {
+
+    private static final String LONG_CONTENT = "<p>" + "Contenido largo y repetitivo del artículo. ".repeat(100)
+            + "</p>";
+
+    @Autowired
+    private ContentCompressionService contentCompressionService;
+
+    @Autowired
+    private SearchIndexer searchIndexer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        searchIndexer.rebuild();
+    }
+
+    @Test
+    void storesLongContentCompressedAndReadsItBack() {
+        BlogPostDTO created = blogService.createPost(request("Post comprimido", LONG_CONTENT), EDITOR);
+        BlogPostDTO small = blogService.createPost(request("Post corto", "<p>Contenido breve</p>"), EDITOR);
+
+        Map<String, Object> row = storedRow(created.getId());
+        assertThat((String) row.get("content")).isEmpty();
+        assertThat((byte[]) row.get("content_gzip")).hasSizeLessThan(LONG_CONTENT.length() / 10);
+        assertThat(storedRow(small.getId()).get("content_gzip")).isNull();
+
+        assertThat(blogService.getPostById(created.getId()).getContent()).isEqualTo(LONG_CONTENT);
+        assertThat(created.getWordCount()).isGreaterThan(500);
+        assertThat(blogService.searchPosts("repetitivo", 0, 10).getItems())
+                .extracting("id").containsExactly(created.getId());
+
+        blogService.updatePost(created.getId(), UpdatePostRequest.builder().title("Post renombrado").build());
+        assertThat(storedRow(created.getId()).get("content_gzip")).isEqualTo(row.get("content_gzip"));
+    }
+
+    @Test
+    void servesStoredBytesWithoutDecompressing() {
+        BlogPostDTO created = blogService.createPost(request("Post comprimido", LONG_CONTENT), EDITOR);
+
+        PostContentDTO content = blogService.getPostContent(created.getId());
+
+        assertThat(content.isCompressed()).isTrue();
+        assertThat(content.getContent()).isNull();
+        assertThat(ContentCompression.gunzip(content.getContentGzip())).isEqualTo(LONG_CONTENT);
+        assertThat(content.decompress()).isEqualTo(LONG_CONTENT);
+    }
+
+    @Test
+    void migrationCompressesExistingRowsWithoutTouchingUpdatedAt() {
+        List<BlogPost> posts = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            posts.add(BlogPost.builder()
+                    .title("Post existente " + i)
+                    .excerpt("Extracto del post " + i)
+                    .content(i % 10 == 0 ? "<p>Corto " + i + "</p>" : LONG_CONTENT + i)
+                    .category("Backend")
+                    .published(true)
+                    .author(editor)
+                    .build());
+        }
+        List<BlogPost> saved = blogPostRepository.saveAll(posts);
+        Long sampleId = saved.get(1).getId();
+        LocalDateTime updatedAt = jdbcTemplate.queryForObject(
+                "SELECT updated_at FROM blog_posts WHERE id = ?", LocalDateTime.class, sampleId);
+
+        assertThat(contentCompressionService.compressExisting()).isEqualTo(225);
+        assertThat(contentCompressionService.compressExisting()).isZero();
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM blog_posts WHERE content_gzip IS NULL", Long.class)).isEqualTo(25);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT updated_at FROM blog_posts WHERE id = ?", LocalDateTime.class, sampleId))
+                .isEqualTo(updatedAt);
+        assertThat(blogService.getPostById(sampleId).getContent()).isEqualTo(LONG_CONTENT + 1);
+    }
+
+    private Map<String, Object> storedRow(Long id) {
+        return jdbcTemplate.queryForMap("SELECT content, content_gzip FROM blog_posts WHERE id = ?", id);
+    }
+
+    private CreatePostRequest request(String title, String content) {
+        return postRequest(title).excerpt("Extracto del post de prueba").content(content).build();
+    }
+}
@@ -0,0 +1,124 @@
+package com.rafaelalvarado.portfolio.service;
+
+import com.rafaelalvarado.portfolio.AbstractBlogIntegrationTest;
+import com.rafaelalvarado.portfolio.dto.BlogPostDTO;
+import com.rafaelalvarado.portfolio.dto.CreatePostRequest;
+import com.rafaelalvarado.portfolio.dto.UpdatePostRequest;
+import com.rafaelalvarado.portfolio.entity.BlogPost;
+import com.rafaelalvarado.portfolio.render.ContentRenderer;
+import com.rafaelalvarado.portfolio.repository.RenderedContentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica que el contenido se renderiza al escribirse, una sola vez por
+ * contenido distinto.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ContentRenderingServiceTest extends AbstractBlogIntegrationTest {
+
+    @Autowired
+    private ContentRenderingService contentRenderingService;
+
+    @Autowired
+    private RenderedContentRepository renderedContentRepository;
+
+    @BeforeEach
+    void setUp() {
+        renderedContentRepository.deleteAll();
+    }
+
+    @Test
+    void rendersOnWriteAndReusesUnchangedContent() {
+        BlogPostDTO created = blogService.createPost(request("## Primeros pasos\n\nTexto"), EDITOR);
+        String firstHash = ContentRenderer.hash("## Primeros pasos\n\nTexto");
+        LocalDateTime renderedAt = renderedContentRepository.findById(firstHash).orElseThrow().getRenderedAt();
+
+        BlogPostDTO read = blogService.getPostById(created.getId());
+        assertThat(read.getContentHtml()).isEqualTo("<h2 id=\"primeros-pasos\">Primeros pasos</h2>\n<p>Texto</p>");
+        assertThat(read.getToc()).contains("\"id\":\"primeros-pasos\"");
+
+        blogService.updatePost(created.getId(), UpdatePostRequest.builder()
+                .title("Título cambiado").content("## Primeros pasos\n\nTexto").build());
+        assertThat(renderedContentRepository.findById(firstHash).orElseThrow().getRenderedAt())
+                .isEqualTo(renderedAt);
+
+        blogService.updatePost(created.getId(), UpdatePostRequest.builder().content("## Otro tema").build());
+        assertThat(renderedContentRepository.existsById(firstHash)).isFalse();
+        assertThat(blogService.getPostById(created.getId()).getContentHtml()).contains("id=\"otro-tema\"");
+
+        blogService.deletePost(created.getId());
+        assertThat(renderedContentRepository.count()).isZero();
+    }
+
+    @Test
+    void postsWithIdenticalContentShareTheArtifact() {
+        BlogPostDTO first = blogService.createPost(request("Contenido compartido"), EDITOR);
+        blogService.createPost(request("Contenido compartido"), EDITOR);
+        assertThat(renderedContentRepository.count()).isEqualTo(1);
+
+        blogService.deletePost(first.getId());
+        assertThat(renderedContentRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentWritesOfTheSameNewContentShareOneArtifact() throws Exception {
+        int writers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<BlogPostDTO>> results = new ArrayList<>();
+        for (int i = 0; i < writers; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return blogService.createPost(request("## Simultáneo\n\nMismo contenido"), EDITOR);
+            }));
+        }
+        start.countDown();
+        for (Future<BlogPostDTO> result : results) {
+            assertThat(result.get(30, TimeUnit.SECONDS).getContentHtml()).contains("id=\"simultaneo\"");
+        }
+        executor.shutdown();
+
+        assertThat(renderedContentRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void rendersPendingPostsWrittenOutsideTheService() {
+        BlogPost imported = blogPostRepository.save(BlogPost.builder()
+                .title("Post importado")
+                .excerpt("Post insertado sin pasar por el servicio")
+                .content("<h2>Importado</h2><p>Texto</p>")
+                .category("Backend")
+                .published(true)
+                .author(editor)
+                .build());
+        assertThat(blogService.getPostById(imported.getId()).getContentHtml()).isNull();
+
+        contentRenderingService.processPending();
+
+        assertThat(blogService.getPostById(imported.getId()).getContentHtml())
+                .isEqualTo("<h2 id=\"importado\">Importado</h2><p>Texto</p>");
+    }
+
+    private CreatePostRequest request(String content) {
+        return postRequest("Post renderizado")
+                .content(content)
+                .tags(new ArrayList<>(List.of("render")))
+                .build();
+    }
+}
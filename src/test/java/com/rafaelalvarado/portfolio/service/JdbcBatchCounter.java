@@ -0,0 +1,45 @@
+package com.rafaelalvarado.portfolio.service;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Cuenta las ejecuciones JDBC de Hibernate en el hilo actual: lotes
+ * ({@code executeBatch}) y sentencias individuales.
+ * 
+ * Se registra en el perfil de test con {@code hibernate.session.events.auto};
+ * los contadores son por hilo para que las tareas en segundo plano no
+ * alteren las mediciones.
+ */
+public class JdbcBatchCounter implements SessionEventListener {
+
+    private static final ThreadLocal<long[]> COUNTS = ThreadLocal.withInitial(() -> new long[2]);
+
+    public static void reset() {
+        COUNTS.remove();
+    }
+
+    /**
+     * @return Lotes ejecutados en el hilo actual desde el último reset
+     */
+    public static long batches() {
+        return COUNTS.get()[0];
+    }
+
+    /**
+     * @return Sentencias ejecutadas fuera de lotes en el hilo actual desde el
+     *         último reset
+     */
+    public static long statements() {
+        return COUNTS.get()[1];
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        COUNTS.get()[0]++;
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        COUNTS.get()[1]++;
+    }
+}
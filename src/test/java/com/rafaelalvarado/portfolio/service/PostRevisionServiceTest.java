@@ -0,0 +1,160 @@
+package com.rafaelalvarado.portfolio.service;
+
+import com.rafaelalvarado.portfolio.AbstractBlogIntegrationTest;
+import com.rafaelalvarado.portfolio.dto.BlogPostDTO;
+import com.rafaelalvarado.portfolio.dto.PostRevisionDTO;
+import com.rafaelalvarado.portfolio.dto.UpdatePostRequest;
+import com.rafaelalvarado.portfolio.entity.BlogPost;
+import com.rafaelalvarado.portfolio.exception.ResourceNotFoundException;
+import com.rafaelalvarado.portfolio.repository.PostRevisionRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verifica que cada cambio de contenido crea una revisión, que las
+ * revisiones intermedias ocupan lo editado y que cualquier revisión se
+ * reconstruye leyendo como mucho el intervalo de revisiones clave.
+ */
+@SpringBootTest(properties = "blog.revisions.keyframe-interval=5")
+@ActiveProfiles("test")
+class PostRevisionServiceTest extends AbstractBlogIntegrationTest {
+
+    @Autowired
+    private PostRevisionService postRevisionService;
+
+    @Autowired
+    private PostRevisionRepository postRevisionRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        postRevisionRepository.deleteAll();
+    }
+
+    @Test
+    void storesEditsAsDeltasBetweenKeyframes() {
+        List<String> versions = new ArrayList<>();
+        versions.add(article(0));
+        BlogPostDTO post = blogService.createPost(postRequest("Post con historial")
+                .content(versions.get(0))
+                .build(), EDITOR);
+
+        for (int edit = 1; edit <= 11; edit++) {
+            versions.add(article(edit));
+            blogService.updatePost(post.getId(), UpdatePostRequest.builder().content(versions.get(edit)).build());
+        }
+        // Sin cambio de contenido no hay revisión nueva
+        blogService.updatePost(post.getId(), UpdatePostRequest.builder().title("Post renombrado").build());
+
+        List<PostRevisionDTO> revisions = postRevisionService.getRevisions(post.getId());
+        assertThat(revisions).extracting(PostRevisionDTO::getRevision)
+                .containsExactly(12, 11, 10, 9, 8, 7, 6, 5, 4, 3, 2, 1);
+        assertThat(revisions).filteredOn(PostRevisionDTO::getKeyframe)
+                .extracting(PostRevisionDTO::getRevision).containsExactly(11, 6, 1);
+        int articleSize = versions.get(0).length();
+        assertThat(revisions).filteredOn(revision -> !revision.getKeyframe())
+                .allSatisfy(revision -> assertThat(revision.getStoredSize()).isLessThan(articleSize / 100));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        for (int revision = 1; revision <= 12; revision++) {
+            statistics.clear();
+            PostRevisionDTO stored = postRevisionService.getRevision(post.getId(), revision);
+
+            assertThat(stored.getContent()).isEqualTo(versions.get(revision - 1));
+            assertThat(statistics.getEntityLoadCount()).isLessThanOrEqualTo(5);
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        }
+
+        assertThatThrownBy(() -> postRevisionService.getRevision(post.getId(), 13))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void legacyPostGetsInitialRevisionOnFirstChange() {
+        BlogPost legacy = blogPostRepository.save(BlogPost.builder()
+                .title("Post anterior")
+                .excerpt("Extracto del post anterior")
+                .content(article(0))
+                .category("Backend")
+                .published(true)
+                .author(editor)
+                .build());
+        assertThat(postRevisionService.getRevisions(legacy.getId())).isEmpty();
+
+        blogService.updatePost(legacy.getId(), UpdatePostRequest.builder().content(article(1)).build());
+
+        assertThat(postRevisionService.getRevisions(legacy.getId())).hasSize(2);
+        assertThat(postRevisionService.getRevision(legacy.getId(), 1).getContent()).isEqualTo(article(0));
+        assertThat(postRevisionService.getRevision(legacy.getId(), 2).getContent()).isEqualTo(article(1));
+
+        blogService.deletePost(legacy.getId());
+        assertThat(postRevisionRepository.count()).isZero();
+    }
+
+    @Test
+    void concurrentEditsGetConsecutiveRevisionsOverTheirRealBase() throws Exception {
+        BlogPostDTO post = blogService.createPost(postRequest("Post editado a la vez")
+                .content(article(0))
+                .build(), EDITOR);
+
+        int editors = 6;
+        ExecutorService executor = Executors.newFixedThreadPool(editors);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<BlogPostDTO>> updates = new ArrayList<>();
+        for (int edit = 1; edit <= editors; edit++) {
+            String content = article(edit);
+            updates.add(executor.submit(() -> {
+                start.await();
+                return blogService.updatePost(post.getId(), UpdatePostRequest.builder().content(content).build());
+            }));
+        }
+        start.countDown();
+        for (Future<BlogPostDTO> update : updates) {
+            update.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(postRevisionService.getRevisions(post.getId())).extracting(PostRevisionDTO::getRevision)
+                .containsExactly(7, 6, 5, 4, 3, 2, 1);
+        // Cada edición se guarda sobre la anterior: todas las versiones se
+        // reconstruyen y la última coincide con el contenido del post
+        List<String> stored = new ArrayList<>();
+        for (int revision = 2; revision <= editors + 1; revision++) {
+            stored.add(postRevisionService.getRevision(post.getId(), revision).getContent());
+        }
+        assertThat(stored).containsExactlyInAnyOrder(article(1), article(2), article(3), article(4), article(5),
+                article(6));
+        assertThat(stored.get(editors - 1)).isEqualTo(blogService.getPostById(post.getId()).getContent());
+    }
+
+    /**
+     * Artículo largo en el que cada versión cambia una frase distinta.
+     */
+    private static String article(int version) {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            content.append("<p>Párrafo ").append(i).append(i == version * 37 ? " editado en la versión " + version
+                    : " del artículo").append(".</p>\n");
+        }
+        return content.toString();
+    }
+}
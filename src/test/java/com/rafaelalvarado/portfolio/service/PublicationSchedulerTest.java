@@ -0,0 +1,163 @@
+package com.rafaelalvarado.portfolio.service;
+
+import com.rafaelalvarado.portfolio.AbstractBlogIntegrationTest;
+import com.rafaelalvarado.portfolio.dto.BlogPostDTO;
+import com.rafaelalvarado.portfolio.dto.BlogPostSummaryDTO;
+import com.rafaelalvarado.portfolio.dto.CreatePostRequest;
+import com.rafaelalvarado.portfolio.dto.PatchPostRequest;
+import com.rafaelalvarado.portfolio.dto.UpdatePostRequest;
+import com.rafaelalvarado.portfolio.entity.BlogPost;
+import com.rafaelalvarado.portfolio.exception.BadRequestException;
+import com.rafaelalvarado.portfolio.repository.CategoryStatsRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verifica la publicación y retirada programada: aplicación al vencer,
+ * invalidación de las cachés, aplicación por lotes de las fechas vencidas
+ * y validación de las fechas.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class PublicationSchedulerTest extends AbstractBlogIntegrationTest {
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private PublicationScheduler publicationScheduler;
+
+    @Autowired
+    private CategoryStatsRepository categoryStatsRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        categoryStatsRepository.deleteAll();
+    }
+
+    @Test
+    void publishesScheduledPostWhenDue() throws InterruptedException {
+        CreatePostRequest request = request("Backend", false);
+        request.setPublishAt(LocalDateTime.now().plusSeconds(1));
+        BlogPostDTO created = blogService.createPost(request, EDITOR);
+
+        assertThat(created.getPublished()).isFalse();
+        assertThat(created.getPublishAt()).isEqualTo(request.getPublishAt());
+        assertThat(blogService.getAllPublishedPosts()).isEmpty();
+        assertThat(blogService.getPostById(created.getId()).getPublished()).isFalse();
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (blogService.getAllPublishedPosts().isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+
+        assertThat(blogService.getAllPublishedPosts()).extracting(BlogPostSummaryDTO::getId)
+                .containsExactly(created.getId());
+        BlogPostDTO published = blogService.getPostById(created.getId());
+        assertThat(published.getPublished()).isTrue();
+        assertThat(published.getPublishAt()).isNull();
+        assertThat(counts()).containsExactly("Backend=1");
+    }
+
+    @Test
+    void appliesOverdueTransitionsInBatches() {
+        LocalDateTime past = LocalDateTime.now().minusHours(1);
+        List<BlogPost> posts = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            posts.add(post("Backend", false).publishAt(past.plusSeconds(i)).build());
+        }
+        for (int i = 0; i < 10; i++) {
+            posts.add(post("Frontend", true).unpublishAt(past.plusSeconds(i)).build());
+        }
+        posts.add(post("Testing", false).publishAt(LocalDateTime.now().plusDays(1)).build());
+        blogPostRepository.saveAll(posts);
+        categoryService.reconcile();
+        assertThat(counts()).containsExactly("Frontend=10");
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        assertThat(publicationScheduler.applyDueTransitions()).isEqualTo(40);
+        // Dos lotes (el segundo vacío) de dos consultas y dos UPDATE como máximo, un
+        // ajuste por categoría y la lectura de los posts publicados para los índices:
+        // no depende del número de posts
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(12);
+
+        assertThat(counts()).containsExactly("Backend=30");
+        assertThat(blogPostRepository.findScheduledPublications()).hasSize(1);
+        assertThat(blogPostRepository.findScheduledUnpublications()).isEmpty();
+        assertThat(publicationScheduler.applyDueTransitions()).isZero();
+    }
+
+    @Test
+    void appliesPastDatesImmediatelyAndValidatesThem() {
+        BlogPostDTO post = blogService.createPost(request("Backend", true), EDITOR);
+
+        BlogPostDTO unpublished = blogService.updatePost(post.getId(), UpdatePostRequest.builder()
+                .unpublishAt(LocalDateTime.now().minusMinutes(1))
+                .build());
+        assertThat(unpublished.getPublished()).isFalse();
+        assertThat(unpublished.getUnpublishAt()).isNull();
+
+        LocalDateTime publishAt = LocalDateTime.now().plusDays(1);
+        assertThatThrownBy(() -> blogService.patchPost(post.getId(), PatchPostRequest.builder()
+                .publishAt(publishAt)
+                .unpublishAt(publishAt.minusHours(1))
+                .build()))
+                .isInstanceOf(BadRequestException.class);
+
+        BlogPostDTO scheduled = blogService.patchPost(post.getId(), PatchPostRequest.builder()
+                .publishAt(publishAt)
+                .build());
+        assertThat(scheduled.getPublished()).isFalse();
+        assertThat(scheduled.getPublishAt()).isEqualTo(publishAt);
+
+        // Publicar manualmente cancela la publicación programada
+        BlogPostDTO published = blogService.patchPost(post.getId(), PatchPostRequest.builder()
+                .published(true)
+                .build());
+        assertThat(published.getPublished()).isTrue();
+        assertThat(published.getPublishAt()).isNull();
+        assertThat(counts()).containsExactly("Backend=1");
+    }
+
+    private List<String> counts() {
+        return categoryService.getCategories().stream()
+                .map(category -> category.getName() + "=" + category.getCount())
+                .toList();
+    }
+
+    private BlogPost.BlogPostBuilder post(String category, boolean published) {
+        return BlogPost.builder()
+                .title("Post programado")
+                .excerpt("Extracto del post programado")
+                .content("<p>Contenido</p>")
+                .category(category)
+                .published(published)
+                .author(editor);
+    }
+
+    private CreatePostRequest request(String category, boolean published) {
+        return postRequest("Post programado")
+                .category(category)
+                .tags(new ArrayList<>(List.of("programacion")))
+                .published(published)
+                .build();
+    }
+}
@@ -0,0 +1,113 @@
+package com.rafaelalvarado.portfolio.service;
+
+import com.rafaelalvarado.portfolio.AbstractBlogIntegrationTest;
+import com.rafaelalvarado.portfolio.dto.BlogPostDTO;
+import com.rafaelalvarado.portfolio.dto.CreatePostRequest;
+import com.rafaelalvarado.portfolio.dto.UpdatePostRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifica la acumulación de visitas en memoria, su volcado idempotente por
+ * lotes y que las respuestas del post muestran el contador actual.
+ */
+@SpringBootTest(properties = "blog.views.flush-interval=1h")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ViewCountServiceTest extends AbstractBlogIntegrationTest {
+
+    @Autowired
+    private ViewCountService viewCountService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        viewCountService.flush();
+    }
+
+    @Test
+    void flushesConcurrentViewsInBatchesAndKeepsThemAcrossUpdates() throws InterruptedException {
+        BlogPostDTO first = blogService.createPost(request(), EDITOR);
+        BlogPostDTO second = blogService.createPost(request(), EDITOR);
+        assertThat(first.getViewCount()).isZero();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 1000; i++) {
+            executor.execute(() -> viewCountService.recordView(first.getId()));
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        viewCountService.recordView(second.getId());
+
+        viewCountService.flush();
+        assertThat(viewCount(first.getId())).isEqualTo(1000);
+        assertThat(viewCount(second.getId())).isEqualTo(1);
+
+        blogService.updatePost(first.getId(), UpdatePostRequest.builder().title("Título actualizado").build());
+        assertThat(viewCount(first.getId())).isEqualTo(1000);
+        assertThat(blogService.getPostById(first.getId()).getViewCount()).isEqualTo(1000);
+    }
+
+    @Test
+    void retriedBatchIsAppliedOnlyOnce() {
+        BlogPostDTO post = blogService.createPost(request(), EDITOR);
+        Map<Long, Long> deltas = new TreeMap<>(Map.of(post.getId(), 5L, -1L, 3L));
+
+        assertThat(viewCountService.applyBatch("batch-1", deltas)).isTrue();
+        assertThat(viewCountService.applyBatch("batch-1", deltas)).isFalse();
+        assertThat(viewCount(post.getId())).isEqualTo(5);
+    }
+
+    @Test
+    void flushedViewsShowUpInThePostResponse() throws Exception {
+        BlogPostDTO post = blogService.createPost(request(), EDITOR);
+        mockMvc.perform(get("/blog/posts/{id}", post.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.viewCount").value(0));
+        viewCountService.recordView(post.getId());
+        viewCountService.flush();
+
+        // El post sigue en la caché de servicio con el contador de su carga
+        assertThat(blogService.getPostById(post.getId()).getViewCount()).isZero();
+        mockMvc.perform(get("/blog/posts/{id}", post.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.viewCount").value(2));
+    }
+
+    @Test
+    void currentViewsIncludeThePendingOnes() {
+        BlogPostDTO post = blogService.createPost(request(), EDITOR);
+        viewCountService.recordView(post.getId());
+        viewCountService.flush();
+        viewCountService.recordView(post.getId());
+
+        assertThat(viewCountService.withCurrentViews(post).getViewCount()).isEqualTo(2);
+        assertThat(post.getViewCount()).isZero();
+    }
+
+    private long viewCount(Long postId) {
+        return blogPostRepository.findById(postId).orElseThrow().getViewCount();
+    }
+
+    private CreatePostRequest request() {
+        return postRequest("Post con visitas").build();
+    }
+}
@@ -0,0 +1,69 @@
+package com.rafaelalvarado.portfolio.snapshot;
+
+import com.rafaelalvarado.portfolio.AbstractBlogIntegrationTest;
+import com.rafaelalvarado.portfolio.dto.BlogPostDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica que el snapshot se recupera cuando la generación inicial falla:
+ * los cambios siguen pendientes y se reintenta hasta generar una versión
+ * completa.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SnapshotGeneratorRecoveryTest extends AbstractBlogIntegrationTest {
+
+    /**
+     * Ruta que al arrancar es un fichero, de modo que no se puede crear el
+     * directorio del snapshot
+     */
+    private static final Path DIRECTORY = createBlockedDirectory();
+
+    @DynamicPropertySource
+    static void snapshotProperties(DynamicPropertyRegistry registry) {
+        registry.add("blog.snapshot.enabled", () -> "true");
+        registry.add("blog.snapshot.directory", DIRECTORY::toString);
+        registry.add("blog.snapshot.retry-delay", () -> "200ms");
+    }
+
+    @Autowired
+    private SnapshotStore snapshotStore;
+
+    @Test
+    void retriesUntilTheFirstFullVersionIsGenerated() throws Exception {
+        BlogPostDTO post = blogService.createPost(postRequest("Post tras el fallo").build(), EDITOR);
+        Thread.sleep(500);
+        assertThat(snapshotStore.getCurrent()).isNull();
+
+        Files.delete(DIRECTORY);
+        Files.createDirectories(DIRECTORY);
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (snapshotStore.getCurrent() == null && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        Snapshot snapshot = snapshotStore.getCurrent();
+        assertThat(snapshot).isNotNull();
+        assertThat(snapshot.lookup("/blog/posts/" + post.getId())).isNotNull();
+    }
+
+    private static Path createBlockedDirectory() {
+        try {
+            return Files.createTempFile("blog-snapshot", ".blocked");
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
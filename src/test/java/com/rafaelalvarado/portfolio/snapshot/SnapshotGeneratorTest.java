@@ -0,0 +1,154 @@
+package com.rafaelalvarado.portfolio.snapshot;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rafaelalvarado.portfolio.AbstractBlogIntegrationTest;
+import com.rafaelalvarado.portfolio.dto.BlogPostDTO;
+import com.rafaelalvarado.portfolio.dto.CreatePostRequest;
+import com.rafaelalvarado.portfolio.dto.UpdatePostRequest;
+import com.rafaelalvarado.portfolio.service.ViewCountService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica la generación incremental del snapshot en disco y que las rutas
+ * públicas se sirven desde él con el mismo cuerpo y ETag que la API.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class SnapshotGeneratorTest extends AbstractBlogIntegrationTest {
+
+    private static final Path DIRECTORY = createDirectory();
+
+    @DynamicPropertySource
+    static void snapshotProperties(DynamicPropertyRegistry registry) {
+        registry.add("blog.snapshot.enabled", () -> "true");
+        registry.add("blog.snapshot.serve", () -> "true");
+        registry.add("blog.snapshot.directory", DIRECTORY::toString);
+        registry.add("blog.views.flush-interval", () -> "1h");
+    }
+
+    @Autowired
+    private SnapshotStore snapshotStore;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ViewCountService viewCountService;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void servesPublicResponsesAndRegeneratesOnlyAffectedFiles() throws Exception {
+        BlogPostDTO java = blogService.createPost(request("Java", true), EDITOR);
+        BlogPostDTO docker = blogService.createPost(request("Docker", true), EDITOR);
+        BlogPostDTO draft = blogService.createPost(request("Java", false), EDITOR);
+        String javaPath = "/blog/posts/" + java.getId();
+        String dockerPath = "/blog/posts/" + docker.getId();
+
+        Snapshot first = awaitSnapshot(snapshot -> snapshot.lookup(javaPath) != null
+                && snapshot.lookup(dockerPath) != null);
+        assertThat(first.lookup("/blog/posts/" + draft.getId())).isNull();
+        assertThat(first.lookup("/blog/posts/category/Docker")).isNotNull();
+        assertThat(Files.readString(DIRECTORY.resolve(SnapshotGenerator.CURRENT_FILE)))
+                .isEqualTo(first.getVersion());
+
+        ResponseEntity<String> response = restTemplate.getForEntity(javaPath, String.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getFirst("X-Snapshot")).isEqualTo(first.getVersion());
+        assertThat(response.getBody()).isEqualTo(objectMapper.writeValueAsString(blogService.getPostById(java.getId())));
+        assertThat(response.getHeaders().getETag())
+                .isEqualTo("\"" + blogService.getPostVersion(java.getId()).getEtag() + "\"");
+
+        HttpHeaders conditional = new HttpHeaders();
+        conditional.setIfNoneMatch(response.getHeaders().getETag());
+        assertThat(restTemplate.exchange(javaPath, HttpMethod.GET, new HttpEntity<>(conditional), String.class)
+                .getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+
+        ResponseEntity<String> draftResponse = restTemplate.getForEntity("/blog/posts/" + draft.getId(), String.class);
+        assertThat(draftResponse.getHeaders().containsKey("X-Snapshot")).isFalse();
+
+        blogService.updatePost(java.getId(), UpdatePostRequest.builder().title("Java actualizado").build());
+        String updatedEtag = blogService.getPostVersion(java.getId()).getEtag();
+        Snapshot second = awaitSnapshot(snapshot -> snapshot.lookup(javaPath) != null
+                && snapshot.lookup(javaPath).getEtag().equals(updatedEtag));
+
+        String dockerFile = second.lookup(dockerPath).getFile();
+        assertThat(Files.isSameFile(first.getDirectory().resolve(dockerFile),
+                second.getDirectory().resolve(dockerFile))).isTrue();
+        String javaFile = second.lookup(javaPath).getFile();
+        assertThat(Files.isSameFile(first.getDirectory().resolve(javaFile),
+                second.getDirectory().resolve(javaFile))).isFalse();
+        assertThat(restTemplate.getForObject(javaPath, String.class)).contains("Java actualizado");
+
+        blogService.deletePost(docker.getId());
+        Snapshot third = awaitSnapshot(snapshot -> snapshot.lookup(dockerPath) == null
+                && snapshot.lookup("/blog/posts") != null);
+        assertThat(third.lookup("/blog/posts/category/Docker")).isNull();
+    }
+
+    @Test
+    void regeneratesPostsWhoseViewsWereFlushed() throws Exception {
+        viewCountService.flush();
+        BlogPostDTO post = blogService.createPost(request("Java", true), EDITOR);
+        String path = "/blog/posts/" + post.getId();
+        Snapshot first = awaitSnapshot(snapshot -> snapshot.lookup(path) != null);
+
+        assertThat(objectMapper.readTree(restTemplate.getForObject(path, String.class))
+                .get("viewCount").asLong()).isZero();
+        viewCountService.flush();
+
+        Snapshot second = awaitSnapshot(snapshot -> snapshot.lookup(path) != null
+                && !snapshot.getVersion().equals(first.getVersion()));
+        byte[] body = Files.readAllBytes(second.getDirectory().resolve(second.lookup(path).getFile()));
+        assertThat(objectMapper.readTree(body).get("viewCount").asLong()).isEqualTo(1);
+        assertThat(second.lookup(path).getEtag()).isEqualTo(first.lookup(path).getEtag());
+    }
+
+    private Snapshot awaitSnapshot(Predicate<Snapshot> condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (System.currentTimeMillis() < deadline) {
+            Snapshot snapshot = snapshotStore.getCurrent();
+            if (snapshot != null && condition.test(snapshot)) {
+                return snapshot;
+            }
+            Thread.sleep(20);
+        }
+        throw new AssertionError("El snapshot no alcanzó el estado esperado");
+    }
+
+    private CreatePostRequest request(String category, boolean published) {
+        return postRequest("Post de " + category)
+                .content("Contenido del post de " + category + ". ".repeat(40))
+                .category(category)
+                .published(published)
+                .build();
+    }
+
+    private static Path createDirectory() {
+        try {
+            return Files.createTempDirectory("blog-snapshot");
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
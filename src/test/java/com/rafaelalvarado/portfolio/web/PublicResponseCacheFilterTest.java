@@ -0,0 +1,260 @@
+package com.rafaelalvarado.portfolio.web;
+
+import com.rafaelalvarado.portfolio.cache.HttpResponseCache;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica la micro-caché HTTP: variantes gzip e identidad almacenadas,
+ * agrupación de fallos concurrentes, purgas durante una carga y peticiones
+ * autenticadas, con un controlador simulado en la cadena de filtros.
+ */
+class PublicResponseCacheFilterTest {
+
+    private static final String PATH = "/blog/posts/1";
+
+    private final HttpResponseCache cache = new HttpResponseCache();
+
+    private final PublicResponseCacheFilter filter = new PublicResponseCacheFilter();
+
+    /**
+     * Número de veces que la petición llegó al controlador simulado
+     */
+    private final AtomicInteger controllerCalls = new AtomicInteger();
+
+    /**
+     * Cuerpo que devuelve el controlador simulado
+     */
+    private volatile String body = "{\"title\":\"Post\"}";
+
+    /**
+     * Si no es null, la primera llamada al controlador espera a que se abra
+     */
+    private volatile CountDownLatch firstCallGate;
+
+    private final CountDownLatch firstCallStarted = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(cache, "ttl", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(cache, "maxEntries", 100L);
+        cache.init();
+        ReflectionTestUtils.setField(filter, "httpResponseCache", cache);
+        ReflectionTestUtils.setField(filter, "enabled", true);
+    }
+
+    @Test
+    void storesGzipAndIdentityVariantsOfLargeResponses() throws Exception {
+        body = "{\"content\":\"" + "contenido ".repeat(100) + "\"}";
+
+        MockHttpServletResponse miss = perform(request());
+        assertThat(miss.getHeader("X-Cache")).isEqualTo("MISS");
+        assertThat(miss.getContentAsString()).isEqualTo(body);
+
+        MockHttpServletRequest gzipRequest = request();
+        gzipRequest.addHeader(HttpHeaders.ACCEPT_ENCODING, "br, gzip");
+        MockHttpServletResponse gzip = perform(gzipRequest);
+        assertThat(gzip.getHeader("X-Cache")).isEqualTo("HIT");
+        assertThat(gzip.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(gzip.getHeader(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(gzip.getContentLength()).isLessThan(body.length());
+        assertThat(gunzip(gzip.getContentAsByteArray())).isEqualTo(body);
+
+        MockHttpServletResponse identity = perform(request());
+        assertThat(identity.getHeader("X-Cache")).isEqualTo("HIT");
+        assertThat(identity.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(identity.getHeader(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(identity.getContentAsString()).isEqualTo(body);
+        assertThat(identity.getContentType()).isEqualTo("application/json");
+
+        assertThat(controllerCalls).hasValue(1);
+    }
+
+    @Test
+    void smallResponsesAreStoredOnlyUncompressed() throws Exception {
+        perform(request());
+        MockHttpServletRequest gzipRequest = request();
+        gzipRequest.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+
+        MockHttpServletResponse response = perform(gzipRequest);
+
+        assertThat(response.getHeader("X-Cache")).isEqualTo("HIT");
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(response.getHeader(HttpHeaders.VARY)).isNull();
+        assertThat(response.getContentAsString()).isEqualTo(body);
+    }
+
+    @Test
+    void hitAnswersNotModifiedForTheStoredEtag() throws Exception {
+        String etag = perform(request()).getHeader(HttpHeaders.ETAG);
+        MockHttpServletRequest conditional = request();
+        conditional.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+
+        MockHttpServletResponse response = perform(conditional);
+
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_NOT_MODIFIED);
+        assertThat(response.getHeader("X-Cache")).isEqualTo("HIT");
+        assertThat(response.getContentLength()).isZero();
+    }
+
+    @Test
+    void coalescesConcurrentMissesIntoOneControllerCall() throws Exception {
+        firstCallGate = new CountDownLatch(1);
+        CompletableFuture<MockHttpServletResponse> leader = performAsync(request());
+        assertThat(firstCallStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        List<CompletableFuture<MockHttpServletResponse>> followers = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            followers.add(performAsync(request()));
+        }
+        // Los seguidores quedan esperando la carga en curso
+        Thread.sleep(200);
+        assertThat(followers).noneMatch(CompletableFuture::isDone);
+        firstCallGate.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS).getHeader("X-Cache")).isEqualTo("MISS");
+        for (CompletableFuture<MockHttpServletResponse> follower : followers) {
+            MockHttpServletResponse response = follower.get(5, TimeUnit.SECONDS);
+            assertThat(response.getHeader("X-Cache")).isEqualTo("HIT");
+            assertThat(response.getContentAsString()).isEqualTo(body);
+        }
+        assertThat(controllerCalls).hasValue(1);
+    }
+
+    @Test
+    void purgeDuringALoadDropsTheLoadedEntry() throws Exception {
+        firstCallGate = new CountDownLatch(1);
+        CompletableFuture<MockHttpServletResponse> stale = performAsync(request());
+        assertThat(firstCallStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        cache.purge("/blog/posts/");
+        body = "{\"title\":\"Post editado\"}";
+
+        // Una petición posterior a la purga no espera a la carga anterior
+        MockHttpServletResponse fresh = performAsync(request()).get(5, TimeUnit.SECONDS);
+        assertThat(fresh.getContentAsString()).isEqualTo(body);
+        assertThat(stale).isNotDone();
+
+        firstCallGate.countDown();
+        stale.get(5, TimeUnit.SECONDS);
+
+        MockHttpServletResponse next = perform(request());
+        assertThat(next.getHeader("X-Cache")).isEqualTo("HIT");
+        assertThat(next.getContentAsString()).isEqualTo(body);
+        assertThat(controllerCalls).hasValue(2);
+    }
+
+    @Test
+    void evictionDropsTheStoredEntry() throws Exception {
+        perform(request());
+        cache.evict(PATH);
+
+        assertThat(perform(request()).getHeader("X-Cache")).isEqualTo("MISS");
+        assertThat(controllerCalls).hasValue(2);
+    }
+
+    @Test
+    void authenticatedRequestsBypassTheCache() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            MockHttpServletRequest authenticated = request();
+            authenticated.addHeader(HttpHeaders.AUTHORIZATION, "Bearer token");
+            MockHttpServletResponse response = perform(authenticated);
+            assertThat(response.getHeader("X-Cache")).isNull();
+            assertThat(response.getContentAsString()).isEqualTo(body);
+        }
+        assertThat(cache.get(PATH)).isNull();
+        assertThat(controllerCalls).hasValue(2);
+
+        assertThat(perform(request()).getHeader("X-Cache")).isEqualTo("MISS");
+    }
+
+    @Test
+    void errorResponsesAreNotStored() throws Exception {
+        MockHttpServletRequest missing = request();
+        missing.setRequestURI("/blog/posts/404");
+
+        MockHttpServletResponse response = perform(missing);
+
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_NOT_FOUND);
+        assertThat(cache.get("/blog/posts/404")).isNull();
+    }
+
+    private MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", PATH);
+        request.setRemoteAddr("203.0.113.10");
+        return request;
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, controller());
+        return response;
+    }
+
+    private CompletableFuture<MockHttpServletResponse> performAsync(MockHttpServletRequest request) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return perform(request);
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+    }
+
+    /**
+     * Controlador simulado: responde el cuerpo actual con un ETag derivado
+     * de él, o 404 para {@code /blog/posts/404}.
+     */
+    private FilterChain controller() {
+        return (request, response) -> {
+            int call = controllerCalls.incrementAndGet();
+            String responseBody = body;
+            if (call == 1 && firstCallGate != null) {
+                firstCallStarted.countDown();
+                try {
+                    firstCallGate.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            HttpServletResponse http = (HttpServletResponse) response;
+            if (((HttpServletRequest) request).getRequestURI().endsWith("/404")) {
+                http.sendError(HttpServletResponse.SC_NOT_FOUND);
+                return;
+            }
+            http.setContentType("application/json");
+            http.setHeader(HttpHeaders.ETAG, "\"" + Integer.toHexString(responseBody.hashCode()) + "\"");
+            http.getOutputStream().write(responseBody.getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    private static String gunzip(byte[] gzip) {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.rafaelalvarado.portfolio.web;
+
+import com.rafaelalvarado.portfolio.AbstractBlogIntegrationTest;
+import com.rafaelalvarado.portfolio.config.CacheConfig;
+import com.rafaelalvarado.portfolio.dto.BlogPostDTO;
+import com.rafaelalvarado.portfolio.dto.CreatePostRequest;
+import com.rafaelalvarado.portfolio.service.ViewCountService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.cache.Cache;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica el calentamiento tras el arranque: precarga de los posts más
+ * visitados, peticiones sintéticas que no cuentan como visitas ni pasan por
+ * la micro-caché, métrica de duración y estado de preparación.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"blog.warmup.enabled=true", "blog.warmup.max-rounds=5", "blog.warmup.popular-posts=1",
+                "blog.views.flush-interval=1h"})
+@ActiveProfiles("test")
+class StartupWarmUpTest extends AbstractBlogIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private StartupWarmUp startupWarmUp;
+
+    @Autowired
+    private ViewCountService viewCountService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @BeforeEach
+    void setUp() {
+        viewCountService.flush();
+    }
+
+    @Test
+    void warmsUpWithoutCountingViewsAndReportsReadiness() {
+        List<BlogPostDTO> posts = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            posts.add(blogService.createPost(request("Calentamiento " + i, i % 2 == 0 ? "Backend" : "Java y Spring"),
+                    EDITOR));
+        }
+
+        int rounds = startupWarmUp.warmUp(port);
+
+        assertThat(rounds).isPositive();
+        assertThat(startupWarmUp.isComplete()).isTrue();
+        assertThat(meterRegistry.find(StartupWarmUp.DURATION_METRIC).timers().stream()
+                .mapToLong(Timer::count).sum()).isPositive();
+
+        viewCountService.flush();
+        for (BlogPostDTO post : posts) {
+            assertThat(blogPostRepository.findById(post.getId()).orElseThrow().getViewCount()).isZero();
+        }
+
+        ResponseEntity<String> readiness = restTemplate.getForEntity("/actuator/health/readiness", String.class);
+        assertThat(readiness.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(readiness.getBody()).contains("\"UP\"");
+    }
+
+    @Test
+    void preloadsThePostsWithMostPersistedViews() {
+        List<BlogPostDTO> posts = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            posts.add(blogService.createPost(request("Visitado " + i, "Backend"), EDITOR));
+        }
+        BlogPostDTO mostViewed = posts.get(1);
+        for (int i = 0; i < 5; i++) {
+            viewCountService.recordView(mostViewed.getId());
+        }
+        viewCountService.recordView(posts.get(2).getId());
+        viewCountService.flush();
+        clearCaches();
+
+        startupWarmUp.warmUp(null);
+
+        Cache postsCache = cacheManager.getCache(CacheConfig.POSTS_CACHE);
+        assertThat(postsCache.get(mostViewed.getId())).isNotNull();
+        assertThat(postsCache.get(posts.get(0).getId())).isNull();
+        assertThat(postsCache.get(posts.get(2).getId())).isNull();
+    }
+
+    @Test
+    void warmUpRequestsBypassTheResponseCache() {
+        blogService.createPost(request("Sin micro-caché", "Backend"), EDITOR);
+
+        restTemplate.getForEntity("/blog/posts", String.class);
+        assertThat(restTemplate.getForEntity("/blog/posts", String.class).getHeaders().getFirst("X-Cache"))
+                .isEqualTo("HIT");
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(StartupWarmUp.REQUEST_HEADER, StartupWarmUp.requestToken());
+        ResponseEntity<String> warmUp = restTemplate.exchange("/blog/posts", HttpMethod.GET,
+                new HttpEntity<>(headers), String.class);
+        assertThat(warmUp.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(warmUp.getHeaders().containsKey("X-Cache")).isFalse();
+    }
+
+    @Test
+    void warmUpHeaderWithoutTheProcessTokenIsIgnored() {
+        BlogPostDTO post = blogService.createPost(request("Cabecera falsa", "Backend"), EDITOR);
+        String path = "/blog/posts/" + post.getId();
+        restTemplate.getForEntity(path, String.class);
+
+        // Desde la propia máquina, como un proxy inverso en el mismo host
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(StartupWarmUp.REQUEST_HEADER, "true");
+        ResponseEntity<String> forged = restTemplate.exchange(path, HttpMethod.GET,
+                new HttpEntity<>(headers), String.class);
+        assertThat(forged.getHeaders().getFirst("X-Cache")).isEqualTo("HIT");
+
+        viewCountService.flush();
+        assertThat(blogPostRepository.findById(post.getId()).orElseThrow().getViewCount()).isEqualTo(2);
+    }
+
+    private CreatePostRequest request(String title, String category) {
+        return postRequest(title).category(category).build();
+    }
+}